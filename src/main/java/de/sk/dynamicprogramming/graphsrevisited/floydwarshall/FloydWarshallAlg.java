@@ -3,6 +3,7 @@ package de.sk.dynamicprogramming.graphsrevisited.floydwarshall;
 import de.sk.graphs.datastructure.directed.DiAdjacencyList;
 import de.sk.graphs.datastructure.directed.DiEdge;
 import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.util.EdgeIndex;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
@@ -46,11 +47,11 @@ public class FloydWarshallAlg {
         this.clearDatastructures();
         List<DiVertex> vertices = adjacencyList.vertices();
         this.predecessors = new DiVertex[vertices.size()][vertices.size()];
-        int[][] lengthsOfShortestPaths = this.calculateShortestPathForAllPairs(vertices);
+        int[][] lengthsOfShortestPaths = this.calculateShortestPathForAllPairs(vertices, EdgeIndex.of(adjacencyList));
         return this.reconstructShortestPathForAllPairs(vertices, lengthsOfShortestPaths);
     }
 
-    private int[] @NotNull [] calculateShortestPathForAllPairs(@NotNull List<DiVertex> vertices) {
+    private int[] @NotNull [] calculateShortestPathForAllPairs(@NotNull List<DiVertex> vertices, @NotNull EdgeIndex<DiVertex, DiEdge> edgeIndex) {
         int[][][] lengthsOfShortestPaths = new int[vertices.size() + 1][vertices.size()][vertices.size()];
         // base case ('k' = 0 -> no vertex is allowed as an internal vertex of a shortest path)
         for (int i = 0; i < vertices.size(); i++) { // 'i' indexes the origins
@@ -61,7 +62,7 @@ public class FloydWarshallAlg {
                 if (v == w) {
                     lengthsOfShortestPaths[0][i][j] = 0;
                 } else {
-                    int lengthOfEdgeVW = this.getLengthOfEdgeBetweenVertices(v, w);
+                    int lengthOfEdgeVW = this.getLengthOfEdgeBetweenVertices(i, j, edgeIndex);
                     lengthsOfShortestPaths[0][i][j] = lengthOfEdgeVW;
                     if (lengthOfEdgeVW != POSITIVE_INFINITY) {
                         this.predecessors[i][j] = v;  // store predecessor for reconstruction of the shortest paths
@@ -100,14 +101,10 @@ public class FloydWarshallAlg {
         return lengthsOfShortestPaths[vertices.size()];
     }
 
-    private int getLengthOfEdgeBetweenVertices(@NotNull DiVertex origin, @NotNull DiVertex destination) {
-        for (DiEdge outgoingEdge : origin.getOutgoingEdges()) {
-            if (outgoingEdge.head() == destination) {
-                return outgoingEdge.getWeight();
-            }
-        }
-        // no edge exists between tail and head -> return infinity
-        return POSITIVE_INFINITY;
+    private int getLengthOfEdgeBetweenVertices(int idxOfOrigin, int idxOfDestination, @NotNull EdgeIndex<DiVertex, DiEdge> edgeIndex) {
+        DiEdge edge = edgeIndex.getEdge(idxOfOrigin, idxOfDestination);
+        // if no edge exists between tail and head -> return infinity
+        return edge != null ? edge.getWeight() : POSITIVE_INFINITY;
     }
 
     private @NotNull Map<DiVertex, Map<DiVertex, Pair<List<DiVertex>, Integer>>> reconstructShortestPathForAllPairs(@NotNull List<DiVertex> vertices,
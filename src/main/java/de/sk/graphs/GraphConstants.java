@@ -18,9 +18,19 @@ public final class GraphConstants {
     // injection names (in) for graph search algorithms
     public static final String IN_GRAPH_BFS_SIMPLE = "Graph-BFS-Simple";
     public static final String IN_AUGMENTED_BFS = "Augmented-BFS";
+    public static final String IN_DIRECTION_OPTIMIZING_BFS = "Direction-Optimizing-BFS";
+    public static final String IN_PARALLEL_BFS = "Parallel-BFS";
     public static final String IN_ITERATIVE_DFS = "Iterative-BFS";
     public static final String IN_RECURSIVE_DFS = "Recursive-BFS";
     public static final String IN_SIMPLE_EDGE_SELECTOR = "SimpleEdgeSelector";
+    public static final String IN_STRAIGHT_FORWARD_DIJKSTRA = "Straight-Forward-Dijkstra";
+    public static final String IN_HEAP_BASED_DIJKSTRA = "Heap-Based-Dijkstra";
+    public static final String IN_DIALS_DIJKSTRA = "Dials-Dijkstra";
+    public static final String IN_RADIX_HEAP_DIJKSTRA = "Radix-Heap-Dijkstra";
+    public static final String IN_DELTA_STEPPING_DIJKSTRA = "Delta-Stepping-Dijkstra";
+    public static final String IN_PEARCE_SCC = "Pearce-SCC";
+    public static final String IN_PARALLEL_FW_BW_SCC = "Parallel-FW-BW-SCC";
+    public static final String IN_KAHN_TOP_SORT = "Kahn-Top-Sort";
 
     // comparators to compare vertices (in undirected graphs)
     public static final Comparator<UnVertex> COMPARE_VERTICES_BY_LEVEL = Comparator.comparingInt(UnVertex::getLevel);
@@ -38,5 +48,8 @@ public final class GraphConstants {
     // delimiter separating information concatenated in toString methods
     public static final String STRING_JOIN_DELIMITER = ",";
 
+    // text format (tf) for names derived from the index of a vertex in index-based graph representations
+    public static final String INDEX_BASED_VERTEX_NAME_TF = "v%d";
+
     public static final int POSITIVE_INFINITY = Integer.MAX_VALUE;
 }
@@ -1,15 +1,18 @@
 package de.sk.graphs.algorithm.bfs;
 
 import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
 import de.sk.graphs.util.UndirectedGraphUtils;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import de.sk.graphs.datastructure.undirected.UnVertex;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Queue;
 
 /**
  * Implementation of {@link GraphBfs} utilizing a stack which additionally determines the levels of the graph's vertices
@@ -18,38 +21,99 @@ import java.util.Queue;
  */
 public class AugmentedBfs implements GraphBfs {
 
-    private final Queue<UnVertex> queue;
+    static final int UNREACHED_LEVEL = -1;
 
-    public AugmentedBfs() {
-        this.queue = new LinkedList<>();
+    @Override
+    public @NotNull List<UnVertex> conductBfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s) {
+        AlgorithmContext<UnVertex> context = AlgorithmContext.of(adjacencyList);
+        List<UnVertex> verticesByBfs = this.conductBfs(adjacencyList, s, context);
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            UnVertex vertex = context.vertexAt(i);
+            vertex.setExplored(context.isExplored(i));
+            vertex.setGraphSearchPosition(context.getGraphSearchPosition(i));
+            vertex.setLevel(context.getLevel(i));
+        }
+        return verticesByBfs;
     }
 
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * After the search, the context additionally holds the level of each vertex connected to {@code s}. As the vertices are
+     * visited level by level, the returned vertices are sorted by their levels.
+     */
     @Override
-    public @NotNull List<UnVertex> conductBfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s) {
-        List<UnVertex> verticesByBfs = adjacencyList.vertices();
-        s.setLevel(GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL);
-        s.setGraphSearchPosition(GraphConstants.INITIAL_GRAPH_SEARCH_POSITION);
-        UndirectedGraphUtils.exploreVertexAndAddToQueue(s, this.queue);
-        this.processQueue();
-        verticesByBfs.sort(GraphConstants.COMPARE_VERTICES_BY_LEVEL.thenComparing(GraphConstants.COMPARE_VERTICES_BY_GRAPH_SEARCH_POSITION));
+    public @NotNull List<UnVertex> conductBfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s, @NotNull AlgorithmContext<UnVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        // the queue is an array of size n, as each vertex is enqueued at most once: [head;tail) are the enqueued vertices
+        int[] queue = new int[context.getNumberOfVertices()];
+        int tail = 0;
+        int sIdx = context.indexOf(s);
+        context.setExplored(sIdx, true);
+        context.setLevel(sIdx, GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL);
+        context.setGraphSearchPosition(sIdx, GraphConstants.INITIAL_GRAPH_SEARCH_POSITION);
+        queue[tail++] = sIdx;
+        tail = this.processQueue(queue, tail, context);
+        List<UnVertex> verticesByBfs = new ArrayList<>(tail);
+        for (int i = 0; i < tail; i++) {
+            verticesByBfs.add(context.vertexAt(queue[i]));
+        }
         return verticesByBfs;
     }
 
-    private void processQueue() {
+    @Override
+    public int @NotNull [] conductBfs(@NotNull CsrGraph graph, int s) {
+        return GraphBfsImpl.determineVerticesByBfs(graph, s);
+    }
+
+    /**
+     * Determines the levels of all vertices of the given graph in CSR representation with regard to the starting vertex with
+     * index {@code s}, i.e. the minimum number of edges between each vertex and {@code s}. Vertices not connected to
+     * {@code s} get a level of -1.
+     *
+     * @param graph graph in CSR representation for which the levels are to be determined
+     * @param s     index of the starting vertex
+     * @return levels of the vertices (indexed by the vertices' indices)
+     */
+    public int @NotNull [] determineLevels(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        int[] levels = new int[graph.getNumberOfVertices()];
+        Arrays.fill(levels, UNREACHED_LEVEL);
+        int[] queue = new int[graph.getNumberOfVertices()];
+        int head = 0;
+        int tail = 0;
+        levels[s] = GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL;
+        queue[tail++] = s;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                int w = graph.getTarget(i);
+                if (levels[w] == UNREACHED_LEVEL) {
+                    levels[w] = levels[v] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return levels;
+    }
+
+    private int processQueue(int @NotNull [] queue, int tail, @NotNull AlgorithmContext<UnVertex> context) {
+        int head = 0;
         int nextGraphSearchPosition = GraphConstants.INITIAL_GRAPH_SEARCH_POSITION + 1;
-        while (!this.queue.isEmpty()) {
-            UnVertex v = this.queue.remove();
-            List<UnEdge> edges = v.getEdges();
-            for (UnEdge edge : edges) {
-                UnVertex w = UndirectedGraphUtils.getOtherVertexOfEdge(edge, v);
-                if (!w.isExplored()) {
-                    int levelOfW = v.getLevel() + 1;
-                    w.setLevel(levelOfW);
-                    w.setGraphSearchPosition(nextGraphSearchPosition);
-                    UndirectedGraphUtils.exploreVertexAndAddToQueue(w, this.queue);
-                    nextGraphSearchPosition++;
+        while (head < tail) {
+            int v = queue[head++];
+            UnVertex vertex = context.vertexAt(v);
+            for (UnEdge edge : vertex.getEdges()) {
+                int w = context.indexOf(UndirectedGraphUtils.getOtherVertexOfEdge(edge, vertex));
+                if (!context.isExplored(w)) {
+                    context.setExplored(w, true);
+                    context.setLevel(w, context.getLevel(v) + 1);
+                    context.setGraphSearchPosition(w, nextGraphSearchPosition++);
+                    queue[tail++] = w;
                 }
             }
         }
+        return tail;
     }
 }
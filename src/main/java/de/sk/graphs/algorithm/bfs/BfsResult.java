@@ -0,0 +1,47 @@
+package de.sk.graphs.algorithm.bfs;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Result of a breadth-first search on a graph in CSR representation from a starting vertex s.
+ *
+ * @param levels  level of each vertex, i.e. the minimum number of edges between s and the vertex
+ *                ({@link #UNREACHED_LEVEL} if the vertex is not reachable from s)
+ * @param parents parent of each vertex in the BFS tree, i.e. the predecessor of the vertex on a shortest path from s
+ *                (s is its own parent, {@link #NO_PARENT} if the vertex is not reachable from s)
+ */
+public record BfsResult(int @NotNull [] levels, int @NotNull [] parents) {
+
+    public static final int UNREACHED_LEVEL = -1;
+    public static final int NO_PARENT = -1;
+
+    /**
+     * Returns whether the vertex (with index) {@code v} has been reached by the search.
+     *
+     * @param v index of the vertex
+     * @return {@code true} if {@code v} is reachable from s, {@code false} else
+     */
+    public boolean isReached(int v) {
+        return this.levels[v] != UNREACHED_LEVEL;
+    }
+
+    /**
+     * Returns the path from s to the vertex (with index) {@code v} along the BFS tree, i.e. a shortest path in terms of the
+     * number of edges. Returns an empty array if {@code v} is not reachable from s.
+     *
+     * @param v index of the target vertex
+     * @return indices of the vertices of the path (starting with s, ending with {@code v})
+     */
+    public int @NotNull [] pathTo(int v) {
+        if (!this.isReached(v)) {
+            return new int[0];
+        }
+        int[] path = new int[this.levels[v] + 1];
+        int current = v;
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = current;
+            current = this.parents[current];
+        }
+        return path;
+    }
+}
@@ -0,0 +1,209 @@
+package de.sk.graphs.algorithm.bfs;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Bidirectional breadth-first search answering point-to-point queries for the minimum number of edges between two vertices
+ * s and t of a graph in CSR representation. Two searches are conducted alternately, one from s along the edges and one from
+ * t against the edges (for undirected graphs, both along the edges). Each step expands a complete level of the search with
+ * the smaller frontier. As soon as a vertex seen by the other search is discovered, the level is completed and the query
+ * stops: the best meeting vertex of the level lies on a shortest path. On typical graphs, only a small fraction of the
+ * vertices is touched by a query.
+ * <br><br>
+ * The scratch arrays are allocated once per instance and are stamped with the number of the current query, so that they do
+ * not need to be reset between queries (which would cost O(n) per query). Consequently, an instance must not be used by
+ * multiple threads concurrently. Time complexity per query: O(m+n) in the worst case.
+ */
+public class BidirectionalBfs {
+
+    private final CsrGraph graph;
+    private final CsrGraph transposedGraph;
+    private final int[] forwardEpochs;
+    private final int[] backwardEpochs;
+    private final int[] forwardLevels;
+    private final int[] backwardLevels;
+    private final int[] forwardParents;
+    private final int[] backwardParents;
+    private final int[] forwardQueue;
+    private final int[] backwardQueue;
+    private int epoch;
+    private int numberOfTouchedVertices;
+
+    /**
+     * Constructor. For directed graphs, the transpose of the graph is created for the backward searches.
+     *
+     * @param graph graph in CSR representation on which the queries are to be answered
+     */
+    public BidirectionalBfs(@NotNull CsrGraph graph) {
+        this(graph, graph.isDirected() ? CsrGraphUtils.transpose(graph) : graph);
+    }
+
+    /*
+     * Constructor for instances sharing the transpose of a graph (which is the graph itself for undirected graphs).
+     */
+    BidirectionalBfs(@NotNull CsrGraph graph, @NotNull CsrGraph transposedGraph) {
+        int n = graph.getNumberOfVertices();
+        this.graph = graph;
+        this.transposedGraph = transposedGraph;
+        this.forwardEpochs = new int[n];
+        this.backwardEpochs = new int[n];
+        this.forwardLevels = new int[n];
+        this.backwardLevels = new int[n];
+        this.forwardParents = new int[n];
+        this.backwardParents = new int[n];
+        this.forwardQueue = new int[n];
+        this.backwardQueue = new int[n];
+    }
+
+    /**
+     * Determines the minimum number of edges between the vertices with indices {@code s} and {@code t}.
+     *
+     * @param s index of the starting vertex
+     * @param t index of the target vertex
+     * @return minimum number of edges on a path from {@code s} to {@code t}, {@link BfsResult#UNREACHED_LEVEL} if {@code t}
+     * is not reachable from {@code s}
+     */
+    public int determineDistance(int s, int t) {
+        int meetingVertex = this.search(s, t);
+        return meetingVertex != BfsResult.NO_PARENT
+                ? this.forwardLevels[meetingVertex] + this.backwardLevels[meetingVertex]
+                : BfsResult.UNREACHED_LEVEL;
+    }
+
+    /**
+     * Determines a path with the minimum number of edges from the vertex with index {@code s} to the vertex with index
+     * {@code t}.
+     *
+     * @param s index of the starting vertex
+     * @param t index of the target vertex
+     * @return indices of the vertices of the path (starting with {@code s}, ending with {@code t}), an empty array if
+     * {@code t} is not reachable from {@code s}
+     */
+    public int @NotNull [] determineShortestPath(int s, int t) {
+        int meetingVertex = this.search(s, t);
+        if (meetingVertex == BfsResult.NO_PARENT) {
+            return new int[0];
+        }
+        int forwardLevel = this.forwardLevels[meetingVertex];
+        int[] path = new int[forwardLevel + this.backwardLevels[meetingVertex] + 1];
+        int v = meetingVertex;
+        for (int i = forwardLevel; i >= 0; i--) {
+            path[i] = v;
+            v = this.forwardParents[v];
+        }
+        v = meetingVertex;
+        for (int i = forwardLevel + 1; i < path.length; i++) {
+            v = this.backwardParents[v];
+            path[i] = v;
+        }
+        return path;
+    }
+
+    /**
+     * Returns the number of distinct vertices touched (i.e. discovered by at least one of the two searches) by the last
+     * query. Vertices discovered by both searches (like the meeting vertex) are counted once.
+     *
+     * @return number of vertices touched by the last query
+     */
+    public int getNumberOfTouchedVertices() {
+        return this.numberOfTouchedVertices;
+    }
+
+    /*
+     * Conducts the bidirectional search and returns the vertex where the searches have met on a shortest path
+     * (NO_PARENT if t is not reachable from s).
+     */
+    private int search(int s, int t) {
+        CsrGraphUtils.verifyVertexIdx(this.graph, s);
+        CsrGraphUtils.verifyVertexIdx(this.graph, t);
+        this.startNewEpoch();
+        this.mark(this.forwardEpochs, this.forwardLevels, this.forwardParents, s, GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL, s);
+        this.mark(this.backwardEpochs, this.backwardLevels, this.backwardParents, t, GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL, t);
+        this.numberOfTouchedVertices = s == t ? 1 : 2;
+        if (s == t) {
+            return s;
+        }
+        this.forwardQueue[0] = s;
+        this.backwardQueue[0] = t;
+        // [start;end) is the current frontier of the respective search
+        int forwardStart = 0;
+        int forwardEnd = 1;
+        int backwardStart = 0;
+        int backwardEnd = 1;
+        int meetingVertex = BfsResult.NO_PARENT;
+        while (meetingVertex == BfsResult.NO_PARENT && forwardStart < forwardEnd && backwardStart < backwardEnd) {
+            if (forwardEnd - forwardStart <= backwardEnd - backwardStart) {
+                int end = this.expandLevel(this.graph, this.forwardQueue, forwardStart, forwardEnd, this.forwardEpochs,
+                        this.forwardLevels, this.forwardParents, this.backwardEpochs);
+                meetingVertex = this.findBestMeetingVertex(this.forwardQueue, forwardEnd, end);
+                forwardStart = forwardEnd;
+                forwardEnd = end;
+            } else {
+                int end = this.expandLevel(this.transposedGraph, this.backwardQueue, backwardStart, backwardEnd,
+                        this.backwardEpochs, this.backwardLevels, this.backwardParents, this.forwardEpochs);
+                meetingVertex = this.findBestMeetingVertex(this.backwardQueue, backwardEnd, end);
+                backwardStart = backwardEnd;
+                backwardEnd = end;
+            }
+        }
+        return meetingVertex;
+    }
+
+    private void startNewEpoch() {
+        this.epoch++;
+        if (this.epoch == 0) {
+            // the stamps would repeat after the overflow: clear them once and start over
+            Arrays.fill(this.forwardEpochs, 0);
+            Arrays.fill(this.backwardEpochs, 0);
+            this.epoch = 1;
+        }
+    }
+
+    private void mark(int @NotNull [] epochs, int @NotNull [] levels, int @NotNull [] parents, int v, int level, int parent) {
+        epochs[v] = this.epoch;
+        levels[v] = level;
+        parents[v] = parent;
+    }
+
+    private int expandLevel(@NotNull CsrGraph graphToSearch, int @NotNull [] queue, int start, int end, int @NotNull [] epochs,
+                            int @NotNull [] levels, int @NotNull [] parents, int @NotNull [] epochsOfOtherSearch) {
+        int endOfNextLevel = end;
+        for (int q = start; q < end; q++) {
+            int v = queue[q];
+            for (int i = graphToSearch.getOffset(v); i < graphToSearch.getOffset(v + 1); i++) {
+                int w = graphToSearch.getTarget(i);
+                if (epochs[w] != this.epoch) {
+                    this.mark(epochs, levels, parents, w, levels[v] + 1, v);
+                    queue[endOfNextLevel++] = w;
+                    if (epochsOfOtherSearch[w] != this.epoch) {
+                        this.numberOfTouchedVertices++;
+                    }
+                }
+            }
+        }
+        return endOfNextLevel;
+    }
+
+    /*
+     * Returns the vertex of the newly discovered level [start;end) which has been seen by both searches and minimizes the
+     * sum of both levels (NO_PARENT if there is no such vertex).
+     */
+    private int findBestMeetingVertex(int @NotNull [] queue, int start, int end) {
+        int meetingVertex = BfsResult.NO_PARENT;
+        int minDistance = Integer.MAX_VALUE;
+        for (int q = start; q < end; q++) {
+            int v = queue[q];
+            if (this.forwardEpochs[v] == this.epoch && this.backwardEpochs[v] == this.epoch
+                    && this.forwardLevels[v] + this.backwardLevels[v] < minDistance) {
+                minDistance = this.forwardLevels[v] + this.backwardLevels[v];
+                meetingVertex = v;
+            }
+        }
+        return meetingVertex;
+    }
+}
@@ -0,0 +1,192 @@
+package de.sk.graphs.algorithm.bfs;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.UndirectedGraphUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of {@link GraphBfs} applying the direction-optimizing breadth-first search by Beamer et al. Each level is
+ * expanded in one of two directions:
+ * <ul>
+ *     <li>top-down: the edges of the vertices of the current frontier are scanned for unvisited vertices (as in a
+ *     conventional BFS)</li>
+ *     <li>bottom-up: for each unvisited vertex, its (incoming) edges are scanned for a vertex of the current frontier,
+ *     which is held in a bitmap; the scan of a vertex stops at the first such vertex</li>
+ * </ul>
+ * The search switches to bottom-up when the number of edges of the frontier exceeds the number of edges of the unvisited
+ * vertices divided by {@link #ALPHA}, and back to top-down when the frontier has less than n/{@link #BETA} vertices. On
+ * graphs with a low diameter (e.g. social graphs), the few large middle levels are expanded bottom-up, which skips most of
+ * their edges.
+ * <br><br>
+ * The searches on adjacency lists are conducted on a CSR representation of the graph. Within a level, vertices
+ * discovered top-down are visited in the order of their discovery, vertices discovered bottom-up in the order of their
+ * indices. Time complexity: O(m+n) (with considerably fewer inspected edges on small-world graphs).
+ */
+public class DirectionOptimizingBfs implements GraphBfs {
+
+    static final int ALPHA = 14;
+    static final int BETA = 24;
+
+    @Override
+    public @NotNull List<UnVertex> conductBfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s) {
+        AlgorithmContext<UnVertex> context = AlgorithmContext.of(adjacencyList);
+        List<UnVertex> verticesByBfs = this.conductBfs(adjacencyList, s, context);
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            UnVertex vertex = context.vertexAt(i);
+            vertex.setExplored(context.isExplored(i));
+            vertex.setGraphSearchPosition(context.getGraphSearchPosition(i));
+            vertex.setLevel(context.getLevel(i));
+        }
+        return verticesByBfs;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * After the search, the context additionally holds the level of each vertex connected to {@code s}.
+     */
+    @Override
+    public @NotNull List<UnVertex> conductBfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s, @NotNull AlgorithmContext<UnVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        CsrGraph graph = UndirectedGraphUtils.convertToCsrGraph(adjacencyList);
+        int[] order = new int[graph.getNumberOfVertices()];
+        int[] levels = new int[graph.getNumberOfVertices()];
+        int numberOfVisitedVertices = this.search(graph, graph, context.indexOf(s), levels, new int[graph.getNumberOfVertices()], order);
+        List<UnVertex> verticesByBfs = new ArrayList<>(numberOfVisitedVertices);
+        for (int i = 0; i < numberOfVisitedVertices; i++) {
+            int v = order[i];
+            context.setExplored(v, true);
+            context.setLevel(v, levels[v]);
+            context.setGraphSearchPosition(v, GraphConstants.INITIAL_GRAPH_SEARCH_POSITION + i);
+            verticesByBfs.add(context.vertexAt(v));
+        }
+        return verticesByBfs;
+    }
+
+    @Override
+    public int @NotNull [] conductBfs(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        int[] order = new int[graph.getNumberOfVertices()];
+        int n = graph.getNumberOfVertices();
+        int numberOfVisitedVertices = this.search(graph, transposeIfDirected(graph), s, new int[n], new int[n], order);
+        return Arrays.copyOf(order, numberOfVisitedVertices);
+    }
+
+    /**
+     * Determines the levels and the parents (in the BFS tree) of all vertices of the given graph in CSR representation
+     * with regard to the starting vertex with index {@code s}. For directed graphs, the transpose of the graph is created
+     * for the bottom-up steps.
+     *
+     * @param graph graph in CSR representation for which the bfs is to be conducted
+     * @param s     index of the starting vertex
+     * @return levels and parents of the vertices
+     */
+    public @NotNull BfsResult determineLevelsAndParents(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        int n = graph.getNumberOfVertices();
+        int[] levels = new int[n];
+        int[] parents = new int[n];
+        this.search(graph, transposeIfDirected(graph), s, levels, parents, new int[n]);
+        return new BfsResult(levels, parents);
+    }
+
+    private static @NotNull CsrGraph transposeIfDirected(@NotNull CsrGraph graph) {
+        // the bottom-up steps scan the incoming edges, which are the outgoing edges for undirected graphs
+        return graph.isDirected() ? CsrGraphUtils.transpose(graph) : graph;
+    }
+
+    /*
+     * Conducts the search, fills the given arrays of levels and parents, and stores the visited vertices in the order of
+     * their visit in 'order' (which also holds the frontiers: [startOfFrontier;endOfFrontier) is the current frontier).
+     * Returns the number of visited vertices.
+     */
+    private int search(@NotNull CsrGraph graph, @NotNull CsrGraph transposedGraph, int s, int @NotNull [] levels,
+                       int @NotNull [] parents, int @NotNull [] order) {
+        int n = graph.getNumberOfVertices();
+        Arrays.fill(levels, BfsResult.UNREACHED_LEVEL);
+        Arrays.fill(parents, BfsResult.NO_PARENT);
+        long[] frontierBitmap = new long[(n + Long.SIZE - 1) >>> 6];
+        levels[s] = GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL;
+        parents[s] = s;
+        order[0] = s;
+        int startOfFrontier = 0;
+        int endOfFrontier = 1;
+        // number of adjacency entries of the frontier, respectively of the unvisited vertices
+        long entriesOfFrontier = graph.getDegree(s);
+        long entriesOfUnvisitedVertices = graph.getNumberOfAdjacencyEntries() - entriesOfFrontier;
+        boolean isBottomUp = false;
+        int level = GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL;
+        while (startOfFrontier < endOfFrontier) {
+            int sizeOfFrontier = endOfFrontier - startOfFrontier;
+            if (!isBottomUp && entriesOfFrontier > entriesOfUnvisitedVertices / ALPHA) {
+                isBottomUp = true;
+            } else if (isBottomUp && sizeOfFrontier < n / BETA) {
+                isBottomUp = false;
+            }
+            int endOfNextFrontier = isBottomUp
+                    ? this.stepBottomUp(transposedGraph, level, startOfFrontier, endOfFrontier, frontierBitmap, levels, parents, order)
+                    : this.stepTopDown(graph, level, startOfFrontier, endOfFrontier, levels, parents, order);
+            entriesOfFrontier = 0;
+            for (int i = endOfFrontier; i < endOfNextFrontier; i++) {
+                entriesOfFrontier += graph.getDegree(order[i]);
+            }
+            entriesOfUnvisitedVertices -= entriesOfFrontier;
+            startOfFrontier = endOfFrontier;
+            endOfFrontier = endOfNextFrontier;
+            level++;
+        }
+        return endOfFrontier;
+    }
+
+    private int stepTopDown(@NotNull CsrGraph graph, int level, int startOfFrontier, int endOfFrontier, int @NotNull [] levels,
+                            int @NotNull [] parents, int @NotNull [] order) {
+        int endOfNextFrontier = endOfFrontier;
+        for (int f = startOfFrontier; f < endOfFrontier; f++) {
+            int v = order[f];
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                int w = graph.getTarget(i);
+                if (levels[w] == BfsResult.UNREACHED_LEVEL) {
+                    levels[w] = level + 1;
+                    parents[w] = v;
+                    order[endOfNextFrontier++] = w;
+                }
+            }
+        }
+        return endOfNextFrontier;
+    }
+
+    private int stepBottomUp(@NotNull CsrGraph transposedGraph, int level, int startOfFrontier, int endOfFrontier,
+                             long @NotNull [] frontierBitmap, int @NotNull [] levels, int @NotNull [] parents, int @NotNull [] order) {
+        Arrays.fill(frontierBitmap, 0L);
+        for (int f = startOfFrontier; f < endOfFrontier; f++) {
+            frontierBitmap[order[f] >>> 6] |= 1L << order[f];
+        }
+        int endOfNextFrontier = endOfFrontier;
+        for (int v = 0; v < levels.length; v++) {
+            if (levels[v] != BfsResult.UNREACHED_LEVEL) {
+                continue;
+            }
+            for (int i = transposedGraph.getOffset(v); i < transposedGraph.getOffset(v + 1); i++) {
+                int u = transposedGraph.getTarget(i);
+                if ((frontierBitmap[u >>> 6] & (1L << u)) != 0) {
+                    // the first neighbor found in the frontier becomes the parent, the remaining edges are skipped
+                    levels[v] = level + 1;
+                    parents[v] = u;
+                    order[endOfNextFrontier++] = v;
+                    break;
+                }
+            }
+        }
+        return endOfNextFrontier;
+    }
+}
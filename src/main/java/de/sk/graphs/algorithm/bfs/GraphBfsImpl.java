@@ -1,49 +1,104 @@
 package de.sk.graphs.algorithm.bfs;
 
 import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
 import de.sk.graphs.util.UndirectedGraphUtils;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import de.sk.graphs.datastructure.undirected.UnVertex;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Queue;
 
 /**
  * Implementation of {@link GraphBfs} implementation utilizing a queue. Time complexity: O(m+n), m=|E|, n=|V|.
  */
 public class GraphBfsImpl implements GraphBfs {
 
-    private final Queue<UnVertex> queue;
-
-    public GraphBfsImpl() {
-        this.queue = new LinkedList<>();
+    @Override
+    public @NotNull List<UnVertex> conductBfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s) {
+        AlgorithmContext<UnVertex> context = AlgorithmContext.of(adjacencyList);
+        List<UnVertex> verticesByBfs = this.conductBfs(adjacencyList, s, context);
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            UnVertex vertex = context.vertexAt(i);
+            vertex.setExplored(context.isExplored(i));
+            vertex.setGraphSearchPosition(context.getGraphSearchPosition(i));
+        }
+        return verticesByBfs;
     }
 
     @Override
-    public @NotNull List<UnVertex> conductBfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s) {
-        List<UnVertex> verticesByBfs = adjacencyList.vertices();
-        s.setGraphSearchPosition(GraphConstants.INITIAL_GRAPH_SEARCH_POSITION);
-        UndirectedGraphUtils.exploreVertexAndAddToQueue(s, this.queue);
-        this.processQueue();
-        verticesByBfs.sort(GraphConstants.COMPARE_VERTICES_BY_GRAPH_SEARCH_POSITION);
+    public @NotNull List<UnVertex> conductBfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s, @NotNull AlgorithmContext<UnVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        // the queue is an array of size n, as each vertex is enqueued at most once: [head;tail) are the enqueued vertices
+        int[] queue = new int[context.getNumberOfVertices()];
+        int tail = 0;
+        int sIdx = context.indexOf(s);
+        context.setExplored(sIdx, true);
+        context.setGraphSearchPosition(sIdx, GraphConstants.INITIAL_GRAPH_SEARCH_POSITION);
+        queue[tail++] = sIdx;
+        tail = this.processQueue(queue, tail, context);
+        List<UnVertex> verticesByBfs = new ArrayList<>(tail);
+        for (int i = 0; i < tail; i++) {
+            verticesByBfs.add(context.vertexAt(queue[i]));
+        }
         return verticesByBfs;
     }
 
-    private void processQueue() {
+    @Override
+    public int @NotNull [] conductBfs(@NotNull CsrGraph graph, int s) {
+        return determineVerticesByBfs(graph, s);
+    }
+
+    /**
+     * Conducts a breadth-first search for the given graph in CSR representation, starting from the starting vertex with
+     * index {@code s} (see {@link #conductBfs(CsrGraph, int)}). Shared by the {@link GraphBfs} implementations.
+     *
+     * @param graph graph in CSR representation for which the bfs is to be conducted
+     * @param s     index of the starting vertex
+     * @return indices of the vertices connected to {@code s} in the order of visit
+     */
+    static int @NotNull [] determineVerticesByBfs(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        // the queue is an array of size n, as each vertex is enqueued at most once: [head;tail) are the enqueued vertices
+        int[] queue = new int[graph.getNumberOfVertices()];
+        boolean[] explored = new boolean[graph.getNumberOfVertices()];
+        int head = 0;
+        int tail = 0;
+        explored[s] = true;
+        queue[tail++] = s;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                int w = graph.getTarget(i);
+                if (!explored[w]) {
+                    explored[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return Arrays.copyOf(queue, tail);
+    }
+
+    private int processQueue(int @NotNull [] queue, int tail, @NotNull AlgorithmContext<UnVertex> context) {
+        int head = 0;
         int nextGraphSearchPosition = GraphConstants.INITIAL_GRAPH_SEARCH_POSITION + 1;
-        while (!this.queue.isEmpty()) {
-            UnVertex v = this.queue.remove();
-            List<UnEdge> edges = v.getEdges();
-            for (UnEdge edge : edges) {
-                UnVertex w = UndirectedGraphUtils.getOtherVertexOfEdge(edge, v);
-                if (!w.isExplored()) {
-                    w.setGraphSearchPosition(nextGraphSearchPosition);
-                    nextGraphSearchPosition++;
+        while (head < tail) {
+            UnVertex v = context.vertexAt(queue[head++]);
+            for (UnEdge edge : v.getEdges()) {
+                int w = context.indexOf(UndirectedGraphUtils.getOtherVertexOfEdge(edge, v));
+                if (!context.isExplored(w)) {
+                    context.setExplored(w, true);
+                    context.setGraphSearchPosition(w, nextGraphSearchPosition++);
+                    queue[tail++] = w;
                 }
             }
         }
+        return tail;
     }
 }
@@ -0,0 +1,170 @@
+package de.sk.graphs.algorithm.bfs;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Service answering hop-based queries (k-hop neighborhoods, reachability, hop distances) on an immutable graph in CSR
+ * representation. The service may be called by many threads concurrently: the graph is only read, and each thread gets its
+ * own scratch arrays on its first query, which are reused by its subsequent queries.
+ * <br><br>
+ * The visited markers of the scratch arrays are stamped with the number of the thread's current query, so that they do not
+ * need to be reset between queries. Consequently, a query only costs time in the order of the vertices and edges it
+ * touches (instead of O(n) for resetting the vertices, as required by {@link GraphBfsImpl}). The memory required per thread
+ * is O(n) (allocated lazily on the thread's first query of the respective kind).
+ * <br><br>
+ * The scratch arrays are held in {@link ThreadLocal}s of the instance, hence they are retained for each thread which has
+ * ever answered a query (e.g. each worker of a pool) as long as the thread lives. Discarding the service does not release
+ * them immediately either: the stale entries of a thread are only purged lazily, when the thread accesses thread-local
+ * variables again. So the service is meant to be created once per graph and shared by all querying threads, rather than
+ * created per batch of queries.
+ */
+public class HopQueryService {
+
+    static final String NEGATIVE_NUMBER_OF_HOPS_EXCEPTION_MSG_TF = "The number of hops must not be negative. Given: %d.";
+
+    private final CsrGraph graph;
+    private final CsrGraph transposedGraph;
+    private final ThreadLocal<Scratch> scratches;
+    private final ThreadLocal<BidirectionalBfs> bidirectionalSearches;
+
+    /**
+     * Constructor. For directed graphs, the transpose of the graph is created once (for the hop distance queries).
+     *
+     * @param graph immutable graph in CSR representation on which the queries are to be answered
+     */
+    public HopQueryService(@NotNull CsrGraph graph) {
+        this.graph = graph;
+        this.transposedGraph = graph.isDirected() ? CsrGraphUtils.transpose(graph) : graph;
+        this.scratches = ThreadLocal.withInitial(() -> new Scratch(graph.getNumberOfVertices()));
+        this.bidirectionalSearches = ThreadLocal.withInitial(() -> new BidirectionalBfs(this.graph, this.transposedGraph));
+    }
+
+    /**
+     * Determines the k-hop neighborhood of the vertex with index {@code s}, i.e. all vertices reachable from {@code s} via
+     * at most {@code k} edges (including {@code s} itself).
+     *
+     * @param s index of the vertex whose neighborhood is to be determined
+     * @param k maximum number of hops
+     * @return indices of the vertices of the neighborhood, sorted by their hop distance from {@code s}
+     */
+    public int @NotNull [] determineKHopNeighborhood(int s, int k) {
+        return this.determineKHopNeighborhood(new int[]{s}, k);
+    }
+
+    /**
+     * Determines the k-hop neighborhood of the given {@code sources}, i.e. all vertices reachable from one of the sources via
+     * at most {@code k} edges (including the sources themselves).
+     *
+     * @param sources indices of the vertices whose neighborhood is to be determined
+     * @param k       maximum number of hops
+     * @return indices of the vertices of the neighborhood (each contained once), sorted by their hop distance from the
+     * sources
+     */
+    public int @NotNull [] determineKHopNeighborhood(int @NotNull [] sources, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException(String.format(NEGATIVE_NUMBER_OF_HOPS_EXCEPTION_MSG_TF, k));
+        }
+        return this.search(sources, k);
+    }
+
+    /**
+     * Determines all vertices reachable from one of the given {@code sources} (including the sources themselves).
+     *
+     * @param sources indices of the vertices from which the reachable vertices are to be determined
+     * @return indices of the reachable vertices (each contained once), sorted by their hop distance from the sources
+     */
+    public int @NotNull [] determineReachableVertices(int @NotNull [] sources) {
+        return this.search(sources, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Determines the hop distance from the vertex with index {@code s} to the vertex with index {@code t}, i.e. the minimum
+     * number of edges on a path from {@code s} to {@code t} (by a {@link BidirectionalBfs}).
+     *
+     * @param s index of the starting vertex
+     * @param t index of the target vertex
+     * @return hop distance from {@code s} to {@code t}, {@link BfsResult#UNREACHED_LEVEL} if {@code t} is not reachable from
+     * {@code s}
+     */
+    public int determineHopDistance(int s, int t) {
+        return this.bidirectionalSearches.get().determineDistance(s, t);
+    }
+
+    /**
+     * Returns whether the vertex with index {@code t} is reachable from the vertex with index {@code s}.
+     *
+     * @param s index of the starting vertex
+     * @param t index of the target vertex
+     * @return {@code true} if {@code t} is reachable from {@code s}, {@code false} else
+     */
+    public boolean isReachable(int s, int t) {
+        return this.determineHopDistance(s, t) != BfsResult.UNREACHED_LEVEL;
+    }
+
+    /*
+     * Conducts a BFS from the sources, which stops after 'maxHops' levels, and returns the visited vertices.
+     */
+    private int @NotNull [] search(int @NotNull [] sources, int maxHops) {
+        Scratch scratch = this.scratches.get();
+        scratch.startNewEpoch();
+        int[] queue = scratch.queue;
+        int tail = 0;
+        for (int s : sources) {
+            CsrGraphUtils.verifyVertexIdx(this.graph, s);
+            if (scratch.visit(s)) {
+                queue[tail++] = s;
+            }
+        }
+        // [head;endOfLevel) are the vertices of the current level
+        int head = 0;
+        for (int hops = 0; hops < maxHops && head < tail; hops++) {
+            int endOfLevel = tail;
+            for (; head < endOfLevel; head++) {
+                int v = queue[head];
+                for (int i = this.graph.getOffset(v); i < this.graph.getOffset(v + 1); i++) {
+                    int w = this.graph.getTarget(i);
+                    if (scratch.visit(w)) {
+                        queue[tail++] = w;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(queue, tail);
+    }
+
+    /*
+     * Scratch arrays of a thread. A vertex is visited in the current query iff its epoch equals the current epoch.
+     */
+    private static final class Scratch {
+
+        private final int[] epochs;
+        private final int[] queue;
+        private int epoch;
+
+        private Scratch(int n) {
+            this.epochs = new int[n];
+            this.queue = new int[n];
+        }
+
+        private void startNewEpoch() {
+            this.epoch++;
+            if (this.epoch == 0) {
+                // the stamps would repeat after the overflow: clear them once and start over
+                Arrays.fill(this.epochs, 0);
+                this.epoch = 1;
+            }
+        }
+
+        private boolean visit(int v) {
+            if (this.epochs[v] == this.epoch) {
+                return false;
+            }
+            this.epochs[v] = this.epoch;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package de.sk.graphs.algorithm.bfs;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Multi-source breadth-first search (MS-BFS) which conducts the searches from a batch of up to 64*w sources at once on a graph
+ * in CSR representation. Each vertex holds w {@code long} bitmasks, in which bit i indicates whether the vertex has been
+ * seen by (respectively is in the frontier of) the search from the i-th source of the batch. The edges of a vertex are
+ * scanned at most once per level for all searches of the batch, and the frontiers are propagated along an edge by a single
+ * bitwise operation per word. Compared to one BFS per source, the graph is thus traversed far less often.
+ * <br><br>
+ * The level of a vertex with regard to a source is the minimum number of edges between the source and the vertex
+ * ({@link BfsResult#UNREACHED_LEVEL} if the vertex is not reachable from the source). For directed graphs, the searches
+ * follow the edges' directions. Time complexity: O(ceil(k/(64*w)) * d * (m+n) * w) for k sources, with d being the maximum
+ * number of levels of a search of a batch.
+ */
+public class MultiSourceBfs {
+
+    static final String INVALID_NUMBER_OF_WORDS_EXCEPTION_MSG_TF = "The number of words per vertex must be positive. Given: %d.";
+    static final String BIT_SETS_TOO_LARGE_EXCEPTION_MSG_TF = "The bit sets of %d words for %d vertices exceed the max array length.";
+
+    // max length of an array supported by the JVMs
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    static final int DEFAULT_NUMBER_OF_WORDS = 1;
+
+    private final int numberOfWords;
+
+    /**
+     * Functional interface for consuming the levels of the searches from the individual sources.
+     */
+    @FunctionalInterface
+    public interface LevelsConsumer {
+
+        /**
+         * Consumes the levels of the search from the source at position {@code sourcePosition} of the sources' array.
+         *
+         * @param sourcePosition position of the source in the sources' array
+         * @param levels         levels of the vertices with regard to the source (indexed by the vertices' indices)
+         */
+        void accept(int sourcePosition, int @NotNull [] levels);
+    }
+
+    /**
+     * Constructor for a MS-BFS processing 64 sources per batch.
+     */
+    public MultiSourceBfs() {
+        this(DEFAULT_NUMBER_OF_WORDS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param numberOfWords number of {@code long} bitmasks per vertex (a batch comprises 64*{@code numberOfWords} sources)
+     */
+    public MultiSourceBfs(int numberOfWords) {
+        if (numberOfWords <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_NUMBER_OF_WORDS_EXCEPTION_MSG_TF, numberOfWords));
+        }
+        this.numberOfWords = numberOfWords;
+    }
+
+    /**
+     * Returns the maximum number of sources processed at once.
+     *
+     * @return number of sources per batch
+     */
+    public int getBatchSize() {
+        return this.numberOfWords * Long.SIZE;
+    }
+
+    /**
+     * Determines the levels of all vertices of the given graph with regard to each of the given {@code sources}.
+     *
+     * @param graph   graph in CSR representation for which the searches are to be conducted
+     * @param sources indices of the sources (duplicates are allowed)
+     * @return levels of the vertices per source: the i-th array holds the levels with regard to {@code sources[i]}
+     */
+    public int @NotNull [] @NotNull [] determineLevels(@NotNull CsrGraph graph, int @NotNull [] sources) {
+        this.verifyArguments(graph, sources);
+        int[][] levelsPerSource = new int[sources.length][];
+        for (int from = 0; from < sources.length; from += this.getBatchSize()) {
+            int to = Math.min(from + this.getBatchSize(), sources.length);
+            int[][] levelsOfBatch = allocateLevels(to - from, graph.getNumberOfVertices());
+            this.processBatch(graph, sources, from, to, levelsOfBatch, null);
+            System.arraycopy(levelsOfBatch, 0, levelsPerSource, from, to - from);
+        }
+        return levelsPerSource;
+    }
+
+    /**
+     * Determines the levels of all vertices of the given graph with regard to each of the given {@code sources} and passes
+     * them to the given {@code consumer} batch by batch. Only the level arrays of one batch are held in memory at a time: the
+     * arrays passed to the consumer are reused for the next batch, i.e. they are only valid during the call of the consumer.
+     *
+     * @param graph    graph in CSR representation for which the searches are to be conducted
+     * @param sources  indices of the sources (duplicates are allowed)
+     * @param consumer consumer of the levels per source
+     */
+    public void determineLevels(@NotNull CsrGraph graph, int @NotNull [] sources, @NotNull LevelsConsumer consumer) {
+        this.verifyArguments(graph, sources);
+        int[][] levelsOfBatch = allocateLevels(Math.min(this.getBatchSize(), sources.length), graph.getNumberOfVertices());
+        for (int from = 0; from < sources.length; from += this.getBatchSize()) {
+            int to = Math.min(from + this.getBatchSize(), sources.length);
+            for (int[] levels : levelsOfBatch) {
+                Arrays.fill(levels, BfsResult.UNREACHED_LEVEL);
+            }
+            this.processBatch(graph, sources, from, to, levelsOfBatch, null);
+            for (int i = from; i < to; i++) {
+                consumer.accept(i, levelsOfBatch[i - from]);
+            }
+        }
+    }
+
+    /**
+     * Determines the eccentricity of each of the given {@code sources}, i.e. the maximum level of a vertex reachable from the
+     * source. No level arrays are allocated.
+     *
+     * @param graph   graph in CSR representation for which the searches are to be conducted
+     * @param sources indices of the sources (duplicates are allowed)
+     * @return eccentricities of the sources: the i-th entry is the eccentricity of {@code sources[i]}
+     */
+    public int @NotNull [] determineEccentricities(@NotNull CsrGraph graph, int @NotNull [] sources) {
+        this.verifyArguments(graph, sources);
+        int[] eccentricities = new int[sources.length];
+        for (int from = 0; from < sources.length; from += this.getBatchSize()) {
+            this.processBatch(graph, sources, from, Math.min(from + this.getBatchSize(), sources.length), null, eccentricities);
+        }
+        return eccentricities;
+    }
+
+    /*
+     * Verifies that the sources are vertices of the graph, and that the bit sets of the graph fit into arrays (which also
+     * guarantees that the int indices into the bit sets do not overflow).
+     */
+    private void verifyArguments(@NotNull CsrGraph graph, int @NotNull [] sources) {
+        for (int s : sources) {
+            CsrGraphUtils.verifyVertexIdx(graph, s);
+        }
+        if ((long) graph.getNumberOfVertices() * this.numberOfWords > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException(String.format(BIT_SETS_TOO_LARGE_EXCEPTION_MSG_TF, this.numberOfWords, graph.getNumberOfVertices()));
+        }
+    }
+
+    private static int @NotNull [] @NotNull [] allocateLevels(int numberOfSources, int n) {
+        int[][] levels = new int[numberOfSources][n];
+        for (int[] levelsOfSource : levels) {
+            Arrays.fill(levelsOfSource, BfsResult.UNREACHED_LEVEL);
+        }
+        return levels;
+    }
+
+    /*
+     * Conducts the searches from the sources [from;to) of the given array. Bit b of word k of a vertex belongs to the source
+     * at position from+64*k+b. Fills the levels of the batch and/or the eccentricities (if not null).
+     */
+    private void processBatch(@NotNull CsrGraph graph, int @NotNull [] sources, int from, int to,
+                              int @Nullable [] @NotNull [] levels, int @Nullable [] eccentricities) {
+        int n = graph.getNumberOfVertices();
+        int w = this.numberOfWords;
+        long[] seen = new long[n * w];
+        long[] visit = new long[n * w];
+        long[] visitNext = new long[n * w];
+        for (int i = from; i < to; i++) {
+            int bit = i - from;
+            int word = sources[i] * w + (bit >>> 6);
+            seen[word] |= 1L << bit;
+            visit[word] |= 1L << bit;
+            if (levels != null) {
+                levels[bit][sources[i]] = GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL;
+            }
+            if (eccentricities != null) {
+                eccentricities[i] = GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL;
+            }
+        }
+        int level = GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL;
+        boolean isFrontierNonEmpty = true;
+        while (isFrontierNonEmpty) {
+            level++;
+            // propagate the frontiers along the edges: a neighbor joins the frontier of each search which has not seen it yet
+            for (int v = 0; v < n; v++) {
+                if (isZero(visit, v * w, w)) {
+                    continue;
+                }
+                for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                    int wordOfTarget = graph.getTarget(i) * w;
+                    for (int k = 0; k < w; k++) {
+                        visitNext[wordOfTarget + k] |= visit[v * w + k] & ~seen[wordOfTarget + k];
+                    }
+                }
+            }
+            isFrontierNonEmpty = false;
+            for (int v = 0; v < n; v++) {
+                for (int k = 0; k < w; k++) {
+                    long discovered = visitNext[v * w + k];
+                    if (discovered == 0) {
+                        continue;
+                    }
+                    isFrontierNonEmpty = true;
+                    seen[v * w + k] |= discovered;
+                    while (discovered != 0) {
+                        int bit = (k << 6) + Long.numberOfTrailingZeros(discovered);
+                        if (levels != null) {
+                            levels[bit][v] = level;
+                        }
+                        if (eccentricities != null) {
+                            eccentricities[from + bit] = level;
+                        }
+                        discovered &= discovered - 1;
+                    }
+                }
+            }
+            long[] swap = visit;
+            visit = visitNext;
+            visitNext = swap;
+            Arrays.fill(visitNext, 0L);
+        }
+    }
+
+    private static boolean isZero(long @NotNull [] masks, int from, int length) {
+        for (int k = from; k < from + length; k++) {
+            if (masks[k] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
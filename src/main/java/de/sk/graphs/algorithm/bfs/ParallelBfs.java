@@ -0,0 +1,312 @@
+package de.sk.graphs.algorithm.bfs;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.UndirectedGraphUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Implementation of {@link GraphBfs} which expands the levels of the search in parallel on a {@link ForkJoinPool}. The
+ * frontier of each level is split into chunks of {@link #CHUNK_SIZE} vertices, which are processed by separate tasks. Each
+ * task collects the vertices it discovers in its own buffer; at the end of the level (after all tasks have been joined),
+ * the buffers are concatenated in the order of the chunks to form the next frontier.
+ * <br><br>
+ * Two modes are supported:
+ * <ul>
+ *     <li>deterministic (default): the tasks first agree on the discoverer of each newly reached vertex by atomically
+ *     lowering it to the minimum frontier position among its neighbors in the frontier; afterwards, each vertex is
+ *     appended by the task holding its discoverer. The discovery order and the BFS tree are thus identical to the ones of
+ *     a sequential BFS (e.g. {@link AugmentedBfs#conductBfs(CsrGraph, int)}), regardless of the number of threads.</li>
+ *     <li>nondeterministic: a vertex is claimed by the first task marking it as visited (via compare-and-set), which
+ *     requires only one pass over the edges of the frontier. The levels are still deterministic, but the order of the
+ *     vertices within a level and the BFS tree may differ from run to run.</li>
+ * </ul>
+ * The searches on adjacency lists are conducted on a CSR representation of the graph. Time complexity: O(m+n) work.
+ */
+public class ParallelBfs implements GraphBfs {
+
+    static final int CHUNK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final boolean isDeterministic;
+
+    /**
+     * Constructor for a deterministic parallel BFS running on the common pool.
+     */
+    public ParallelBfs() {
+        this(ForkJoinPool.commonPool(), true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pool            pool on which the levels are to be expanded
+     * @param isDeterministic whether the discovery order is to be identical to the one of a sequential BFS (at the cost of
+     *                        a second pass over the edges of the frontier per level)
+     */
+    public ParallelBfs(@NotNull ForkJoinPool pool, boolean isDeterministic) {
+        this.pool = pool;
+        this.isDeterministic = isDeterministic;
+    }
+
+    @Override
+    public @NotNull List<UnVertex> conductBfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s) {
+        AlgorithmContext<UnVertex> context = AlgorithmContext.of(adjacencyList);
+        List<UnVertex> verticesByBfs = this.conductBfs(adjacencyList, s, context);
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            UnVertex vertex = context.vertexAt(i);
+            vertex.setExplored(context.isExplored(i));
+            vertex.setGraphSearchPosition(context.getGraphSearchPosition(i));
+            vertex.setLevel(context.getLevel(i));
+        }
+        return verticesByBfs;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * After the search, the context additionally holds the level of each vertex connected to {@code s}.
+     */
+    @Override
+    public @NotNull List<UnVertex> conductBfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s, @NotNull AlgorithmContext<UnVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        CsrGraph graph = UndirectedGraphUtils.convertToCsrGraph(adjacencyList);
+        int n = graph.getNumberOfVertices();
+        int[] order = new int[n];
+        int[] levels = new int[n];
+        int numberOfVisitedVertices = this.search(graph, context.indexOf(s), levels, new int[n], order);
+        List<UnVertex> verticesByBfs = new ArrayList<>(numberOfVisitedVertices);
+        for (int i = 0; i < numberOfVisitedVertices; i++) {
+            int v = order[i];
+            context.setExplored(v, true);
+            context.setLevel(v, levels[v]);
+            context.setGraphSearchPosition(v, GraphConstants.INITIAL_GRAPH_SEARCH_POSITION + i);
+            verticesByBfs.add(context.vertexAt(v));
+        }
+        return verticesByBfs;
+    }
+
+    @Override
+    public int @NotNull [] conductBfs(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        int n = graph.getNumberOfVertices();
+        int[] order = new int[n];
+        int numberOfVisitedVertices = this.search(graph, s, new int[n], new int[n], order);
+        return Arrays.copyOf(order, numberOfVisitedVertices);
+    }
+
+    /**
+     * Determines the levels and the parents (in the BFS tree) of all vertices of the given graph in CSR representation
+     * with regard to the starting vertex with index {@code s}.
+     *
+     * @param graph graph in CSR representation for which the bfs is to be conducted
+     * @param s     index of the starting vertex
+     * @return levels and parents of the vertices
+     */
+    public @NotNull BfsResult determineLevelsAndParents(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        int n = graph.getNumberOfVertices();
+        int[] levels = new int[n];
+        int[] parents = new int[n];
+        this.search(graph, s, levels, parents, new int[n]);
+        return new BfsResult(levels, parents);
+    }
+
+    /*
+     * Conducts the search, fills the given arrays of levels and parents, and stores the visited vertices in the order of
+     * their visit in 'order' ([startOfFrontier;endOfFrontier) is the current frontier). Returns the number of visited
+     * vertices.
+     */
+    private int search(@NotNull CsrGraph graph, int s, int @NotNull [] levels, int @NotNull [] parents, int @NotNull [] order) {
+        Arrays.fill(parents, BfsResult.NO_PARENT);
+        LevelState state = new LevelState(graph, order, parents, levels.length);
+        state.levels.set(s, GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL);
+        parents[s] = s;
+        order[0] = s;
+        int startOfFrontier = 0;
+        int endOfFrontier = 1;
+        int level = GraphConstants.INITIAL_GRAPH_SEARCH_LEVEL;
+        while (startOfFrontier < endOfFrontier) {
+            int numberOfChunks = (endOfFrontier - startOfFrontier + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            state.startLevel(level + 1, startOfFrontier, endOfFrontier, numberOfChunks);
+            this.pool.invoke(new ExpansionTask(state, 0, numberOfChunks, false));
+            if (this.isDeterministic) {
+                this.pool.invoke(new ExpansionTask(state, 0, numberOfChunks, true));
+            }
+            // concatenate the buffers of the chunks (in the order of the chunks) to the next frontier
+            int endOfNextFrontier = endOfFrontier;
+            for (int c = 0; c < numberOfChunks; c++) {
+                System.arraycopy(state.buffers[c], 0, order, endOfNextFrontier, state.bufferSizes[c]);
+                endOfNextFrontier += state.bufferSizes[c];
+            }
+            startOfFrontier = endOfFrontier;
+            endOfFrontier = endOfNextFrontier;
+            level++;
+        }
+        for (int v = 0; v < levels.length; v++) {
+            levels[v] = state.levels.get(v);
+        }
+        return endOfFrontier;
+    }
+
+    /*
+     * State shared by the tasks expanding a level. The fields are written by the calling thread between the levels only;
+     * joining the tasks makes the writes of the tasks visible to the calling thread and vice versa.
+     */
+    private final class LevelState {
+
+        private final CsrGraph graph;
+        private final int[] order;
+        private final int[] parents;
+        private final AtomicIntegerArray levels;
+        // frontier position of the discoverer of each vertex (deterministic mode only)
+        private final AtomicIntegerArray discoverers;
+        private int nextLevel;
+        private int startOfFrontier;
+        private int endOfFrontier;
+        private int[][] buffers;
+        private int[] bufferSizes;
+
+        private LevelState(@NotNull CsrGraph graph, int @NotNull [] order, int @NotNull [] parents, int n) {
+            this.graph = graph;
+            this.order = order;
+            this.parents = parents;
+            this.levels = new AtomicIntegerArray(n);
+            for (int v = 0; v < n; v++) {
+                this.levels.set(v, BfsResult.UNREACHED_LEVEL);
+            }
+            if (ParallelBfs.this.isDeterministic) {
+                this.discoverers = new AtomicIntegerArray(n);
+                for (int v = 0; v < n; v++) {
+                    this.discoverers.set(v, Integer.MAX_VALUE);
+                }
+            } else {
+                this.discoverers = null;
+            }
+        }
+
+        private void startLevel(int nextLevel, int startOfFrontier, int endOfFrontier, int numberOfChunks) {
+            this.nextLevel = nextLevel;
+            this.startOfFrontier = startOfFrontier;
+            this.endOfFrontier = endOfFrontier;
+            this.buffers = new int[numberOfChunks][];
+            this.bufferSizes = new int[numberOfChunks];
+        }
+    }
+
+    /*
+     * Task expanding the chunks [fromChunk;toChunk) of the frontier. In deterministic mode, the first pass ('isEmitting'
+     * is false) determines the discoverers and the second pass appends the discovered vertices to the buffers.
+     */
+    private final class ExpansionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final LevelState state;
+        private final int fromChunk;
+        private final int toChunk;
+        private final boolean isEmitting;
+
+        private ExpansionTask(@NotNull LevelState state, int fromChunk, int toChunk, boolean isEmitting) {
+            this.state = state;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.isEmitting = isEmitting;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.toChunk - this.fromChunk > 1) {
+                int mid = (this.fromChunk + this.toChunk) >>> 1;
+                invokeAll(new ExpansionTask(this.state, this.fromChunk, mid, this.isEmitting),
+                        new ExpansionTask(this.state, mid, this.toChunk, this.isEmitting));
+                return;
+            }
+            int from = this.state.startOfFrontier + this.fromChunk * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, this.state.endOfFrontier);
+            if (!ParallelBfs.this.isDeterministic) {
+                this.claimNeighbors(from, to);
+            } else if (this.isEmitting) {
+                this.emitDiscoveredNeighbors(from, to);
+            } else {
+                this.lowerDiscoverers(from, to);
+            }
+        }
+
+        private void claimNeighbors(int from, int to) {
+            CsrGraph graph = this.state.graph;
+            AtomicIntegerArray levels = this.state.levels;
+            int[] buffer = new int[CHUNK_SIZE];
+            int size = 0;
+            for (int f = from; f < to; f++) {
+                int v = this.state.order[f];
+                for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                    int w = graph.getTarget(i);
+                    // test before the CAS, as most edges lead to vertices which have already been visited
+                    if (levels.get(w) == BfsResult.UNREACHED_LEVEL && levels.compareAndSet(w, BfsResult.UNREACHED_LEVEL, this.state.nextLevel)) {
+                        this.state.parents[w] = v;
+                        if (size == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, buffer.length << 1);
+                        }
+                        buffer[size++] = w;
+                    }
+                }
+            }
+            this.state.buffers[this.fromChunk] = buffer;
+            this.state.bufferSizes[this.fromChunk] = size;
+        }
+
+        private void lowerDiscoverers(int from, int to) {
+            CsrGraph graph = this.state.graph;
+            AtomicIntegerArray discoverers = this.state.discoverers;
+            for (int f = from; f < to; f++) {
+                int v = this.state.order[f];
+                for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                    int w = graph.getTarget(i);
+                    if (this.state.levels.get(w) != BfsResult.UNREACHED_LEVEL) {
+                        continue;
+                    }
+                    int discoverer = discoverers.get(w);
+                    while (f < discoverer && !discoverers.compareAndSet(w, discoverer, f)) {
+                        discoverer = discoverers.get(w);
+                    }
+                }
+            }
+        }
+
+        private void emitDiscoveredNeighbors(int from, int to) {
+            CsrGraph graph = this.state.graph;
+            int[] buffer = new int[CHUNK_SIZE];
+            int size = 0;
+            for (int f = from; f < to; f++) {
+                int v = this.state.order[f];
+                for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                    int w = graph.getTarget(i);
+                    // only the task holding the discoverer of w reads and writes its level in this pass
+                    if (this.state.discoverers.get(w) == f && this.state.levels.get(w) == BfsResult.UNREACHED_LEVEL) {
+                        this.state.levels.set(w, this.state.nextLevel);
+                        this.state.parents[w] = v;
+                        if (size == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, buffer.length << 1);
+                        }
+                        buffer[size++] = w;
+                    }
+                }
+            }
+            this.state.buffers[this.fromChunk] = buffer;
+            this.state.bufferSizes[this.fromChunk] = size;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package de.sk.graphs.algorithm.cc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Connected components of a graph, given by the ID of the component of each vertex and the size of each component.
+ *
+ * @param componentIds   ID of the connected component of each vertex (indexed by the vertices' indices); the components are
+ *                       numbered consecutively, starting with 0, in the order of the smallest vertex index they contain
+ * @param componentSizes number of vertices of each connected component (indexed by the components' IDs)
+ */
+public record ConnectedComponentsResult(int @NotNull [] componentIds, int @NotNull [] componentSizes) {
+
+    /**
+     * Returns the number of connected components.
+     *
+     * @return number of connected components
+     */
+    public int getNumberOfComponents() {
+        return this.componentSizes.length;
+    }
+
+    /**
+     * Materializes the connected components as sets of vertices. The vertex with index i is taken from position i of the
+     * given list.
+     *
+     * @param vertices vertices of the graph (in the order of their indices)
+     * @param <V>      type of the vertices
+     * @return connected components, each represented by the set of its vertices (indexed by the components' IDs)
+     */
+    public <V> @NotNull List<Set<V>> materializeComponents(@NotNull List<V> vertices) {
+        List<List<V>> verticesPerComponent = new ArrayList<>(this.componentSizes.length);
+        for (int size : this.componentSizes) {
+            verticesPerComponent.add(new ArrayList<>(size));
+        }
+        for (int v = 0; v < this.componentIds.length; v++) {
+            verticesPerComponent.get(this.componentIds[v]).add(vertices.get(v));
+        }
+        List<Set<V>> components = new ArrayList<>(verticesPerComponent.size());
+        for (List<V> verticesOfComponent : verticesPerComponent) {
+            components.add(Set.copyOf(verticesOfComponent));
+        }
+        return components;
+    }
+}
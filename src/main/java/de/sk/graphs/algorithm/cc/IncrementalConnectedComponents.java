@@ -0,0 +1,153 @@
+package de.sk.graphs.algorithm.cc;
+
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnEdge;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.greedy.mst.datastructure.unionfind.UnionFindPathCompressionBased;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Maintains the connected components of an undirected graph under a stream of vertex and edge insertions, answering
+ * connectivity and component size queries at any time (in contrast to {@link UnConnectedComponents}, which has to be re-run
+ * in O(m+n) after each change). The components are the partitions of a {@link UnionFindPathCompressionBased}, i.e. each
+ * insertion and query takes O(α(n)) amortized time (plus the lookup of the vertices).
+ * <br><br>
+ * Edges whose endpoints are not known yet implicitly add the endpoints. Edge deletions are not supported. The vertices and
+ * edges are not modified. Not thread-safe.
+ */
+public class IncrementalConnectedComponents {
+
+    private final UnionFindPathCompressionBased<UnVertex> components;
+
+    /**
+     * Constructor for an initially empty graph.
+     */
+    public IncrementalConnectedComponents() {
+        this.components = new UnionFindPathCompressionBased<>();
+        this.components.initialize(List.of());
+    }
+
+    /**
+     * Constructor for the graph given as {@code adjacencyList} (to which further vertices and edges are to be added). Time
+     * complexity: O(m+n).
+     *
+     * @param adjacencyList initial graph
+     */
+    public IncrementalConnectedComponents(@NotNull UnAdjacencyList adjacencyList) {
+        this.components = new UnionFindPathCompressionBased<>();
+        this.components.initialize(adjacencyList.vertices());
+        this.addEdges(adjacencyList.edges());
+    }
+
+    /**
+     * Adds the vertex {@code v} as a new one-vertex component, if it is not contained yet.
+     *
+     * @param v vertex to be added
+     * @return {@code true} if the vertex has been added, {@code false} if it already was contained
+     */
+    public boolean addVertex(@NotNull UnVertex v) {
+        return this.components.add(v);
+    }
+
+    /**
+     * Adds an edge between the vertices {@code v} and {@code w} (which are added if they are not contained yet).
+     *
+     * @param v first endpoint of the edge
+     * @param w second endpoint of the edge
+     * @return {@code true} if the edge has merged two components, {@code false} if {@code v} and {@code w} already were
+     * connected
+     */
+    public boolean addEdge(@NotNull UnVertex v, @NotNull UnVertex w) {
+        this.components.add(v);
+        this.components.add(w);
+        int numberOfComponents = this.components.getNumberOfPartitions();
+        this.components.union(v, w);
+        return this.components.getNumberOfPartitions() < numberOfComponents;
+    }
+
+    /**
+     * Adds the given {@code edge} (whose endpoints are added if they are not contained yet).
+     *
+     * @param edge edge to be added
+     * @return {@code true} if the edge has merged two components, {@code false} if its endpoints already were connected
+     */
+    public boolean addEdge(@NotNull UnEdge edge) {
+        Iterator<UnVertex> endpoints = edge.getVertices().iterator();
+        UnVertex v = endpoints.next();
+        // for a self-loop, the set of vertices only contains one vertex
+        UnVertex w = endpoints.hasNext() ? endpoints.next() : v;
+        return this.addEdge(v, w);
+    }
+
+    /**
+     * Adds the given batch of {@code edges} (whose endpoints are added if they are not contained yet). Time complexity:
+     * O(k α(n)) for k edges.
+     *
+     * @param edges edges to be added
+     * @return number of components merged by the batch (i.e. the decrease of the number of components, not taking into
+     * account the newly added vertices)
+     */
+    public int addEdges(@NotNull Collection<UnEdge> edges) {
+        int numberOfMerges = 0;
+        for (UnEdge edge : edges) {
+            if (this.addEdge(edge)) {
+                numberOfMerges++;
+            }
+        }
+        return numberOfMerges;
+    }
+
+    /**
+     * Returns whether the vertices {@code v} and {@code w} are connected, i.e. located in the same component.
+     *
+     * @param v first vertex
+     * @param w second vertex
+     * @return {@code true} if {@code v} and {@code w} are connected, {@code false} else
+     */
+    public boolean isConnected(@NotNull UnVertex v, @NotNull UnVertex w) {
+        return this.components.isInSamePartition(v, w);
+    }
+
+    /**
+     * Returns the number of vertices of the component the vertex {@code v} is located in.
+     *
+     * @param v vertex whose component's size is to be returned
+     * @return size of the component of {@code v}
+     */
+    public int getComponentSize(@NotNull UnVertex v) {
+        return this.components.getPartitionSize(v);
+    }
+
+    /**
+     * Returns the representative of the component the vertex {@code v} is located in. Two vertices are connected iff they
+     * have the same representative (as long as no further edges are added).
+     *
+     * @param v vertex whose component's representative is to be returned
+     * @return representative of the component of {@code v}
+     */
+    public @NotNull UnVertex getRepresentative(@NotNull UnVertex v) {
+        return this.components.find(v);
+    }
+
+    /**
+     * Returns the current number of components.
+     *
+     * @return number of components
+     */
+    public int getNumberOfComponents() {
+        return this.components.getNumberOfPartitions();
+    }
+
+    /**
+     * Returns the current number of vertices.
+     *
+     * @return number of vertices
+     */
+    public int getNumberOfVertices() {
+        return this.components.getNumberOfElements();
+    }
+}
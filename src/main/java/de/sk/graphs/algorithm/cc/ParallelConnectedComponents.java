@@ -0,0 +1,174 @@
+package de.sk.graphs.algorithm.cc;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.UndirectedGraphUtils;
+import de.sk.greedy.mst.datastructure.unionfind.ConcurrentUnionFind;
+import de.sk.util.ParallelUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Determines the connected components of an undirected graph in parallel on a {@link ForkJoinPool}, following the Afforest
+ * approach (Sutton et al.) on top of a lock-free {@link ConcurrentUnionFind}. The vertices are processed in chunks:
+ * <ol>
+ *     <li>the first {@link #NEIGHBOR_ROUNDS} edges of each vertex are united, which typically connects most of the largest
+ *     component</li>
+ *     <li>the largest intermediate component is estimated by sampling {@link #SAMPLE_SIZE} vertices</li>
+ *     <li>the remaining edges are united, except for the edges of vertices already in the largest component: as each edge is
+ *     stored at both of its endpoints, the edge is still processed from its other endpoint if needed</li>
+ * </ol>
+ * Skipping the vertices of the largest component avoids most of the edges on typical graphs. Finally, the components are
+ * numbered consecutively in the order of their smallest vertex index (as done by
+ * {@link UnConnectedComponents#determineConnectedComponents(CsrGraph)}), and their sizes are counted. Time complexity:
+ * O(m+n) work (apart from the almost constant union-find operations).
+ */
+public class ParallelConnectedComponents {
+
+    static final int CHUNK_SIZE = 4096;
+    static final int NEIGHBOR_ROUNDS = 2;
+    static final int SAMPLE_SIZE = 1024;
+
+    private static final long SAMPLING_SEED = 0x5DEECE66DL;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor for running on the common pool.
+     */
+    public ParallelConnectedComponents() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pool pool on which the chunks of vertices are to be processed
+     */
+    public ParallelConnectedComponents(@NotNull ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Determines the connected components of the given undirected graph (represented as {@code adjacencyList}). The vertices
+     * are not modified; the components can be materialized as sets of vertices via
+     * {@link ConnectedComponentsResult#materializeComponents(java.util.List)} with the vertices' list of the adjacency list.
+     *
+     * @param adjacencyList adjacency list representation of the graph
+     * @return IDs of the connected components of the vertices (indexed by the vertices' indices in the vertices' list of
+     * {@code adjacencyList}) and sizes of the components
+     */
+    public @NotNull ConnectedComponentsResult determineConnectedComponents(@NotNull UnAdjacencyList adjacencyList) {
+        return this.determineConnectedComponents(UndirectedGraphUtils.convertToCsrGraph(adjacencyList));
+    }
+
+    /**
+     * Determines the connected components of the given undirected graph in CSR representation.
+     *
+     * @param graph undirected graph in CSR representation
+     * @return IDs of the connected components of the vertices and sizes of the components
+     */
+    public @NotNull ConnectedComponentsResult determineConnectedComponents(@NotNull CsrGraph graph) {
+        CsrGraphUtils.verifyIsUndirected(graph);
+        int n = graph.getNumberOfVertices();
+        ConcurrentUnionFind unionFind = new ConcurrentUnionFind(n);
+        // 1st phase: unite the first edges of each vertex
+        ParallelUtils.forEachChunk(this.pool, n, CHUNK_SIZE, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                int end = Math.min(graph.getOffset(v) + NEIGHBOR_ROUNDS, graph.getOffset(v + 1));
+                for (int i = graph.getOffset(v); i < end; i++) {
+                    unionFind.union(v, graph.getTarget(i));
+                }
+            }
+        });
+        this.compress(unionFind, n);
+        // 2nd phase: estimate the largest component and unite the remaining edges of the vertices outside of it
+        int largestComponent = this.sampleLargestComponent(unionFind, n);
+        ParallelUtils.forEachChunk(this.pool, n, CHUNK_SIZE, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                if (unionFind.find(v) == largestComponent) {
+                    continue;
+                }
+                for (int i = graph.getOffset(v) + NEIGHBOR_ROUNDS; i < graph.getOffset(v + 1); i++) {
+                    unionFind.union(v, graph.getTarget(i));
+                }
+            }
+        });
+        return this.createResult(unionFind, n);
+    }
+
+    private void compress(@NotNull ConcurrentUnionFind unionFind, int n) {
+        ParallelUtils.forEachChunk(this.pool, n, CHUNK_SIZE, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                unionFind.compress(v);
+            }
+        });
+    }
+
+    private int sampleLargestComponent(@NotNull ConcurrentUnionFind unionFind, int n) {
+        if (n == 0) {
+            return 0;
+        }
+        int[] sampledRoots = new SplittableRandom(SAMPLING_SEED).ints(SAMPLE_SIZE, 0, n).map(unionFind::find).sorted().toArray();
+        int mostFrequentRoot = sampledRoots[0];
+        int maxFrequency = 0;
+        // the sampled roots are sorted, i.e. equal roots form runs
+        int startOfRun = 0;
+        for (int i = 1; i <= sampledRoots.length; i++) {
+            if (i == sampledRoots.length || sampledRoots[i] != sampledRoots[startOfRun]) {
+                if (i - startOfRun > maxFrequency) {
+                    maxFrequency = i - startOfRun;
+                    mostFrequentRoot = sampledRoots[startOfRun];
+                }
+                startOfRun = i;
+            }
+        }
+        return mostFrequentRoot;
+    }
+
+    private @NotNull ConnectedComponentsResult createResult(@NotNull ConcurrentUnionFind unionFind, int n) {
+        this.compress(unionFind, n);
+        // number the roots (i.e. the smallest vertices of the components) consecutively: count them per chunk, then assign
+        // the IDs starting at the prefix sums of the counts
+        int numberOfChunks = ParallelUtils.getNumberOfChunks(n, CHUNK_SIZE);
+        int[] rootsPerChunk = new int[numberOfChunks];
+        ParallelUtils.forEachChunk(this.pool, n, CHUNK_SIZE, (from, to) -> {
+            int numberOfRoots = 0;
+            for (int v = from; v < to; v++) {
+                if (unionFind.find(v) == v) {
+                    numberOfRoots++;
+                }
+            }
+            rootsPerChunk[from / CHUNK_SIZE] = numberOfRoots;
+        });
+        int[] firstIdPerChunk = new int[numberOfChunks];
+        int numberOfComponents = 0;
+        for (int c = 0; c < numberOfChunks; c++) {
+            firstIdPerChunk[c] = numberOfComponents;
+            numberOfComponents += rootsPerChunk[c];
+        }
+        int[] componentIds = new int[n];
+        ParallelUtils.forEachChunk(this.pool, n, CHUNK_SIZE, (from, to) -> {
+            int nextId = firstIdPerChunk[from / CHUNK_SIZE];
+            for (int v = from; v < to; v++) {
+                if (unionFind.find(v) == v) {
+                    componentIds[v] = nextId++;
+                }
+            }
+        });
+        // the root of a vertex is not greater than the vertex, i.e. it is located in the same or in a preceding chunk
+        ParallelUtils.forEachChunk(this.pool, n, CHUNK_SIZE, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                componentIds[v] = componentIds[unionFind.find(v)];
+            }
+        });
+        int[] componentSizes = new int[numberOfComponents];
+        for (int componentId : componentIds) {
+            componentSizes[componentId]++;
+        }
+        return new ConnectedComponentsResult(componentIds, componentSizes);
+    }
+}
@@ -1,5 +1,8 @@
 package de.sk.graphs.algorithm.cc;
 
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
 import de.sk.graphs.util.UndirectedGraphUtils;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
@@ -9,31 +12,54 @@ import org.jetbrains.annotations.NotNull;
 import java.util.*;
 
 /**
- * Determines the connected components of a graph. Utilizes a queue-based breadth-first search.
+ * Determines the connected components of a graph. Utilizes a queue-based breadth-first search. The implementation is
+ * stateless, the state of a run is held in an {@link AlgorithmContext}.
  */
 public class UnConnectedComponents {
 
-    private final Queue<UnVertex> queue;
-
-    public UnConnectedComponents() {
-        this.queue = new LinkedList<>();
-    }
+    static final int NO_CC = -1;
 
     /**
      * Determines the connected components of the given undirected graph and returns them. Each connected component
-     * is the set of its vertices in the returned list.
+     * is the set of its vertices in the returned list. The number of its connected component is also set for each vertex
+     * of the graph.
      *
      * @param adjacencyList adjacency list representation of the graph
      * @return list of connected components
      */
     public List<Set<UnVertex>> determineConnectedComponents(@NotNull UnAdjacencyList adjacencyList) {
+        AlgorithmContext<UnVertex> context = AlgorithmContext.of(adjacencyList);
+        List<Set<UnVertex>> connectedComponents = this.determineConnectedComponents(adjacencyList, context);
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            UnVertex vertex = context.vertexAt(i);
+            vertex.setExplored(context.isExplored(i));
+            vertex.setCc(context.getCc(i));
+        }
+        return connectedComponents;
+    }
+
+    /**
+     * Determines the connected components of the given undirected graph and returns them, holding the state of the run in
+     * the given {@code context} (the vertices of the graph are not modified). Each connected component is the set of its
+     * vertices in the returned list. After the run, the context holds the number of the connected component of each vertex.
+     *
+     * @param adjacencyList adjacency list representation of the graph
+     * @param context       context for the state of the run (is reset at the beginning of the run)
+     * @return list of connected components
+     */
+    public List<Set<UnVertex>> determineConnectedComponents(@NotNull UnAdjacencyList adjacencyList, @NotNull AlgorithmContext<UnVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
         List<Set<UnVertex>> connectedComponents = new ArrayList<>();
+        // the queue is an array of size n, as each vertex is enqueued at most once
+        int[] queue = new int[context.getNumberOfVertices()];
         int cc = 0;
-        for (UnVertex vertex : adjacencyList.vertices()) {
-            if (!vertex.isExplored()) {
-                vertex.setCc(cc);
-                UndirectedGraphUtils.exploreVertexAndAddToQueue(vertex, this.queue);
-                List<UnVertex> connectedComponent = this.processQueue(cc);
+        for (int s = 0; s < context.getNumberOfVertices(); s++) {
+            if (!context.isExplored(s)) {
+                context.setExplored(s, true);
+                context.setCc(s, cc);
+                queue[0] = s;
+                List<UnVertex> connectedComponent = this.processQueue(queue, cc, context);
                 connectedComponents.add(Set.copyOf(connectedComponent));
                 cc++;
             }
@@ -41,16 +67,56 @@ public class UnConnectedComponents {
         return connectedComponents;
     }
 
-    private @NotNull List<UnVertex> processQueue(int cc) {
+    /**
+     * Determines the connected components of the given undirected graph in CSR representation. Returns the index of the
+     * connected component of each vertex (indexed by the vertices' indices). The connected components are numbered
+     * consecutively, starting with 0, in the order of the smallest vertex index they contain.
+     *
+     * @param graph undirected graph in CSR representation
+     * @return index of the connected component of each vertex
+     */
+    public int @NotNull [] determineConnectedComponents(@NotNull CsrGraph graph) {
+        CsrGraphUtils.verifyIsUndirected(graph);
+        int n = graph.getNumberOfVertices();
+        int[] ccs = new int[n];
+        Arrays.fill(ccs, NO_CC);
+        int[] queue = new int[n];
+        int cc = 0;
+        for (int s = 0; s < n; s++) {
+            if (ccs[s] == NO_CC) {
+                int head = 0;
+                int tail = 0;
+                ccs[s] = cc;
+                queue[tail++] = s;
+                while (head < tail) {
+                    int v = queue[head++];
+                    for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                        int w = graph.getTarget(i);
+                        if (ccs[w] == NO_CC) {
+                            ccs[w] = cc;
+                            queue[tail++] = w;
+                        }
+                    }
+                }
+                cc++;
+            }
+        }
+        return ccs;
+    }
+
+    private @NotNull List<UnVertex> processQueue(int @NotNull [] queue, int cc, @NotNull AlgorithmContext<UnVertex> context) {
         List<UnVertex> connectedComponent = new ArrayList<>();
-        while (!this.queue.isEmpty()) {
-            UnVertex v = this.queue.remove();
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            UnVertex v = context.vertexAt(queue[head++]);
             connectedComponent.add(v);
             for (UnEdge edge : v.getEdges()) {
-                UnVertex w = UndirectedGraphUtils.getOtherVertexOfEdge(edge, v);
-                if (!w.isExplored()) {
-                    w.setCc(cc);
-                    UndirectedGraphUtils.exploreVertexAndAddToQueue(w, this.queue);
+                int w = context.indexOf(UndirectedGraphUtils.getOtherVertexOfEdge(edge, v));
+                if (!context.isExplored(w)) {
+                    context.setExplored(w, true);
+                    context.setCc(w, cc);
+                    queue[tail++] = w;
                 }
             }
         }
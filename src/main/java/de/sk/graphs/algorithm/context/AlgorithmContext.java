@@ -0,0 +1,219 @@
+package de.sk.graphs.algorithm.context;
+
+import de.sk.graphs.datastructure.Vertex;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-run state of graph algorithms for the vertices of one graph. Instead of storing the values determined by an algorithm
+ * (e.g. whether a vertex has been explored, its topological position, or its shortest path length) in the vertex objects
+ * themselves, they are stored in primitive arrays indexed by the index of the vertex in the vertices' list of the graph.
+ * <br><br>
+ * Thereby, the graph itself is only read by the algorithms, so that several algorithms can run concurrently on the same
+ * graph, each with its own context. A context must not be shared between concurrent runs. It is reset at the beginning of
+ * each run of an algorithm, so it can be reused for consecutive runs on the same graph without allocating new arrays.
+ *
+ * @param <V> type of the vertices of the graph
+ */
+public class AlgorithmContext<V extends Vertex> {
+
+    static final String VERTEX_NOT_IN_CONTEXT_EXCEPTION_MSG_TF = "Vertex %s is not part of the graph the algorithm context has been created for.";
+    static final String MISMATCHING_NUMBER_OF_VERTICES_EXCEPTION_MSG_TF = "The algorithm context has been created for a graph with %d vertices, " +
+            "but the given graph has %d vertices.";
+
+    // default value for all int attributes which have not been set by an algorithm
+    public static final int UNSET = -1;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> indexLookup;
+    private final boolean[] explored;
+    private final int[] topSortPositions;
+    private final int[] sccIds;
+    private final int[] ccs;
+    private final int[] levels;
+    private final int[] graphSearchPositions;
+    private final int[] lens;
+    private final int[] keys;
+
+    /**
+     * Constructor.
+     *
+     * @param vertices vertices of the graph the context is created for (the index of a vertex in the context equals its
+     *                 index in this list)
+     */
+    public AlgorithmContext(@NotNull List<V> vertices) {
+        this.vertices = List.copyOf(vertices);
+        this.indexLookup = new HashMap<>();
+        for (int i = 0; i < this.vertices.size(); i++) {
+            this.indexLookup.put(this.vertices.get(i), i);
+        }
+        int n = this.vertices.size();
+        this.explored = new boolean[n];
+        this.topSortPositions = new int[n];
+        this.sccIds = new int[n];
+        this.ccs = new int[n];
+        this.levels = new int[n];
+        this.graphSearchPositions = new int[n];
+        this.lens = new int[n];
+        this.keys = new int[n];
+        this.reset();
+    }
+
+    /**
+     * Creates an algorithm context for the given directed graph.
+     *
+     * @param adjacencyList directed graph
+     * @return algorithm context for the given graph
+     */
+    public static @NotNull AlgorithmContext<DiVertex> of(@NotNull DiAdjacencyList adjacencyList) {
+        return new AlgorithmContext<>(adjacencyList.vertices());
+    }
+
+    /**
+     * Creates an algorithm context for the given undirected graph.
+     *
+     * @param adjacencyList undirected graph
+     * @return algorithm context for the given graph
+     */
+    public static @NotNull AlgorithmContext<UnVertex> of(@NotNull UnAdjacencyList adjacencyList) {
+        return new AlgorithmContext<>(adjacencyList.vertices());
+    }
+
+    /**
+     * Resets all values of the context to their defaults ({@code false} for the explored status, {@link #UNSET} for all
+     * other values).
+     */
+    public void reset() {
+        Arrays.fill(this.explored, false);
+        Arrays.fill(this.topSortPositions, UNSET);
+        Arrays.fill(this.sccIds, UNSET);
+        Arrays.fill(this.ccs, UNSET);
+        Arrays.fill(this.levels, UNSET);
+        Arrays.fill(this.graphSearchPositions, UNSET);
+        Arrays.fill(this.lens, UNSET);
+        Arrays.fill(this.keys, UNSET);
+    }
+
+    /**
+     * Verifies that the context fits to the given vertices of a graph (i.e. that it has been created for the same number of
+     * vertices). Throws an {@link IllegalArgumentException} if this is not the case.
+     *
+     * @param vertices vertices of the graph an algorithm is to be run on
+     */
+    public void verifyFitsTo(@NotNull List<V> vertices) {
+        if (vertices.size() != this.vertices.size()) {
+            throw new IllegalArgumentException(String.format(MISMATCHING_NUMBER_OF_VERTICES_EXCEPTION_MSG_TF, this.vertices.size(), vertices.size()));
+        }
+    }
+
+    /**
+     * Returns the index of the given vertex in the context. Throws an {@link IllegalArgumentException} if the vertex is
+     * not part of the graph the context has been created for.
+     *
+     * @param vertex vertex whose index is to be returned
+     * @return index of the vertex
+     */
+    public int indexOf(@NotNull V vertex) {
+        Integer idx = this.indexLookup.get(vertex);
+        if (idx == null) {
+            throw new IllegalArgumentException(String.format(VERTEX_NOT_IN_CONTEXT_EXCEPTION_MSG_TF, vertex.getName()));
+        }
+        return idx;
+    }
+
+    /**
+     * Returns the vertex with the given index.
+     *
+     * @param idx index of the vertex
+     * @return vertex with the given index
+     */
+    public @NotNull V vertexAt(int idx) {
+        return this.vertices.get(idx);
+    }
+
+    /**
+     * Returns the number of vertices the context holds values for.
+     *
+     * @return number of vertices
+     */
+    public int getNumberOfVertices() {
+        return this.vertices.size();
+    }
+
+    public boolean isExplored(int idx) {
+        return this.explored[idx];
+    }
+
+    public void setExplored(int idx, boolean isExplored) {
+        this.explored[idx] = isExplored;
+    }
+
+    public int getTopSortPosition(int idx) {
+        return this.topSortPositions[idx];
+    }
+
+    public void setTopSortPosition(int idx, int topSortPosition) {
+        this.topSortPositions[idx] = topSortPosition;
+    }
+
+    public int getSccId(int idx) {
+        return this.sccIds[idx];
+    }
+
+    public void setSccId(int idx, int sccId) {
+        this.sccIds[idx] = sccId;
+    }
+
+    public int getCc(int idx) {
+        return this.ccs[idx];
+    }
+
+    public void setCc(int idx, int cc) {
+        this.ccs[idx] = cc;
+    }
+
+    public int getLevel(int idx) {
+        return this.levels[idx];
+    }
+
+    public void setLevel(int idx, int level) {
+        this.levels[idx] = level;
+    }
+
+    public int getGraphSearchPosition(int idx) {
+        return this.graphSearchPositions[idx];
+    }
+
+    public void setGraphSearchPosition(int idx, int graphSearchPosition) {
+        this.graphSearchPositions[idx] = graphSearchPosition;
+    }
+
+    public int getLen(int idx) {
+        return this.lens[idx];
+    }
+
+    public void setLen(int idx, int len) {
+        this.lens[idx] = len;
+    }
+
+    public int getKey(int idx) {
+        return this.keys[idx];
+    }
+
+    public void setKey(int idx, int key) {
+        this.keys[idx] = key;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "AlgorithmContext(numberOfVertices=" + this.vertices.size() + ")";
+    }
+}
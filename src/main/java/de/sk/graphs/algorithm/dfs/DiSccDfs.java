@@ -1,6 +1,6 @@
 package de.sk.graphs.algorithm.dfs;
 
-import de.sk.graphs.util.DirectedGraphUtils;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
 import de.sk.graphs.datastructure.directed.DiAdjacencyList;
 import de.sk.graphs.datastructure.directed.DiEdge;
 import de.sk.graphs.datastructure.directed.DiVertex;
@@ -10,56 +10,74 @@ import javax.inject.Inject;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 /**
  * Implementation of Kosaraju's algorithm to find the strongly connected components in a directed graph.
- * Time complexity = O(m+n), m=|E|, n=|V|.
+ * Time complexity = O(m+n), m=|E|, n=|V|. The implementation is stateless, the state of a run is held in an
+ * {@link AlgorithmContext}.
  */
 public class DiSccDfs {
 
-    private int numScc;
-
     @Inject
     private DiTopSort topSort;
 
     /**
      * Determines the strongly connected components (SCC) for the given graph (represented as {@code adjacencyList}). In
-     * the result map, each SCC is represented by its ID (as key) and its set of vertices as value).
+     * the result map, each SCC is represented by its ID (as key) and its set of vertices as value). The ID of its SCC is
+     * also set for each vertex of the graph.
      *
      * @param adjacencyList graph for which the strongly connected components are to be determined.
      * @return SCC of the graph, each represented by its ID as key and its vertices as value
      */
     public @NotNull Map<Integer, List<DiVertex>> determineScc(@NotNull DiAdjacencyList adjacencyList) {
-        List<DiVertex> vertices = adjacencyList.vertices();
-        if (!vertices.isEmpty()) {
-            // determine magic order
-            List<DiVertex> reverseTopOrder = this.topSort.determineTopologicalOrdering(adjacencyList, true);
-            vertices.forEach(DiVertex::resetAttributeValuesModifiableByAlgorithms);
-            this.numScc = 0;
-            for (DiVertex v : reverseTopOrder) {
-                if (!v.isExplored()) {
-                    this.recursiveDfs(v);
-                    this.numScc++;
-                }
-            }
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(adjacencyList);
+        Map<Integer, List<DiVertex>> scc = this.determineScc(adjacencyList, context);
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            DiVertex vertex = context.vertexAt(i);
+            vertex.setExplored(context.isExplored(i));
+            vertex.setNumScc(context.getSccId(i));
         }
-        return this.createSccFromProcessedVertices(adjacencyList);
+        return scc;
     }
 
-    private void recursiveDfs(@NotNull DiVertex v) {
-        v.setExplored(true);
-        v.setNumScc(this.numScc);
-        for (DiEdge edge : v.getOutgoingEdges()) {
-            DiVertex w = edge.head();
-            if (!w.isExplored()) {
-                this.recursiveDfs(w);
+    /**
+     * Determines the strongly connected components (SCC) for the given graph (represented as {@code adjacencyList}),
+     * holding the state of the run in the given {@code context} (the vertices of the graph are not modified). After the
+     * run, the context holds the ID of the SCC of each vertex.
+     *
+     * @param adjacencyList graph for which the strongly connected components are to be determined.
+     * @param context       context for the state of the run (is reset at the beginning of the run)
+     * @return SCC of the graph, each represented by its ID as key and its vertices as value
+     */
+    public @NotNull Map<Integer, List<DiVertex>> determineScc(@NotNull DiAdjacencyList adjacencyList, @NotNull AlgorithmContext<DiVertex> context) {
+        // determine magic order
+        List<DiVertex> reverseTopOrder = this.topSort.determineTopologicalOrdering(adjacencyList, true, context);
+        context.reset();
+        Map<Integer, List<DiVertex>> scc = new TreeMap<>();
+        int numScc = 0;
+        for (DiVertex vertex : reverseTopOrder) {
+            int v = context.indexOf(vertex);
+            if (!context.isExplored(v)) {
+                List<DiVertex> verticesOfScc = new ArrayList<>();
+                this.recursiveDfs(v, numScc, verticesOfScc, context);
+                scc.put(numScc, verticesOfScc);
+                numScc++;
             }
         }
+        return scc;
     }
 
-    private @NotNull Map<Integer, List<DiVertex>> createSccFromProcessedVertices(@NotNull DiAdjacencyList adjacencyList) {
-        List<List<DiVertex>> scc = new ArrayList<>();
-        return adjacencyList.vertices().stream().collect(Collectors.groupingBy(DiVertex::getNumScc));
+    private void recursiveDfs(int v, int numScc, @NotNull List<DiVertex> verticesOfScc, @NotNull AlgorithmContext<DiVertex> context) {
+        context.setExplored(v, true);
+        context.setSccId(v, numScc);
+        DiVertex vertex = context.vertexAt(v);
+        verticesOfScc.add(vertex);
+        for (DiEdge edge : vertex.getOutgoingEdges()) {
+            int w = context.indexOf(edge.head());
+            if (!context.isExplored(w)) {
+                this.recursiveDfs(w, numScc, verticesOfScc, context);
+            }
+        }
     }
 }
@@ -1,63 +1,79 @@
 package de.sk.graphs.algorithm.dfs;
 
-import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
 import de.sk.graphs.datastructure.directed.DiAdjacencyList;
 import de.sk.graphs.datastructure.directed.DiEdge;
 import de.sk.graphs.datastructure.directed.DiVertex;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
- * Implementation of an O(m+n) algorithm to determine a topological ordering for a given graph.
+ * Implementation of an O(m+n) algorithm to determine a topological ordering for a given graph. The implementation is
+ * stateless, the state of a run is held in an {@link AlgorithmContext}.
  */
 public class DiTopSort {
 
-    private int nextTopSortPosition;
-
     /**
      * Determines the topological ordering for the given graph (represented as {@code adjacencyList}). The boolean
-     * {@code isReverse} specifies whether the edges are to be traced in the reversed direction.
+     * {@code isReverse} specifies whether the edges are to be traced in the reversed direction. The determined topological
+     * positions are also set for the vertices of the graph.
      *
      * @param adjacencyList graph for which the topological ordering is to be determined
      * @param isReverse whether the edges of the graph are to be traced in the reversed direction, or not
      * @return list of the graph's vertices, sorted in a topological ordering
      */
     public @NotNull List<DiVertex> determineTopologicalOrdering(@NotNull DiAdjacencyList adjacencyList, boolean isReverse) {
-        List<DiVertex> vertices = adjacencyList.vertices();
-        this.nextTopSortPosition = vertices.size();
-        for (DiVertex s : vertices) {
-            if (!s.isExplored()) {
-                if (isReverse) {
-                    this.reverseDfsTopSort(s);
-                } else {
-                    this.dfsTopSort(s);
-                }
-            }
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(adjacencyList);
+        List<DiVertex> topologicalOrdering = this.determineTopologicalOrdering(adjacencyList, isReverse, context);
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            DiVertex vertex = context.vertexAt(i);
+            vertex.setExplored(context.isExplored(i));
+            vertex.setTopSortPosition(context.getTopSortPosition(i));
         }
-        vertices.sort(GraphConstants.COMPARE_VERTICES_BY_TOP_SORT_POSITION);
-        return vertices;
+        return topologicalOrdering;
     }
 
-    private void dfsTopSort(@NotNull DiVertex v) {
-        v.setExplored(true);
-        for (DiEdge edge : v.getOutgoingEdges()) {
-            DiVertex w = edge.head();
-            if (!w.isExplored()) {
-                this.dfsTopSort(w);
+    /**
+     * Determines the topological ordering for the given graph (represented as {@code adjacencyList}), holding the state of
+     * the run in the given {@code context} (the vertices of the graph are not modified). After the run, the context holds
+     * the topological position (1-based) of each vertex.
+     *
+     * @param adjacencyList graph for which the topological ordering is to be determined
+     * @param isReverse     whether the edges of the graph are to be traced in the reversed direction, or not
+     * @param context       context for the state of the run (is reset at the beginning of the run)
+     * @return list of the graph's vertices, sorted in a topological ordering
+     */
+    public @NotNull List<DiVertex> determineTopologicalOrdering(@NotNull DiAdjacencyList adjacencyList, boolean isReverse,
+                                                                @NotNull AlgorithmContext<DiVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        int n = context.getNumberOfVertices();
+        int nextTopSortPosition = n;
+        for (int s = 0; s < n; s++) {
+            if (!context.isExplored(s)) {
+                nextTopSortPosition = this.dfsTopSort(s, nextTopSortPosition, isReverse, context);
             }
         }
-        v.setTopSortPosition(this.nextTopSortPosition--);
+        DiVertex[] topologicalOrdering = new DiVertex[n];
+        for (int i = 0; i < n; i++) {
+            topologicalOrdering[context.getTopSortPosition(i) - 1] = context.vertexAt(i);
+        }
+        return new ArrayList<>(Arrays.asList(topologicalOrdering));
     }
 
-    private void reverseDfsTopSort(@NotNull DiVertex v) {
-        v.setExplored(true);
-        for (DiEdge edge : v.getIncomingEdges()) {
-            DiVertex w = edge.tail();
-            if (!w.isExplored()) {
-                this.reverseDfsTopSort(w);
+    private int dfsTopSort(int v, int nextTopSortPosition, boolean isReverse, @NotNull AlgorithmContext<DiVertex> context) {
+        context.setExplored(v, true);
+        DiVertex vertex = context.vertexAt(v);
+        for (DiEdge edge : isReverse ? vertex.getIncomingEdges() : vertex.getOutgoingEdges()) {
+            int w = context.indexOf(isReverse ? edge.tail() : edge.head());
+            if (!context.isExplored(w)) {
+                nextTopSortPosition = this.dfsTopSort(w, nextTopSortPosition, isReverse, context);
             }
         }
-        v.setTopSortPosition(this.nextTopSortPosition--);
+        context.setTopSortPosition(v, nextTopSortPosition);
+        return nextTopSortPosition - 1;
     }
 }
@@ -1,5 +1,7 @@
 package de.sk.graphs.algorithm.dfs;
 
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnVertex;
 import org.jetbrains.annotations.NotNull;
@@ -20,4 +22,26 @@ public interface UnGraphDfs {
      * @return vertices connected to {@code s} in the order of visit
      */
     @NotNull List<UnVertex> conductDfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s);
+
+    /**
+     * Conducts a depth-first search for the given graph, starting from starting vertex {@code s}, holding the state of
+     * the search in the given {@code context} (the vertices of the graph are not modified). Returns the vertices connected
+     * to {@code s} in the order of visit.
+     *
+     * @param adjacencyList adjacency list of the graph for which the dfs is to be conducted
+     * @param s             starting vertex
+     * @param context       context for the state of the search (is reset at the beginning of the search)
+     * @return vertices connected to {@code s} in the order of visit
+     */
+    @NotNull List<UnVertex> conductDfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s, @NotNull AlgorithmContext<UnVertex> context);
+
+    /**
+     * Conducts a depth-first search for the given graph in CSR representation, starting from the starting vertex with
+     * index {@code s}. Returns the indices of the vertices connected to {@code s} in the order of visit.
+     *
+     * @param graph graph in CSR representation for which the dfs is to be conducted
+     * @param s     index of the starting vertex
+     * @return indices of the vertices connected to {@code s} in the order of visit
+     */
+    int @NotNull [] conductDfs(@NotNull CsrGraph graph, int s);
 }
@@ -1,48 +1,87 @@
 package de.sk.graphs.algorithm.dfs;
 
 import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
 import de.sk.graphs.util.UndirectedGraphUtils;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import de.sk.graphs.datastructure.undirected.UnVertex;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Stack;
 
 /**
  * Iterative implementation of {@link UnGraphDfs} utilizing a stack.
  */
 public class UnIterativeGraphDfs implements UnGraphDfs {
 
-    private final Stack<UnVertex> stack;
-
-    public UnIterativeGraphDfs() {
-        this.stack = new Stack<>();
-    }
-
     @Override
     public @NotNull List<UnVertex> conductDfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s) {
-        List<UnVertex> verticesByDfs = adjacencyList.vertices();
-        stack.add(s);
-        this.processStack();
-        verticesByDfs.sort(GraphConstants.COMPARE_VERTICES_BY_GRAPH_SEARCH_POSITION);
+        AlgorithmContext<UnVertex> context = AlgorithmContext.of(adjacencyList);
+        List<UnVertex> verticesByDfs = this.conductDfs(adjacencyList, s, context);
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            UnVertex vertex = context.vertexAt(i);
+            vertex.setExplored(context.isExplored(i));
+            vertex.setGraphSearchPosition(context.getGraphSearchPosition(i));
+        }
         return verticesByDfs;
     }
 
-    private void processStack() {
+    @Override
+    public @NotNull List<UnVertex> conductDfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s, @NotNull AlgorithmContext<UnVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        // each edge pushes at most one vertex per endpoint, plus the starting vertex
+        int[] stack = new int[2 * adjacencyList.edges().size() + 1];
+        List<UnVertex> verticesByDfs = new ArrayList<>();
         int nextGraphSearchPosition = GraphConstants.INITIAL_GRAPH_SEARCH_POSITION;
-        while (!stack.isEmpty()) {
-            UnVertex v = stack.pop();
-            if (!v.isExplored()) {
-                v.setGraphSearchPosition(nextGraphSearchPosition);
-                v.setExplored(true);
-                for (UnEdge edge : v.getEdges()) {
-                    UnVertex w = UndirectedGraphUtils.getOtherVertexOfEdge(edge, v);
-                    stack.push(w);
+        int top = 0;
+        stack[top++] = context.indexOf(s);
+        while (top > 0) {
+            int v = stack[--top];
+            if (!context.isExplored(v)) {
+                context.setExplored(v, true);
+                context.setGraphSearchPosition(v, nextGraphSearchPosition++);
+                UnVertex vertex = context.vertexAt(v);
+                verticesByDfs.add(vertex);
+                for (UnEdge edge : vertex.getEdges()) {
+                    int w = context.indexOf(UndirectedGraphUtils.getOtherVertexOfEdge(edge, vertex));
+                    if (!context.isExplored(w)) {
+                        stack[top++] = w;
+                    }
+                }
+            }
+        }
+        return verticesByDfs;
+    }
+
+    @Override
+    public int @NotNull [] conductDfs(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        // each adjacency entry pushes at most one vertex, plus the starting vertex
+        int[] stack = new int[graph.getNumberOfAdjacencyEntries() + 1];
+        boolean[] explored = new boolean[graph.getNumberOfVertices()];
+        int[] verticesByDfs = new int[graph.getNumberOfVertices()];
+        int numberOfVisitedVertices = 0;
+        int top = 0;
+        stack[top++] = s;
+        while (top > 0) {
+            int v = stack[--top];
+            if (!explored[v]) {
+                explored[v] = true;
+                verticesByDfs[numberOfVisitedVertices++] = v;
+                for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                    int w = graph.getTarget(i);
+                    if (!explored[w]) {
+                        stack[top++] = w;
+                    }
                 }
-                nextGraphSearchPosition++;
             }
         }
+        return Arrays.copyOf(verticesByDfs, numberOfVisitedVertices);
     }
 }
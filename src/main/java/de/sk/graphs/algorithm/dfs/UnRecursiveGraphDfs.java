@@ -1,12 +1,17 @@
 package de.sk.graphs.algorithm.dfs;
 
 import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
 import de.sk.graphs.util.UndirectedGraphUtils;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import de.sk.graphs.datastructure.undirected.UnVertex;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -14,25 +19,60 @@ import java.util.List;
  */
 public class UnRecursiveGraphDfs implements UnGraphDfs {
 
-    private int nextGraphSearchPosition;
-
     @Override
     public @NotNull List<UnVertex> conductDfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s) {
-        this.nextGraphSearchPosition = GraphConstants.INITIAL_GRAPH_SEARCH_POSITION;
-        List<UnVertex> verticesByDfs = adjacencyList.vertices();
-        this.recursiveDfs(s);
-        verticesByDfs.sort(GraphConstants.COMPARE_VERTICES_BY_GRAPH_SEARCH_POSITION);
+        AlgorithmContext<UnVertex> context = AlgorithmContext.of(adjacencyList);
+        List<UnVertex> verticesByDfs = this.conductDfs(adjacencyList, s, context);
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            UnVertex vertex = context.vertexAt(i);
+            vertex.setExplored(context.isExplored(i));
+            vertex.setGraphSearchPosition(context.getGraphSearchPosition(i));
+        }
         return verticesByDfs;
     }
 
-    private void recursiveDfs(@NotNull UnVertex v) {
-        if (!v.isExplored()) {
-            v.setGraphSearchPosition(this.nextGraphSearchPosition++);
-            v.setExplored(true);
-            for (UnEdge edge : v.getEdges()) {
-                UnVertex w = UndirectedGraphUtils.getOtherVertexOfEdge(edge, v);
-                this.recursiveDfs(w);
+    @Override
+    public @NotNull List<UnVertex> conductDfs(@NotNull UnAdjacencyList adjacencyList, @NotNull UnVertex s, @NotNull AlgorithmContext<UnVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        List<UnVertex> verticesByDfs = new ArrayList<>();
+        this.recursiveDfs(context.indexOf(s), context, verticesByDfs);
+        return verticesByDfs;
+    }
+
+    @Override
+    public int @NotNull [] conductDfs(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        boolean[] explored = new boolean[graph.getNumberOfVertices()];
+        int[] verticesByDfs = new int[graph.getNumberOfVertices()];
+        int numberOfVisitedVertices = this.recursiveDfs(graph, s, explored, verticesByDfs, 0);
+        return Arrays.copyOf(verticesByDfs, numberOfVisitedVertices);
+    }
+
+    private void recursiveDfs(int v, @NotNull AlgorithmContext<UnVertex> context, @NotNull List<UnVertex> verticesByDfs) {
+        context.setExplored(v, true);
+        // the graph search position of a vertex is its (1-based) position in the order of visit
+        context.setGraphSearchPosition(v, GraphConstants.INITIAL_GRAPH_SEARCH_POSITION + verticesByDfs.size());
+        UnVertex vertex = context.vertexAt(v);
+        verticesByDfs.add(vertex);
+        for (UnEdge edge : vertex.getEdges()) {
+            int w = context.indexOf(UndirectedGraphUtils.getOtherVertexOfEdge(edge, vertex));
+            if (!context.isExplored(w)) {
+                this.recursiveDfs(w, context, verticesByDfs);
+            }
+        }
+    }
+
+    private int recursiveDfs(@NotNull CsrGraph graph, int v, boolean @NotNull [] explored, int @NotNull [] verticesByDfs,
+                             int numberOfVisitedVertices) {
+        explored[v] = true;
+        verticesByDfs[numberOfVisitedVertices++] = v;
+        for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+            int w = graph.getTarget(i);
+            if (!explored[w]) {
+                numberOfVisitedVertices = this.recursiveDfs(graph, w, explored, verticesByDfs, numberOfVisitedVertices);
             }
         }
+        return numberOfVisitedVertices;
     }
 }
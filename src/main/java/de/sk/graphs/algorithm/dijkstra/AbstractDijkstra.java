@@ -1,45 +1,107 @@
 package de.sk.graphs.algorithm.dijkstra;
 
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
 import de.sk.graphs.datastructure.directed.DiVertex;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+
 /**
  * Abstract class implementing common methods required by implementations of {@link Dijkstra}'s algorithm.
  */
 public abstract class AbstractDijkstra implements Dijkstra {
 
+    static final int ZERO = 0;
+
+    /**
+     * Functional interface for inserting a vertex (index) into the priority queue of a run, or decreasing its key if the
+     * vertex is already contained in the queue.
+     */
+    @FunctionalInterface
+    interface KeyUpdater {
+
+        boolean insertOrDecreaseKey(int v, long key);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * The determined lengths are set as {@code len} values of the vertices of the graph. Runs the algorithm with a new
+     * {@link AlgorithmContext} (see {@link #determineSingleSourceShortestPaths(DiAdjacencyList, DiVertex, AlgorithmContext)}).
+     */
+    @Override
+    public void determineSingleSourceShortestPaths(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s) {
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(adjacencyList);
+        this.determineSingleSourceShortestPaths(adjacencyList, s, context);
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            DiVertex vertex = context.vertexAt(i);
+            vertex.setLen(context.getLen(i));
+            vertex.setKey(context.getKey(i));
+        }
+    }
+
     /**
-     * Initializes the {@code len} values for all vertices in the graph (represented as an adjacency list).
-     * The {@code len} value of the starting vertex {@code s} is set to 0, for all other vertices it is set to {@code Integer.MAX_VALUE}.
+     * Initializes the {@code len} values for all vertices in the given context. The {@code len} value of the starting
+     * vertex {@code s} is set to 0, for all other vertices it is set to {@code Integer.MAX_VALUE}.
      *
-     * @param adjacencyList graph
-     * @param s             starting vertex
+     * @param context context holding the state of the run
+     * @param s       index of the starting vertex
      */
-    void initializeLenValues(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s) {
-        for (DiVertex vertex : adjacencyList.vertices()) {
-            if (vertex != s) {
-                vertex.setLen(Integer.MAX_VALUE);
-            } else {
-                vertex.setLen(0);
-            }
+    void initializeLenValues(@NotNull AlgorithmContext<DiVertex> context, int s) {
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            context.setLen(i, i != s ? Integer.MAX_VALUE : 0);
+        }
+    }
+
+    /**
+     * Initializes the {@code key} values for all vertices in the given context. The {@code key} value of the starting
+     * vertex {@code s} is set to 0, for all other vertices it is set to {@code Integer.MAX_VALUE}.
+     *
+     * @param context context holding the state of the run
+     * @param s       index of the starting vertex
+     */
+    void initializeKeyValues(@NotNull AlgorithmContext<DiVertex> context, int s) {
+        for (int i = 0; i < context.getNumberOfVertices(); i++) {
+            context.setKey(i, i != s ? Integer.MAX_VALUE : 0);
         }
     }
 
     /**
-     * Initializes the {@code key} values for all vertices in the graph (represented as an adjacency list).
-     * The {@code key} value of the starting vertex {@code s} is set to 0, for all other vertices it is set to
-     * {@code Integer.MAX_VALUE}.
+     * Creates the array of {@code len} values for all vertices in the graph (represented in CSR representation). The
+     * {@code len} value of the starting vertex {@code s} is set to 0, for all other vertices it is set to
+     * {@link GraphConstants#POSITIVE_INFINITY}.
+     *
+     * @param graph graph in CSR representation
+     * @param s     index of the starting vertex
+     * @return initialized {@code len} values (indexed by the vertices' indices)
+     */
+    int @NotNull [] initializeLenValues(@NotNull CsrGraph graph, int s) {
+        int[] lens = new int[graph.getNumberOfVertices()];
+        Arrays.fill(lens, GraphConstants.POSITIVE_INFINITY);
+        lens[s] = 0;
+        return lens;
+    }
+
+    /**
+     * Relaxes the outgoing edges of the vertex with index {@code v}, whose {@code len} value is final: for each unexplored
+     * head whose {@code key} value exceeds the {@code len} value of {@code v} plus the weight of the edge, the {@code key}
+     * value is decreased in the given context and in the priority queue of the run (via {@code keyUpdater}).
      *
-     * @param adjacencyList graph
-     * @param s             starting vertex
+     * @param v          index of the vertex whose {@code len} value is final
+     * @param context    context holding the state of the run
+     * @param keyUpdater updater of the keys in the priority queue of the run
      */
-    void initializeKeyValues(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s) {
-        for (DiVertex vertex : adjacencyList.vertices()) {
-            if (vertex != s) {
-                vertex.setKey(Integer.MAX_VALUE);
-            } else {
-                vertex.setKey(0);
+    void relaxOutgoingEdges(int v, @NotNull AlgorithmContext<DiVertex> context, @NotNull KeyUpdater keyUpdater) {
+        for (DiEdge outgoingEdge : context.vertexAt(v).getOutgoingEdges()) {
+            int head = context.indexOf(outgoingEdge.head());
+            long dijkstraScore = (long) context.getLen(v) + outgoingEdge.getWeight();
+            if (!context.isExplored(head) && dijkstraScore < context.getKey(head)) {
+                context.setKey(head, (int) dijkstraScore);
+                keyUpdater.insertOrDecreaseKey(head, dijkstraScore);
             }
         }
     }
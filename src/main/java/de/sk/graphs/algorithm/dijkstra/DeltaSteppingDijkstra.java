@@ -0,0 +1,241 @@
+package de.sk.graphs.algorithm.dijkstra;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.DirectedGraphUtils;
+import de.sk.util.ParallelUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Parallel implementation of the delta-stepping algorithm (Meyer and Sanders) for the Single-Source Shortest Path problem
+ * with non-negative edge weights, which relaxes the edges of many vertices in parallel on a {@link ForkJoinPool}.
+ * <br><br>
+ * The vertices are kept in buckets of width delta, i.e. a vertex with tentative length d is held in bucket d / delta. The
+ * buckets are processed in ascending order. The edges with a weight of at most delta are "light", the others "heavy". As
+ * long as the current bucket is not empty, its vertices are removed and their light edges are relaxed in parallel, which may
+ * re-insert vertices into the current bucket. Afterwards, the lengths of all vertices removed from the current bucket are
+ * final, and their heavy edges (which cannot lead back into the current bucket) are relaxed in parallel once. The tentative
+ * lengths are lowered by compare-and-set, so that concurrent relaxations of edges with the same head do not interfere.
+ * <br><br>
+ * A delta of 1 (with integer weights) processes the vertices in the order of Dijkstra's algorithm with little parallelism
+ * per bucket, while a delta of at least the max edge weight degenerates to a parallel Bellman-Ford. If no delta is
+ * configured, it is derived from the graph as max edge weight / average out-degree, so that each vertex has about one
+ * light edge leading into the current bucket. Vertices whose tentative length is lowered while they are held in a bucket
+ * are not removed from it, but skipped as outdated when the bucket is processed.
+ */
+public class DeltaSteppingDijkstra extends AbstractDijkstra {
+
+    static final String INVALID_DELTA_EXCEPTION_MSG_TF = "Delta must be positive. Given: %d.";
+
+    // delta value signaling that delta is to be derived from the graph
+    static final int AUTO_DELTA = 0;
+
+    private static final int CHUNK_SIZE = 256;
+    private static final int NOT_SETTLED = -1;
+
+    private final ForkJoinPool pool;
+    private final int delta;
+
+    /**
+     * Constructor. The edges are relaxed on the {@link ForkJoinPool#commonPool()}, delta is derived from the graph.
+     */
+    public DeltaSteppingDijkstra() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor. Delta is derived from the graph.
+     *
+     * @param pool pool on which the edges are relaxed
+     */
+    public DeltaSteppingDijkstra(@NotNull ForkJoinPool pool) {
+        this.pool = pool;
+        this.delta = AUTO_DELTA;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pool  pool on which the edges are relaxed
+     * @param delta width of the buckets (must be positive)
+     */
+    public DeltaSteppingDijkstra(@NotNull ForkJoinPool pool, int delta) {
+        if (delta <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_DELTA_EXCEPTION_MSG_TF, delta));
+        }
+        this.pool = pool;
+        this.delta = delta;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * The adjacency list is converted into its CSR representation (see {@link DirectedGraphUtils#convertToCsrGraph(DiAdjacencyList)}),
+     * on which the lengths are determined by {@link #determineSingleSourceShortestPaths(CsrGraph, int)}.
+     */
+    @Override
+    public void determineSingleSourceShortestPaths(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s, @NotNull AlgorithmContext<DiVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        context.indexOf(s);
+        // the CSR graph indexes the vertices by their position in the adjacency list, which may differ from the context
+        List<DiVertex> vertices = adjacencyList.vertices();
+        int[] lens = this.determineSingleSourceShortestPaths(DirectedGraphUtils.convertToCsrGraph(adjacencyList), vertices.indexOf(s));
+        for (int v = 0; v < lens.length; v++) {
+            int idx = context.indexOf(vertices.get(v));
+            context.setLen(idx, lens[v]);
+            context.setKey(idx, lens[v]);
+            context.setExplored(idx, lens[v] != GraphConstants.POSITIVE_INFINITY);
+        }
+    }
+
+    @Override
+    public int @NotNull [] determineSingleSourceShortestPaths(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        CsrGraphUtils.assertAllEdgesHaveWeightGreaterThan(graph, ZERO);
+        int n = graph.getNumberOfVertices();
+        int maxWeight = getMaxWeight(graph);
+        int deltaOfRun = this.delta != AUTO_DELTA ? this.delta : determineDelta(graph, maxWeight);
+        AtomicIntegerArray lens = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            lens.set(v, v != s ? GraphConstants.POSITIVE_INFINITY : 0);
+        }
+        // buckets by index, only non-empty buckets are held; a bucket may contain outdated vertices and duplicates
+        TreeMap<Integer, VertexBuffer> buckets = new TreeMap<>();
+        buckets.computeIfAbsent(0, b -> new VertexBuffer()).add(s);
+        // settledInBucket[v] == b <=> v has been removed from bucket b (for collecting the vertices whose heavy edges are relaxed)
+        int[] settledInBucket = new int[n];
+        Arrays.fill(settledInBucket, NOT_SETTLED);
+        // inFrontier[v] == phase <=> v is part of the frontier of the phase (for removing duplicates)
+        int[] inFrontier = new int[n];
+        int phase = 0;
+        Map.Entry<Integer, VertexBuffer> firstBucket;
+        while ((firstBucket = buckets.pollFirstEntry()) != null) {
+            int bucket = firstBucket.getKey();
+            VertexBuffer settledVertices = new VertexBuffer();
+            VertexBuffer bucketVertices = firstBucket.getValue();
+            while (bucketVertices != null) {
+                phase++;
+                VertexBuffer frontier = new VertexBuffer();
+                for (int i = 0; i < bucketVertices.size; i++) {
+                    int v = bucketVertices.vertices[i];
+                    if (lens.get(v) / deltaOfRun == bucket && inFrontier[v] != phase) {
+                        inFrontier[v] = phase;
+                        frontier.add(v);
+                        if (settledInBucket[v] != bucket) {
+                            settledInBucket[v] = bucket;
+                            settledVertices.add(v);
+                        }
+                    }
+                }
+                this.relaxInParallel(graph, frontier, lens, deltaOfRun, true, buckets);
+                bucketVertices = buckets.remove(bucket);
+            }
+            if (maxWeight > deltaOfRun) {
+                this.relaxInParallel(graph, settledVertices, lens, deltaOfRun, false, buckets);
+            }
+        }
+        int[] result = new int[n];
+        for (int v = 0; v < n; v++) {
+            result[v] = lens.get(v);
+        }
+        return result;
+    }
+
+    /*
+     * Relaxes the light (respectively heavy) edges of the given vertices in parallel, and inserts the heads whose tentative
+     * lengths have been lowered into the buckets corresponding to their new lengths.
+     */
+    private void relaxInParallel(@NotNull CsrGraph graph, @NotNull VertexBuffer vertices, @NotNull AtomicIntegerArray lens, int delta,
+                                 boolean relaxLightEdges, @NotNull TreeMap<Integer, VertexBuffer> buckets) {
+        VertexBuffer[] updatedPerChunk = new VertexBuffer[ParallelUtils.getNumberOfChunks(vertices.size, CHUNK_SIZE)];
+        ParallelUtils.forEachChunk(this.pool, vertices.size, CHUNK_SIZE, (from, to) -> {
+            VertexBuffer updated = new VertexBuffer();
+            for (int i = from; i < to; i++) {
+                int v = vertices.vertices[i];
+                int lenOfV = lens.get(v);
+                for (int entryIdx = graph.getOffset(v); entryIdx < graph.getOffset(v + 1); entryIdx++) {
+                    int weight = graph.getWeight(entryIdx);
+                    if ((weight <= delta) == relaxLightEdges) {
+                        int w = graph.getTarget(entryIdx);
+                        if (lowerLen(lens, w, (long) lenOfV + weight)) {
+                            updated.add(w);
+                        }
+                    }
+                }
+            }
+            updatedPerChunk[from / CHUNK_SIZE] = updated;
+        });
+        for (VertexBuffer updated : updatedPerChunk) {
+            for (int i = 0; i < updated.size; i++) {
+                int w = updated.vertices[i];
+                buckets.computeIfAbsent(lens.get(w) / delta, b -> new VertexBuffer()).add(w);
+            }
+        }
+    }
+
+    /*
+     * Lowers the tentative length of w to the given dijkstra score if the score is smaller. Returns whether the length has
+     * been lowered.
+     */
+    private static boolean lowerLen(@NotNull AtomicIntegerArray lens, int w, long dijkstraScore) {
+        int currentLen = lens.get(w);
+        while (dijkstraScore < currentLen) {
+            if (lens.compareAndSet(w, currentLen, (int) dijkstraScore)) {
+                return true;
+            }
+            currentLen = lens.get(w);
+        }
+        return false;
+    }
+
+    /**
+     * Derives delta for the given graph as max edge weight / average out-degree (at least 1).
+     *
+     * @param graph     graph in CSR representation
+     * @param maxWeight max edge weight of the graph
+     * @return delta for the graph
+     */
+    static int determineDelta(@NotNull CsrGraph graph, int maxWeight) {
+        if (graph.getNumberOfAdjacencyEntries() == 0) {
+            return 1;
+        }
+        long delta = (long) maxWeight * graph.getNumberOfVertices() / graph.getNumberOfAdjacencyEntries();
+        return (int) Math.max(1, Math.min(delta, Integer.MAX_VALUE));
+    }
+
+    private static int getMaxWeight(@NotNull CsrGraph graph) {
+        int maxWeight = ZERO;
+        for (int i = 0; i < graph.getNumberOfAdjacencyEntries(); i++) {
+            maxWeight = Math.max(maxWeight, graph.getWeight(i));
+        }
+        return maxWeight;
+    }
+
+    /*
+     * Growable array of vertices.
+     */
+    private static final class VertexBuffer {
+
+        private int[] vertices = new int[16];
+        private int size;
+
+        private void add(int v) {
+            if (this.size == this.vertices.length) {
+                this.vertices = Arrays.copyOf(this.vertices, this.size << 1);
+            }
+            this.vertices[this.size++] = v;
+        }
+    }
+}
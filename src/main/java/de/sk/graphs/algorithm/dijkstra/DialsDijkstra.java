@@ -0,0 +1,68 @@
+package de.sk.graphs.algorithm.dijkstra;
+
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.DirectedGraphUtils;
+import de.sk.util.BucketQueue;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Implementation of {@link Dijkstra}'s algorithm for the Single-Source Shortest Path problem with Dial's bucket queue
+ * ({@link BucketQueue}) instead of a comparison-based heap, which runs in O(m + n + D) with D being the length of the longest
+ * shortest path from the starting vertex (D &lt;= (n-1) * C, with C being the max edge weight).
+ * <br><br>
+ * As the tentative lengths of the vertices in the queue always lie within [d;d+C], with d being the length of the vertex
+ * processed last, C + 1 buckets suffice. Hence, the algorithm is suitable for graphs with small, non-negative integer edge
+ * weights (e.g. road or network-cost graphs), and the max edge weight must not exceed {@link BucketQueue#MAX_KEY_SPAN}. For
+ * graphs with large edge weights, see {@link RadixHeapDijkstra}.
+ */
+public class DialsDijkstra extends AbstractDijkstra {
+
+    @Override
+    public void determineSingleSourceShortestPaths(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s, @NotNull AlgorithmContext<DiVertex> context) {
+        DirectedGraphUtils.assertAllEdgesHaveWeightGreaterThan(adjacencyList, ZERO);
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        int sIdx = context.indexOf(s);
+        this.initializeKeyValues(context, sIdx);
+        this.initializeLenValues(context, sIdx);
+        int maxWeight = adjacencyList.edges().stream().mapToInt(DiEdge::getWeight).max().orElse(ZERO);
+        BucketQueue queue = new BucketQueue(adjacencyList.vertices().size(), maxWeight);
+        queue.insert(sIdx, 0);
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            context.setExplored(v, true);
+            context.setLen(v, context.getKey(v));
+            this.relaxOutgoingEdges(v, context, queue::insertOrDecreaseKey);
+        }
+    }
+
+    @Override
+    public int @NotNull [] determineSingleSourceShortestPaths(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        CsrGraphUtils.assertAllEdgesHaveWeightGreaterThan(graph, ZERO);
+        int[] lens = this.initializeLenValues(graph, s);
+        int maxWeight = ZERO;
+        for (int i = 0; i < graph.getNumberOfAdjacencyEntries(); i++) {
+            maxWeight = Math.max(maxWeight, graph.getWeight(i));
+        }
+        BucketQueue queue = new BucketQueue(graph.getNumberOfVertices(), maxWeight);
+        queue.insert(s, 0);
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                int w = graph.getTarget(i);
+                long dijkstraScore = (long) lens[v] + graph.getWeight(i);
+                if (dijkstraScore < lens[w]) {
+                    lens[w] = (int) dijkstraScore;
+                    queue.insertOrDecreaseKey(w, dijkstraScore);
+                }
+            }
+        }
+        return lens;
+    }
+}
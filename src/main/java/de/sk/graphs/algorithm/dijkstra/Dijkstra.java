@@ -1,5 +1,7 @@
 package de.sk.graphs.algorithm.dijkstra;
 
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.directed.DiAdjacencyList;
 import de.sk.graphs.datastructure.directed.DiVertex;
 import org.jetbrains.annotations.NotNull;
@@ -22,4 +24,27 @@ public interface Dijkstra {
      * @param s             starting vertex from which the shortest paths to all reachable vertices are to be determined
      */
     void determineSingleSourceShortestPaths(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s);
+
+    /**
+     * For the given graph represented as adjacency list, determines the shortest paths to all vertices reachable from
+     * the starting vertex, holding the state of the run in the given {@code context} (the vertices of the graph are not
+     * modified). After the run, the context holds the length of the shortest path from {@code s} to each vertex
+     * ({@code Integer.MAX_VALUE} for vertices not reachable from {@code s}).
+     *
+     * @param adjacencyList graph
+     * @param s             starting vertex from which the shortest paths to all reachable vertices are to be determined
+     * @param context       context for the state of the run (is reset at the beginning of the run)
+     */
+    void determineSingleSourceShortestPaths(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s, @NotNull AlgorithmContext<DiVertex> context);
+
+    /**
+     * For the given graph in CSR representation, determines the lengths of the shortest paths from the starting vertex with
+     * index {@code s} to all vertices. Vertices which are not reachable from {@code s} get a length of
+     * {@link de.sk.graphs.GraphConstants#POSITIVE_INFINITY}.
+     *
+     * @param graph graph in CSR representation
+     * @param s     index of the starting vertex from which the shortest paths to all reachable vertices are to be determined
+     * @return lengths of the shortest paths from {@code s} (indexed by the vertices' indices)
+     */
+    int @NotNull [] determineSingleSourceShortestPaths(@NotNull CsrGraph graph, int s);
 }
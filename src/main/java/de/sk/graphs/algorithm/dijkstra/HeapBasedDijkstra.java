@@ -1,52 +1,64 @@
 package de.sk.graphs.algorithm.dijkstra;
 
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.directed.DiAdjacencyList;
-import de.sk.graphs.datastructure.directed.DiEdge;
 import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.util.IndexedDAryMinHeap;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
-import java.util.PriorityQueue;
-import java.util.Set;
-
 /**
  * Heap-based implementation of {@link Dijkstra}'s algorithm for the Single-Source Shortest Path problem which runs in O(m log n).
+ * <br><br>
+ * The heap is an {@link IndexedDAryMinHeap} which holds each vertex (index) at most once. When a shorter path to a vertex
+ * in the heap is found, its key is decreased in place in O(log n), so that the heap never holds more than n entries.
  */
 public class HeapBasedDijkstra extends AbstractDijkstra {
 
-    private final Set<DiVertex> processedVertices;
-    private final PriorityQueue<DiVertex> heap;
-
-    /**
-     * Constructor.
-     */
-    public HeapBasedDijkstra() {
-        this.processedVertices = new HashSet<>();
-        this.heap = new PriorityQueue<>();
-    }
-
     @Override
-    public void determineSingleSourceShortestPaths(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s) {
-        this.processedVertices.clear();
-        this.heap.clear();
-        this.initializeKeyValues(adjacencyList, s);
-        this.heap.addAll(adjacencyList.vertices());
-        while (!this.heap.isEmpty()) {
-            DiVertex removedVertex = this.heap.poll();
-            removedVertex.setLen(removedVertex.getKey());
-            this.processedVertices.add(removedVertex);
-            this.updateVerticesAndRestoreHeapInvariant(removedVertex);
+    public void determineSingleSourceShortestPaths(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s, @NotNull AlgorithmContext<DiVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        int sIdx = context.indexOf(s);
+        this.initializeKeyValues(context, sIdx);
+        this.initializeLenValues(context, sIdx);
+        IndexedDAryMinHeap heap = new IndexedDAryMinHeap(adjacencyList.vertices().size());
+        heap.insert(sIdx, 0);
+        while (!heap.isEmpty()) {
+            int v = heap.poll();
+            context.setExplored(v, true);
+            context.setLen(v, context.getKey(v));
+            this.relaxOutgoingEdges(v, context, heap::insertOrDecreaseKey);
         }
     }
 
-    private void updateVerticesAndRestoreHeapInvariant(@NotNull DiVertex removedVertex) {
-        for (DiEdge outgoingEdge : removedVertex.getOutgoingEdges()) {
-            DiVertex head = outgoingEdge.head();
-            if (!this.processedVertices.contains(head)) {
-                this.heap.remove(head);
-                head.setKey(Math.min(head.getKey(), outgoingEdge.tail().getLen() + outgoingEdge.getWeight()));
-                this.heap.add(head);
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * For the CSR representation, the len value of a vertex doubles as its key in the heap: a vertex is inserted into the
+     * heap when its len value drops below infinity for the first time, and its key is decreased whenever its len value
+     * decreases. As all edge weights are non-negative, the len value of a polled vertex is final, so that a polled vertex is
+     * never inserted again.
+     */
+    @Override
+    public int @NotNull [] determineSingleSourceShortestPaths(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        CsrGraphUtils.assertAllEdgesHaveWeightGreaterThan(graph, ZERO);
+        int[] lens = this.initializeLenValues(graph, s);
+        IndexedDAryMinHeap heap = new IndexedDAryMinHeap(graph.getNumberOfVertices());
+        heap.insert(s, 0);
+        while (!heap.isEmpty()) {
+            int v = heap.poll();
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                int w = graph.getTarget(i);
+                long dijkstraScore = (long) lens[v] + graph.getWeight(i);
+                if (dijkstraScore < lens[w]) {
+                    lens[w] = (int) dijkstraScore;
+                    heap.insertOrDecreaseKey(w, dijkstraScore);
+                }
             }
         }
+        return lens;
     }
 }
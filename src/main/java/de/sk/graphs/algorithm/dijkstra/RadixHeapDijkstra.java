@@ -0,0 +1,59 @@
+package de.sk.graphs.algorithm.dijkstra;
+
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.DirectedGraphUtils;
+import de.sk.util.RadixHeap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Implementation of {@link Dijkstra}'s algorithm for the Single-Source Shortest Path problem with a {@link RadixHeap} instead
+ * of a comparison-based heap, which runs in O(m + n log C) with C being the max edge weight.
+ * <br><br>
+ * The radix heap exploits that the lengths of the processed vertices are non-decreasing. Contrary to {@link DialsDijkstra},
+ * its memory consumption does not depend on the edge weights, so that it is also suitable for graphs with large edge weights.
+ */
+public class RadixHeapDijkstra extends AbstractDijkstra {
+
+    @Override
+    public void determineSingleSourceShortestPaths(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s, @NotNull AlgorithmContext<DiVertex> context) {
+        DirectedGraphUtils.assertAllEdgesHaveWeightGreaterThan(adjacencyList, ZERO);
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        int sIdx = context.indexOf(s);
+        this.initializeKeyValues(context, sIdx);
+        this.initializeLenValues(context, sIdx);
+        RadixHeap heap = new RadixHeap(adjacencyList.vertices().size());
+        heap.insert(sIdx, 0);
+        while (!heap.isEmpty()) {
+            int v = heap.poll();
+            context.setExplored(v, true);
+            context.setLen(v, context.getKey(v));
+            this.relaxOutgoingEdges(v, context, heap::insertOrDecreaseKey);
+        }
+    }
+
+    @Override
+    public int @NotNull [] determineSingleSourceShortestPaths(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        CsrGraphUtils.assertAllEdgesHaveWeightGreaterThan(graph, ZERO);
+        int[] lens = this.initializeLenValues(graph, s);
+        RadixHeap heap = new RadixHeap(graph.getNumberOfVertices());
+        heap.insert(s, 0);
+        while (!heap.isEmpty()) {
+            int v = heap.poll();
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                int w = graph.getTarget(i);
+                long dijkstraScore = (long) lens[v] + graph.getWeight(i);
+                if (dijkstraScore < lens[w]) {
+                    lens[w] = (int) dijkstraScore;
+                    heap.insertOrDecreaseKey(w, dijkstraScore);
+                }
+            }
+        }
+        return lens;
+    }
+}
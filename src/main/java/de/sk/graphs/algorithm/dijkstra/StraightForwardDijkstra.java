@@ -1,5 +1,9 @@
 package de.sk.graphs.algorithm.dijkstra;
 
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
 import de.sk.graphs.util.DirectedGraphUtils;
 import de.sk.graphs.algorithm.dijkstra.edgeselection.EdgeSelector;
 import de.sk.graphs.datastructure.directed.DiAdjacencyList;
@@ -9,40 +13,72 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
 
 import javax.inject.Inject;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Straight-forward implementation of {@link Dijkstra}'s algorithm for the Single-Source Shortest Path problem which runs in O(mn).
  */
 public class StraightForwardDijkstra extends AbstractDijkstra {
 
-    static final int ZERO = 0;
+    static final int NO_VERTEX = -1;
 
     @Inject
     private EdgeSelector edgeSelector;
 
-    private final Set<DiVertex> processedVertices;
-
-    /**
-     * Constructor.
-     */
-    public StraightForwardDijkstra() {
-        this.processedVertices = new HashSet<>();
-    }
-
     @Override
-    public void determineSingleSourceShortestPaths(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s) {
+    public void determineSingleSourceShortestPaths(@NotNull DiAdjacencyList adjacencyList, @NotNull DiVertex s, @NotNull AlgorithmContext<DiVertex> context) {
         DirectedGraphUtils.assertAllEdgesHaveWeightGreaterThan(adjacencyList, ZERO);
-        this.processedVertices.clear();
-        this.initializeLenValues(adjacencyList, s);
-        this.processedVertices.add(s);
-        Pair<DiEdge, Integer> eligibleEdgeWithLowestDijkstraScore = edgeSelector.selectEligibleEdgeWithLowestDijkstraScore(adjacencyList, processedVertices);
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        int sIdx = context.indexOf(s);
+        this.initializeLenValues(context, sIdx);
+        // the processed vertices are the explored vertices of the context
+        context.setExplored(sIdx, true);
+        Pair<DiEdge, Integer> eligibleEdgeWithLowestDijkstraScore = this.edgeSelector.selectEligibleEdgeWithLowestDijkstraScore(adjacencyList, context);
         while (eligibleEdgeWithLowestDijkstraScore.getLeft() != null) {
-            DiVertex nextVertexToAdd = eligibleEdgeWithLowestDijkstraScore.getLeft().head();
-            nextVertexToAdd.setLen(eligibleEdgeWithLowestDijkstraScore.getRight());
-            processedVertices.add(nextVertexToAdd);
-            eligibleEdgeWithLowestDijkstraScore = edgeSelector.selectEligibleEdgeWithLowestDijkstraScore(adjacencyList, processedVertices);
+            int nextVertexToAdd = context.indexOf(eligibleEdgeWithLowestDijkstraScore.getLeft().head());
+            context.setLen(nextVertexToAdd, eligibleEdgeWithLowestDijkstraScore.getRight());
+            context.setExplored(nextVertexToAdd, true);
+            eligibleEdgeWithLowestDijkstraScore = this.edgeSelector.selectEligibleEdgeWithLowestDijkstraScore(adjacencyList, context);
+        }
+    }
+
+    @Override
+    public int @NotNull [] determineSingleSourceShortestPaths(@NotNull CsrGraph graph, int s) {
+        CsrGraphUtils.verifyVertexIdx(graph, s);
+        CsrGraphUtils.assertAllEdgesHaveWeightGreaterThan(graph, ZERO);
+        int[] lens = this.initializeLenValues(graph, s);
+        boolean[] processed = new boolean[graph.getNumberOfVertices()];
+        processed[s] = true;
+        int nextVertexToAdd = this.selectVertexWithLowestDijkstraScore(graph, processed, lens);
+        while (nextVertexToAdd != NO_VERTEX) {
+            processed[nextVertexToAdd] = true;
+            nextVertexToAdd = this.selectVertexWithLowestDijkstraScore(graph, processed, lens);
+        }
+        return lens;
+    }
+
+    /*
+     * Scans all edges crossing the frontier between processed and unprocessed vertices and selects the head of the edge
+     * with the lowest Dijkstra score. The score is written to lens. Returns NO_VERTEX if no edge crosses the frontier.
+     */
+    private int selectVertexWithLowestDijkstraScore(@NotNull CsrGraph graph, boolean @NotNull [] processed, int @NotNull [] lens) {
+        int vertexWithLowestScore = NO_VERTEX;
+        long lowestScore = GraphConstants.POSITIVE_INFINITY;
+        for (int v = 0; v < graph.getNumberOfVertices(); v++) {
+            if (processed[v]) {
+                for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                    int w = graph.getTarget(i);
+                    long dijkstraScore = (long) lens[v] + graph.getWeight(i);
+                    if (!processed[w] && dijkstraScore < lowestScore) {
+                        lowestScore = dijkstraScore;
+                        vertexWithLowestScore = w;
+                    }
+                }
+            }
+        }
+        if (vertexWithLowestScore != NO_VERTEX) {
+            lens[vertexWithLowestScore] = (int) lowestScore;
         }
+        return vertexWithLowestScore;
     }
 }
@@ -1,5 +1,6 @@
 package de.sk.graphs.algorithm.dijkstra.edgeselection;
 
+import de.sk.graphs.algorithm.context.AlgorithmContext;
 import de.sk.graphs.datastructure.directed.DiEdge;
 import de.sk.graphs.datastructure.directed.DiVertex;
 import org.jetbrains.annotations.NotNull;
@@ -33,4 +34,28 @@ public abstract class AbstractEdgeSelector implements EdgeSelector {
     int calculateDijkstraScore(@NotNull DiEdge edge) {
         return edge.tail().getLen() + edge.getWeight();
     }
+
+    /**
+     * Determines whether the given {@code edge} (v,w) is eligible for selection in the next iteration of Dijkstra's
+     * algorithm, considering the explored vertices of the given {@code context} as the set of already selected vertices X.
+     *
+     * @param edge    edge whose eligibility is to be asserted
+     * @param context context holding the state of the run of Dijkstra's algorithm
+     * @return true if the given {@code edge} is eligible, else false
+     */
+    boolean isEligibleEdge(@NotNull DiEdge edge, @NotNull AlgorithmContext<DiVertex> context) {
+        return context.isExplored(context.indexOf(edge.tail())) && !context.isExplored(context.indexOf(edge.head()));
+    }
+
+    /**
+     * Calculates the Dijkstra score for the given {@code edge}, based on the {@code len} value of its tail held by the
+     * given {@code context}.
+     *
+     * @param edge    edge for which the Dijkstra score is to be calculated
+     * @param context context holding the state of the run of Dijkstra's algorithm
+     * @return the {@code edge}'s Dijkstra score
+     */
+    int calculateDijkstraScore(@NotNull DiEdge edge, @NotNull AlgorithmContext<DiVertex> context) {
+        return context.getLen(context.indexOf(edge.tail())) + edge.getWeight();
+    }
 }
@@ -1,5 +1,6 @@
 package de.sk.graphs.algorithm.dijkstra.edgeselection;
 
+import de.sk.graphs.algorithm.context.AlgorithmContext;
 import de.sk.graphs.datastructure.directed.DiAdjacencyList;
 import de.sk.graphs.datastructure.directed.DiEdge;
 import de.sk.graphs.datastructure.directed.DiVertex;
@@ -22,4 +23,15 @@ public interface EdgeSelector {
      * @return next eligible edge with the lowest cost (i.e. the lowest Dijkstra score)
      */
     @NotNull Pair<DiEdge, Integer> selectEligibleEdgeWithLowestDijkstraScore(@NotNull DiAdjacencyList adjacencyList, @NotNull Set<DiVertex> alreadySelectedVertices);
+
+    /**
+     * For the graph represented as adjacency list, selects the lowest-cost eligible edge considering the set of already
+     * selected vertices X, which are the explored vertices of the given {@code context}. The Dijkstra scores are calculated
+     * from the {@code len} values held by the {@code context}. An edge (v,w) is eligible if v ∈ X and w ∈ V - X.
+     *
+     * @param adjacencyList graph
+     * @param context       context holding the state of the run of Dijkstra's algorithm
+     * @return next eligible edge with the lowest cost (i.e. the lowest Dijkstra score)
+     */
+    @NotNull Pair<DiEdge, Integer> selectEligibleEdgeWithLowestDijkstraScore(@NotNull DiAdjacencyList adjacencyList, @NotNull AlgorithmContext<DiVertex> context);
 }
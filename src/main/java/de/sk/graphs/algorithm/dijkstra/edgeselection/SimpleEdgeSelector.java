@@ -1,5 +1,6 @@
 package de.sk.graphs.algorithm.dijkstra.edgeselection;
 
+import de.sk.graphs.algorithm.context.AlgorithmContext;
 import de.sk.graphs.datastructure.directed.DiAdjacencyList;
 import de.sk.graphs.datastructure.directed.DiEdge;
 import de.sk.graphs.datastructure.directed.DiVertex;
@@ -30,4 +31,21 @@ public class SimpleEdgeSelector extends AbstractEdgeSelector {
         }
         return new ImmutablePair<>(edgeWithLowestDijkstraScore, lowestDijkstraScore);
     }
+
+    @Override
+    public @NotNull Pair<DiEdge, Integer> selectEligibleEdgeWithLowestDijkstraScore(@NotNull DiAdjacencyList adjacencyList,
+                                                                                    @NotNull AlgorithmContext<DiVertex> context) {
+        int lowestDijkstraScore = Integer.MAX_VALUE;
+        DiEdge edgeWithLowestDijkstraScore = null;
+        for (DiEdge edge : adjacencyList.edges()) {
+            if (this.isEligibleEdge(edge, context)) {
+                int dijkstraScoreOfCurrentEdge = this.calculateDijkstraScore(edge, context);
+                if (dijkstraScoreOfCurrentEdge < lowestDijkstraScore) {
+                    lowestDijkstraScore = dijkstraScoreOfCurrentEdge;
+                    edgeWithLowestDijkstraScore = edge;
+                }
+            }
+        }
+        return new ImmutablePair<>(edgeWithLowestDijkstraScore, lowestDijkstraScore);
+    }
 }
@@ -0,0 +1,117 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.util.IndexedDAryMinHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A* search answering point-to-point shortest path queries on a graph in CSR representation with non-negative edge weights.
+ * Like Dijkstra's algorithm, the search settles the vertices from a heap, but the key of a vertex v is its tentative length
+ * plus the {@link Heuristic} estimate of the length from v to t. So the search is directed towards t, and stops as soon as
+ * t is settled. With {@link Heuristic#ZERO}, the search is Dijkstra's algorithm with an early stop. If the heuristic is
+ * admissible but not consistent, a settled vertex may be reached by a shorter path later on, in which case it is inserted
+ * into the heap again.
+ * <br><br>
+ * The scratch arrays are allocated once per instance and are stamped with the number of the current query, so that they do
+ * not need to be reset between queries. Consequently, an instance must not be used by multiple threads concurrently.
+ */
+public class AStar implements PointToPointShortestPaths {
+
+    private static final int NO_ENTRY = -1;
+
+    private final CsrGraph graph;
+    private final Heuristic heuristic;
+    private final IndexedDAryMinHeap heap;
+    private final int[] epochs;
+    private final long[] lens;
+    private final int[] parents;
+    private final int[] parentEntries;
+    private int epoch;
+    private int numberOfSettledVertices;
+
+    /**
+     * Constructor. Throws an {@link IllegalArgumentException} if the graph has an edge with a negative weight.
+     *
+     * @param graph     graph in CSR representation on which the queries are to be answered
+     * @param heuristic admissible heuristic estimating the lengths of the shortest paths to the target vertices
+     */
+    public AStar(@NotNull CsrGraph graph, @NotNull Heuristic heuristic) {
+        CsrGraphUtils.assertAllEdgesHaveWeightGreaterThan(graph, 0);
+        int n = graph.getNumberOfVertices();
+        this.graph = graph;
+        this.heuristic = heuristic;
+        this.heap = new IndexedDAryMinHeap(n);
+        this.epochs = new int[n];
+        this.lens = new long[n];
+        this.parents = new int[n];
+        this.parentEntries = new int[n];
+    }
+
+    @Override
+    public @NotNull ShortestPath determineShortestPath(int s, int t) {
+        CsrGraphUtils.verifyVertexIdx(this.graph, s);
+        CsrGraphUtils.verifyVertexIdx(this.graph, t);
+        this.startNewEpoch();
+        this.heap.clear();
+        this.numberOfSettledVertices = 0;
+        this.label(s, 0, s, NO_ENTRY);
+        this.heap.insert(s, this.heuristic.estimate(s, t));
+        while (!this.heap.isEmpty()) {
+            int v = this.heap.poll();
+            this.numberOfSettledVertices++;
+            if (v == t) {
+                return this.createShortestPath(s, t);
+            }
+            for (int i = this.graph.getOffset(v); i < this.graph.getOffset(v + 1); i++) {
+                int w = this.graph.getTarget(i);
+                long len = this.lens[v] + this.graph.getWeight(i);
+                if (this.epochs[w] != this.epoch || len < this.lens[w]) {
+                    this.label(w, len, v, i);
+                    this.heap.insertOrDecreaseKey(w, len + this.heuristic.estimate(w, t));
+                }
+            }
+        }
+        return ShortestPath.noPath();
+    }
+
+    @Override
+    public int getNumberOfSettledVertices() {
+        return this.numberOfSettledVertices;
+    }
+
+    private void startNewEpoch() {
+        this.epoch++;
+        if (this.epoch == 0) {
+            // the stamps would repeat after the overflow: clear them once and start over
+            Arrays.fill(this.epochs, 0);
+            this.epoch = 1;
+        }
+    }
+
+    private void label(int v, long len, int parent, int parentEntry) {
+        this.epochs[v] = this.epoch;
+        this.lens[v] = len;
+        this.parents[v] = parent;
+        this.parentEntries[v] = parentEntry;
+    }
+
+    private @NotNull ShortestPath createShortestPath(int s, int t) {
+        int numberOfEdges = 0;
+        for (int v = t; v != s; v = this.parents[v]) {
+            numberOfEdges++;
+        }
+        int[] vertices = new int[numberOfEdges + 1];
+        int[] entries = new int[numberOfEdges];
+        int v = t;
+        for (int i = numberOfEdges; i > 0; i--) {
+            vertices[i] = v;
+            entries[i - 1] = this.parentEntries[v];
+            v = this.parents[v];
+        }
+        vertices[0] = s;
+        return ShortestPath.of(this.lens[t], vertices, entries);
+    }
+}
@@ -0,0 +1,182 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.util.IndexedDAryMinHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Bidirectional Dijkstra answering point-to-point shortest path queries on a graph in CSR representation with non-negative
+ * edge weights. Two searches are conducted alternately, one from s along the edges and one from t against the edges (for
+ * undirected graphs, both along the edges); in each step, the search with the smaller min key settles its next vertex.
+ * Whenever an edge relaxed by one search leads to a vertex labeled by the other search, the length of the path through
+ * this vertex is a candidate for the shortest path. The query stops as soon as the sum of the min keys of both heaps is not
+ * smaller than the shortest candidate, since no path through an unsettled vertex can be shorter. On road-like graphs,
+ * both searches together settle about half of the vertices a unidirectional search settles.
+ * <br><br>
+ * The scratch arrays are allocated once per instance and are stamped with the number of the current query, so that they do
+ * not need to be reset between queries. Consequently, an instance must not be used by multiple threads concurrently.
+ */
+public class BidirectionalDijkstra implements PointToPointShortestPaths {
+
+    private static final int NO_VERTEX = -1;
+    private static final long NO_CANDIDATE = Long.MAX_VALUE;
+
+    private final CsrGraph graph;
+    private final CsrGraph transposedGraph;
+    private final Search forwardSearch;
+    private final Search backwardSearch;
+    private int epoch;
+    private long lengthOfBestCandidate;
+    private int meetingVertex;
+    private int numberOfSettledVertices;
+
+    /**
+     * Constructor. For directed graphs, the transpose of the graph is created for the backward searches. Throws an
+     * {@link IllegalArgumentException} if the graph has an edge with a negative weight.
+     *
+     * @param graph graph in CSR representation on which the queries are to be answered
+     */
+    public BidirectionalDijkstra(@NotNull CsrGraph graph) {
+        CsrGraphUtils.assertAllEdgesHaveWeightGreaterThan(graph, 0);
+        this.graph = graph;
+        this.transposedGraph = graph.isDirected() ? CsrGraphUtils.transpose(graph) : graph;
+        this.forwardSearch = new Search(this.graph);
+        this.backwardSearch = new Search(this.transposedGraph);
+    }
+
+    @Override
+    public @NotNull ShortestPath determineShortestPath(int s, int t) {
+        CsrGraphUtils.verifyVertexIdx(this.graph, s);
+        CsrGraphUtils.verifyVertexIdx(this.graph, t);
+        this.startNewEpoch();
+        this.forwardSearch.start(s);
+        this.backwardSearch.start(t);
+        this.lengthOfBestCandidate = s == t ? 0 : NO_CANDIDATE;
+        this.meetingVertex = s == t ? s : NO_VERTEX;
+        this.numberOfSettledVertices = 0;
+        while (!this.forwardSearch.heap.isEmpty() && !this.backwardSearch.heap.isEmpty()
+                && this.forwardSearch.heap.peekKey() + this.backwardSearch.heap.peekKey() < this.lengthOfBestCandidate) {
+            if (this.forwardSearch.heap.peekKey() <= this.backwardSearch.heap.peekKey()) {
+                this.settleNextVertex(this.forwardSearch, this.backwardSearch);
+            } else {
+                this.settleNextVertex(this.backwardSearch, this.forwardSearch);
+            }
+        }
+        return this.meetingVertex != NO_VERTEX ? this.createShortestPath(s, t) : ShortestPath.noPath();
+    }
+
+    @Override
+    public int getNumberOfSettledVertices() {
+        return this.numberOfSettledVertices;
+    }
+
+    private void startNewEpoch() {
+        this.epoch++;
+        if (this.epoch == 0) {
+            // the stamps would repeat after the overflow: clear them once and start over
+            Arrays.fill(this.forwardSearch.epochs, 0);
+            Arrays.fill(this.backwardSearch.epochs, 0);
+            this.epoch = 1;
+        }
+    }
+
+    private void settleNextVertex(@NotNull Search search, @NotNull Search otherSearch) {
+        int v = search.heap.poll();
+        this.numberOfSettledVertices++;
+        CsrGraph graphToSearch = search.graphToSearch;
+        for (int i = graphToSearch.getOffset(v); i < graphToSearch.getOffset(v + 1); i++) {
+            int w = graphToSearch.getTarget(i);
+            long len = search.lens[v] + graphToSearch.getWeight(i);
+            if (!search.isLabeled(w) || len < search.lens[w]) {
+                search.label(w, len, v, i);
+                search.heap.insertOrDecreaseKey(w, len);
+                if (otherSearch.isLabeled(w) && len + otherSearch.lens[w] < this.lengthOfBestCandidate) {
+                    this.lengthOfBestCandidate = len + otherSearch.lens[w];
+                    this.meetingVertex = w;
+                }
+            }
+        }
+    }
+
+    private @NotNull ShortestPath createShortestPath(int s, int t) {
+        int numberOfForwardEdges = 0;
+        for (int v = this.meetingVertex; v != s; v = this.forwardSearch.parents[v]) {
+            numberOfForwardEdges++;
+        }
+        int numberOfBackwardEdges = 0;
+        for (int v = this.meetingVertex; v != t; v = this.backwardSearch.parents[v]) {
+            numberOfBackwardEdges++;
+        }
+        int[] vertices = new int[numberOfForwardEdges + numberOfBackwardEdges + 1];
+        int[] entries = new int[numberOfForwardEdges + numberOfBackwardEdges];
+        int v = this.meetingVertex;
+        for (int i = numberOfForwardEdges; i > 0; i--) {
+            vertices[i] = v;
+            entries[i - 1] = this.forwardSearch.parentEntries[v];
+            v = this.forwardSearch.parents[v];
+        }
+        vertices[0] = s;
+        v = this.meetingVertex;
+        for (int i = numberOfForwardEdges; i < entries.length; i++) {
+            int next = this.backwardSearch.parents[v];
+            // the backward search has used the entry of the transpose: look up the corresponding entry of the graph
+            entries[i] = this.findEntry(v, next, this.transposedGraph.getWeight(this.backwardSearch.parentEntries[v]));
+            vertices[i + 1] = next;
+            v = next;
+        }
+        return ShortestPath.of(this.lengthOfBestCandidate, vertices, entries);
+    }
+
+    private int findEntry(int v, int w, int weight) {
+        int entry = NO_VERTEX;
+        for (int i = this.graph.getOffset(v); i < this.graph.getOffset(v + 1) && entry == NO_VERTEX; i++) {
+            if (this.graph.getTarget(i) == w && this.graph.getWeight(i) == weight) {
+                entry = i;
+            }
+        }
+        return entry;
+    }
+
+    /*
+     * State of one of the two searches.
+     */
+    private final class Search {
+
+        private final CsrGraph graphToSearch;
+        private final IndexedDAryMinHeap heap;
+        private final int[] epochs;
+        private final long[] lens;
+        private final int[] parents;
+        private final int[] parentEntries;
+
+        private Search(@NotNull CsrGraph graphToSearch) {
+            int n = graphToSearch.getNumberOfVertices();
+            this.graphToSearch = graphToSearch;
+            this.heap = new IndexedDAryMinHeap(n);
+            this.epochs = new int[n];
+            this.lens = new long[n];
+            this.parents = new int[n];
+            this.parentEntries = new int[n];
+        }
+
+        private void start(int root) {
+            this.heap.clear();
+            this.label(root, 0, root, NO_VERTEX);
+            this.heap.insert(root, 0);
+        }
+
+        private boolean isLabeled(int v) {
+            return this.epochs[v] == BidirectionalDijkstra.this.epoch;
+        }
+
+        private void label(int v, long len, int parent, int parentEntry) {
+            this.epochs[v] = BidirectionalDijkstra.this.epoch;
+            this.lens[v] = len;
+            this.parents[v] = parent;
+            this.parentEntries[v] = parentEntry;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+import de.sk.basics.ch3.closestpair.distance.Distance;
+import de.sk.basics.ch3.closestpair.distance.EuclideanDistance;
+import de.sk.basics.ch3.closestpair.point.Point2D;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * {@link Heuristic} estimating the length of a shortest path by the {@link Distance} of the coordinates of the vertices
+ * (e.g. the Euclidean distance for road graphs), multiplied by a {@code scale} factor and rounded down. The heuristic is
+ * admissible and consistent if the weight of each edge (v,w) is at least {@code scale} * distance(p(v),p(w)) and the
+ * distance satisfies the triangle inequality.
+ */
+public class DistanceHeuristic implements Heuristic {
+
+    static final String INVALID_SCALE_EXCEPTION_MSG_TF = "The scale must be a non-negative number. Given: %f.";
+
+    private final Point2D[] coordinates;
+    private final Distance distance;
+    private final double scale;
+
+    /**
+     * Constructor. Uses the {@link EuclideanDistance} with a scale of 1, which requires that the weight of each edge is at
+     * least the Euclidean distance of its endpoints.
+     *
+     * @param coordinates coordinates of the vertices (indexed by the vertices' indices)
+     */
+    public DistanceHeuristic(@NotNull List<Point2D> coordinates) {
+        this(coordinates, new EuclideanDistance(), 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param coordinates coordinates of the vertices (indexed by the vertices' indices)
+     * @param distance    distance measure for the coordinates
+     * @param scale       factor by which the distance is multiplied (i.e. the min weight per unit of distance)
+     */
+    public DistanceHeuristic(@NotNull List<Point2D> coordinates, @NotNull Distance distance, double scale) {
+        if (!(scale >= 0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException(String.format(INVALID_SCALE_EXCEPTION_MSG_TF, scale));
+        }
+        this.coordinates = coordinates.toArray(new Point2D[0]);
+        this.distance = distance;
+        this.scale = scale;
+    }
+
+    @Override
+    public long estimate(int v, int t) {
+        return (long) Math.floor(this.scale * this.distance.calcDist(this.coordinates[v], this.coordinates[t]));
+    }
+}
@@ -0,0 +1,26 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+/**
+ * Heuristic estimating the length of a shortest path between two vertices for {@link AStar}. The heuristic must be
+ * admissible, i.e. it must never overestimate the length of a shortest path. If it is also consistent (i.e. h(v,t) &lt;=
+ * w(v,x) + h(x,t) for each edge (v,x)), each vertex is settled at most once.
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    /**
+     * Heuristic estimating 0 for all pairs of vertices, with which {@link AStar} settles the vertices in the order of
+     * Dijkstra's algorithm.
+     */
+    Heuristic ZERO = (v, t) -> 0;
+
+    /**
+     * Returns a lower bound for the length of a shortest path from the vertex with index {@code v} to the vertex with index
+     * {@code t}.
+     *
+     * @param v index of the vertex from which the length is to be estimated
+     * @param t index of the target vertex
+     * @return lower bound for the length of a shortest path from {@code v} to {@code t}
+     */
+    long estimate(int v, int t);
+}
@@ -0,0 +1,271 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.dijkstra.Dijkstra;
+import de.sk.graphs.algorithm.dijkstra.HeapBasedDijkstra;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.util.ParallelUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Preprocessing of the ALT algorithm: selects k landmarks of a graph in CSR representation and determines the lengths of
+ * the shortest paths from and to each landmark with the configured {@link Dijkstra} implementation. The result are the
+ * {@link Landmarks}, which serve as {@link Heuristic} for {@link AStar}.
+ * <br><br>
+ * The shortest path runs required by the selection strategy (see {@link LandmarkSelection}) depend on the landmarks
+ * selected before and are conducted one after another; their distances from the landmarks are kept for the tables. The
+ * remaining runs, i.e. the runs from the last landmark and the runs to all landmarks (on the transpose, only for directed
+ * graphs), are independent and conducted in parallel on a {@link ForkJoinPool}. If the landmarks are given, all runs are
+ * conducted in parallel.
+ */
+public class LandmarkPreprocessing {
+
+    static final String INVALID_NUMBER_OF_LANDMARKS_EXCEPTION_MSG_TF = "The number of landmarks must be in the range [1;%d]. Given: %d.";
+    static final String DUPLICATE_LANDMARK_EXCEPTION_MSG_TF = "Vertex %d is given as landmark more than once.";
+    static final String TABLES_TOO_LARGE_EXCEPTION_MSG_TF = "The distance tables of %d landmarks for %d vertices exceed the max array length.";
+
+    // number of random roots tried by the avoid strategy before falling back to the first vertex which is not a landmark
+    private static final int MAX_NUMBER_OF_ROOTS = 8;
+    private static final int NONE = -1;
+
+    private final Dijkstra dijkstra;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor. The shortest paths are determined by {@link HeapBasedDijkstra} on the {@link ForkJoinPool#commonPool()}.
+     */
+    public LandmarkPreprocessing() {
+        this(new HeapBasedDijkstra(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dijkstra implementation determining the shortest paths from and to the landmarks (must be usable by multiple
+     *                 threads concurrently)
+     * @param pool     pool on which the independent shortest path runs are conducted
+     */
+    public LandmarkPreprocessing(@NotNull Dijkstra dijkstra, @NotNull ForkJoinPool pool) {
+        this.dijkstra = dijkstra;
+        this.pool = pool;
+    }
+
+    /**
+     * Selects the given number of landmarks of the given graph with the given strategy, and determines their distance
+     * tables.
+     *
+     * @param graph             graph in CSR representation with non-negative edge weights
+     * @param numberOfLandmarks number of landmarks to be selected (in the range [1;n])
+     * @param selection         strategy for selecting the landmarks
+     * @param seed              seed of the random generator choosing the roots of the selection
+     * @return selected landmarks and their distance tables
+     */
+    public @NotNull Landmarks preprocess(@NotNull CsrGraph graph, int numberOfLandmarks, @NotNull LandmarkSelection selection, long seed) {
+        int n = graph.getNumberOfVertices();
+        if (numberOfLandmarks < 1 || numberOfLandmarks > n) {
+            throw new IllegalArgumentException(String.format(INVALID_NUMBER_OF_LANDMARKS_EXCEPTION_MSG_TF, n, numberOfLandmarks));
+        }
+        int[] distancesFrom = allocateTable(n, numberOfLandmarks);
+        int[] landmarks = new int[numberOfLandmarks];
+        boolean[] isLandmark = new boolean[n];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < numberOfLandmarks; i++) {
+            if (i > 0) {
+                // the selection of landmark i requires the distances from landmark i-1
+                this.determineDistancesFrom(graph, landmarks, i - 1, distancesFrom);
+            }
+            int landmark = switch (selection) {
+                case FARTHEST -> this.selectFarthestLandmark(graph, landmarks, i, isLandmark, distancesFrom, random);
+                case AVOID -> this.selectAvoidingLandmark(graph, landmarks, i, isLandmark, distancesFrom, random);
+            };
+            landmarks[i] = landmark;
+            isLandmark[landmark] = true;
+        }
+        return this.completeTables(graph, landmarks, numberOfLandmarks - 1, distancesFrom);
+    }
+
+    /**
+     * Determines the distance tables of the given landmarks of the given graph. All shortest path runs are conducted in
+     * parallel.
+     *
+     * @param graph     graph in CSR representation with non-negative edge weights
+     * @param landmarks indices of the landmarks (at least one, pairwise distinct)
+     * @return landmarks and their distance tables
+     */
+    public @NotNull Landmarks preprocess(@NotNull CsrGraph graph, int @NotNull [] landmarks) {
+        int n = graph.getNumberOfVertices();
+        if (landmarks.length < 1 || landmarks.length > n) {
+            throw new IllegalArgumentException(String.format(INVALID_NUMBER_OF_LANDMARKS_EXCEPTION_MSG_TF, n, landmarks.length));
+        }
+        boolean[] isLandmark = new boolean[n];
+        for (int landmark : landmarks) {
+            CsrGraphUtils.verifyVertexIdx(graph, landmark);
+            if (isLandmark[landmark]) {
+                throw new IllegalArgumentException(String.format(DUPLICATE_LANDMARK_EXCEPTION_MSG_TF, landmark));
+            }
+            isLandmark[landmark] = true;
+        }
+        return this.completeTables(graph, landmarks.clone(), 0, allocateTable(n, landmarks.length));
+    }
+
+    /*
+     * Determines the distances from the landmarks [numberOfDeterminedLandmarks;k), and the distances to all landmarks, in
+     * parallel. For undirected graphs, the distances to the landmarks equal the distances from them.
+     */
+    private @NotNull Landmarks completeTables(@NotNull CsrGraph graph, int @NotNull [] landmarks, int numberOfDeterminedLandmarks,
+                                              int @NotNull [] distancesFrom) {
+        int k = landmarks.length;
+        int numberOfRunsFrom = k - numberOfDeterminedLandmarks;
+        CsrGraph transposedGraph = graph.isDirected() ? CsrGraphUtils.transpose(graph) : graph;
+        int[] distancesTo = graph.isDirected() ? allocateTable(graph.getNumberOfVertices(), k) : distancesFrom;
+        int numberOfRuns = graph.isDirected() ? numberOfRunsFrom + k : numberOfRunsFrom;
+        ParallelUtils.forEachChunk(this.pool, numberOfRuns, 1, (from, to) -> {
+            for (int run = from; run < to; run++) {
+                if (run < numberOfRunsFrom) {
+                    this.determineDistancesFrom(graph, landmarks, numberOfDeterminedLandmarks + run, distancesFrom);
+                } else {
+                    this.determineDistancesFrom(transposedGraph, landmarks, run - numberOfRunsFrom, distancesTo);
+                }
+            }
+        });
+        return new Landmarks(landmarks, graph, distancesFrom, distancesTo);
+    }
+
+    private void determineDistancesFrom(@NotNull CsrGraph graph, int @NotNull [] landmarks, int i, int @NotNull [] table) {
+        int[] lens = this.dijkstra.determineSingleSourceShortestPaths(graph, landmarks[i]);
+        int k = landmarks.length;
+        for (int v = 0; v < lens.length; v++) {
+            table[v * k + i] = lens[v];
+        }
+    }
+
+    /*
+     * Selects the vertex farthest from a random vertex as first landmark, and the vertex maximizing the min distance from
+     * the landmarks [0;i) as landmark i (vertices unreachable from a landmark count as farthest).
+     */
+    private int selectFarthestLandmark(@NotNull CsrGraph graph, int @NotNull [] landmarks, int i, boolean @NotNull [] isLandmark,
+                                       int @NotNull [] distancesFrom, @NotNull SplittableRandom random) {
+        int n = graph.getNumberOfVertices();
+        int[] minDistances = i == 0
+                ? this.dijkstra.determineSingleSourceShortestPaths(graph, random.nextInt(n))
+                : new int[n];
+        int k = landmarks.length;
+        for (int v = 0; v < n && i > 0; v++) {
+            int minDistance = GraphConstants.POSITIVE_INFINITY;
+            for (int j = 0; j < i; j++) {
+                minDistance = Math.min(minDistance, distancesFrom[v * k + j]);
+            }
+            minDistances[v] = minDistance;
+        }
+        int farthestVertex = NONE;
+        for (int v = 0; v < n; v++) {
+            if (!isLandmark[v] && (farthestVertex == NONE || minDistances[v] > minDistances[farthestVertex])) {
+                farthestVertex = v;
+            }
+        }
+        return farthestVertex;
+    }
+
+    /*
+     * Selects landmark i by the avoid strategy from a random root. If the tree of the root is covered by landmarks (i.e.
+     * the descent ends at a landmark), further roots are tried.
+     */
+    private int selectAvoidingLandmark(@NotNull CsrGraph graph, int @NotNull [] landmarks, int i, boolean @NotNull [] isLandmark,
+                                       int @NotNull [] distancesFrom, @NotNull SplittableRandom random) {
+        int n = graph.getNumberOfVertices();
+        for (int attempt = 0; attempt < MAX_NUMBER_OF_ROOTS; attempt++) {
+            int landmark = this.descendIntoAvoidedSubtree(graph, random.nextInt(n), landmarks.length, i, isLandmark, distancesFrom);
+            if (landmark != NONE) {
+                return landmark;
+            }
+        }
+        int v = 0;
+        while (isLandmark[v]) {
+            v++;
+        }
+        return v;
+    }
+
+    /*
+     * Grows a shortest path tree from the root (along the edges whose weights equal the differences of the lengths of their
+     * endpoints), weights each vertex by its length minus the lower bound of the landmarks [0;i) from the root (only the
+     * distances from the landmarks are known during the selection), sums the weights per subtree (0 for subtrees containing
+     * a landmark), and descends from the root into the heaviest subtree until reaching a leaf. Returns the leaf, NONE if it
+     * is a landmark.
+     */
+    private int descendIntoAvoidedSubtree(@NotNull CsrGraph graph, int root, int k, int i, boolean @NotNull [] isLandmark,
+                                          int @NotNull [] distancesFrom) {
+        int n = graph.getNumberOfVertices();
+        int[] lens = this.dijkstra.determineSingleSourceShortestPaths(graph, root);
+        int[] parents = new int[n];
+        Arrays.fill(parents, NONE);
+        boolean[] inTree = new boolean[n];
+        int[] order = new int[n];
+        int size = 0;
+        order[size++] = root;
+        inTree[root] = true;
+        for (int head = 0; head < size; head++) {
+            int u = order[head];
+            for (int e = graph.getOffset(u); e < graph.getOffset(u + 1); e++) {
+                int w = graph.getTarget(e);
+                if (!inTree[w] && (long) lens[u] + graph.getWeight(e) == lens[w]) {
+                    inTree[w] = true;
+                    parents[w] = u;
+                    order[size++] = w;
+                }
+            }
+        }
+        long[] subtreeWeights = new long[n];
+        boolean[] containsLandmark = new boolean[n];
+        for (int j = size - 1; j >= 0; j--) {
+            int v = order[j];
+            subtreeWeights[v] += lens[v] - lowerBoundFromLandmarks(root, v, k, i, distancesFrom);
+            containsLandmark[v] |= isLandmark[v];
+            if (containsLandmark[v]) {
+                subtreeWeights[v] = 0;
+            }
+            if (v != root) {
+                subtreeWeights[parents[v]] += subtreeWeights[v];
+                containsLandmark[parents[v]] |= containsLandmark[v];
+            }
+        }
+        int v = root;
+        int heaviestChild = root;
+        while (heaviestChild != NONE) {
+            v = heaviestChild;
+            heaviestChild = NONE;
+            for (int e = graph.getOffset(v); e < graph.getOffset(v + 1); e++) {
+                int w = graph.getTarget(e);
+                if (parents[w] == v && subtreeWeights[w] > 0 && (heaviestChild == NONE || subtreeWeights[w] > subtreeWeights[heaviestChild])) {
+                    heaviestChild = w;
+                }
+            }
+        }
+        return isLandmark[v] ? NONE : v;
+    }
+
+    private static long lowerBoundFromLandmarks(int u, int v, int k, int i, int @NotNull [] distancesFrom) {
+        long lowerBound = 0;
+        for (int j = 0; j < i; j++) {
+            int toU = distancesFrom[u * k + j];
+            int toV = distancesFrom[v * k + j];
+            if (toU != GraphConstants.POSITIVE_INFINITY && toV != GraphConstants.POSITIVE_INFINITY) {
+                lowerBound = Math.max(lowerBound, (long) toV - toU);
+            }
+        }
+        return lowerBound;
+    }
+
+    private static int @NotNull [] allocateTable(int numberOfVertices, int numberOfLandmarks) {
+        long length = (long) numberOfVertices * numberOfLandmarks;
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(String.format(TABLES_TOO_LARGE_EXCEPTION_MSG_TF, numberOfLandmarks, numberOfVertices));
+        }
+        return new int[(int) length];
+    }
+}
@@ -0,0 +1,21 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+/**
+ * Strategies for selecting the landmarks of {@link LandmarkPreprocessing}.
+ */
+public enum LandmarkSelection {
+
+    /**
+     * Selects the vertex farthest from a random vertex as first landmark, and then repeatedly the vertex farthest from the
+     * landmarks selected so far (i.e. maximizing the min distance to them). Requires one shortest path run per landmark.
+     */
+    FARTHEST,
+
+    /**
+     * Selects the landmarks in regions where the current landmarks give bad lower bounds (Goldberg and Harrelson): grows a
+     * shortest path tree from a random root, weights each vertex v by the gap between its distance from the root and the
+     * lower bound of the current landmarks for it, and descends from the root into the heaviest subtree not containing a
+     * landmark down to a leaf, which becomes the next landmark. Requires two shortest path runs per landmark.
+     */
+    AVOID
+}
@@ -0,0 +1,220 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.datastructure.CsrGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Distance tables of the landmarks of a graph (created by {@link LandmarkPreprocessing}), serving as {@link Heuristic} for
+ * {@link AStar} (the ALT algorithm: A*, landmarks, triangle inequality). For a landmark L, the triangle inequality gives the
+ * lower bounds d(L,t) - d(L,v) and d(v,L) - d(t,L) for the length d(v,t); the estimate is the max of these bounds over all
+ * landmarks, which is admissible. It is not necessarily consistent (on directed graphs, a bound may be skipped for v but
+ * not for an adjacent vertex due to unreachable pairs), which {@link AStar} handles by reopening vertices.
+ * <br><br>
+ * The distances are stored in two {@code int} arrays of n * k entries, one for the distances from the landmarks and one for
+ * the distances to the landmarks (the same array for undirected graphs). The k distances of a vertex are adjacent, so that
+ * an estimate reads two contiguous ranges. Unreachable pairs have the distance {@link GraphConstants#POSITIVE_INFINITY} and
+ * do not contribute a bound. The tables can be written to and read from a file, so that the preprocessing is not repeated.
+ */
+public final class Landmarks implements Heuristic {
+
+    static final String INVALID_FILE_FORMAT_EXCEPTION_MSG_TF = "The file %s does not contain landmark distance tables.";
+    static final String MISMATCHING_GRAPH_EXCEPTION_MSG_TF = "The landmark distance tables (%d vertices, %d adjacency entries, directed: %b) " +
+            "do not match the graph (%d vertices, %d adjacency entries, directed: %b).";
+
+    private static final int MAGIC_NUMBER = 0x414C5431; // "ALT1"
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final int[] landmarks;
+    private final int numberOfVertices;
+    private final int numberOfAdjacencyEntries;
+    private final boolean isDirected;
+    // distancesFrom[v * k + i] is d(landmark i, v), distancesTo[v * k + i] is d(v, landmark i)
+    private final int[] distancesFrom;
+    private final int[] distancesTo;
+
+    Landmarks(int @NotNull [] landmarks, @NotNull CsrGraph graph, int @NotNull [] distancesFrom, int @NotNull [] distancesTo) {
+        this(landmarks, graph.getNumberOfVertices(), graph.getNumberOfAdjacencyEntries(), graph.isDirected(), distancesFrom, distancesTo);
+    }
+
+    private Landmarks(int @NotNull [] landmarks, int numberOfVertices, int numberOfAdjacencyEntries, boolean isDirected,
+                      int @NotNull [] distancesFrom, int @NotNull [] distancesTo) {
+        this.landmarks = landmarks;
+        this.numberOfVertices = numberOfVertices;
+        this.numberOfAdjacencyEntries = numberOfAdjacencyEntries;
+        this.isDirected = isDirected;
+        this.distancesFrom = distancesFrom;
+        this.distancesTo = distancesTo;
+    }
+
+    @Override
+    public long estimate(int v, int t) {
+        int k = this.landmarks.length;
+        int offsetOfV = v * k;
+        int offsetOfT = t * k;
+        long estimate = 0;
+        for (int i = 0; i < k; i++) {
+            int fromLandmarkToV = this.distancesFrom[offsetOfV + i];
+            int fromLandmarkToT = this.distancesFrom[offsetOfT + i];
+            if (fromLandmarkToV != GraphConstants.POSITIVE_INFINITY && fromLandmarkToT != GraphConstants.POSITIVE_INFINITY) {
+                estimate = Math.max(estimate, (long) fromLandmarkToT - fromLandmarkToV);
+            }
+            int fromVToLandmark = this.distancesTo[offsetOfV + i];
+            int fromTToLandmark = this.distancesTo[offsetOfT + i];
+            if (fromVToLandmark != GraphConstants.POSITIVE_INFINITY && fromTToLandmark != GraphConstants.POSITIVE_INFINITY) {
+                estimate = Math.max(estimate, (long) fromVToLandmark - fromTToLandmark);
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the number of landmarks.
+     *
+     * @return number of landmarks
+     */
+    public int getNumberOfLandmarks() {
+        return this.landmarks.length;
+    }
+
+    /**
+     * Returns the index of the i-th landmark.
+     *
+     * @param i number of the landmark (in the range [0;{@link #getNumberOfLandmarks()}))
+     * @return index of the i-th landmark
+     */
+    public int getLandmark(int i) {
+        return this.landmarks[i];
+    }
+
+    /**
+     * Returns the length of the shortest path from the i-th landmark to the vertex with index {@code v}.
+     *
+     * @param i number of the landmark
+     * @param v index of the vertex
+     * @return length of the shortest path from the landmark to {@code v}, {@link GraphConstants#POSITIVE_INFINITY} if
+     * {@code v} is not reachable from the landmark
+     */
+    public int getDistanceFromLandmark(int i, int v) {
+        return this.distancesFrom[v * this.landmarks.length + i];
+    }
+
+    /**
+     * Returns the length of the shortest path from the vertex with index {@code v} to the i-th landmark.
+     *
+     * @param i number of the landmark
+     * @param v index of the vertex
+     * @return length of the shortest path from {@code v} to the landmark, {@link GraphConstants#POSITIVE_INFINITY} if the
+     * landmark is not reachable from {@code v}
+     */
+    public int getDistanceToLandmark(int i, int v) {
+        return this.distancesTo[v * this.landmarks.length + i];
+    }
+
+    /**
+     * Writes the landmarks and their distance tables to the file at the given {@code path} (which is overwritten if it
+     * exists). Besides the tables, the file holds the number of vertices and adjacency entries of the graph, by which
+     * {@link #read(Path, CsrGraph)} rejects tables of another graph.
+     *
+     * @param path path of the file
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    public void write(@NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            buffer.putInt(MAGIC_NUMBER).putInt(this.numberOfVertices).putInt(this.numberOfAdjacencyEntries)
+                    .putInt(this.isDirected ? 1 : 0).putInt(this.landmarks.length);
+            writeInts(channel, buffer, this.landmarks);
+            writeInts(channel, buffer, this.distancesFrom);
+            if (this.isDirected) {
+                writeInts(channel, buffer, this.distancesTo);
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Reads the landmarks and their distance tables written by {@link #write(Path)} from the file at the given {@code path}.
+     * Throws an {@link IllegalArgumentException} if the tables have been created for a graph with another number of vertices,
+     * adjacency entries, or another directedness than the given graph.
+     *
+     * @param path  path of the file
+     * @param graph graph for which the tables have been created
+     * @return landmarks and their distance tables
+     * @throws IOException if an I/O error occurs while reading the file, or if the file does not contain valid distance tables
+     */
+    public static @NotNull Landmarks read(@NotNull Path path, @NotNull CsrGraph graph) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+            if (readInt(channel, buffer) != MAGIC_NUMBER) {
+                throw new IOException(String.format(INVALID_FILE_FORMAT_EXCEPTION_MSG_TF, path));
+            }
+            int numberOfVertices = readInt(channel, buffer);
+            int numberOfAdjacencyEntries = readInt(channel, buffer);
+            boolean isDirected = readInt(channel, buffer) == 1;
+            if (numberOfVertices != graph.getNumberOfVertices() || numberOfAdjacencyEntries != graph.getNumberOfAdjacencyEntries()
+                    || isDirected != graph.isDirected()) {
+                throw new IllegalArgumentException(String.format(MISMATCHING_GRAPH_EXCEPTION_MSG_TF, numberOfVertices, numberOfAdjacencyEntries,
+                        isDirected, graph.getNumberOfVertices(), graph.getNumberOfAdjacencyEntries(), graph.isDirected()));
+            }
+            int numberOfLandmarks = readInt(channel, buffer);
+            if (numberOfLandmarks < 1 || numberOfLandmarks > numberOfVertices || (long) numberOfVertices * numberOfLandmarks > Integer.MAX_VALUE) {
+                throw new IOException(String.format(INVALID_FILE_FORMAT_EXCEPTION_MSG_TF, path));
+            }
+            int[] landmarks = readInts(channel, buffer, numberOfLandmarks);
+            for (int landmark : landmarks) {
+                if (landmark < 0 || landmark >= numberOfVertices) {
+                    throw new IOException(String.format(INVALID_FILE_FORMAT_EXCEPTION_MSG_TF, path));
+                }
+            }
+            int[] distancesFrom = readInts(channel, buffer, numberOfVertices * landmarks.length);
+            int[] distancesTo = isDirected ? readInts(channel, buffer, distancesFrom.length) : distancesFrom;
+            return new Landmarks(landmarks, numberOfVertices, numberOfAdjacencyEntries, isDirected, distancesFrom, distancesTo);
+        }
+    }
+
+    private static void writeInts(@NotNull FileChannel channel, @NotNull ByteBuffer buffer, int @NotNull [] values) throws IOException {
+        for (int value : values) {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush(channel, buffer);
+            }
+            buffer.putInt(value);
+        }
+    }
+
+    private static void flush(@NotNull FileChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static int @NotNull [] readInts(@NotNull FileChannel channel, @NotNull ByteBuffer buffer, int length) throws IOException {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = readInt(channel, buffer);
+        }
+        return values;
+    }
+
+    private static int readInt(@NotNull FileChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            buffer.compact();
+            while (buffer.position() < Integer.BYTES) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException();
+                }
+            }
+            buffer.flip();
+        }
+        return buffer.getInt();
+    }
+}
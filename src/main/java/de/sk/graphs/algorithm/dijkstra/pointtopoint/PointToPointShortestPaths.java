@@ -0,0 +1,31 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Interface defining the methods for implementations answering point-to-point shortest path queries on a fixed graph in CSR
+ * representation with non-negative edge weights. Contrary to {@link de.sk.graphs.algorithm.dijkstra.Dijkstra}, a query
+ * stops as soon as the shortest path from s to t is known, and returns the path itself. The graph is passed on construction,
+ * so that the preprocessing (e.g. the creation of the transpose) is done once for all queries.
+ */
+public interface PointToPointShortestPaths {
+
+    /**
+     * Determines a shortest path from the vertex with index {@code s} to the vertex with index {@code t}.
+     *
+     * @param s index of the starting vertex
+     * @param t index of the target vertex
+     * @return shortest path from {@code s} to {@code t} (see {@link ShortestPath#noPath()} if {@code t} is not reachable, or
+     * if the length of the shortest path is not smaller than {@link de.sk.graphs.GraphConstants#POSITIVE_INFINITY}, which
+     * the single-source variants report as infinite as well)
+     */
+    @NotNull ShortestPath determineShortestPath(int s, int t);
+
+    /**
+     * Returns the number of vertices settled (i.e. whose distance has been finalized) by the last query, which indicates
+     * how early the query has stopped.
+     *
+     * @return number of vertices settled by the last query
+     */
+    int getNumberOfSettledVertices();
+}
@@ -0,0 +1,107 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Result of a point-to-point shortest path query on a graph in CSR representation. As the single-source variants of
+ * {@link de.sk.graphs.algorithm.dijkstra.Dijkstra}, a query reports a path whose length cannot be represented by an
+ * {@code int} (i.e. is not smaller than {@link GraphConstants#POSITIVE_INFINITY}) as no path. Contrary to the default of
+ * records, {@link #equals(Object)} and {@link #hashCode()} compare the contents of the arrays instead of their identity.
+ *
+ * @param length   length of the shortest path, {@link GraphConstants#POSITIVE_INFINITY} if there is no path
+ * @param vertices indices of the vertices of the path (starting with s, ending with t), empty if there is no path
+ * @param entries  indices of the adjacency entries of the edges of the path (entry i leads from vertex i to vertex i+1 of
+ *                 the path), empty if there is no path
+ */
+public record ShortestPath(int length, int @NotNull [] vertices, int @NotNull [] entries) {
+
+    static final String EDGE_NOT_FOUND_EXCEPTION_MSG_TF = "There is no edge from %s to %s with weight %d in the adjacency list.";
+
+    /**
+     * Returns the result for a query whose target vertex is not reachable from the starting vertex.
+     *
+     * @return result without a path
+     */
+    public static @NotNull ShortestPath noPath() {
+        return new ShortestPath(GraphConstants.POSITIVE_INFINITY, new int[0], new int[0]);
+    }
+
+    /**
+     * Creates the result for a found path of the given {@code length}. If the length is not smaller than
+     * {@link GraphConstants#POSITIVE_INFINITY}, i.e. cannot be represented by the {@code int} length, the result without a
+     * path is returned (see {@link #noPath()}).
+     *
+     * @param length   length of the path
+     * @param vertices indices of the vertices of the path
+     * @param entries  indices of the adjacency entries of the edges of the path
+     * @return result with the path, or without a path if its length is not representable
+     */
+    static @NotNull ShortestPath of(long length, int @NotNull [] vertices, int @NotNull [] entries) {
+        if (length >= GraphConstants.POSITIVE_INFINITY) {
+            return noPath();
+        }
+        return new ShortestPath((int) length, vertices, entries);
+    }
+
+    /**
+     * Returns whether a path has been found, i.e. whether the target vertex is reachable from the starting vertex.
+     *
+     * @return {@code true} if a path has been found, {@code false} else
+     */
+    public boolean isFound() {
+        return this.vertices.length > 0;
+    }
+
+    /**
+     * Materializes the edges of the path for the adjacency list the given CSR graph has been converted from (see
+     * {@link de.sk.graphs.util.DirectedGraphUtils#convertToCsrGraph(DiAdjacencyList)}). The vertex with index i is the
+     * vertex at position i of the vertices' list. Of parallel edges, an edge with the weight of the path's edge is taken.
+     *
+     * @param graph         graph in CSR representation on which the path has been determined
+     * @param adjacencyList adjacency list the CSR graph has been converted from
+     * @return edges of the path (in the order of the path)
+     */
+    public @NotNull List<DiEdge> materializeEdges(@NotNull CsrGraph graph, @NotNull DiAdjacencyList adjacencyList) {
+        List<DiVertex> verticesOfGraph = adjacencyList.vertices();
+        List<DiEdge> edges = new ArrayList<>(this.entries.length);
+        for (int i = 0; i < this.entries.length; i++) {
+            DiVertex tail = verticesOfGraph.get(this.vertices[i]);
+            DiVertex head = verticesOfGraph.get(this.vertices[i + 1]);
+            int weight = graph.getWeight(this.entries[i]);
+            DiEdge edge = tail.getOutgoingEdges().stream().filter(e -> e.head() == head && e.getWeight() == weight).findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(String.format(EDGE_NOT_FOUND_EXCEPTION_MSG_TF, tail.getName(), head.getName(), weight)));
+            edges.add(edge);
+        }
+        return edges;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ShortestPath other)) {
+            return false;
+        }
+        return this.length == other.length && Arrays.equals(this.vertices, other.vertices) && Arrays.equals(this.entries, other.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Integer.hashCode(this.length) + Arrays.hashCode(this.vertices)) + Arrays.hashCode(this.entries);
+    }
+
+    @Override
+    public String toString() {
+        return "ShortestPath[length=" + this.length + ", vertices=" + Arrays.toString(this.vertices) + ", entries=" + Arrays.toString(this.entries) + "]";
+    }
+}
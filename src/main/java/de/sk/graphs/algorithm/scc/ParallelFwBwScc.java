@@ -0,0 +1,300 @@
+package de.sk.graphs.algorithm.scc;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.util.ParallelUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Implementation of {@link SccAlg} applying the parallel forward-backward algorithm (Fleischer et al.) with trimming (McLendon
+ * et al.) on a {@link ForkJoinPool}. The vertices are divided into partitions, each of which is processed by a separate task:
+ * <ol>
+ *     <li>trim: vertices without incoming or without outgoing edges within the partition are trivial SCCs and are removed
+ *     (repeatedly, as removing a vertex may render its neighbors trimmable)</li>
+ *     <li>forward-backward: the vertices reachable from a pivot vertex (forward) and the vertices from which the pivot is
+ *     reachable (backward) are determined within the partition. Their intersection is the SCC of the pivot. Each remaining
+ *     SCC is contained entirely in one of the three remaining sets (forward only, backward only, neither), which are
+ *     processed as new partitions by new tasks.</li>
+ * </ol>
+ * Large partitions (like the initial one) are trimmed and searched in parallel as well, by splitting the vertices of the
+ * partition (respectively of the search's frontier) into chunks. The tasks are forked without being joined
+ * ({@link CountedCompleter}), so that deeply nested partitions do not overflow the threads' stacks.
+ * <br><br>
+ * As the SCCs are found in a nondeterministic order, the IDs are normalized (see {@link SccAlg#normalizeSccIds(int[])})
+ * before they are returned. Time complexity: O(m+n) work per level of partitioning, O((m+n) log n) expected in total.
+ */
+public class ParallelFwBwScc implements SccAlg {
+
+    static final int CHUNK_SIZE = 1024;
+    static final int PARALLEL_THRESHOLD = 16 * CHUNK_SIZE;
+
+    private static final int DONE = -1;
+    private static final int FORWARD = 1;
+    private static final int BACKWARD = 2;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor for running on the common pool.
+     */
+    public ParallelFwBwScc() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pool pool on which the partitions are to be processed
+     */
+    public ParallelFwBwScc(@NotNull ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public int @NotNull [] determineSccIds(@NotNull CsrGraph graph) {
+        State state = new State(graph);
+        int[] allVertices = new int[graph.getNumberOfVertices()];
+        Arrays.setAll(allVertices, v -> v);
+        this.pool.invoke(new PartitionTask(null, state, allVertices, state.nextPartition.getAndIncrement()));
+        return SccAlg.normalizeSccIds(state.sccIds);
+    }
+
+    /*
+     * State shared by all tasks. Each vertex belongs to exactly one partition at a time and is read and written only by the
+     * task processing this partition (the partition of a vertex of another partition may be read concurrently, but it never
+     * changes to the label of the reading task's partition, as each label is used once).
+     */
+    private static final class State {
+
+        private final CsrGraph graph;
+        private final CsrGraph transposedGraph;
+        private final int[] partitions;
+        private final int[] sccIds;
+        private final int[] inDegrees;
+        private final int[] outDegrees;
+        private final AtomicIntegerArray reachMarks;
+        private final AtomicInteger nextPartition = new AtomicInteger();
+        private final AtomicInteger nextSccId = new AtomicInteger();
+
+        private State(@NotNull CsrGraph graph) {
+            int n = graph.getNumberOfVertices();
+            this.graph = graph;
+            this.transposedGraph = graph.isDirected() ? CsrGraphUtils.transpose(graph) : graph;
+            this.partitions = new int[n];
+            this.sccIds = new int[n];
+            this.inDegrees = new int[n];
+            this.outDegrees = new int[n];
+            this.reachMarks = new AtomicIntegerArray(n);
+        }
+    }
+
+    /*
+     * Task processing a partition (trim, forward-backward search from a pivot, split into new partitions).
+     */
+    private static final class PartitionTask extends CountedCompleter<Void> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final State state;
+        private final int label;
+        private int[] members;
+
+        private PartitionTask(@Nullable CountedCompleter<?> parent, @NotNull State state, int @NotNull [] members, int label) {
+            super(parent);
+            this.state = state;
+            this.members = members;
+            this.label = label;
+        }
+
+        @Override
+        public void compute() {
+            int[] remainingMembers = this.trim();
+            this.members = null;
+            if (remainingMembers.length > 0) {
+                this.split(remainingMembers);
+            }
+            this.tryComplete();
+        }
+
+        /*
+         * Removes the trivial SCCs from the partition and returns the remaining members.
+         */
+        private int @NotNull [] trim() {
+            State s = this.state;
+            int[] vertices = this.members;
+            forEachChunk(vertices.length, (from, to) -> {
+                for (int k = from; k < to; k++) {
+                    int v = vertices[k];
+                    s.partitions[v] = this.label;
+                }
+            });
+            forEachChunk(vertices.length, (from, to) -> {
+                for (int k = from; k < to; k++) {
+                    int v = vertices[k];
+                    s.outDegrees[v] = this.countNeighborsInPartition(s.graph, v);
+                    s.inDegrees[v] = this.countNeighborsInPartition(s.transposedGraph, v);
+                }
+            });
+            // peel the vertices without incoming or outgoing edges within the partition
+            int[] queue = new int[vertices.length];
+            int tail = 0;
+            int numberOfTrimmedVertices = 0;
+            for (int v : vertices) {
+                if (s.outDegrees[v] == 0 || s.inDegrees[v] == 0) {
+                    queue[tail++] = v;
+                }
+            }
+            for (int head = 0; head < tail; head++) {
+                int v = queue[head];
+                if (s.partitions[v] == DONE) {
+                    continue;
+                }
+                s.partitions[v] = DONE;
+                s.sccIds[v] = s.nextSccId.getAndIncrement();
+                numberOfTrimmedVertices++;
+                tail = this.decrementDegrees(s.graph, v, s.inDegrees, queue, tail);
+                tail = this.decrementDegrees(s.transposedGraph, v, s.outDegrees, queue, tail);
+            }
+            int[] remainingMembers = new int[vertices.length - numberOfTrimmedVertices];
+            int numberOfRemainingMembers = 0;
+            for (int v : vertices) {
+                if (s.partitions[v] != DONE) {
+                    remainingMembers[numberOfRemainingMembers++] = v;
+                }
+            }
+            return remainingMembers;
+        }
+
+        private int countNeighborsInPartition(@NotNull CsrGraph graphToScan, int v) {
+            int count = 0;
+            for (int i = graphToScan.getOffset(v); i < graphToScan.getOffset(v + 1); i++) {
+                if (this.state.partitions[graphToScan.getTarget(i)] == this.label) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private int decrementDegrees(@NotNull CsrGraph graphToScan, int v, int @NotNull [] degrees, int @NotNull [] queue, int tail) {
+            for (int i = graphToScan.getOffset(v); i < graphToScan.getOffset(v + 1); i++) {
+                int w = graphToScan.getTarget(i);
+                if (this.state.partitions[w] == this.label && --degrees[w] == 0) {
+                    queue[tail++] = w;
+                }
+            }
+            return tail;
+        }
+
+        /*
+         * Determines the SCC of a pivot by a forward and a backward search, and forks the tasks for the remaining sets.
+         */
+        private void split(int @NotNull [] remainingMembers) {
+            State s = this.state;
+            int pivot = remainingMembers[0];
+            // a pivot with many edges is likely to be part of a large SCC
+            for (int v : remainingMembers) {
+                if ((long) s.inDegrees[v] * s.outDegrees[v] > (long) s.inDegrees[pivot] * s.outDegrees[pivot]) {
+                    pivot = v;
+                }
+            }
+            this.reach(s.graph, pivot, FORWARD, remainingMembers.length);
+            this.reach(s.transposedGraph, pivot, BACKWARD, remainingMembers.length);
+            int sccId = s.nextSccId.getAndIncrement();
+            int[][] subsets = {new int[remainingMembers.length], new int[remainingMembers.length], new int[remainingMembers.length]};
+            int[] sizes = new int[3];
+            for (int v : remainingMembers) {
+                int marks = s.reachMarks.get(v);
+                s.reachMarks.set(v, 0);
+                if (marks == (FORWARD | BACKWARD)) {
+                    s.partitions[v] = DONE;
+                    s.sccIds[v] = sccId;
+                } else {
+                    // marks 0 (neither), 1 (forward only) or 2 (backward only)
+                    subsets[marks][sizes[marks]++] = v;
+                }
+            }
+            for (int k = 0; k < subsets.length; k++) {
+                if (sizes[k] > 0) {
+                    this.addToPendingCount(1);
+                    new PartitionTask(this, s, Arrays.copyOf(subsets[k], sizes[k]), s.nextPartition.getAndIncrement()).fork();
+                }
+            }
+        }
+
+        /*
+         * Marks the vertices of the partition reachable from the pivot in the given graph with the given mark. The levels of
+         * the search are expanded in parallel if their frontiers are large.
+         */
+        private void reach(@NotNull CsrGraph graphToSearch, int pivot, int mark, int sizeOfPartition) {
+            State s = this.state;
+            int[] frontiers = new int[sizeOfPartition];
+            s.reachMarks.getAndUpdate(pivot, marks -> marks | mark);
+            frontiers[0] = pivot;
+            int start = 0;
+            int end = 1;
+            while (start < end) {
+                int startOfFrontier = start;
+                int endOfFrontier = end;
+                int numberOfChunks = (endOfFrontier - startOfFrontier + CHUNK_SIZE - 1) / CHUNK_SIZE;
+                int[][] buffers = new int[numberOfChunks][];
+                int[] bufferSizes = new int[numberOfChunks];
+                forEachChunk(endOfFrontier - startOfFrontier, (from, to) -> {
+                    int[] buffer = new int[CHUNK_SIZE];
+                    int size = 0;
+                    for (int f = startOfFrontier + from; f < startOfFrontier + to; f++) {
+                        int v = frontiers[f];
+                        for (int i = graphToSearch.getOffset(v); i < graphToSearch.getOffset(v + 1); i++) {
+                            int w = graphToSearch.getTarget(i);
+                            if (s.partitions[w] == this.label && this.tryMark(w, mark)) {
+                                if (size == buffer.length) {
+                                    buffer = Arrays.copyOf(buffer, buffer.length << 1);
+                                }
+                                buffer[size++] = w;
+                            }
+                        }
+                    }
+                    buffers[from / CHUNK_SIZE] = buffer;
+                    bufferSizes[from / CHUNK_SIZE] = size;
+                });
+                start = end;
+                for (int c = 0; c < numberOfChunks; c++) {
+                    System.arraycopy(buffers[c], 0, frontiers, end, bufferSizes[c]);
+                    end += bufferSizes[c];
+                }
+            }
+        }
+
+        private boolean tryMark(int v, int mark) {
+            int marks = this.state.reachMarks.get(v);
+            while ((marks & mark) == 0) {
+                if (this.state.reachMarks.compareAndSet(v, marks, marks | mark)) {
+                    return true;
+                }
+                marks = this.state.reachMarks.get(v);
+            }
+            return false;
+        }
+    }
+
+    /*
+     * Applies the given action to the chunks of [0;length) (starting at multiples of CHUNK_SIZE), in parallel on the pool of
+     * the calling task if the range is large.
+     */
+    private static void forEachChunk(int length, @NotNull ParallelUtils.ChunkAction action) {
+        if (length < PARALLEL_THRESHOLD) {
+            for (int from = 0; from < length; from += CHUNK_SIZE) {
+                action.apply(from, Math.min(from + CHUNK_SIZE, length));
+            }
+        } else {
+            ParallelUtils.forEachChunk(ForkJoinTask.getPool(), length, CHUNK_SIZE, action);
+        }
+    }
+}
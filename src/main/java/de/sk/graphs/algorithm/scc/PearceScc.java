@@ -0,0 +1,95 @@
+package de.sk.graphs.algorithm.scc;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Implementation of {@link SccAlg} applying Pearce's space-efficient variant of Tarjan's algorithm. The strongly connected
+ * components are determined in a single depth-first search, which is conducted iteratively with explicit primitive stacks
+ * (instead of recursively), so that long paths do not overflow the thread's stack.
+ * <br><br>
+ * Instead of an index and a low-link per vertex, a single array {@code rindex} is used: while a vertex is active, it holds the
+ * smallest visitation index reachable from the vertex; once the SCC of the vertex is complete, it holds the SCC's ID
+ * (counting down from n-1). The IDs are finally mapped to 0, 1, ..., i.e. the SCCs are numbered in the order of their
+ * completion, which is a reverse topological order of the condensation (an SCC gets a smaller ID than all SCCs it has edges
+ * to). Besides the returned array, O(n) memory is required (for the vertex stack and the stack of DFS frames).
+ * Time complexity: O(m+n).
+ */
+public class PearceScc implements SccAlg {
+
+    private static final int UNVISITED = 0;
+
+    @Override
+    public int @NotNull [] determineSccIds(@NotNull CsrGraph graph) {
+        int n = graph.getNumberOfVertices();
+        int[] rindex = new int[n];
+        boolean[] isRoot = new boolean[n];
+        // stack of the vertices of incomplete SCCs: [0;sizeOfVertexStack)
+        int[] vertexStack = new int[n];
+        int sizeOfVertexStack = 0;
+        // DFS frames: vertex and position of the next adjacency entry to be processed
+        int[] frameVertices = new int[n];
+        int[] frameEntries = new int[n];
+        int index = 1;
+        int nextSccId = n - 1;
+        for (int s = 0; s < n; s++) {
+            if (rindex[s] != UNVISITED) {
+                continue;
+            }
+            int depth = 0;
+            rindex[s] = index++;
+            isRoot[s] = true;
+            frameVertices[depth] = s;
+            frameEntries[depth++] = graph.getOffset(s);
+            while (depth > 0) {
+                int v = frameVertices[depth - 1];
+                int i = frameEntries[depth - 1];
+                int end = graph.getOffset(v + 1);
+                // scan the edges of v until an unvisited vertex is found (to descend into)
+                while (i < end && rindex[graph.getTarget(i)] != UNVISITED) {
+                    int w = graph.getTarget(i);
+                    if (rindex[w] < rindex[v]) {
+                        rindex[v] = rindex[w];
+                        isRoot[v] = false;
+                    }
+                    i++;
+                }
+                frameEntries[depth - 1] = i;
+                if (i < end) {
+                    int w = graph.getTarget(i);
+                    rindex[w] = index++;
+                    isRoot[w] = true;
+                    frameVertices[depth] = w;
+                    frameEntries[depth++] = graph.getOffset(w);
+                    continue;
+                }
+                // all edges of v are processed: finish v
+                depth--;
+                if (isRoot[v]) {
+                    index--;
+                    while (sizeOfVertexStack > 0 && rindex[v] <= rindex[vertexStack[sizeOfVertexStack - 1]]) {
+                        rindex[vertexStack[--sizeOfVertexStack]] = nextSccId;
+                        index--;
+                    }
+                    rindex[v] = nextSccId--;
+                } else {
+                    vertexStack[sizeOfVertexStack++] = v;
+                }
+                if (depth > 0) {
+                    // finish the edge (u,v) of the parent u, which has led to v
+                    int u = frameVertices[depth - 1];
+                    if (rindex[v] < rindex[u]) {
+                        rindex[u] = rindex[v];
+                        isRoot[u] = false;
+                    }
+                    frameEntries[depth - 1]++;
+                }
+            }
+        }
+        // map the IDs n-1, n-2, ... (in the order of completion) to 0, 1, ...
+        for (int v = 0; v < n; v++) {
+            rindex[v] = n - 1 - rindex[v];
+        }
+        return rindex;
+    }
+}
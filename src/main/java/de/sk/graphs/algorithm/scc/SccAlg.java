@@ -0,0 +1,81 @@
+package de.sk.graphs.algorithm.scc;
+
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.util.DirectedGraphUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Interface for algorithms determining the strongly connected components (SCC) of a directed graph. The SCCs are
+ * represented by IDs, which are numbered consecutively starting with 0 (the order of the IDs depends on the implementation).
+ */
+public interface SccAlg {
+
+    /**
+     * Determines the strongly connected components of the given graph in CSR representation. For undirected graphs, the
+     * SCCs are the connected components.
+     *
+     * @param graph graph in CSR representation for which the SCCs are to be determined
+     * @return ID of the SCC of each vertex (indexed by the vertices' indices)
+     */
+    int @NotNull [] determineSccIds(@NotNull CsrGraph graph);
+
+    /**
+     * Determines the strongly connected components of the given graph (represented as {@code adjacencyList}), holding the
+     * state of the run in the given {@code context} (the vertices of the graph are not modified). After the run, the context
+     * holds the ID of the SCC of each vertex.
+     *
+     * @param adjacencyList graph for which the SCCs are to be determined
+     * @param context       context for the state of the run (is reset at the beginning of the run)
+     * @return ID of the SCC of each vertex (indexed by the vertices' indices in the vertices' list of {@code adjacencyList})
+     */
+    default int @NotNull [] determineSccIds(@NotNull DiAdjacencyList adjacencyList, @NotNull AlgorithmContext<DiVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        int[] sccIds = this.determineSccIds(DirectedGraphUtils.convertToCsrGraph(adjacencyList));
+        for (int v = 0; v < sccIds.length; v++) {
+            context.setSccId(v, sccIds[v]);
+        }
+        return sccIds;
+    }
+
+    /**
+     * Returns the number of SCCs for the given SCC IDs.
+     *
+     * @param sccIds ID of the SCC of each vertex, as determined by {@link #determineSccIds(CsrGraph)}
+     * @return number of SCCs
+     */
+    static int countSccs(int @NotNull [] sccIds) {
+        int maxSccId = -1;
+        for (int sccId : sccIds) {
+            maxSccId = Math.max(maxSccId, sccId);
+        }
+        return maxSccId + 1;
+    }
+
+    /**
+     * Renumbers the given SCC IDs in the order of the smallest vertex index of each SCC, i.e. the SCC of vertex 0 gets ID 0,
+     * the SCC of the smallest vertex not in this SCC gets ID 1, and so on. Two SCC decompositions of a graph are equal iff
+     * their normalized IDs are equal.
+     *
+     * @param sccIds ID of the SCC of each vertex (numbered consecutively, starting with 0)
+     * @return normalized ID of the SCC of each vertex
+     */
+    static int @NotNull [] normalizeSccIds(int @NotNull [] sccIds) {
+        int[] normalizedIds = new int[countSccs(sccIds)];
+        Arrays.fill(normalizedIds, -1);
+        int nextId = 0;
+        int[] normalizedSccIds = new int[sccIds.length];
+        for (int v = 0; v < sccIds.length; v++) {
+            if (normalizedIds[sccIds[v]] == -1) {
+                normalizedIds[sccIds[v]] = nextId++;
+            }
+            normalizedSccIds[v] = normalizedIds[sccIds[v]];
+        }
+        return normalizedSccIds;
+    }
+}
@@ -0,0 +1,40 @@
+package de.sk.graphs.algorithm.topsort;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Exception thrown if a topological ordering is requested for a graph containing a directed cycle. Reports one of the cycles
+ * and all vertices which could not be ordered (the vertices on cycles and the vertices reachable from cycles).
+ */
+public class CyclicGraphException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    static final String CYCLIC_GRAPH_EXCEPTION_MSG_TF = "The graph contains a cycle, %d vertices cannot be ordered topologically. Cycle: %s.";
+
+    private final int[] cycle;
+    private final int[] unorderedVertices;
+
+    /**
+     * Constructor.
+     *
+     * @param cycle             indices of the vertices of a cycle (each vertex has an edge to its successor, the last vertex
+     *                          has an edge to the first one)
+     * @param unorderedVertices indices of the vertices which could not be ordered topologically
+     */
+    public CyclicGraphException(int @NotNull [] cycle, int @NotNull [] unorderedVertices) {
+        super(String.format(CYCLIC_GRAPH_EXCEPTION_MSG_TF, unorderedVertices.length, Arrays.toString(cycle)));
+        this.cycle = cycle.clone();
+        this.unorderedVertices = unorderedVertices.clone();
+    }
+
+    public int @NotNull [] getCycle() {
+        return this.cycle.clone();
+    }
+
+    public int @NotNull [] getUnorderedVertices() {
+        return this.unorderedVertices.clone();
+    }
+}
@@ -0,0 +1,245 @@
+package de.sk.graphs.algorithm.topsort;
+
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.DirectedGraphUtils;
+import de.sk.util.ParallelUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Implementation of Kahn's algorithm to determine a topological ordering of a directed graph in CSR representation. The
+ * in-degrees of the vertices are held in an array; a vertex is appended to the ordering as soon as all its predecessors
+ * have been appended (i.e. its remaining in-degree drops to 0). In contrast to a DFS-based topological sort, no recursion
+ * and no sorting of the vertices are required.
+ * <br><br>
+ * Additionally, the vertices can be grouped into levels: level 0 comprises the vertices without predecessors, level k+1 the
+ * vertices whose predecessors are all in the levels 0 to k (with at least one in level k). The vertices of a level do not
+ * depend on each other, i.e. they can be processed concurrently once the preceding levels are processed. The levels are
+ * extracted in parallel on a {@link ForkJoinPool}.
+ * <br><br>
+ * If the graph contains a cycle, a {@link CyclicGraphException} reporting a cycle and the vertices which cannot be ordered
+ * is thrown. Time complexity: O(m+n).
+ */
+public class KahnTopSort {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor for extracting the levels on the common pool.
+     */
+    public KahnTopSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pool pool on which the levels are to be extracted
+     */
+    public KahnTopSort(@NotNull ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Determines a topological ordering of the given graph in CSR representation. Among the vertices whose predecessors are
+     * all ordered, the vertices are appended in the order in which they became available (vertices without predecessors in
+     * the order of their indices).
+     *
+     * @param graph directed graph for which the topological ordering is to be determined
+     * @return indices of the vertices in a topological ordering
+     * @throws CyclicGraphException     if the graph contains a cycle
+     * @throws IllegalArgumentException if the graph is undirected
+     */
+    public int @NotNull [] determineTopologicalOrdering(@NotNull CsrGraph graph) {
+        CsrGraphUtils.verifyIsDirected(graph);
+        int n = graph.getNumberOfVertices();
+        int[] inDegrees = new int[n];
+        for (int i = 0; i < graph.getNumberOfAdjacencyEntries(); i++) {
+            inDegrees[graph.getTarget(i)]++;
+        }
+        int[] ordering = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegrees[v] == 0) {
+                ordering[tail++] = v;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int v = ordering[head];
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                int w = graph.getTarget(i);
+                if (--inDegrees[w] == 0) {
+                    ordering[tail++] = w;
+                }
+            }
+        }
+        if (tail < n) {
+            throw createCyclicGraphException(graph, inDegrees);
+        }
+        return ordering;
+    }
+
+    /**
+     * Determines a topological ordering of the given graph (represented as {@code adjacencyList}), holding the state of the
+     * run in the given {@code context} (the vertices of the graph are not modified). After the run, the context holds the
+     * topological position (1-based) of each vertex.
+     *
+     * @param adjacencyList graph for which the topological ordering is to be determined
+     * @param context       context for the state of the run (is reset at the beginning of the run)
+     * @return indices of the vertices (in the vertices' list of {@code adjacencyList}) in a topological ordering
+     * @throws CyclicGraphException if the graph contains a cycle
+     */
+    public int @NotNull [] determineTopologicalOrdering(@NotNull DiAdjacencyList adjacencyList, @NotNull AlgorithmContext<DiVertex> context) {
+        context.verifyFitsTo(adjacencyList.vertices());
+        context.reset();
+        int[] ordering = this.determineTopologicalOrdering(DirectedGraphUtils.convertToCsrGraph(adjacencyList));
+        for (int position = 0; position < ordering.length; position++) {
+            context.setTopSortPosition(ordering[position], position + 1);
+        }
+        return ordering;
+    }
+
+    /**
+     * Determines the topological levels of the given graph in CSR representation (see {@link KahnTopSort}). Each level is
+     * extracted in parallel: the vertices of the current level decrement the in-degrees of their successors atomically, and
+     * the successors whose in-degrees drop to 0 form the next level. The vertices of each level are sorted by their indices.
+     * The concatenation of the levels is a topological ordering.
+     *
+     * @param graph directed graph for which the topological levels are to be determined
+     * @return indices of the vertices per level
+     * @throws CyclicGraphException     if the graph contains a cycle
+     * @throws IllegalArgumentException if the graph is undirected
+     */
+    public int @NotNull [] @NotNull [] determineTopologicalLevels(@NotNull CsrGraph graph) {
+        CsrGraphUtils.verifyIsDirected(graph);
+        int n = graph.getNumberOfVertices();
+        AtomicIntegerArray inDegrees = new AtomicIntegerArray(n);
+        ParallelUtils.forEachChunk(this.pool, n, CHUNK_SIZE, (from, to) -> {
+            for (int i = graph.getOffset(from); i < graph.getOffset(to); i++) {
+                inDegrees.incrementAndGet(graph.getTarget(i));
+            }
+        });
+        int[] sources = this.collect(n, (from, to) -> {
+            int[] buffer = new int[to - from];
+            int size = 0;
+            for (int v = from; v < to; v++) {
+                if (inDegrees.get(v) == 0) {
+                    buffer[size++] = v;
+                }
+            }
+            return Arrays.copyOf(buffer, size);
+        });
+        List<int[]> levels = new ArrayList<>();
+        int numberOfOrderedVertices = 0;
+        int[] level = sources;
+        while (level.length > 0) {
+            levels.add(level);
+            numberOfOrderedVertices += level.length;
+            int[] currentLevel = level;
+            level = this.collect(currentLevel.length, (from, to) -> {
+                int[] buffer = new int[CHUNK_SIZE];
+                int size = 0;
+                for (int k = from; k < to; k++) {
+                    int v = currentLevel[k];
+                    for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                        int w = graph.getTarget(i);
+                        if (inDegrees.decrementAndGet(w) == 0) {
+                            if (size == buffer.length) {
+                                buffer = Arrays.copyOf(buffer, buffer.length << 1);
+                            }
+                            buffer[size++] = w;
+                        }
+                    }
+                }
+                return Arrays.copyOf(buffer, size);
+            });
+            Arrays.sort(level);
+        }
+        if (numberOfOrderedVertices < n) {
+            int[] remainingInDegrees = new int[n];
+            Arrays.setAll(remainingInDegrees, inDegrees::get);
+            throw createCyclicGraphException(graph, remainingInDegrees);
+        }
+        return levels.toArray(int[][]::new);
+    }
+
+    /*
+     * Collects the vertices emitted per chunk of [0;length) into one array (in the order of the chunks).
+     */
+    private int @NotNull [] collect(int length, @NotNull ChunkCollector collector) {
+        int[][] verticesPerChunk = new int[ParallelUtils.getNumberOfChunks(length, CHUNK_SIZE)][];
+        ParallelUtils.forEachChunk(this.pool, length, CHUNK_SIZE,
+                (from, to) -> verticesPerChunk[from / CHUNK_SIZE] = collector.collect(from, to));
+        int size = 0;
+        for (int[] verticesOfChunk : verticesPerChunk) {
+            size += verticesOfChunk.length;
+        }
+        int[] vertices = new int[size];
+        int position = 0;
+        for (int[] verticesOfChunk : verticesPerChunk) {
+            System.arraycopy(verticesOfChunk, 0, vertices, position, verticesOfChunk.length);
+            position += verticesOfChunk.length;
+        }
+        return vertices;
+    }
+
+    @FunctionalInterface
+    private interface ChunkCollector {
+
+        /*
+         * Returns the vertices emitted for the chunk [from;to).
+         */
+        int @NotNull [] collect(int from, int to);
+    }
+
+    /*
+     * Creates the exception for a graph whose vertices with a remaining in-degree > 0 could not be ordered. Each of these
+     * vertices has a predecessor which could not be ordered either, so that following the predecessors eventually leads
+     * to a cycle.
+     */
+    private static @NotNull CyclicGraphException createCyclicGraphException(@NotNull CsrGraph graph, int @NotNull [] remainingInDegrees) {
+        int n = graph.getNumberOfVertices();
+        int[] unorderedVertices = new int[n];
+        int numberOfUnorderedVertices = 0;
+        for (int v = 0; v < n; v++) {
+            if (remainingInDegrees[v] > 0) {
+                unorderedVertices[numberOfUnorderedVertices++] = v;
+            }
+        }
+        CsrGraph transposedGraph = CsrGraphUtils.transpose(graph);
+        int[] positionsOnWalk = new int[n];
+        Arrays.fill(positionsOnWalk, -1);
+        int[] walk = new int[n];
+        int lengthOfWalk = 0;
+        int v = unorderedVertices[0];
+        while (positionsOnWalk[v] == -1) {
+            positionsOnWalk[v] = lengthOfWalk;
+            walk[lengthOfWalk++] = v;
+            int predecessor = v;
+            for (int i = transposedGraph.getOffset(v); i < transposedGraph.getOffset(v + 1); i++) {
+                if (remainingInDegrees[transposedGraph.getTarget(i)] > 0) {
+                    predecessor = transposedGraph.getTarget(i);
+                    break;
+                }
+            }
+            v = predecessor;
+        }
+        // the walk follows the edges backwards: reverse the closed part to obtain the cycle in the edges' direction
+        int[] cycle = new int[lengthOfWalk - positionsOnWalk[v]];
+        for (int k = 0; k < cycle.length; k++) {
+            cycle[k] = walk[lengthOfWalk - 1 - k];
+        }
+        return new CyclicGraphException(cycle, Arrays.copyOf(unorderedVertices, numberOfUnorderedVertices));
+    }
+}
@@ -0,0 +1,119 @@
+package de.sk.graphs.benchmark;
+
+import de.sk.graphs.benchmark.executionplans.HeapAdjacencyListExecutionPlan;
+import de.sk.graphs.benchmark.executionplans.HeapExecutionPlan;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// compares the running times of the heap-based algorithms (de.sk.util.IndexedDAryMinHeap) and of the Dijkstra variants with
+// monotone integer priority queues (de.sk.util.BucketQueue, de.sk.util.RadixHeap) on graphs with at least 10^5 vertices
+public class HeapBenchmarking {
+
+    private static final int FORK = 1;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int WARMUP_TIME = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int MEASUREMENT_TIME = 5;
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testHeapBasedDijkstra_gnmGraph(HeapExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.dijkstra.determineSingleSourceShortestPaths(executionPlan.gnmGraph, 0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testHeapBasedDijkstra_gridGraph(HeapExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.dijkstra.determineSingleSourceShortestPaths(executionPlan.gridGraph, 0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testDialsDijkstra_gnmGraph(HeapExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.dialsDijkstra.determineSingleSourceShortestPaths(executionPlan.gnmGraph, 0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testDialsDijkstra_gridGraph(HeapExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.dialsDijkstra.determineSingleSourceShortestPaths(executionPlan.gridGraph, 0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testRadixHeapDijkstra_gnmGraph(HeapExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.radixHeapDijkstra.determineSingleSourceShortestPaths(executionPlan.gnmGraph, 0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testRadixHeapDijkstra_gridGraph(HeapExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.radixHeapDijkstra.determineSingleSourceShortestPaths(executionPlan.gridGraph, 0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testDeltaSteppingDijkstra_gnmGraph(HeapExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.deltaSteppingDijkstra.determineSingleSourceShortestPaths(executionPlan.gnmGraph, 0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testDeltaSteppingDijkstra_gridGraph(HeapExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.deltaSteppingDijkstra.determineSingleSourceShortestPaths(executionPlan.gridGraph, 0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testPrimsAlgHeapBased_gnmGraph(HeapExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.prim.determineMst(executionPlan.gnmGraph));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testPrimsAlgHeapBased_adjacencyList(HeapAdjacencyListExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.prim.determineMst(executionPlan.randomGraph));
+    }
+}
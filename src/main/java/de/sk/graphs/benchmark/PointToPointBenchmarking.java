@@ -0,0 +1,84 @@
+package de.sk.graphs.benchmark;
+
+import de.sk.graphs.benchmark.executionplans.PointToPointExecutionPlan;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// compares the running times of random point-to-point queries answered by a full single-source run of Dijkstra's algorithm,
+// by Dijkstra's algorithm with an early stop (A* without heuristic), by bidirectional Dijkstra, by A* with the Euclidean
+// distance as heuristic, and by A* with landmark lower bounds (ALT)
+public class PointToPointBenchmarking {
+
+    private static final int FORK = 1;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int WARMUP_TIME = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int MEASUREMENT_TIME = 5;
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testHeapBasedDijkstra(PointToPointExecutionPlan executionPlan, Blackhole blackhole) {
+        int[] queries = executionPlan.queries;
+        for (int i = 0; i < queries.length; i += 2) {
+            blackhole.consume(executionPlan.dijkstra.determineSingleSourceShortestPaths(executionPlan.gridGraph, queries[i])[queries[i + 1]]);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testAStarWithoutHeuristic(PointToPointExecutionPlan executionPlan, Blackhole blackhole) {
+        int[] queries = executionPlan.queries;
+        for (int i = 0; i < queries.length; i += 2) {
+            blackhole.consume(executionPlan.aStarWithoutHeuristic.determineShortestPath(queries[i], queries[i + 1]));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testBidirectionalDijkstra(PointToPointExecutionPlan executionPlan, Blackhole blackhole) {
+        int[] queries = executionPlan.queries;
+        for (int i = 0; i < queries.length; i += 2) {
+            blackhole.consume(executionPlan.bidirectionalDijkstra.determineShortestPath(queries[i], queries[i + 1]));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testAStar(PointToPointExecutionPlan executionPlan, Blackhole blackhole) {
+        int[] queries = executionPlan.queries;
+        for (int i = 0; i < queries.length; i += 2) {
+            blackhole.consume(executionPlan.aStar.determineShortestPath(queries[i], queries[i + 1]));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testAlt(PointToPointExecutionPlan executionPlan, Blackhole blackhole) {
+        int[] queries = executionPlan.queries;
+        for (int i = 0; i < queries.length; i += 2) {
+            blackhole.consume(executionPlan.alt.determineShortestPath(queries[i], queries[i + 1]));
+        }
+    }
+}
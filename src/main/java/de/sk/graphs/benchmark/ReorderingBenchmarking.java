@@ -0,0 +1,38 @@
+package de.sk.graphs.benchmark;
+
+import de.sk.graphs.benchmark.executionplans.ReorderingExecutionPlan;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// compares the running times of graph traversals on a graph with shuffled vertex indices (ordering NONE) with the running
+// times on the same graph after reordering its vertices (see de.sk.graphs.util.GraphReordering)
+public class ReorderingBenchmarking {
+
+    private static final int FORK = 1;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int WARMUP_TIME = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int MEASUREMENT_TIME = 5;
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testBfs(ReorderingExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.bfs.conductBfs(executionPlan.graph, executionPlan.s));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(FORK)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public void testHeapBasedDijkstra(ReorderingExecutionPlan executionPlan, Blackhole blackhole) {
+        blackhole.consume(executionPlan.dijkstra.determineSingleSourceShortestPaths(executionPlan.graph, executionPlan.s));
+    }
+}
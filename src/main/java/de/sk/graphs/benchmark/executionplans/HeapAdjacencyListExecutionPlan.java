@@ -0,0 +1,28 @@
+package de.sk.graphs.benchmark.executionplans;
+
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.util.UndirectedGraphUtils;
+import de.sk.greedy.mst.prim.PrimsAlgHeapBased;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+
+@State(Scope.Benchmark)
+public class HeapAdjacencyListExecutionPlan {
+
+    // the adjacency list representation creates objects per vertex and edge, hence larger graphs are not benchmarked
+    @Param({"100000"})
+    private int numberOfVertices;
+
+    public final PrimsAlgHeapBased prim = new PrimsAlgHeapBased();
+
+    // random graph with n * AVERAGE_DEGREE / 2 edges
+    public UnAdjacencyList randomGraph;
+
+    @Setup(Level.Trial)
+    public void createGraph() {
+        int numberOfEdges = this.numberOfVertices / 2 * HeapExecutionPlan.AVERAGE_DEGREE;
+        this.randomGraph = UndirectedGraphUtils.createRandomGraph(this.numberOfVertices, numberOfEdges, HeapExecutionPlan.MAX_WEIGHT,
+                new Random(HeapExecutionPlan.SEED));
+    }
+}
@@ -0,0 +1,40 @@
+package de.sk.graphs.benchmark.executionplans;
+
+import de.sk.graphs.algorithm.dijkstra.DeltaSteppingDijkstra;
+import de.sk.graphs.algorithm.dijkstra.DialsDijkstra;
+import de.sk.graphs.algorithm.dijkstra.HeapBasedDijkstra;
+import de.sk.graphs.algorithm.dijkstra.RadixHeapDijkstra;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.GraphGenerators;
+import de.sk.greedy.mst.prim.PrimsAlgHeapBased;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+public class HeapExecutionPlan {
+
+    static final int AVERAGE_DEGREE = 16;
+    static final int MAX_WEIGHT = 1_000;
+    static final long SEED = 578347734907L;
+
+    @Param({"100000", "1000000"})
+    private int numberOfVertices;
+
+    public final HeapBasedDijkstra dijkstra = new HeapBasedDijkstra();
+    public final DialsDijkstra dialsDijkstra = new DialsDijkstra();
+    public final RadixHeapDijkstra radixHeapDijkstra = new RadixHeapDijkstra();
+    public final DeltaSteppingDijkstra deltaSteppingDijkstra = new DeltaSteppingDijkstra();
+    public final PrimsAlgHeapBased prim = new PrimsAlgHeapBased();
+
+    // G(n,m) graph with n * AVERAGE_DEGREE / 2 edges, which is connected with overwhelming probability
+    public CsrGraph gnmGraph;
+    // grid graph with approx. n vertices
+    public CsrGraph gridGraph;
+
+    @Setup(Level.Trial)
+    public void createGraphs() {
+        int numberOfEdges = this.numberOfVertices / 2 * AVERAGE_DEGREE;
+        this.gnmGraph = GraphGenerators.createGnmGraph(this.numberOfVertices, numberOfEdges, MAX_WEIGHT, false, SEED);
+        int side = (int) Math.sqrt(this.numberOfVertices);
+        this.gridGraph = GraphGenerators.createGridGraph(side, side, MAX_WEIGHT, SEED);
+    }
+}
@@ -0,0 +1,59 @@
+package de.sk.graphs.benchmark.executionplans;
+
+import de.sk.basics.ch3.closestpair.point.Point2D;
+import de.sk.graphs.algorithm.dijkstra.HeapBasedDijkstra;
+import de.sk.graphs.algorithm.dijkstra.pointtopoint.AStar;
+import de.sk.graphs.algorithm.dijkstra.pointtopoint.BidirectionalDijkstra;
+import de.sk.graphs.algorithm.dijkstra.pointtopoint.DistanceHeuristic;
+import de.sk.graphs.algorithm.dijkstra.pointtopoint.Heuristic;
+import de.sk.graphs.algorithm.dijkstra.pointtopoint.LandmarkPreprocessing;
+import de.sk.graphs.algorithm.dijkstra.pointtopoint.LandmarkSelection;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.GraphGenerators;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+@State(Scope.Benchmark)
+public class PointToPointExecutionPlan {
+
+    // with weights in [1;MAX_WEIGHT], the Euclidean distance between the grid coordinates is an admissible heuristic
+    static final int MAX_WEIGHT = 10;
+    static final int NUMBER_OF_QUERIES = 16;
+    static final int NUMBER_OF_LANDMARKS = 16;
+    static final long SEED = 578347734907L;
+
+    @Param({"1000000"})
+    private int numberOfVertices;
+
+    public final HeapBasedDijkstra dijkstra = new HeapBasedDijkstra();
+
+    // grid graph with approx. n vertices, the vertex r * side + c is located at (c, r)
+    public CsrGraph gridGraph;
+    public BidirectionalDijkstra bidirectionalDijkstra;
+    public AStar aStar;
+    public AStar aStarWithoutHeuristic;
+    public AStar alt;
+    // queries[2i] and queries[2i+1] are the starting and the target vertex of query i
+    public int[] queries;
+
+    @Setup(Level.Trial)
+    public void createGraphAndQueries() {
+        int side = (int) Math.sqrt(this.numberOfVertices);
+        this.gridGraph = GraphGenerators.createGridGraph(side, side, MAX_WEIGHT, SEED);
+        List<Point2D> coordinates = new ArrayList<>(side * side);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                coordinates.add(new Point2D(c, r));
+            }
+        }
+        this.bidirectionalDijkstra = new BidirectionalDijkstra(this.gridGraph);
+        this.aStar = new AStar(this.gridGraph, new DistanceHeuristic(coordinates));
+        this.aStarWithoutHeuristic = new AStar(this.gridGraph, Heuristic.ZERO);
+        this.alt = new AStar(this.gridGraph, new LandmarkPreprocessing().preprocess(this.gridGraph, NUMBER_OF_LANDMARKS, LandmarkSelection.AVOID, SEED));
+        SplittableRandom random = new SplittableRandom(SEED);
+        this.queries = random.ints(2 * NUMBER_OF_QUERIES, 0, side * side).toArray();
+    }
+}
@@ -0,0 +1,83 @@
+package de.sk.graphs.benchmark.executionplans;
+
+import de.sk.graphs.algorithm.bfs.GraphBfsImpl;
+import de.sk.graphs.algorithm.dijkstra.HeapBasedDijkstra;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.GraphReordering;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+
+@State(Scope.Benchmark)
+public class ReorderingExecutionPlan {
+
+    // side length of the grid graph (i.e. the graph has side^2 vertices)
+    @Param({"512", "1024"})
+    private int side;
+
+    @Param({"NONE", "BFS", "RCM", "DEGREE"})
+    private String ordering;
+
+    public final GraphBfsImpl bfs = new GraphBfsImpl();
+    public final HeapBasedDijkstra dijkstra = new HeapBasedDijkstra();
+
+    public CsrGraph graph;
+    public int s;
+
+    private int shuffledIndexOfCorner;
+
+    @Setup(Level.Trial)
+    public void createGraph() {
+        CsrGraph shuffledGrid = this.createGridGraphWithShuffledVertexIndices(new Random(578347734907L));
+        GraphReordering.VertexPermutation permutation = switch (this.ordering) {
+            case "BFS" -> GraphReordering.bfsOrder(shuffledGrid);
+            case "RCM" -> GraphReordering.reverseCuthillMcKeeOrder(shuffledGrid);
+            case "DEGREE" -> GraphReordering.degreeDescendingOrder(shuffledGrid);
+            default -> null;
+        };
+        this.graph = permutation != null ? CsrGraphUtils.permute(shuffledGrid, permutation) : shuffledGrid;
+        // always start at the same vertex (the corner of the grid, i.e. vertex 0 before the shuffling)
+        this.s = permutation != null ? permutation.newIndices()[this.shuffledIndexOfCorner] : this.shuffledIndexOfCorner;
+    }
+
+    /*
+     * A grid graph has a perfect locality if its vertices are numbered row by row. Shuffling the indices destroys the
+     * locality, as it is typical for graphs loaded from real-world edge lists.
+     */
+    private CsrGraph createGridGraphWithShuffledVertexIndices(Random random) {
+        int n = this.side * this.side;
+        int[] shuffledIndices = new int[n];
+        for (int v = 0; v < n; v++) {
+            shuffledIndices[v] = v;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = shuffledIndices[i];
+            shuffledIndices[i] = shuffledIndices[j];
+            shuffledIndices[j] = tmp;
+        }
+        this.shuffledIndexOfCorner = shuffledIndices[0];
+        int numberOfEdges = 2 * this.side * (this.side - 1);
+        int[] tails = new int[numberOfEdges];
+        int[] heads = new int[numberOfEdges];
+        int[] weights = new int[numberOfEdges];
+        int e = 0;
+        for (int row = 0; row < this.side; row++) {
+            for (int col = 0; col < this.side; col++) {
+                int v = row * this.side + col;
+                if (col + 1 < this.side) {
+                    tails[e] = shuffledIndices[v];
+                    heads[e] = shuffledIndices[v + 1];
+                    weights[e++] = 1 + random.nextInt(100);
+                }
+                if (row + 1 < this.side) {
+                    tails[e] = shuffledIndices[v];
+                    heads[e] = shuffledIndices[v + this.side];
+                    weights[e++] = 1 + random.nextInt(100);
+                }
+            }
+        }
+        return CsrGraphUtils.createFromEdgeArrays(n, tails, heads, weights, false);
+    }
+}
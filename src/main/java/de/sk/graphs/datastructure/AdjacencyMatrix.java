@@ -2,6 +2,8 @@ package de.sk.graphs.datastructure;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.IntBuffer;
+
 /**
  * Interface defining the general methods for adjacency matrix implementations (for both directed and undirected graphs).
  */
@@ -36,6 +38,17 @@ public interface AdjacencyMatrix {
      */
     int getEdgeWeight(int v, int w);
 
+    /**
+     * Returns whether there is an edge between the vertices (with indices) {@code v} and {@code w}.
+     *
+     * @param v index of the first endpoint/vertex of the edge
+     * @param w index of the second endpoint/vertex of the edge
+     * @return {@code true} if there is an edge between {@code v} and {@code w}, {@code false} else
+     */
+    default boolean hasEdge(int v, int w) {
+        return this.getEdgeWeight(v, w) != MARKER_NON_EXISTING_EDGE;
+    }
+
     /**
      * Returns the adjacency information for the vertex (with index) {@code v}, i.e. the weights of the edges between
      * {@code v} and all vertices of the graph (respectively {@link AdjacencyMatrix#MARKER_NON_EXISTING_EDGE} if there
@@ -48,6 +61,18 @@ public interface AdjacencyMatrix {
      */
     int @NotNull [] getAdjacencyInformation(int v);
 
+    /**
+     * Returns a read-only view on the adjacency information for the vertex (with index) {@code v} (see
+     * {@link AdjacencyMatrix#getAdjacencyInformation(int)}). Allows to process a row in bulk independently of how the
+     * matrix is stored. By default, the view wraps the array returned by {@link AdjacencyMatrix#getAdjacencyInformation(int)}.
+     *
+     * @param v (index of the) vertex for which the adjacency information is to be returned
+     * @return read-only view on the row of the adjacency matrix for the vertex (with index) {@code v}
+     */
+    default @NotNull IntBuffer getAdjacencyInformationView(int v) {
+        return IntBuffer.wrap(this.getAdjacencyInformation(v)).asReadOnlyBuffer();
+    }
+
     /**
      * Returns the number of vertices the graph has.
      *
@@ -0,0 +1,126 @@
+package de.sk.graphs.datastructure;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Interface defining the general methods for graphs in compressed sparse row (CSR) representation (for both directed and
+ * undirected graphs).
+ * <br><br>
+ * The vertices of a CSR graph are identified by their indices [0;n-1]. The outgoing edges of all vertices are stored
+ * consecutively in one adjacency array, grouped by their source vertex: the adjacency entries of vertex {@code v} are
+ * located at the entry indices [{@link #getOffset(int) getOffset(v)};{@link #getOffset(int) getOffset(v+1)}). For an
+ * undirected graph, each edge {v,w} is stored twice (once as entry of {@code v}, once as entry of {@code w}).
+ */
+public interface CsrGraph {
+
+    String VERTEX_IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF = "The given vertex index '%d' is out of bounds, it must be between [0;%d].";
+    String ENTRY_IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF = "The given entry index '%d' is out of bounds, it must be between [0;%d].";
+
+    /**
+     * Returns whether the graph is directed, or not.
+     *
+     * @return {@code true} if the graph is directed, {@code false} if it is undirected
+     */
+    boolean isDirected();
+
+    /**
+     * Returns the number of vertices the graph has.
+     *
+     * @return the graph's number of vertices
+     */
+    int getNumberOfVertices();
+
+    /**
+     * Returns the number of edges the graph has. For an undirected graph, each edge is counted once (even though it is
+     * stored as two adjacency entries).
+     *
+     * @return the graph's number of edges
+     */
+    int getNumberOfEdges();
+
+    /**
+     * Returns the number of entries in the adjacency array of the graph. Equals {@link #getNumberOfEdges()} for directed
+     * graphs and twice the number of edges for undirected graphs.
+     *
+     * @return number of adjacency entries
+     */
+    int getNumberOfAdjacencyEntries();
+
+    /**
+     * Returns the index of the first adjacency entry of the vertex (with index) {@code v}. For {@code v} = n, the total
+     * number of adjacency entries is returned, so that the entries of each vertex {@code v} can be iterated in the range
+     * [{@code getOffset(v)};{@code getOffset(v+1)}).
+     *
+     * @param v index of the vertex (between [0;n])
+     * @return index of the first adjacency entry of {@code v}
+     */
+    int getOffset(int v);
+
+    /**
+     * Returns the index of the target vertex of the adjacency entry with index {@code entryIdx}.
+     *
+     * @param entryIdx index of the adjacency entry
+     * @return index of the vertex the adjacency entry points to
+     */
+    int getTarget(int entryIdx);
+
+    /**
+     * Returns the weight of the edge represented by the adjacency entry with index {@code entryIdx}.
+     *
+     * @param entryIdx index of the adjacency entry
+     * @return weight of the edge represented by the adjacency entry
+     */
+    int getWeight(int entryIdx);
+
+    /**
+     * Returns the name of the vertex (with index) {@code v}. If the graph does not hold any names, a name is derived
+     * from the index of the vertex.
+     *
+     * @param v index of the vertex
+     * @return name of the vertex
+     */
+    @NotNull String getVertexName(int v);
+
+    /**
+     * Returns whether the graph holds explicit names for its vertices, or whether the names are derived from the indices.
+     *
+     * @return {@code true} if the graph holds explicit vertex names, {@code false} else
+     */
+    boolean hasVertexNames();
+
+    /**
+     * Returns the number of adjacency entries (i.e. the out-degree for directed graphs, the degree for undirected graphs)
+     * of the vertex (with index) {@code v}.
+     *
+     * @param v index of the vertex
+     * @return number of adjacency entries of {@code v}
+     */
+    default int getDegree(int v) {
+        return this.getOffset(v + 1) - this.getOffset(v);
+    }
+
+    /**
+     * Returns the index of the source vertex of the adjacency entry with index {@code entryIdx}, i.e. the vertex in whose
+     * range of entries the given entry is located. Time complexity: O(log n).
+     *
+     * @param entryIdx index of the adjacency entry
+     * @return index of the vertex the adjacency entry belongs to
+     */
+    default int getSource(int entryIdx) {
+        if (entryIdx < 0 || entryIdx >= this.getNumberOfAdjacencyEntries()) {
+            throw new IllegalArgumentException(String.format(ENTRY_IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF, entryIdx, this.getNumberOfAdjacencyEntries() - 1));
+        }
+        // binary search for the last vertex v with getOffset(v) <= entryIdx
+        int low = 0;
+        int high = this.getNumberOfVertices() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (this.getOffset(mid) <= entryIdx) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
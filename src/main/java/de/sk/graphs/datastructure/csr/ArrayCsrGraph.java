@@ -0,0 +1,151 @@
+package de.sk.graphs.datastructure.csr;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.datastructure.CsrGraph;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable implementation of {@link CsrGraph} holding its adjacency information in three primitive arrays on the heap:
+ * {@code offsets} (of length n+1), {@code targets} and {@code weights} (both of the length of the number of adjacency entries).
+ * <br><br>
+ * The arrays passed to the constructor are not copied (to avoid doubling the memory footprint for large graphs). After the
+ * construction, they must not be modified anymore.
+ */
+public final class ArrayCsrGraph implements CsrGraph {
+
+    static final String INVALID_OFFSETS_LENGTH_EXCEPTION_MSG_TF = "The offsets array must have a length of at least 1. Given: %d.";
+    static final String INVALID_FIRST_OFFSET_EXCEPTION_MSG_TF = "The first offset must be 0. Given: %d.";
+    static final String DECREASING_OFFSETS_EXCEPTION_MSG_TF = "The offsets must not decrease. Offset of vertex %d: %d, offset of vertex %d: %d.";
+    static final String MISMATCHING_ARRAY_LENGTHS_EXCEPTION_MSG_TF = "The last offset (%d), the length of the targets array (%d), and " +
+            "the length of the weights array (%d) must be equal.";
+    static final String TARGET_OUT_OF_BOUNDS_EXCEPTION_MSG_TF = "The target '%d' of entry %d is out of bounds, it must be between [0;%d].";
+    static final String ODD_NUMBER_OF_ENTRIES_EXCEPTION_MSG_TF = "An undirected graph must have an even number of adjacency entries. Given: %d.";
+    static final String MISMATCHING_NUMBER_OF_NAMES_EXCEPTION_MSG_TF = "The number of vertex names (%d) does not match the number of vertices (%d).";
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final boolean isDirected;
+    private final String[] vertexNames;
+
+    /**
+     * Constructor. The graph does not hold any vertex names, the names are derived from the vertices' indices on demand.
+     *
+     * @param offsets    offsets of the vertices' adjacency entries (length n+1)
+     * @param targets    target vertex of each adjacency entry
+     * @param weights    weight of each adjacency entry
+     * @param isDirected whether the graph is directed, or not
+     */
+    public ArrayCsrGraph(int @NotNull [] offsets, int @NotNull [] targets, int @NotNull [] weights, boolean isDirected) {
+        this(offsets, targets, weights, isDirected, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param offsets     offsets of the vertices' adjacency entries (length n+1)
+     * @param targets     target vertex of each adjacency entry
+     * @param weights     weight of each adjacency entry
+     * @param isDirected  whether the graph is directed, or not
+     * @param vertexNames names of the vertices (length n), {@code null} if the names are to be derived from the indices
+     */
+    public ArrayCsrGraph(int @NotNull [] offsets, int @NotNull [] targets, int @NotNull [] weights, boolean isDirected,
+                         @NotNull String @Nullable [] vertexNames) {
+        validateIntegrity(offsets, targets, weights, isDirected);
+        if (vertexNames != null && vertexNames.length != offsets.length - 1) {
+            throw new IllegalArgumentException(String.format(MISMATCHING_NUMBER_OF_NAMES_EXCEPTION_MSG_TF, vertexNames.length, offsets.length - 1));
+        }
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.isDirected = isDirected;
+        this.vertexNames = vertexNames;
+    }
+
+    private static void validateIntegrity(int @NotNull [] offsets, int @NotNull [] targets, int @NotNull [] weights, boolean isDirected) {
+        if (offsets.length < 1) {
+            throw new IllegalArgumentException(String.format(INVALID_OFFSETS_LENGTH_EXCEPTION_MSG_TF, offsets.length));
+        }
+        if (offsets[0] != 0) {
+            throw new IllegalArgumentException(String.format(INVALID_FIRST_OFFSET_EXCEPTION_MSG_TF, offsets[0]));
+        }
+        for (int v = 1; v < offsets.length; v++) {
+            if (offsets[v] < offsets[v - 1]) {
+                throw new IllegalArgumentException(String.format(DECREASING_OFFSETS_EXCEPTION_MSG_TF, v - 1, offsets[v - 1], v, offsets[v]));
+            }
+        }
+        int numberOfEntries = offsets[offsets.length - 1];
+        if (numberOfEntries != targets.length || numberOfEntries != weights.length) {
+            throw new IllegalArgumentException(String.format(MISMATCHING_ARRAY_LENGTHS_EXCEPTION_MSG_TF, numberOfEntries, targets.length, weights.length));
+        }
+        if (!isDirected && numberOfEntries % 2 != 0) {
+            throw new IllegalArgumentException(String.format(ODD_NUMBER_OF_ENTRIES_EXCEPTION_MSG_TF, numberOfEntries));
+        }
+        int numberOfVertices = offsets.length - 1;
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] < 0 || targets[i] >= numberOfVertices) {
+                throw new IllegalArgumentException(String.format(TARGET_OUT_OF_BOUNDS_EXCEPTION_MSG_TF, targets[i], i, numberOfVertices - 1));
+            }
+        }
+    }
+
+    @Override
+    public boolean isDirected() {
+        return this.isDirected;
+    }
+
+    @Override
+    public int getNumberOfVertices() {
+        return this.offsets.length - 1;
+    }
+
+    @Override
+    public int getNumberOfEdges() {
+        return this.isDirected ? this.targets.length : this.targets.length / 2;
+    }
+
+    @Override
+    public int getNumberOfAdjacencyEntries() {
+        return this.targets.length;
+    }
+
+    @Override
+    public int getOffset(int v) {
+        return this.offsets[v];
+    }
+
+    @Override
+    public int getTarget(int entryIdx) {
+        return this.targets[entryIdx];
+    }
+
+    @Override
+    public int getWeight(int entryIdx) {
+        return this.weights[entryIdx];
+    }
+
+    @Override
+    public int getDegree(int v) {
+        return this.offsets[v + 1] - this.offsets[v];
+    }
+
+    @Override
+    public @NotNull String getVertexName(int v) {
+        if (v < 0 || v >= this.getNumberOfVertices()) {
+            throw new IllegalArgumentException(String.format(VERTEX_IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF, v, this.getNumberOfVertices() - 1));
+        }
+        return this.vertexNames != null ? this.vertexNames[v] : String.format(GraphConstants.INDEX_BASED_VERTEX_NAME_TF, v);
+    }
+
+    @Override
+    public boolean hasVertexNames() {
+        return this.vertexNames != null;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ArrayCsrGraph(isDirected=" + this.isDirected + ", numberOfVertices=" + this.getNumberOfVertices() +
+                ", numberOfEdges=" + this.getNumberOfEdges() + ")";
+    }
+}
@@ -0,0 +1,52 @@
+package de.sk.graphs.datastructure.dynamic;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Segment of {@link AdjacencyStore#SEGMENT_SIZE} consecutive vertex slots of an {@link AdjacencyStore}. For each slot, the
+ * segment holds the growable arrays of the targets and weights of the slot's adjacency entries as well as the number of
+ * used entries (the degree, {@link AdjacencyStore#FREE_SLOT} if the slot does not hold a vertex).
+ * <br><br>
+ * A segment and the arrays it references may be shared between a {@link DynamicGraph} and its {@link GraphSnapshot}s. The
+ * epochs record in which snapshot epoch the segment respectively the arrays of a slot have been created by the writer:
+ * only segments and arrays of the current epoch are modified in place, all others are copied before being modified.
+ */
+final class AdjacencySegment {
+
+    final int[][] targets;
+    final int[][] weights;
+    final int[] degrees;
+    final int[] arrayEpochs;
+    final int epoch;
+
+    AdjacencySegment(int size, int epoch) {
+        this.targets = new int[size][];
+        this.weights = new int[size][];
+        this.degrees = new int[size];
+        this.arrayEpochs = new int[size];
+        this.epoch = epoch;
+        Arrays.fill(this.degrees, AdjacencyStore.FREE_SLOT);
+        Arrays.fill(this.arrayEpochs, epoch);
+    }
+
+    private AdjacencySegment(@NotNull AdjacencySegment original, int epoch) {
+        // the arrays of the slots are not copied, but only the references to them (they are copied on their next modification)
+        this.targets = original.targets.clone();
+        this.weights = original.weights.clone();
+        this.degrees = original.degrees.clone();
+        this.arrayEpochs = original.arrayEpochs.clone();
+        this.epoch = epoch;
+    }
+
+    /**
+     * Returns a shallow copy of the segment belonging to the given {@code epoch}.
+     *
+     * @param epoch epoch of the copy
+     * @return copy of the segment
+     */
+    @NotNull AdjacencySegment copy(int epoch) {
+        return new AdjacencySegment(this, epoch);
+    }
+}
@@ -0,0 +1,171 @@
+package de.sk.graphs.datastructure.dynamic;
+
+import de.sk.util.LongIntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Mutable store of the adjacency entries of the vertex slots of a {@link DynamicGraph}. The entries of each slot are held in
+ * growable primitive arrays (grouped into {@link AdjacencySegment}s). Additionally, the position of each entry (v,w) within
+ * the arrays of v is held in a {@link LongIntOpenHashMap}, so that an entry can be removed in expected O(1) by moving the
+ * last entry of v into its position.
+ * <br><br>
+ * The segments can be shared with snapshots ({@link #share()}): segments and arrays which may be referenced by a snapshot are
+ * copied before their next modification (copy-on-write), i.e. taking a snapshot costs O(n/{@link #SEGMENT_SIZE}) and the
+ * writer afterwards copies only the segments and arrays it actually modifies.
+ */
+final class AdjacencyStore {
+
+    static final int SEGMENT_SHIFT = 10;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    static final int FREE_SLOT = -1;
+
+    private static final int NO_POSITION = -1;
+    private static final int INITIAL_ADJACENCY_CAPACITY = 4;
+    private static final int[] EMPTY_ARRAY = new int[0];
+
+    private AdjacencySegment[] segments = new AdjacencySegment[1];
+    private final LongIntOpenHashMap positions = new LongIntOpenHashMap(0, NO_POSITION);
+    private int epoch;
+
+    static long pack(int v, int w) {
+        return ((long) v << 32) | (w & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the segments for a snapshot. Afterwards, the returned segments and the arrays referenced by them are not
+     * modified anymore by this store.
+     *
+     * @return segments for a snapshot
+     */
+    @NotNull AdjacencySegment @NotNull [] share() {
+        this.epoch++;
+        return this.segments.clone();
+    }
+
+    /**
+     * Turns the free slot {@code v} into a vertex without adjacency entries.
+     *
+     * @param v index of the slot
+     */
+    void occupySlot(int v) {
+        int s = v >>> SEGMENT_SHIFT;
+        if (s >= this.segments.length) {
+            this.segments = Arrays.copyOf(this.segments, Math.max(s + 1, this.segments.length << 1));
+        }
+        if (this.segments[s] == null) {
+            this.segments[s] = new AdjacencySegment(SEGMENT_SIZE, this.epoch);
+        }
+        this.writableSegment(v).degrees[v & SEGMENT_MASK] = 0;
+    }
+
+    /**
+     * Turns the slot {@code v} into a free slot. Removes all its adjacency entries.
+     *
+     * @param v index of the slot
+     */
+    void freeSlot(int v) {
+        AdjacencySegment segment = this.writableSegment(v);
+        int slot = v & SEGMENT_MASK;
+        for (int i = 0; i < segment.degrees[slot]; i++) {
+            this.positions.remove(pack(v, segment.targets[slot][i]));
+        }
+        segment.degrees[slot] = FREE_SLOT;
+    }
+
+    boolean isOccupied(int v) {
+        int s = v >>> SEGMENT_SHIFT;
+        return s < this.segments.length && this.segments[s] != null && this.segments[s].degrees[v & SEGMENT_MASK] != FREE_SLOT;
+    }
+
+    int getDegree(int v) {
+        return this.segments[v >>> SEGMENT_SHIFT].degrees[v & SEGMENT_MASK];
+    }
+
+    int getTarget(int v, int i) {
+        return this.segments[v >>> SEGMENT_SHIFT].targets[v & SEGMENT_MASK][i];
+    }
+
+    int getWeight(int v, int i) {
+        return this.segments[v >>> SEGMENT_SHIFT].weights[v & SEGMENT_MASK][i];
+    }
+
+    /**
+     * Returns the position of the entry (v,w) within the entries of {@code v}, or -1 if there is no such entry.
+     *
+     * @param v source of the entry
+     * @param w target of the entry
+     * @return position of the entry, -1 if there is no such entry
+     */
+    int positionOf(int v, int w) {
+        return this.positions.get(pack(v, w));
+    }
+
+    /**
+     * Appends the entry (v,w) with the given {@code weight} to the entries of {@code v}. Amortized time complexity: O(1).
+     *
+     * @param v      source of the entry
+     * @param w      target of the entry
+     * @param weight weight of the entry
+     */
+    void add(int v, int w, int weight) {
+        AdjacencySegment segment = this.writableSegment(v);
+        int slot = v & SEGMENT_MASK;
+        int degree = segment.degrees[slot];
+        this.ensureWritableArrays(segment, slot, degree + 1);
+        segment.targets[slot][degree] = w;
+        segment.weights[slot][degree] = weight;
+        segment.degrees[slot] = degree + 1;
+        this.positions.put(pack(v, w), degree);
+    }
+
+    /**
+     * Removes the entry (v,w) by moving the last entry of {@code v} into its position. Expected time complexity: O(1).
+     *
+     * @param v source of the entry
+     * @param w target of the entry
+     * @return {@code true} if the entry has been removed, {@code false} if there was no such entry
+     */
+    boolean remove(int v, int w) {
+        int position = this.positions.remove(pack(v, w));
+        if (position == NO_POSITION) {
+            return false;
+        }
+        AdjacencySegment segment = this.writableSegment(v);
+        int slot = v & SEGMENT_MASK;
+        int last = segment.degrees[slot] - 1;
+        if (position != last) {
+            this.ensureWritableArrays(segment, slot, last + 1);
+            int movedTarget = segment.targets[slot][last];
+            segment.targets[slot][position] = movedTarget;
+            segment.weights[slot][position] = segment.weights[slot][last];
+            this.positions.put(pack(v, movedTarget), position);
+        }
+        segment.degrees[slot] = last;
+        return true;
+    }
+
+    private @NotNull AdjacencySegment writableSegment(int v) {
+        int s = v >>> SEGMENT_SHIFT;
+        AdjacencySegment segment = this.segments[s];
+        if (segment.epoch != this.epoch) {
+            segment = segment.copy(this.epoch);
+            this.segments[s] = segment;
+        }
+        return segment;
+    }
+
+    private void ensureWritableArrays(@NotNull AdjacencySegment segment, int slot, int minCapacity) {
+        int[] targets = segment.targets[slot] != null ? segment.targets[slot] : EMPTY_ARRAY;
+        boolean isShared = segment.arrayEpochs[slot] != this.epoch;
+        if (isShared || targets.length < minCapacity) {
+            int capacity = targets.length >= minCapacity ? targets.length : Math.max(minCapacity, Math.max(INITIAL_ADJACENCY_CAPACITY, targets.length << 1));
+            int[] weights = segment.weights[slot] != null ? segment.weights[slot] : EMPTY_ARRAY;
+            segment.targets[slot] = Arrays.copyOf(targets, capacity);
+            segment.weights[slot] = Arrays.copyOf(weights, capacity);
+            segment.arrayEpochs[slot] = this.epoch;
+        }
+    }
+}
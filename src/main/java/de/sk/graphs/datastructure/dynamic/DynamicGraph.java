@@ -0,0 +1,238 @@
+package de.sk.graphs.datastructure.dynamic;
+
+import de.sk.util.AdditionalArrayUtils;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable graph (directed or undirected) supporting the insertion and deletion of vertices and edges in amortized O(1)
+ * (respectively O(deg) for the deletion of a vertex), e.g. for graphs which change continuously and on which algorithms
+ * are re-run repeatedly.
+ * <br><br>
+ * The vertices are identified by the indices of their slots. The slots of deleted vertices are recycled for vertices added
+ * later. The adjacency entries of each vertex are held in growable primitive arrays; an entry is deleted by moving the last
+ * entry of its vertex into its position (which is looked up in a primitive hash map). For undirected graphs, each edge is
+ * stored as two adjacency entries. For directed graphs, the incoming edges are additionally stored (internally) to be able to
+ * delete a vertex in O(deg). Parallel edges and self-loops are not supported.
+ * <br><br>
+ * Immutable {@link GraphSnapshot}s can be taken in O(n/{@link AdjacencyStore#SEGMENT_SIZE}), they share all unmodified
+ * segments of vertices with the graph (copy-on-write). Readers can run algorithms on snapshots while the graph is modified.
+ * <br><br>
+ * Not thread-safe, i.e. all modifications must be done by one writer thread (or be synchronized externally).
+ */
+public final class DynamicGraph {
+
+    static final String VERTEX_NOT_IN_GRAPH_EXCEPTION_MSG_TF = "There is no vertex with index '%d' in the graph.";
+    static final String EDGE_ALREADY_IN_GRAPH_EXCEPTION_MSG_TF = "The graph already contains an edge between the vertices '%d' and '%d'.";
+    static final String EDGE_NOT_IN_GRAPH_EXCEPTION_MSG_TF = "There is no edge between the vertices '%d' and '%d' in the graph.";
+    static final String EDGE_WITH_SAME_ENDPOINTS_EXCEPTION_MSG_TF = "Edges must have different endpoints. For the given edge, both endpoints are '%d'.";
+
+    private static final int NO_POSITION = -1;
+
+    private final boolean isDirected;
+    private final AdjacencyStore outgoing = new AdjacencyStore();
+    private final AdjacencyStore incoming;
+    private int[] freeSlots = new int[0];
+    private int numberOfFreeSlots;
+    private int vertexCapacity;
+    private int numberOfVertices;
+    private int numberOfEdges;
+    private long version;
+
+    /**
+     * Constructor. Creates a graph without any vertices.
+     *
+     * @param isDirected whether the graph is directed, or not
+     */
+    public DynamicGraph(boolean isDirected) {
+        this.isDirected = isDirected;
+        this.incoming = isDirected ? new AdjacencyStore() : null;
+    }
+
+    /**
+     * Adds a new vertex without edges to the graph. Recycles the slot of a previously deleted vertex, if any.
+     *
+     * @return index of the new vertex
+     */
+    public int addVertex() {
+        int v = this.numberOfFreeSlots > 0 ? this.freeSlots[--this.numberOfFreeSlots] : this.vertexCapacity++;
+        this.outgoing.occupySlot(v);
+        if (this.isDirected) {
+            this.incoming.occupySlot(v);
+        }
+        this.numberOfVertices++;
+        this.version++;
+        return v;
+    }
+
+    /**
+     * Removes the vertex {@code v} and all its incident edges from the graph. Expected time complexity: O(deg(v)).
+     *
+     * @param v index of the vertex to remove
+     */
+    public void removeVertex(int v) {
+        this.verifyContainsVertex(v);
+        // remove the entries pointing to v from the vertices at the other ends of v's edges
+        int outDegree = this.outgoing.getDegree(v);
+        for (int i = 0; i < outDegree; i++) {
+            int w = this.outgoing.getTarget(v, i);
+            (this.isDirected ? this.incoming : this.outgoing).remove(w, v);
+        }
+        this.numberOfEdges -= outDegree;
+        if (this.isDirected) {
+            int inDegree = this.incoming.getDegree(v);
+            for (int i = 0; i < inDegree; i++) {
+                this.outgoing.remove(this.incoming.getTarget(v, i), v);
+            }
+            this.numberOfEdges -= inDegree;
+            this.incoming.freeSlot(v);
+        }
+        this.outgoing.freeSlot(v);
+        this.freeSlots = AdditionalArrayUtils.ensureCapacity(this.freeSlots, this.numberOfFreeSlots + 1);
+        this.freeSlots[this.numberOfFreeSlots++] = v;
+        this.numberOfVertices--;
+        this.version++;
+    }
+
+    /**
+     * Adds an edge with the given {@code weight} between the vertices {@code v} and {@code w} (for directed graphs: from
+     * {@code v} to {@code w}). Amortized time complexity: O(1).
+     *
+     * @param v      first endpoint (respectively tail) of the edge
+     * @param w      second endpoint (respectively head) of the edge
+     * @param weight weight of the edge
+     */
+    public void addEdge(int v, int w, int weight) {
+        this.verifyContainsVertex(v);
+        this.verifyContainsVertex(w);
+        if (v == w) {
+            throw new IllegalArgumentException(String.format(EDGE_WITH_SAME_ENDPOINTS_EXCEPTION_MSG_TF, v));
+        }
+        if (this.outgoing.positionOf(v, w) != NO_POSITION) {
+            throw new IllegalArgumentException(String.format(EDGE_ALREADY_IN_GRAPH_EXCEPTION_MSG_TF, v, w));
+        }
+        this.outgoing.add(v, w, weight);
+        (this.isDirected ? this.incoming : this.outgoing).add(w, v, weight);
+        this.numberOfEdges++;
+        this.version++;
+    }
+
+    /**
+     * Removes the edge between the vertices {@code v} and {@code w} (for directed graphs: from {@code v} to {@code w}).
+     * Expected time complexity: O(1).
+     *
+     * @param v first endpoint (respectively tail) of the edge
+     * @param w second endpoint (respectively head) of the edge
+     * @return {@code true} if the edge has been removed, {@code false} if there was no such edge
+     */
+    public boolean removeEdge(int v, int w) {
+        this.verifyContainsVertex(v);
+        this.verifyContainsVertex(w);
+        if (!this.outgoing.remove(v, w)) {
+            return false;
+        }
+        (this.isDirected ? this.incoming : this.outgoing).remove(w, v);
+        this.numberOfEdges--;
+        this.version++;
+        return true;
+    }
+
+    /**
+     * Returns whether there is an edge between the vertices {@code v} and {@code w} (for directed graphs: from {@code v}
+     * to {@code w}). Expected time complexity: O(1).
+     *
+     * @param v first endpoint (respectively tail) of the edge
+     * @param w second endpoint (respectively head) of the edge
+     * @return {@code true} if there is such an edge, {@code false} else
+     */
+    public boolean hasEdge(int v, int w) {
+        this.verifyContainsVertex(v);
+        this.verifyContainsVertex(w);
+        return this.outgoing.positionOf(v, w) != NO_POSITION;
+    }
+
+    /**
+     * Returns the weight of the edge between the vertices {@code v} and {@code w} (for directed graphs: from {@code v} to
+     * {@code w}). Throws an {@link IllegalArgumentException} if there is no such edge. Expected time complexity: O(1).
+     *
+     * @param v first endpoint (respectively tail) of the edge
+     * @param w second endpoint (respectively head) of the edge
+     * @return weight of the edge
+     */
+    public int getEdgeWeight(int v, int w) {
+        this.verifyContainsVertex(v);
+        this.verifyContainsVertex(w);
+        int position = this.outgoing.positionOf(v, w);
+        if (position == NO_POSITION) {
+            throw new IllegalArgumentException(String.format(EDGE_NOT_IN_GRAPH_EXCEPTION_MSG_TF, v, w));
+        }
+        return this.outgoing.getWeight(v, position);
+    }
+
+    /**
+     * Returns the number of adjacency entries (i.e. the out-degree for directed graphs, the degree for undirected graphs)
+     * of the vertex {@code v}.
+     *
+     * @param v index of the vertex
+     * @return number of adjacency entries of {@code v}
+     */
+    public int getDegree(int v) {
+        this.verifyContainsVertex(v);
+        return this.outgoing.getDegree(v);
+    }
+
+    /**
+     * Returns whether the slot with index {@code v} holds a vertex.
+     *
+     * @param v index of the slot
+     * @return {@code true} if the slot holds a vertex, {@code false} else
+     */
+    public boolean containsVertex(int v) {
+        return v >= 0 && v < this.vertexCapacity && this.outgoing.isOccupied(v);
+    }
+
+    /**
+     * Takes an immutable snapshot of the graph in its current state. Time complexity: O(n/{@link AdjacencyStore#SEGMENT_SIZE}).
+     *
+     * @return snapshot of the graph
+     */
+    public @NotNull GraphSnapshot snapshot() {
+        return new GraphSnapshot(this.isDirected, this.version, this.vertexCapacity, this.numberOfVertices, this.numberOfEdges,
+                this.outgoing.share());
+    }
+
+    public boolean isDirected() {
+        return this.isDirected;
+    }
+
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+    public int getNumberOfEdges() {
+        return this.numberOfEdges;
+    }
+
+    /**
+     * Returns the number of vertex slots (occupied or free), i.e. the vertex indices are between [0;capacity-1].
+     *
+     * @return number of vertex slots
+     */
+    public int getVertexCapacity() {
+        return this.vertexCapacity;
+    }
+
+    /**
+     * Returns the version of the graph, which is incremented with each modification.
+     *
+     * @return version of the graph
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    private void verifyContainsVertex(int v) {
+        if (!this.containsVertex(v)) {
+            throw new IllegalArgumentException(String.format(VERTEX_NOT_IN_GRAPH_EXCEPTION_MSG_TF, v));
+        }
+    }
+}
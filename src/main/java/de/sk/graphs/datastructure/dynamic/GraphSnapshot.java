@@ -0,0 +1,162 @@
+package de.sk.graphs.datastructure.dynamic;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.csr.ArrayCsrGraph;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable snapshot of a {@link DynamicGraph}, reflecting the graph at the time the snapshot was taken. A snapshot shares
+ * the adjacency arrays with the graph (see {@link AdjacencyStore}), so taking it is cheap, and it is not affected by
+ * subsequent modifications of the graph. Thus, readers can run algorithms on a snapshot (e.g. on {@link #toCsrGraph()})
+ * while a writer keeps modifying the graph.
+ * <br><br>
+ * The vertices are identified by the indices of their slots in the graph, free slots behave like isolated vertices.
+ * <br><br>
+ * Thread-safe (immutable).
+ */
+public final class GraphSnapshot {
+
+    private final boolean isDirected;
+    private final long version;
+    private final int vertexCapacity;
+    private final int numberOfVertices;
+    private final int numberOfEdges;
+    private final AdjacencySegment[] segments;
+    private volatile CsrGraph csrGraph;
+
+    GraphSnapshot(boolean isDirected, long version, int vertexCapacity, int numberOfVertices, int numberOfEdges,
+                  @NotNull AdjacencySegment @NotNull [] segments) {
+        this.isDirected = isDirected;
+        this.version = version;
+        this.vertexCapacity = vertexCapacity;
+        this.numberOfVertices = numberOfVertices;
+        this.numberOfEdges = numberOfEdges;
+        this.segments = segments;
+    }
+
+    /**
+     * Returns whether the graph is directed, or not.
+     *
+     * @return {@code true} if the graph is directed, {@code false} if it is undirected
+     */
+    public boolean isDirected() {
+        return this.isDirected;
+    }
+
+    /**
+     * Returns the version of the graph the snapshot has been taken from (see {@link DynamicGraph#getVersion()}).
+     *
+     * @return version of the graph at the time of the snapshot
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns the number of vertex slots (occupied or free), i.e. the vertex indices are between [0;capacity-1].
+     *
+     * @return number of vertex slots
+     */
+    public int getVertexCapacity() {
+        return this.vertexCapacity;
+    }
+
+    /**
+     * Returns the number of vertices (i.e. of occupied vertex slots).
+     *
+     * @return number of vertices
+     */
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+    /**
+     * Returns the number of edges. For an undirected graph, each edge is counted once.
+     *
+     * @return number of edges
+     */
+    public int getNumberOfEdges() {
+        return this.numberOfEdges;
+    }
+
+    /**
+     * Returns whether the slot with index {@code v} holds a vertex.
+     *
+     * @param v index of the slot
+     * @return {@code true} if the slot holds a vertex, {@code false} else
+     */
+    public boolean containsVertex(int v) {
+        return v >= 0 && v < this.vertexCapacity && this.segment(v).degrees[v & AdjacencyStore.SEGMENT_MASK] != AdjacencyStore.FREE_SLOT;
+    }
+
+    /**
+     * Returns the number of adjacency entries (i.e. the out-degree for directed graphs, the degree for undirected graphs)
+     * of the vertex {@code v}, 0 for a free slot.
+     *
+     * @param v index of the vertex
+     * @return number of adjacency entries of {@code v}
+     */
+    public int getDegree(int v) {
+        return Math.max(0, this.segment(v).degrees[v & AdjacencyStore.SEGMENT_MASK]);
+    }
+
+    /**
+     * Returns the target of the {@code i}-th adjacency entry of the vertex {@code v}.
+     *
+     * @param v index of the vertex
+     * @param i position of the entry (between [0;degree-1])
+     * @return index of the vertex the entry points to
+     */
+    public int getTarget(int v, int i) {
+        return this.segment(v).targets[v & AdjacencyStore.SEGMENT_MASK][i];
+    }
+
+    /**
+     * Returns the weight of the {@code i}-th adjacency entry of the vertex {@code v}.
+     *
+     * @param v index of the vertex
+     * @param i position of the entry (between [0;degree-1])
+     * @return weight of the entry
+     */
+    public int getWeight(int v, int i) {
+        return this.segment(v).weights[v & AdjacencyStore.SEGMENT_MASK][i];
+    }
+
+    private @NotNull AdjacencySegment segment(int v) {
+        return this.segments[v >>> AdjacencyStore.SEGMENT_SHIFT];
+    }
+
+    /**
+     * Returns the snapshot as {@link CsrGraph} (with {@link #getVertexCapacity()} vertices, free slots becoming isolated
+     * vertices), so that all algorithms for CSR graphs can be run on it. The CSR graph is created on the first call in
+     * O(m+n) and cached afterwards.
+     *
+     * @return snapshot in compressed sparse row representation
+     */
+    public @NotNull CsrGraph toCsrGraph() {
+        CsrGraph graph = this.csrGraph;
+        if (graph == null) {
+            graph = this.createCsrGraph();
+            this.csrGraph = graph;
+        }
+        return graph;
+    }
+
+    private @NotNull CsrGraph createCsrGraph() {
+        int[] offsets = new int[this.vertexCapacity + 1];
+        for (int v = 0; v < this.vertexCapacity; v++) {
+            offsets[v + 1] = offsets[v] + this.getDegree(v);
+        }
+        int[] targets = new int[offsets[this.vertexCapacity]];
+        int[] weights = new int[targets.length];
+        for (int v = 0; v < this.vertexCapacity; v++) {
+            int degree = this.getDegree(v);
+            if (degree > 0) {
+                int slot = v & AdjacencyStore.SEGMENT_MASK;
+                System.arraycopy(this.segment(v).targets[slot], 0, targets, offsets[v], degree);
+                System.arraycopy(this.segment(v).weights[slot], 0, weights, offsets[v], degree);
+            }
+        }
+        return new ArrayCsrGraph(offsets, targets, weights, this.isDirected);
+    }
+}
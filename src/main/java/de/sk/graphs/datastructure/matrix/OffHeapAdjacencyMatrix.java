@@ -0,0 +1,287 @@
+package de.sk.graphs.datastructure.matrix;
+
+import de.sk.graphs.datastructure.AdjacencyMatrix;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link AdjacencyMatrix} (for both directed and undirected graphs) storing the n x n matrix of edge
+ * weights outside the Java heap, either in direct buffers or in a file which is mapped into memory. Thus, multi-GB
+ * matrices (e.g. dense distance matrices) neither count against the max heap size nor have to be scanned by the garbage
+ * collector, and a matrix stored in a file can be reused between runs.
+ * <br><br>
+ * The matrix is stored in row-major order, each cell being an int. As a single {@link ByteBuffer} cannot exceed 2 GB, the
+ * rows are distributed over chunks of whole rows, so that each row can be exposed as a view via
+ * {@link #getAdjacencyInformationView(int)}. A file created by {@link #createMapped(Path, int, boolean)} starts with a
+ * header of {@link #HEADER_SIZE} bytes (magic number, version, flags, number of vertices; little-endian), followed by the
+ * rows.
+ * <br><br>
+ * Not thread-safe for concurrent modifications.
+ */
+public final class OffHeapAdjacencyMatrix implements AdjacencyMatrix {
+
+    static final String NUMBER_OF_NODES_TOO_LOW_EXCEPTION_MSG_TF = "The number of nodes must be greater 0. Given: %d.";
+    static final String ROW_TOO_LARGE_EXCEPTION_MSG_TF = "A row of %d nodes exceeds the max chunk size of %d bytes.";
+    static final String EDGE_WITH_SAME_ENDPOINTS_EXCEPTION_MSG_TF = "Edges must have different endpoints. For the given edge, both endpoints are '%d'.";
+    static final String EDGE_WEIGHT_NOT_ALLOWED_EXCEPTION_MSG_TF = "Edges with edge weight %d are not allowed (this value is the marker for non-existing edges).";
+    static final String VERTEX_IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF = "The given vertex index '%d' is out of bounds, it must be between [0;%d].";
+    static final String INVALID_FILE_EXCEPTION_MSG_TF = "The file %s is not a valid adjacency matrix file: %s";
+
+    // 'ADJM' in ASCII
+    public static final int MAGIC_NUMBER = 0x4D4A4441;
+    public static final int VERSION = 1;
+    public static final int FLAG_DIRECTED = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final ByteOrder FILE_BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int POS_MAGIC_NUMBER = 0;
+    private static final int POS_VERSION = 4;
+    private static final int POS_FLAGS = 8;
+    private static final int POS_NUMBER_OF_VERTICES = 12;
+
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    private final int numberOfVertices;
+    private final boolean isDirected;
+    private final int rowsPerChunk;
+    private final ByteBuffer[] chunks;
+
+    private OffHeapAdjacencyMatrix(int numberOfVertices, boolean isDirected, @NotNull ByteBuffer @NotNull [] chunks) {
+        this.numberOfVertices = numberOfVertices;
+        this.isDirected = isDirected;
+        this.rowsPerChunk = rowsPerChunk(numberOfVertices);
+        this.chunks = chunks;
+    }
+
+    /**
+     * Creates a matrix for {@code numberOfVertices} vertices without any edges, stored in direct buffers (in native byte
+     * order). The memory is released when the matrix is garbage collected.
+     *
+     * @param numberOfVertices number of vertices of the graph
+     * @param isDirected       whether the graph is directed (if not, {@link #addEdge} and {@link #removeEdge} write both
+     *                         cells of an edge)
+     * @return matrix without any edges
+     */
+    public static @NotNull OffHeapAdjacencyMatrix allocateDirect(int numberOfVertices, boolean isDirected) {
+        verifyNumberOfVertices(numberOfVertices);
+        int rowsPerChunk = rowsPerChunk(numberOfVertices);
+        ByteBuffer[] chunks = new ByteBuffer[numberOfChunks(numberOfVertices, rowsPerChunk)];
+        for (int c = 0; c < chunks.length; c++) {
+            int rowsInChunk = Math.min(rowsPerChunk, numberOfVertices - c * rowsPerChunk);
+            chunks[c] = ByteBuffer.allocateDirect(rowsInChunk * numberOfVertices * Integer.BYTES).order(ByteOrder.nativeOrder());
+        }
+        OffHeapAdjacencyMatrix matrix = new OffHeapAdjacencyMatrix(numberOfVertices, isDirected, chunks);
+        matrix.clear();
+        return matrix;
+    }
+
+    /**
+     * Creates a file at the given {@code path} holding a matrix for {@code numberOfVertices} vertices without any edges and
+     * maps it into memory. An existing file is overwritten. Changes to the matrix are written to the file by the operating
+     * system (at the latest when calling {@link #flush()}).
+     *
+     * @param path             path of the file to create
+     * @param numberOfVertices number of vertices of the graph
+     * @param isDirected       whether the graph is directed
+     * @return matrix without any edges, backed by the file
+     * @throws IOException if an I/O error occurs while creating or mapping the file
+     */
+    public static @NotNull OffHeapAdjacencyMatrix createMapped(@NotNull Path path, int numberOfVertices, boolean isDirected) throws IOException {
+        verifyNumberOfVertices(numberOfVertices);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(FILE_BYTE_ORDER);
+            header.putInt(POS_MAGIC_NUMBER, MAGIC_NUMBER);
+            header.putInt(POS_VERSION, VERSION);
+            header.putInt(POS_FLAGS, isDirected ? FLAG_DIRECTED : 0);
+            header.putInt(POS_NUMBER_OF_VERTICES, numberOfVertices);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            OffHeapAdjacencyMatrix matrix = new OffHeapAdjacencyMatrix(numberOfVertices, isDirected, mapRows(channel, numberOfVertices));
+            matrix.clear();
+            return matrix;
+        }
+    }
+
+    /**
+     * Maps the matrix stored in the file at the given {@code path} (created by {@link #createMapped(Path, int, boolean)})
+     * into memory. Changes to the matrix are written to the file.
+     *
+     * @param path path of the file
+     * @return matrix backed by the file
+     * @throws IOException if an I/O error occurs while opening or mapping the file
+     */
+    public static @NotNull OffHeapAdjacencyMatrix openMapped(@NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IllegalArgumentException(String.format(INVALID_FILE_EXCEPTION_MSG_TF, path, "file is smaller than the header"));
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(FILE_BYTE_ORDER);
+            if (header.getInt(POS_MAGIC_NUMBER) != MAGIC_NUMBER || header.getInt(POS_VERSION) != VERSION) {
+                throw new IllegalArgumentException(String.format(INVALID_FILE_EXCEPTION_MSG_TF, path, "unknown magic number or version"));
+            }
+            int numberOfVertices = header.getInt(POS_NUMBER_OF_VERTICES);
+            if (numberOfVertices <= 0 || channel.size() != HEADER_SIZE + (long) numberOfVertices * numberOfVertices * Integer.BYTES) {
+                throw new IllegalArgumentException(String.format(INVALID_FILE_EXCEPTION_MSG_TF, path, "size does not match the number of vertices"));
+            }
+            boolean isDirected = (header.getInt(POS_FLAGS) & FLAG_DIRECTED) != 0;
+            return new OffHeapAdjacencyMatrix(numberOfVertices, isDirected, mapRows(channel, numberOfVertices));
+        }
+    }
+
+    private static @NotNull ByteBuffer @NotNull [] mapRows(@NotNull FileChannel channel, int numberOfVertices) throws IOException {
+        int rowsPerChunk = rowsPerChunk(numberOfVertices);
+        long bytesPerRow = (long) numberOfVertices * Integer.BYTES;
+        ByteBuffer[] chunks = new ByteBuffer[numberOfChunks(numberOfVertices, rowsPerChunk)];
+        for (int c = 0; c < chunks.length; c++) {
+            int rowsInChunk = Math.min(rowsPerChunk, numberOfVertices - c * rowsPerChunk);
+            long startOfChunk = HEADER_SIZE + (long) c * rowsPerChunk * bytesPerRow;
+            chunks[c] = channel.map(FileChannel.MapMode.READ_WRITE, startOfChunk, rowsInChunk * bytesPerRow).order(FILE_BYTE_ORDER);
+        }
+        return chunks;
+    }
+
+    private static void verifyNumberOfVertices(int numberOfVertices) {
+        if (numberOfVertices <= 0) {
+            throw new IllegalArgumentException(String.format(NUMBER_OF_NODES_TOO_LOW_EXCEPTION_MSG_TF, numberOfVertices));
+        }
+        if ((long) numberOfVertices * Integer.BYTES > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException(String.format(ROW_TOO_LARGE_EXCEPTION_MSG_TF, numberOfVertices, MAX_CHUNK_SIZE));
+        }
+    }
+
+    private static int rowsPerChunk(int numberOfVertices) {
+        return (int) Math.min(numberOfVertices, MAX_CHUNK_SIZE / ((long) numberOfVertices * Integer.BYTES));
+    }
+
+    private static int numberOfChunks(int numberOfVertices, int rowsPerChunk) {
+        return (numberOfVertices + rowsPerChunk - 1) / rowsPerChunk;
+    }
+
+    @Override
+    public void addEdge(int v, int w, int weight) {
+        if (v == w) {
+            throw new IllegalArgumentException(String.format(EDGE_WITH_SAME_ENDPOINTS_EXCEPTION_MSG_TF, v));
+        }
+        if (weight == MARKER_NON_EXISTING_EDGE) {
+            throw new IllegalArgumentException(String.format(EDGE_WEIGHT_NOT_ALLOWED_EXCEPTION_MSG_TF, weight));
+        }
+        this.setCell(v, w, weight);
+    }
+
+    @Override
+    public void removeEdge(int v, int w) {
+        this.setCell(v, w, MARKER_NON_EXISTING_EDGE);
+    }
+
+    private void setCell(int v, int w, int value) {
+        this.verifyVertexIdx(v);
+        this.verifyVertexIdx(w);
+        this.chunkOfRow(v).putInt(this.positionInChunk(v, w), value);
+        if (!this.isDirected) {
+            this.chunkOfRow(w).putInt(this.positionInChunk(w, v), value);
+        }
+    }
+
+    @Override
+    public int getEdgeWeight(int v, int w) {
+        this.verifyVertexIdx(v);
+        this.verifyVertexIdx(w);
+        return this.chunkOfRow(v).getInt(this.positionInChunk(v, w));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * The returned row is a copy on the heap. Use {@link #getAdjacencyInformationView(int)} to access the row without
+     * copying it.
+     */
+    @Override
+    public int @NotNull [] getAdjacencyInformation(int v) {
+        int[] row = new int[this.numberOfVertices];
+        this.getAdjacencyInformationView(v).get(row);
+        return row;
+    }
+
+    /**
+     * Returns a read-only view on the row of the vertex (with index) {@code v}, i.e. on the weights of the edges between
+     * {@code v} and all vertices of the graph. The view reads the off-heap memory directly (without copying the row) and
+     * reflects subsequent changes of the matrix.
+     *
+     * @param v index of the vertex
+     * @return read-only view on the row of {@code v}
+     */
+    @Override
+    public @NotNull IntBuffer getAdjacencyInformationView(int v) {
+        this.verifyVertexIdx(v);
+        int startOfRow = this.positionInChunk(v, 0);
+        return this.chunkOfRow(v).slice(startOfRow, this.numberOfVertices * Integer.BYTES)
+                .order(this.chunkOfRow(v).order())
+                .asIntBuffer()
+                .asReadOnlyBuffer();
+    }
+
+    /**
+     * Removes all edges from the matrix. Time complexity: O(n²).
+     */
+    public void clear() {
+        // fill the chunks row by row with bulk puts
+        int[] emptyRow = new int[this.numberOfVertices];
+        Arrays.fill(emptyRow, MARKER_NON_EXISTING_EDGE);
+        for (ByteBuffer chunk : this.chunks) {
+            IntBuffer cells = chunk.duplicate().order(chunk.order()).asIntBuffer();
+            while (cells.hasRemaining()) {
+                cells.put(emptyRow);
+            }
+        }
+    }
+
+    /**
+     * Writes all changes of a matrix backed by a file to the file. Does nothing for a matrix stored in direct buffers.
+     */
+    public void flush() {
+        for (ByteBuffer chunk : this.chunks) {
+            if (chunk instanceof MappedByteBuffer mappedChunk) {
+                mappedChunk.force();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the graph represented by the matrix is directed, or not.
+     *
+     * @return {@code true} if the graph is directed, {@code false} if it is undirected
+     */
+    public boolean isDirected() {
+        return this.isDirected;
+    }
+
+    @Override
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+    private @NotNull ByteBuffer chunkOfRow(int v) {
+        return this.chunks[v / this.rowsPerChunk];
+    }
+
+    private int positionInChunk(int v, int w) {
+        return ((v % this.rowsPerChunk) * this.numberOfVertices + w) * Integer.BYTES;
+    }
+
+    private void verifyVertexIdx(int v) {
+        if (v < 0 || v >= this.numberOfVertices) {
+            throw new IllegalArgumentException(String.format(VERTEX_IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF, v, this.numberOfVertices - 1));
+        }
+    }
+}
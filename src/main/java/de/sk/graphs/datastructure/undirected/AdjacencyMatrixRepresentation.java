@@ -0,0 +1,22 @@
+package de.sk.graphs.datastructure.undirected;
+
+/**
+ * Available adjacency matrix representations of undirected graphs.
+ */
+public enum AdjacencyMatrixRepresentation {
+
+    /**
+     * Full n x n matrix of edge weights ({@link UnAdjacencyMatrix}).
+     */
+    FULL,
+
+    /**
+     * Lower triangle of the matrix of edge weights, stored in one flat array ({@link UnTriangularAdjacencyMatrix}).
+     */
+    TRIANGULAR,
+
+    /**
+     * Bit set storing only the existence of edges, for unweighted graphs ({@link UnBitSetAdjacencyMatrix}).
+     */
+    BIT_SET
+}
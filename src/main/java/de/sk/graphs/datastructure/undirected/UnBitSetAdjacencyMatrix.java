@@ -0,0 +1,156 @@
+package de.sk.graphs.datastructure.undirected;
+
+import de.sk.graphs.datastructure.AdjacencyMatrix;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link AdjacencyMatrix} for unweighted undirected graphs, storing the matrix as bit set: the existence
+ * of the edge {v,w} is represented by a single bit, the rows are stored consecutively in one {@code long[]} (each row being
+ * padded to a full 64-bit word). Compared to {@link UnAdjacencyMatrix}, the memory footprint is reduced by the factor 32 and
+ * checking the existence of an edge is a single word operation.
+ * <br><br>
+ * Since the matrix does not store weights, all edges have the weight {@link #UNWEIGHTED_EDGE_WEIGHT}.
+ */
+public class UnBitSetAdjacencyMatrix implements AdjacencyMatrix {
+
+    static final String ONLY_UNWEIGHTED_EDGES_SUPPORTED_EXCEPTION_MSG_TF = "Only edges with weight %d are supported. Given: %d.";
+    static final String TOO_MANY_NODES_EXCEPTION_MSG_TF = "The matrix for %d nodes would exceed the max number of %d words.";
+
+    /**
+     * Weight of every edge contained in the matrix.
+     */
+    public static final int UNWEIGHTED_EDGE_WEIGHT = 1;
+
+    private static final int LOG2_BITS_PER_WORD = 6;
+
+    private final int numberOfNodes;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    /**
+     * Constructor.
+     *
+     * @param numberOfNodes number of nodes the graph represented as adjacency matrix has
+     */
+    public UnBitSetAdjacencyMatrix(int numberOfNodes) {
+        if (numberOfNodes <= 0) {
+            throw new IllegalArgumentException(String.format(UnAdjacencyMatrix.NUMBER_OF_NODES_TOO_LOW_EXCEPTION_MSG_TF, numberOfNodes));
+        }
+        this.numberOfNodes = numberOfNodes;
+        this.wordsPerRow = (numberOfNodes + Long.SIZE - 1) >>> LOG2_BITS_PER_WORD;
+        long numberOfWords = (long) numberOfNodes * this.wordsPerRow;
+        if (numberOfWords > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(String.format(TOO_MANY_NODES_EXCEPTION_MSG_TF, numberOfNodes, Integer.MAX_VALUE - 8));
+        }
+        this.words = new long[(int) numberOfWords];
+    }
+
+    /**
+     * Adds an (unweighted) edge between the vertices (with indices) {@code v} and {@code w}.
+     *
+     * @param v index of the first endpoint/vertex of the edge to add
+     * @param w index of the second endpoint/vertex of the edge to add
+     */
+    public void addEdge(int v, int w) {
+        this.addEdge(v, w, UNWEIGHTED_EDGE_WEIGHT);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * Throws an {@link IllegalArgumentException} if {@code weight} is not {@link #UNWEIGHTED_EDGE_WEIGHT}.
+     */
+    @Override
+    public void addEdge(int v, int w, int weight) {
+        if (v == w) {
+            throw new IllegalArgumentException(String.format(UnAdjacencyMatrix.EDGE_WITH_SAME_ENDPOINTS_EXCEPTION_MSG_TF, v));
+        }
+        if (weight != UNWEIGHTED_EDGE_WEIGHT) {
+            throw new IllegalArgumentException(String.format(ONLY_UNWEIGHTED_EDGES_SUPPORTED_EXCEPTION_MSG_TF, UNWEIGHTED_EDGE_WEIGHT, weight));
+        }
+        this.verifyVertexIndex(v);
+        this.verifyVertexIndex(w);
+        // undirected edge is symmetric
+        this.words[this.wordIdx(v, w)] |= 1L << w;
+        this.words[this.wordIdx(w, v)] |= 1L << v;
+    }
+
+    @Override
+    public void removeEdge(int v, int w) {
+        this.verifyVertexIndex(v);
+        this.verifyVertexIndex(w);
+        this.words[this.wordIdx(v, w)] &= ~(1L << w);
+        this.words[this.wordIdx(w, v)] &= ~(1L << v);
+    }
+
+    @Override
+    public boolean hasEdge(int v, int w) {
+        this.verifyVertexIndex(v);
+        this.verifyVertexIndex(w);
+        // the shift distance of a long is taken modulo 64, i.e. 'w' selects the bit within its word
+        return (this.words[this.wordIdx(v, w)] & (1L << w)) != 0;
+    }
+
+    @Override
+    public int getEdgeWeight(int v, int w) {
+        return this.hasEdge(v, w) ? UNWEIGHTED_EDGE_WEIGHT : MARKER_NON_EXISTING_EDGE;
+    }
+
+    /**
+     * Returns the degree of the vertex (with index) {@code v}, determined by counting the set bits of its row.
+     * Time complexity: O(n/64).
+     *
+     * @param v index of the vertex
+     * @return degree of {@code v}
+     */
+    public int getDegree(int v) {
+        this.verifyVertexIndex(v);
+        int degree = 0;
+        int rowStart = v * this.wordsPerRow;
+        for (int i = rowStart; i < rowStart + this.wordsPerRow; i++) {
+            degree += Long.bitCount(this.words[i]);
+        }
+        return degree;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * The returned row is assembled from the bits of the row, i.e. changes to it are not reflected in the adjacency matrix.
+     * Time complexity: O(n).
+     */
+    @Override
+    public int @NotNull [] getAdjacencyInformation(int v) {
+        this.verifyVertexIndex(v);
+        int[] row = new int[this.numberOfNodes];
+        Arrays.fill(row, MARKER_NON_EXISTING_EDGE);
+        int rowStart = v * this.wordsPerRow;
+        for (int i = 0; i < this.wordsPerRow; i++) {
+            long word = this.words[rowStart + i];
+            // iterate over the set bits of the word only
+            while (word != 0) {
+                int w = (i << LOG2_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+                row[w] = UNWEIGHTED_EDGE_WEIGHT;
+                word &= word - 1;
+            }
+        }
+        return row;
+    }
+
+    private int wordIdx(int v, int w) {
+        return v * this.wordsPerRow + (w >>> LOG2_BITS_PER_WORD);
+    }
+
+    private void verifyVertexIndex(int vertexIdx) {
+        if (vertexIdx < 0 || vertexIdx >= this.numberOfNodes) {
+            throw new IllegalArgumentException(String.format(UnAdjacencyMatrix.EDGE_IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF, vertexIdx, this.numberOfNodes - 1));
+        }
+    }
+
+    @Override
+    public int getNumberOfVertices() {
+        return this.numberOfNodes;
+    }
+}
@@ -0,0 +1,108 @@
+package de.sk.graphs.datastructure.undirected;
+
+import de.sk.graphs.datastructure.AdjacencyMatrix;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link AdjacencyMatrix} for undirected graphs which only stores the lower triangle of the (symmetric)
+ * matrix, i.e. roughly half the cells of {@link UnAdjacencyMatrix}. The cells are stored row by row in one flat array: the
+ * edge {v,w} with v &gt; w is located at index v(v-1)/2 + w. The diagonal is not stored, since edges must have different
+ * endpoints.
+ * <br><br>
+ * As the rows are not stored as such, {@link #getAdjacencyInformation(int)} assembles a new array for the requested row.
+ * The number of stored cells must not exceed the max length of an array, i.e. the graph can have up to 65536 vertices.
+ */
+public class UnTriangularAdjacencyMatrix implements AdjacencyMatrix {
+
+    static final String TOO_MANY_NODES_EXCEPTION_MSG_TF = "The number of nodes must not be greater than %d. Given: %d.";
+
+    private static final int MAX_NUMBER_OF_NODES = 65536;
+
+    private final int numberOfNodes;
+    private final int[] cells;
+
+    /**
+     * Constructor.
+     *
+     * @param numberOfNodes number of nodes the graph represented as adjacency matrix has
+     */
+    public UnTriangularAdjacencyMatrix(int numberOfNodes) {
+        if (numberOfNodes <= 0) {
+            throw new IllegalArgumentException(String.format(UnAdjacencyMatrix.NUMBER_OF_NODES_TOO_LOW_EXCEPTION_MSG_TF, numberOfNodes));
+        }
+        if (numberOfNodes > MAX_NUMBER_OF_NODES) {
+            throw new IllegalArgumentException(String.format(TOO_MANY_NODES_EXCEPTION_MSG_TF, MAX_NUMBER_OF_NODES, numberOfNodes));
+        }
+        this.numberOfNodes = numberOfNodes;
+        this.cells = new int[(int) ((long) numberOfNodes * (numberOfNodes - 1) / 2)];
+        Arrays.fill(this.cells, MARKER_NON_EXISTING_EDGE);
+    }
+
+    @Override
+    public void addEdge(int v, int w, int weight) {
+        if (v == w) {
+            throw new IllegalArgumentException(String.format(UnAdjacencyMatrix.EDGE_WITH_SAME_ENDPOINTS_EXCEPTION_MSG_TF, v));
+        }
+        if (weight == MARKER_NON_EXISTING_EDGE) {
+            throw new IllegalArgumentException(String.format(UnAdjacencyMatrix.EDGE_WEIGHT_NOT_ALLOWED_EXCEPTION_MSG_TF, weight));
+        }
+        this.verifyVertexIndex(v);
+        this.verifyVertexIndex(w);
+        // undirected edge is symmetric -> only one cell needs to be written
+        this.cells[cellIdx(v, w)] = weight;
+    }
+
+    @Override
+    public void removeEdge(int v, int w) {
+        this.verifyVertexIndex(v);
+        this.verifyVertexIndex(w);
+        if (v != w) {
+            this.cells[cellIdx(v, w)] = MARKER_NON_EXISTING_EDGE;
+        }
+    }
+
+    @Override
+    public int getEdgeWeight(int v, int w) {
+        this.verifyVertexIndex(v);
+        this.verifyVertexIndex(w);
+        return v != w ? this.cells[cellIdx(v, w)] : MARKER_NON_EXISTING_EDGE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * The returned row is a copy, i.e. changes to it are not reflected in the adjacency matrix. Time complexity: O(n).
+     */
+    @Override
+    public int @NotNull [] getAdjacencyInformation(int v) {
+        this.verifyVertexIndex(v);
+        int[] row = new int[this.numberOfNodes];
+        // the cells (v,w) with w < v are stored consecutively in the row of v ...
+        System.arraycopy(this.cells, cellIdx(v, 0), row, 0, v);
+        row[v] = MARKER_NON_EXISTING_EDGE;
+        // ... the cells (w,v) with w > v are located in the column of v in the rows of the w's
+        for (int w = v + 1; w < this.numberOfNodes; w++) {
+            row[w] = this.cells[cellIdx(w, v)];
+        }
+        return row;
+    }
+
+    private static int cellIdx(int v, int w) {
+        int larger = Math.max(v, w);
+        int smaller = Math.min(v, w);
+        return (int) ((long) larger * (larger - 1) / 2) + smaller;
+    }
+
+    private void verifyVertexIndex(int vertexIdx) {
+        if (vertexIdx < 0 || vertexIdx >= this.numberOfNodes) {
+            throw new IllegalArgumentException(String.format(UnAdjacencyMatrix.EDGE_IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF, vertexIdx, this.numberOfNodes - 1));
+        }
+    }
+
+    @Override
+    public int getNumberOfVertices() {
+        return this.numberOfNodes;
+    }
+}
@@ -4,13 +4,25 @@ import com.google.inject.AbstractModule;
 import com.google.inject.name.Names;
 import de.sk.graphs.GraphConstants;
 import de.sk.graphs.algorithm.bfs.AugmentedBfs;
+import de.sk.graphs.algorithm.bfs.DirectionOptimizingBfs;
 import de.sk.graphs.algorithm.bfs.GraphBfs;
 import de.sk.graphs.algorithm.bfs.GraphBfsImpl;
+import de.sk.graphs.algorithm.bfs.ParallelBfs;
 import de.sk.graphs.algorithm.dfs.UnGraphDfs;
 import de.sk.graphs.algorithm.dfs.UnIterativeGraphDfs;
 import de.sk.graphs.algorithm.dfs.UnRecursiveGraphDfs;
+import de.sk.graphs.algorithm.dijkstra.DeltaSteppingDijkstra;
+import de.sk.graphs.algorithm.dijkstra.DialsDijkstra;
+import de.sk.graphs.algorithm.dijkstra.Dijkstra;
+import de.sk.graphs.algorithm.dijkstra.HeapBasedDijkstra;
+import de.sk.graphs.algorithm.dijkstra.RadixHeapDijkstra;
+import de.sk.graphs.algorithm.dijkstra.StraightForwardDijkstra;
 import de.sk.graphs.algorithm.dijkstra.edgeselection.EdgeSelector;
 import de.sk.graphs.algorithm.dijkstra.edgeselection.SimpleEdgeSelector;
+import de.sk.graphs.algorithm.scc.ParallelFwBwScc;
+import de.sk.graphs.algorithm.scc.PearceScc;
+import de.sk.graphs.algorithm.scc.SccAlg;
+import de.sk.graphs.algorithm.topsort.KahnTopSort;
 
 public class GraphsInjectionModule extends AbstractModule {
 
@@ -19,13 +31,29 @@ public class GraphsInjectionModule extends AbstractModule {
         // BFS bindings
         bind(GraphBfs.class).annotatedWith(Names.named(GraphConstants.IN_GRAPH_BFS_SIMPLE)).to(GraphBfsImpl.class);
         bind(GraphBfs.class).annotatedWith(Names.named(GraphConstants.IN_AUGMENTED_BFS)).to(AugmentedBfs.class);
+        bind(GraphBfs.class).annotatedWith(Names.named(GraphConstants.IN_DIRECTION_OPTIMIZING_BFS)).to(DirectionOptimizingBfs.class);
+        bind(GraphBfs.class).annotatedWith(Names.named(GraphConstants.IN_PARALLEL_BFS)).to(ParallelBfs.class);
 
         // DFS bindings
         bind(UnGraphDfs.class).annotatedWith(Names.named(GraphConstants.IN_ITERATIVE_DFS)).to(UnIterativeGraphDfs.class);
         bind(UnGraphDfs.class).annotatedWith(Names.named(GraphConstants.IN_RECURSIVE_DFS)).to(UnRecursiveGraphDfs.class);
 
+        // SCC bindings
+        bind(SccAlg.class).to(PearceScc.class);
+        bind(SccAlg.class).annotatedWith(Names.named(GraphConstants.IN_PEARCE_SCC)).to(PearceScc.class);
+        bind(SccAlg.class).annotatedWith(Names.named(GraphConstants.IN_PARALLEL_FW_BW_SCC)).to(ParallelFwBwScc.class);
+
+        // topological sort bindings
+        bind(KahnTopSort.class).annotatedWith(Names.named(GraphConstants.IN_KAHN_TOP_SORT)).to(KahnTopSort.class);
+
         // Dijkstra
         bind(EdgeSelector.class).to(SimpleEdgeSelector.class);
         bind(EdgeSelector.class).annotatedWith(Names.named(GraphConstants.IN_SIMPLE_EDGE_SELECTOR)).to(SimpleEdgeSelector.class);
+        bind(Dijkstra.class).to(HeapBasedDijkstra.class);
+        bind(Dijkstra.class).annotatedWith(Names.named(GraphConstants.IN_STRAIGHT_FORWARD_DIJKSTRA)).to(StraightForwardDijkstra.class);
+        bind(Dijkstra.class).annotatedWith(Names.named(GraphConstants.IN_HEAP_BASED_DIJKSTRA)).to(HeapBasedDijkstra.class);
+        bind(Dijkstra.class).annotatedWith(Names.named(GraphConstants.IN_DIALS_DIJKSTRA)).to(DialsDijkstra.class);
+        bind(Dijkstra.class).annotatedWith(Names.named(GraphConstants.IN_RADIX_HEAP_DIJKSTRA)).to(RadixHeapDijkstra.class);
+        bind(Dijkstra.class).annotatedWith(Names.named(GraphConstants.IN_DELTA_STEPPING_DIJKSTRA)).to(DeltaSteppingDijkstra.class);
     }
 }
@@ -0,0 +1,61 @@
+package de.sk.graphs.io;
+
+import java.nio.ByteOrder;
+
+/**
+ * Class holding the constants defining the binary file format for graphs in compressed sparse row representation
+ * ({@link de.sk.graphs.datastructure.CsrGraph}).
+ * <br><br>
+ * All values are stored in little-endian byte order. A file consists of a header of {@link #HEADER_SIZE} bytes followed by
+ * the sections, each section starting at a position aligned to {@link #SECTION_ALIGNMENT} bytes:
+ * <ul>
+ *     <li>header: magic number (int), version (int), flags (int), number of vertices n (int), number of adjacency entries
+ *     (long), positions of the offsets, targets, weights and names sections (4 longs, position of the names section is 0
+ *     if the graph has no vertex names), reserved (long)</li>
+ *     <li>offsets section: n+1 ints</li>
+ *     <li>targets section: one int per adjacency entry</li>
+ *     <li>weights section: one int per adjacency entry</li>
+ *     <li>optional names section: n+1 longs (start of the UTF-8 encoded name of each vertex relative to the end of these
+ *     longs, the last long being the total number of bytes of all names), followed by the UTF-8 encoded names</li>
+ * </ul>
+ */
+public final class CsrGraphFileFormat {
+
+    private CsrGraphFileFormat() {
+        // only constants
+    }
+
+    // 'CSRG' in ASCII
+    public static final int MAGIC_NUMBER = 0x47525343;
+    public static final int VERSION = 1;
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    // flags (bit masks)
+    public static final int FLAG_DIRECTED = 1;
+    public static final int FLAG_HAS_VERTEX_NAMES = 1 << 1;
+
+    // positions of the header fields (in bytes)
+    static final int POS_MAGIC_NUMBER = 0;
+    static final int POS_VERSION = 4;
+    static final int POS_FLAGS = 8;
+    static final int POS_NUMBER_OF_VERTICES = 12;
+    static final int POS_NUMBER_OF_ADJACENCY_ENTRIES = 16;
+    static final int POS_OFFSETS_SECTION = 24;
+    static final int POS_TARGETS_SECTION = 32;
+    static final int POS_WEIGHTS_SECTION = 40;
+    static final int POS_NAMES_SECTION = 48;
+
+    public static final int HEADER_SIZE = 64;
+    public static final int SECTION_ALIGNMENT = Long.BYTES;
+
+    /**
+     * Returns the smallest position greater than or equal to the given {@code position} which is aligned to
+     * {@link #SECTION_ALIGNMENT} bytes.
+     *
+     * @param position position to align
+     * @return aligned position
+     */
+    static long align(long position) {
+        return (position + SECTION_ALIGNMENT - 1) & -SECTION_ALIGNMENT;
+    }
+}
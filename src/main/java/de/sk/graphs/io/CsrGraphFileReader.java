@@ -0,0 +1,96 @@
+package de.sk.graphs.io;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Utility class loading graphs in compressed sparse row representation from files of the binary format defined by
+ * {@link CsrGraphFileFormat} (as written by {@link CsrGraphFileWriter}).
+ * <br><br>
+ * The sections of the file are mapped into memory ({@link FileChannel#map}) instead of being read onto the heap. Thus,
+ * loading a graph only takes the time to read and validate the header, independent of the graph's size. Malformed files
+ * are reported by an {@link IOException}, like all other errors while reading them.
+ */
+public final class CsrGraphFileReader {
+
+    static final String FILE_TOO_SMALL_EXCEPTION_MSG_TF = "The file %s is too small to be a CSR graph file (size: %d bytes).";
+    static final String INVALID_MAGIC_NUMBER_EXCEPTION_MSG_TF = "The file %s is not a CSR graph file (magic number: %x).";
+    static final String UNSUPPORTED_VERSION_EXCEPTION_MSG_TF = "The version %d of the CSR graph file %s is not supported (supported version: %d).";
+    static final String INVALID_HEADER_EXCEPTION_MSG_TF = "The header of the CSR graph file %s is invalid: %s";
+
+    private CsrGraphFileReader() {
+        // only utility methods
+    }
+
+    /**
+     * Loads the graph stored in the file at the given {@code path}. The file is mapped read-only into memory, the returned
+     * graph reads its adjacency information directly from the mapped pages. The mapping remains valid until the returned
+     * graph is garbage collected. The file must not be modified while the graph is in use.
+     *
+     * @param path path of the CSR graph file
+     * @return graph backed by the mapped file
+     * @throws IOException if an I/O error occurs while opening or mapping the file, or if the file is not a valid CSR graph
+     *                     file (e.g. because it is corrupted or truncated)
+     */
+    public static @NotNull MappedCsrGraph read(@NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < CsrGraphFileFormat.HEADER_SIZE) {
+                throw new IOException(String.format(FILE_TOO_SMALL_EXCEPTION_MSG_TF, path, fileSize));
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, CsrGraphFileFormat.HEADER_SIZE).order(CsrGraphFileFormat.BYTE_ORDER);
+            int magicNumber = header.getInt(CsrGraphFileFormat.POS_MAGIC_NUMBER);
+            if (magicNumber != CsrGraphFileFormat.MAGIC_NUMBER) {
+                throw new IOException(String.format(INVALID_MAGIC_NUMBER_EXCEPTION_MSG_TF, path, magicNumber));
+            }
+            int version = header.getInt(CsrGraphFileFormat.POS_VERSION);
+            if (version != CsrGraphFileFormat.VERSION) {
+                throw new IOException(String.format(UNSUPPORTED_VERSION_EXCEPTION_MSG_TF, version, path, CsrGraphFileFormat.VERSION));
+            }
+            int flags = header.getInt(CsrGraphFileFormat.POS_FLAGS);
+            int n = header.getInt(CsrGraphFileFormat.POS_NUMBER_OF_VERTICES);
+            long numberOfEntries = header.getLong(CsrGraphFileFormat.POS_NUMBER_OF_ADJACENCY_ENTRIES);
+            long offsetsSection = header.getLong(CsrGraphFileFormat.POS_OFFSETS_SECTION);
+            long targetsSection = header.getLong(CsrGraphFileFormat.POS_TARGETS_SECTION);
+            long weightsSection = header.getLong(CsrGraphFileFormat.POS_WEIGHTS_SECTION);
+            long namesSection = header.getLong(CsrGraphFileFormat.POS_NAMES_SECTION);
+            boolean hasVertexNames = (flags & CsrGraphFileFormat.FLAG_HAS_VERTEX_NAMES) != 0;
+            verifyHeader(path, fileSize, n, numberOfEntries, offsetsSection, targetsSection, weightsSection, namesSection, hasVertexNames);
+
+            MappedSection offsets = MappedSection.map(channel, offsetsSection, ((long) n + 1) * Integer.BYTES);
+            MappedSection targets = MappedSection.map(channel, targetsSection, numberOfEntries * Integer.BYTES);
+            MappedSection weights = MappedSection.map(channel, weightsSection, numberOfEntries * Integer.BYTES);
+            MappedSection names = hasVertexNames ? MappedSection.map(channel, namesSection, fileSize - namesSection) : null;
+            if (offsets.getInt(0) != 0 || offsets.getInt(n) != numberOfEntries) {
+                throw new IOException(String.format(INVALID_HEADER_EXCEPTION_MSG_TF, path,
+                        "the offsets do not match the number of adjacency entries"));
+            }
+            boolean isDirected = (flags & CsrGraphFileFormat.FLAG_DIRECTED) != 0;
+            return new MappedCsrGraph(isDirected, n, (int) numberOfEntries, offsets, targets, weights, names);
+        }
+    }
+
+    private static void verifyHeader(@NotNull Path path, long fileSize, int n, long numberOfEntries, long offsetsSection,
+                                     long targetsSection, long weightsSection, long namesSection, boolean hasVertexNames) throws IOException {
+        String violation = null;
+        if (n < 0 || numberOfEntries < 0 || numberOfEntries > Integer.MAX_VALUE) {
+            violation = "invalid number of vertices or adjacency entries";
+        } else if (offsetsSection < CsrGraphFileFormat.HEADER_SIZE || targetsSection < offsetsSection + ((long) n + 1) * Integer.BYTES
+                || weightsSection < targetsSection + numberOfEntries * Integer.BYTES) {
+            violation = "overlapping sections";
+        } else if (weightsSection + numberOfEntries * Integer.BYTES > fileSize) {
+            violation = "sections exceed the size of the file";
+        } else if (hasVertexNames && (namesSection < weightsSection + numberOfEntries * Integer.BYTES
+                || namesSection + ((long) n + 1) * Long.BYTES > fileSize)) {
+            violation = "invalid names section";
+        }
+        if (violation != null) {
+            throw new IOException(String.format(INVALID_HEADER_EXCEPTION_MSG_TF, path, violation));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package de.sk.graphs.io;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Utility class writing graphs in compressed sparse row representation ({@link CsrGraph}) into files of the binary format
+ * defined by {@link CsrGraphFileFormat}. The written files can be loaded with {@link CsrGraphFileReader}.
+ */
+public final class CsrGraphFileWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private CsrGraphFileWriter() {
+        // only utility methods
+    }
+
+    /**
+     * Writes the given {@code graph} into the file at the given {@code path}. An existing file is overwritten. The vertex
+     * names are only written if the graph holds explicit vertex names (see {@link CsrGraph#hasVertexNames()}).
+     *
+     * @param graph graph to be written
+     * @param path  path of the file to write the graph into
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    public static void write(@NotNull CsrGraph graph, @NotNull Path path) throws IOException {
+        int n = graph.getNumberOfVertices();
+        long numberOfEntries = graph.getNumberOfAdjacencyEntries();
+        long offsetsSection = CsrGraphFileFormat.HEADER_SIZE;
+        long targetsSection = CsrGraphFileFormat.align(offsetsSection + (long) (n + 1) * Integer.BYTES);
+        long weightsSection = CsrGraphFileFormat.align(targetsSection + numberOfEntries * Integer.BYTES);
+        long namesSection = graph.hasVertexNames() ? CsrGraphFileFormat.align(weightsSection + numberOfEntries * Integer.BYTES) : 0;
+        int flags = (graph.isDirected() ? CsrGraphFileFormat.FLAG_DIRECTED : 0) | (graph.hasVertexNames() ? CsrGraphFileFormat.FLAG_HAS_VERTEX_NAMES : 0);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(CsrGraphFileFormat.BYTE_ORDER);
+            // header
+            buffer.putInt(CsrGraphFileFormat.MAGIC_NUMBER)
+                    .putInt(CsrGraphFileFormat.VERSION)
+                    .putInt(flags)
+                    .putInt(n)
+                    .putLong(numberOfEntries)
+                    .putLong(offsetsSection)
+                    .putLong(targetsSection)
+                    .putLong(weightsSection)
+                    .putLong(namesSection)
+                    .putLong(0L);
+            // offsets, targets and weights sections
+            for (int v = 0; v <= n; v++) {
+                putInt(channel, buffer, graph.getOffset(v));
+            }
+            padToAlignment(channel, buffer);
+            for (int i = 0; i < numberOfEntries; i++) {
+                putInt(channel, buffer, graph.getTarget(i));
+            }
+            padToAlignment(channel, buffer);
+            for (int i = 0; i < numberOfEntries; i++) {
+                putInt(channel, buffer, graph.getWeight(i));
+            }
+            // optional names section
+            if (graph.hasVertexNames()) {
+                padToAlignment(channel, buffer);
+                writeNames(graph, channel, buffer);
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    private static void writeNames(@NotNull CsrGraph graph, @NotNull FileChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+        int n = graph.getNumberOfVertices();
+        // 1st pass: start of each name relative to the end of the name offsets
+        long startOfName = 0;
+        for (int v = 0; v < n; v++) {
+            putLong(channel, buffer, startOfName);
+            startOfName += graph.getVertexName(v).getBytes(StandardCharsets.UTF_8).length;
+        }
+        putLong(channel, buffer, startOfName);
+        // 2nd pass: the encoded names themselves
+        for (int v = 0; v < n; v++) {
+            byte[] encodedName = graph.getVertexName(v).getBytes(StandardCharsets.UTF_8);
+            int written = 0;
+            while (written < encodedName.length) {
+                if (!buffer.hasRemaining()) {
+                    flush(channel, buffer);
+                }
+                int length = Math.min(buffer.remaining(), encodedName.length - written);
+                buffer.put(encodedName, written, length);
+                written += length;
+            }
+        }
+    }
+
+    private static void putInt(@NotNull FileChannel channel, @NotNull ByteBuffer buffer, int value) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            flush(channel, buffer);
+        }
+        buffer.putInt(value);
+    }
+
+    private static void putLong(@NotNull FileChannel channel, @NotNull ByteBuffer buffer, long value) throws IOException {
+        if (buffer.remaining() < Long.BYTES) {
+            flush(channel, buffer);
+        }
+        buffer.putLong(value);
+    }
+
+    private static void padToAlignment(@NotNull FileChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+        long position = channel.position() + buffer.position();
+        long alignedPosition = CsrGraphFileFormat.align(position);
+        for (long i = position; i < alignedPosition; i++) {
+            if (!buffer.hasRemaining()) {
+                flush(channel, buffer);
+            }
+            buffer.put((byte) 0);
+        }
+    }
+
+    private static void flush(@NotNull FileChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,96 @@
+package de.sk.graphs.io;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.datastructure.CsrGraph;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only implementation of {@link CsrGraph} whose adjacency information is read directly from a file mapped into memory
+ * (see {@link CsrGraphFileReader}). No adjacency information is copied onto the heap, the pages of the file are loaded by
+ * the operating system on demand and can be shared by several processes mapping the same file.
+ */
+public final class MappedCsrGraph implements CsrGraph {
+
+    private final boolean isDirected;
+    private final int numberOfVertices;
+    private final int numberOfAdjacencyEntries;
+    private final MappedSection offsets;
+    private final MappedSection targets;
+    private final MappedSection weights;
+    private final MappedSection names;
+
+    MappedCsrGraph(boolean isDirected, int numberOfVertices, int numberOfAdjacencyEntries, @NotNull MappedSection offsets,
+                   @NotNull MappedSection targets, @NotNull MappedSection weights, @Nullable MappedSection names) {
+        this.isDirected = isDirected;
+        this.numberOfVertices = numberOfVertices;
+        this.numberOfAdjacencyEntries = numberOfAdjacencyEntries;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.names = names;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return this.isDirected;
+    }
+
+    @Override
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+    @Override
+    public int getNumberOfEdges() {
+        return this.isDirected ? this.numberOfAdjacencyEntries : this.numberOfAdjacencyEntries / 2;
+    }
+
+    @Override
+    public int getNumberOfAdjacencyEntries() {
+        return this.numberOfAdjacencyEntries;
+    }
+
+    @Override
+    public int getOffset(int v) {
+        return this.offsets.getInt(v);
+    }
+
+    @Override
+    public int getTarget(int entryIdx) {
+        return this.targets.getInt(entryIdx);
+    }
+
+    @Override
+    public int getWeight(int entryIdx) {
+        return this.weights.getInt(entryIdx);
+    }
+
+    @Override
+    public @NotNull String getVertexName(int v) {
+        if (v < 0 || v >= this.numberOfVertices) {
+            throw new IllegalArgumentException(String.format(VERTEX_IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF, v, this.numberOfVertices - 1));
+        }
+        if (this.names == null) {
+            return String.format(GraphConstants.INDEX_BASED_VERTEX_NAME_TF, v);
+        }
+        // the names section starts with n+1 longs holding the starts of the names, followed by the encoded names
+        long startOfEncodedNames = (long) (this.numberOfVertices + 1) * Long.BYTES;
+        long startOfName = this.names.getLong(v);
+        int lengthOfName = (int) (this.names.getLong(v + 1) - startOfName);
+        return new String(this.names.getBytes(startOfEncodedNames + startOfName, lengthOfName), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean hasVertexNames() {
+        return this.names != null;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "MappedCsrGraph(isDirected=" + this.isDirected + ", numberOfVertices=" + this.numberOfVertices +
+                ", numberOfEdges=" + this.getNumberOfEdges() + ")";
+    }
+}
@@ -0,0 +1,90 @@
+package de.sk.graphs.io;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Read-only view on a section of a file which is mapped into memory. As a single {@link MappedByteBuffer} cannot exceed
+ * 2 GB, the section is mapped in chunks of {@code 2^CHUNK_SHIFT} bytes. As the chunk size is a multiple of 8, ints and
+ * longs located at aligned positions never straddle two chunks.
+ */
+final class MappedSection {
+
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final ByteBuffer[] chunks;
+
+    private MappedSection(@NotNull ByteBuffer @NotNull [] chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * Maps the section [{@code position};{@code position}+{@code size}) of the file opened by the given {@code channel}
+     * read-only into memory.
+     *
+     * @param channel  channel of the file
+     * @param position start of the section in the file (in bytes)
+     * @param size     size of the section (in bytes)
+     * @return view on the mapped section
+     * @throws IOException if the section cannot be mapped
+     */
+    static @NotNull MappedSection map(@NotNull FileChannel channel, long position, long size) throws IOException {
+        int numberOfChunks = (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+        ByteBuffer[] chunks = new ByteBuffer[numberOfChunks];
+        for (int c = 0; c < numberOfChunks; c++) {
+            long startOfChunk = (long) c << CHUNK_SHIFT;
+            long sizeOfChunk = Math.min(CHUNK_SIZE, size - startOfChunk);
+            chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, position + startOfChunk, sizeOfChunk).order(CsrGraphFileFormat.BYTE_ORDER);
+        }
+        return new MappedSection(chunks);
+    }
+
+    /**
+     * Returns the {@code idx}-th int of the section.
+     *
+     * @param idx index of the int
+     * @return int value
+     */
+    int getInt(long idx) {
+        long position = idx * Integer.BYTES;
+        return this.chunks[(int) (position >>> CHUNK_SHIFT)].getInt((int) (position & CHUNK_MASK));
+    }
+
+    /**
+     * Returns the {@code idx}-th long of the section.
+     *
+     * @param idx index of the long
+     * @return long value
+     */
+    long getLong(long idx) {
+        long position = idx * Long.BYTES;
+        return this.chunks[(int) (position >>> CHUNK_SHIFT)].getLong((int) (position & CHUNK_MASK));
+    }
+
+    /**
+     * Copies {@code length} bytes, starting at the given byte {@code position} of the section, into a new array.
+     *
+     * @param position position of the first byte
+     * @param length   number of bytes to copy
+     * @return copied bytes
+     */
+    byte @NotNull [] getBytes(long position, int length) {
+        byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            long currentPosition = position + copied;
+            ByteBuffer chunk = this.chunks[(int) (currentPosition >>> CHUNK_SHIFT)];
+            int positionInChunk = (int) (currentPosition & CHUNK_MASK);
+            int lengthInChunk = Math.min(length - copied, chunk.capacity() - positionInChunk);
+            chunk.get(positionInChunk, bytes, copied, lengthInChunk);
+            copied += lengthInChunk;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,265 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.csr.ArrayCsrGraph;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utility class supplying various utility methods for graphs in compressed sparse row representation ({@link CsrGraph}).
+ */
+public final class CsrGraphUtils {
+
+    static final String MISMATCHING_EDGE_ARRAY_LENGTHS_EXCEPTION_MSG_TF = "The arrays of tails (%d), heads (%d), and weights (%d) " +
+            "must have the same length.";
+    static final String ENDPOINT_OUT_OF_BOUNDS_EXCEPTION_MSG_TF = "Endpoint '%d' of edge %d is out of bounds, it must be between [0;%d].";
+    static final String NEGATIVE_NUMBER_OF_VERTICES_EXCEPTION_MSG_TF = "The number of vertices must not be negative. Given: %d.";
+    static final String ENTRY_WITH_TOO_SMALL_WEIGHT_EXCEPTION_MSG_TF = "Edge (%d,%d) has a weight smaller than %d.";
+    static final String GRAPH_NOT_UNDIRECTED_EXCEPTION_MSG = "The given graph must be undirected.";
+    static final String GRAPH_NOT_DIRECTED_EXCEPTION_MSG = "The given graph must be directed.";
+    static final String MISMATCHING_PERMUTATION_LENGTH_EXCEPTION_MSG_TF = "The permutation (%d vertices) does not match the graph (%d vertices).";
+
+    private static final int DEFAULT_WEIGHT = 1;
+
+    private CsrGraphUtils() {
+        // only utility methods
+    }
+
+    /**
+     * Creates a {@link CsrGraph} with {@code numberOfVertices} vertices from the given edge arrays. The i-th edge leads from
+     * {@code tails[i]} to {@code heads[i]} and has the weight {@code weights[i]}. If {@code weights} is {@code null}, all
+     * edges get a weight of 1. For an undirected graph, each edge is stored as two adjacency entries.
+     * <br><br>
+     * The graph is created in two passes over the edge arrays (counting the degrees, then filling the adjacency entries).
+     * Within the adjacency entries of a vertex, the order of the given edges is preserved. Time complexity: O(m+n).
+     *
+     * @param numberOfVertices number of vertices of the graph
+     * @param tails            tail (respectively first endpoint) of each edge
+     * @param heads            head (respectively second endpoint) of each edge
+     * @param weights          weight of each edge, {@code null} for weights of 1
+     * @param isDirected       whether the created graph is to be directed, or not
+     * @return graph in compressed sparse row representation
+     */
+    public static @NotNull CsrGraph createFromEdgeArrays(int numberOfVertices, int @NotNull [] tails, int @NotNull [] heads,
+                                                         int @Nullable [] weights, boolean isDirected) {
+        return createFromEdgeArrays(numberOfVertices, tails, heads, weights, tails.length, isDirected);
+    }
+
+    /**
+     * Creates a {@link CsrGraph} with {@code numberOfVertices} vertices from the first {@code numberOfEdges} edges of the
+     * given edge arrays. See {@link CsrGraphUtils#createFromEdgeArrays(int, int[], int[], int[], boolean)}. Allows to pass
+     * edge arrays which have been over-allocated during their creation.
+     *
+     * @param numberOfVertices number of vertices of the graph
+     * @param tails            tail (respectively first endpoint) of each edge
+     * @param heads            head (respectively second endpoint) of each edge
+     * @param weights          weight of each edge, {@code null} for weights of 1
+     * @param numberOfEdges    number of edges (from the beginning of the arrays) to take into account
+     * @param isDirected       whether the created graph is to be directed, or not
+     * @return graph in compressed sparse row representation
+     */
+    public static @NotNull CsrGraph createFromEdgeArrays(int numberOfVertices, int @NotNull [] tails, int @NotNull [] heads,
+                                                         int @Nullable [] weights, int numberOfEdges, boolean isDirected) {
+        return createFromEdgeArrays(numberOfVertices, tails, heads, weights, numberOfEdges, isDirected, null);
+    }
+
+    /**
+     * Creates a {@link CsrGraph} with {@code numberOfVertices} vertices from the first {@code numberOfEdges} edges of the
+     * given edge arrays, whose vertices carry the given {@code vertexNames}. See
+     * {@link CsrGraphUtils#createFromEdgeArrays(int, int[], int[], int[], int, boolean)}.
+     *
+     * @param numberOfVertices number of vertices of the graph
+     * @param tails            tail (respectively first endpoint) of each edge
+     * @param heads            head (respectively second endpoint) of each edge
+     * @param weights          weight of each edge, {@code null} for weights of 1
+     * @param numberOfEdges    number of edges (from the beginning of the arrays) to take into account
+     * @param isDirected       whether the created graph is to be directed, or not
+     * @param vertexNames      names of the vertices (indexed by the vertices' indices), {@code null} if the names are to be
+     *                         derived from the indices
+     * @return graph in compressed sparse row representation
+     */
+    public static @NotNull CsrGraph createFromEdgeArrays(int numberOfVertices, int @NotNull [] tails, int @NotNull [] heads,
+                                                         int @Nullable [] weights, int numberOfEdges, boolean isDirected,
+                                                         @NotNull String @Nullable [] vertexNames) {
+        if (numberOfVertices < 0) {
+            throw new IllegalArgumentException(String.format(NEGATIVE_NUMBER_OF_VERTICES_EXCEPTION_MSG_TF, numberOfVertices));
+        }
+        int numberOfWeights = weights != null ? weights.length : numberOfEdges;
+        if (tails.length < numberOfEdges || heads.length < numberOfEdges || numberOfWeights < numberOfEdges) {
+            throw new IllegalArgumentException(String.format(MISMATCHING_EDGE_ARRAY_LENGTHS_EXCEPTION_MSG_TF, tails.length, heads.length, numberOfWeights));
+        }
+        // 1st pass: count the number of adjacency entries per vertex
+        int[] offsets = new int[numberOfVertices + 1];
+        for (int i = 0; i < numberOfEdges; i++) {
+            verifyEndpoint(tails[i], i, numberOfVertices);
+            verifyEndpoint(heads[i], i, numberOfVertices);
+            offsets[tails[i] + 1]++;
+            if (!isDirected) {
+                offsets[heads[i] + 1]++;
+            }
+        }
+        for (int v = 0; v < numberOfVertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        // 2nd pass: fill the adjacency entries
+        int numberOfEntries = offsets[numberOfVertices];
+        int[] targets = new int[numberOfEntries];
+        int[] entryWeights = new int[numberOfEntries];
+        int[] nextFreeEntry = new int[numberOfVertices];
+        System.arraycopy(offsets, 0, nextFreeEntry, 0, numberOfVertices);
+        for (int i = 0; i < numberOfEdges; i++) {
+            int weight = weights != null ? weights[i] : DEFAULT_WEIGHT;
+            int entryOfTail = nextFreeEntry[tails[i]]++;
+            targets[entryOfTail] = heads[i];
+            entryWeights[entryOfTail] = weight;
+            if (!isDirected) {
+                int entryOfHead = nextFreeEntry[heads[i]]++;
+                targets[entryOfHead] = tails[i];
+                entryWeights[entryOfHead] = weight;
+            }
+        }
+        return new ArrayCsrGraph(offsets, targets, entryWeights, isDirected, vertexNames);
+    }
+
+    private static void verifyEndpoint(int endpoint, int edgeIdx, int numberOfVertices) {
+        if (endpoint < 0 || endpoint >= numberOfVertices) {
+            throw new IllegalArgumentException(String.format(ENDPOINT_OUT_OF_BOUNDS_EXCEPTION_MSG_TF, endpoint, edgeIdx, numberOfVertices - 1));
+        }
+    }
+
+    /**
+     * Returns the transpose of the given graph, i.e. the graph with all edges reversed. For an undirected graph, the
+     * graph itself is returned. Time complexity: O(m+n).
+     *
+     * @param graph graph to be transposed
+     * @return transposed graph
+     */
+    public static @NotNull CsrGraph transpose(@NotNull CsrGraph graph) {
+        if (!graph.isDirected()) {
+            return graph;
+        }
+        int n = graph.getNumberOfVertices();
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < graph.getNumberOfAdjacencyEntries(); i++) {
+            offsets[graph.getTarget(i) + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] targets = new int[graph.getNumberOfAdjacencyEntries()];
+        int[] weights = new int[graph.getNumberOfAdjacencyEntries()];
+        int[] nextFreeEntry = new int[n];
+        System.arraycopy(offsets, 0, nextFreeEntry, 0, n);
+        for (int v = 0; v < n; v++) {
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                int entry = nextFreeEntry[graph.getTarget(i)]++;
+                targets[entry] = v;
+                weights[entry] = graph.getWeight(i);
+            }
+        }
+        return new ArrayCsrGraph(offsets, targets, weights, true, graph.hasVertexNames() ? extractVertexNames(graph) : null);
+    }
+
+    /**
+     * Returns a copy of the given graph whose vertices are renumbered according to the given {@code permutation}, i.e. vertex
+     * {@code v} of the given graph becomes vertex {@code permutation.newIndices()[v]} of the returned graph. The names of
+     * the vertices are taken over. Within the adjacency entries of a vertex, the order is preserved. Time complexity: O(m+n).
+     *
+     * @param graph       graph to be renumbered
+     * @param permutation permutation of the vertices (e.g. determined by {@link GraphReordering})
+     * @return renumbered graph
+     */
+    public static @NotNull CsrGraph permute(@NotNull CsrGraph graph, @NotNull GraphReordering.VertexPermutation permutation) {
+        int n = graph.getNumberOfVertices();
+        if (permutation.newIndices().length != n) {
+            throw new IllegalArgumentException(String.format(MISMATCHING_PERMUTATION_LENGTH_EXCEPTION_MSG_TF, permutation.newIndices().length, n));
+        }
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[graph.getNumberOfAdjacencyEntries()];
+        int[] weights = new int[graph.getNumberOfAdjacencyEntries()];
+        for (int newV = 0; newV < n; newV++) {
+            int oldV = permutation.oldIndices()[newV];
+            int entry = offsets[newV];
+            for (int i = graph.getOffset(oldV); i < graph.getOffset(oldV + 1); i++) {
+                targets[entry] = permutation.newIndices()[graph.getTarget(i)];
+                weights[entry] = graph.getWeight(i);
+                entry++;
+            }
+            offsets[newV + 1] = entry;
+        }
+        String[] vertexNames = null;
+        if (graph.hasVertexNames()) {
+            vertexNames = new String[n];
+            for (int v = 0; v < n; v++) {
+                vertexNames[permutation.newIndices()[v]] = graph.getVertexName(v);
+            }
+        }
+        return new ArrayCsrGraph(offsets, targets, weights, graph.isDirected(), vertexNames);
+    }
+
+    /**
+     * Returns the names of all vertices of the given graph as array (indexed by the vertices' indices).
+     *
+     * @param graph graph whose vertex names are to be returned
+     * @return names of the graph's vertices
+     */
+    public static @NotNull String @NotNull [] extractVertexNames(@NotNull CsrGraph graph) {
+        String[] names = new String[graph.getNumberOfVertices()];
+        for (int v = 0; v < names.length; v++) {
+            names[v] = graph.getVertexName(v);
+        }
+        return names;
+    }
+
+    /**
+     * Checks whether the index {@code v} denotes a vertex of the given {@code graph}. Throws an {@link IllegalArgumentException}
+     * if this is not the case.
+     *
+     * @param graph graph which should contain the vertex
+     * @param v     index of the vertex
+     */
+    public static void verifyVertexIdx(@NotNull CsrGraph graph, int v) {
+        if (v < 0 || v >= graph.getNumberOfVertices()) {
+            throw new IllegalArgumentException(String.format(CsrGraph.VERTEX_IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF, v, graph.getNumberOfVertices() - 1));
+        }
+    }
+
+    /**
+     * Checks that the given {@code graph} is undirected. Throws an {@link IllegalArgumentException} if this is not the case.
+     *
+     * @param graph graph which should be undirected
+     */
+    public static void verifyIsUndirected(@NotNull CsrGraph graph) {
+        if (graph.isDirected()) {
+            throw new IllegalArgumentException(GRAPH_NOT_UNDIRECTED_EXCEPTION_MSG);
+        }
+    }
+
+    /**
+     * Checks that the given {@code graph} is directed. Throws an {@link IllegalArgumentException} if this is not the case.
+     *
+     * @param graph graph which should be directed
+     */
+    public static void verifyIsDirected(@NotNull CsrGraph graph) {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException(GRAPH_NOT_DIRECTED_EXCEPTION_MSG);
+        }
+    }
+
+    /**
+     * Checks whether all the adjacency entries of the given graph have a weight of at least {@code minWeight}.
+     * Throws an {@link IllegalArgumentException} if any entry has a smaller weight.
+     *
+     * @param graph     graph for which the edge weights are checked
+     * @param minWeight min weight each edge must have
+     */
+    public static void assertAllEdgesHaveWeightGreaterThan(@NotNull CsrGraph graph, int minWeight) {
+        for (int v = 0; v < graph.getNumberOfVertices(); v++) {
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                if (graph.getWeight(i) < minWeight) {
+                    throw new IllegalArgumentException(String.format(ENTRY_WITH_TOO_SMALL_WEIGHT_EXCEPTION_MSG_TF, v, graph.getTarget(i), minWeight));
+                }
+            }
+        }
+    }
+}
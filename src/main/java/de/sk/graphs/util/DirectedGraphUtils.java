@@ -1,9 +1,15 @@
 package de.sk.graphs.util;
 
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.directed.DiAdjacencyList;
 import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Utility class supplying various utility methods for directed graphs.
  */
@@ -30,4 +36,45 @@ public final class DirectedGraphUtils {
             }
         }
     }
+
+    /**
+     * Converts the given {@code adjacencyList} into a corresponding compressed sparse row representation ({@link CsrGraph}).
+     * The indices of the vertices in the CSR graph are derived from the indices of the vertices in the vertices' list of
+     * {@code adjacencyList}, the names of the vertices are taken over. Time complexity: O(m+n).
+     *
+     * @param adjacencyList adjacency list to be converted into a corresponding CSR representation
+     * @return CSR representation of {@code adjacencyList}
+     */
+    public static @NotNull CsrGraph convertToCsrGraph(@NotNull DiAdjacencyList adjacencyList) {
+        List<DiVertex> vertices = adjacencyList.vertices();
+        List<DiEdge> edges = adjacencyList.edges();
+        Map<DiVertex, Integer> indexLookupForVertices = DirectedGraphUtils.createIndexLookupForVertices(adjacencyList);
+        int[] tails = new int[edges.size()];
+        int[] heads = new int[edges.size()];
+        int[] weights = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            DiEdge edge = edges.get(i);
+            tails[i] = indexLookupForVertices.get(edge.tail());
+            heads[i] = indexLookupForVertices.get(edge.head());
+            weights[i] = edge.getWeight();
+        }
+        String[] vertexNames = vertices.stream().map(DiVertex::getName).toArray(String[]::new);
+        return CsrGraphUtils.createFromEdgeArrays(vertices.size(), tails, heads, weights, edges.size(), true, vertexNames);
+    }
+
+    /**
+     * Creates a lookup table for the indices of the {@code adjacencyList}'s vertices, i.e. to the returned map, a vertex
+     * can be passed as key and the returned value is the index of the vertex in the vertices' list of {@code adjacencyList}.
+     *
+     * @param adjacencyList adjacency list for which a lookup table for the indices of the vertices is to be created
+     * @return lookup table as a map with the vertices as keys and their indices as corresponding values
+     */
+    public static @NotNull Map<DiVertex, Integer> createIndexLookupForVertices(@NotNull DiAdjacencyList adjacencyList) {
+        List<DiVertex> vertices = adjacencyList.vertices();
+        Map<DiVertex, Integer> indexLookupForVertices = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            indexLookupForVertices.put(vertices.get(i), i);
+        }
+        return indexLookupForVertices;
+    }
 }
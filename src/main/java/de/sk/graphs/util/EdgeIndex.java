@@ -0,0 +1,121 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.Edge;
+import de.sk.graphs.datastructure.Vertex;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnEdge;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.util.LongIntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index for looking up the edge connecting two vertices of a graph in expected O(1) time (instead of scanning the incident
+ * edges of one of the vertices in O(deg)). The index is built once from an adjacency list in O(m+n) and reflects the graph
+ * at the time of its creation, i.e. later changes of the graph are not taken into account.
+ * <br><br>
+ * The vertices are identified by their indices in the vertices' list of the adjacency list. The pair of indices of the
+ * endpoints of an edge is packed into a {@code long} key of a {@link LongIntOpenHashMap}, which maps the key to the position
+ * of the edge in the edges' list. For undirected graphs, each edge is registered under both orders of its endpoints. If
+ * there are parallel edges, the first of them in the edges' list is returned.
+ *
+ * @param <V> type of the graph's vertices
+ * @param <E> type of the graph's edges
+ */
+public final class EdgeIndex<V extends Vertex, E extends Edge> {
+
+    static final String VERTEX_NOT_IN_INDEX_EXCEPTION_MSG_TF = "Vertex %s is not part of the graph the edge index has been created for.";
+
+    private static final int NO_EDGE = -1;
+
+    private final Map<V, Integer> indexLookupForVertices;
+    private final List<E> edges;
+    private final LongIntOpenHashMap edgePositions;
+
+    private EdgeIndex(@NotNull Map<V, Integer> indexLookupForVertices, @NotNull List<E> edges) {
+        this.indexLookupForVertices = indexLookupForVertices;
+        this.edges = new ArrayList<>(edges);
+        this.edgePositions = new LongIntOpenHashMap(2 * edges.size(), NO_EDGE);
+    }
+
+    /**
+     * Creates an edge index for the undirected graph represented by the given {@code adjacencyList}. Time complexity: O(m+n).
+     *
+     * @param adjacencyList undirected graph for which the edge index is to be created
+     * @return edge index for the graph
+     */
+    public static @NotNull EdgeIndex<UnVertex, UnEdge> of(@NotNull UnAdjacencyList adjacencyList) {
+        EdgeIndex<UnVertex, UnEdge> edgeIndex = new EdgeIndex<>(UndirectedGraphUtils.createIndexLookupForVertices(adjacencyList), adjacencyList.edges());
+        for (int i = 0; i < edgeIndex.edges.size(); i++) {
+            List<Integer> indicesOfEndpoints = edgeIndex.edges.get(i).getVertices().stream().map(edgeIndex.indexLookupForVertices::get).toList();
+            int idxOfV = indicesOfEndpoints.get(0);
+            // for a self-loop, the set of vertices only contains one vertex
+            int idxOfW = indicesOfEndpoints.size() > 1 ? indicesOfEndpoints.get(1) : idxOfV;
+            edgeIndex.edgePositions.putIfAbsent(pack(idxOfV, idxOfW), i);
+            edgeIndex.edgePositions.putIfAbsent(pack(idxOfW, idxOfV), i);
+        }
+        return edgeIndex;
+    }
+
+    /**
+     * Creates an edge index for the directed graph represented by the given {@code adjacencyList}. Time complexity: O(m+n).
+     *
+     * @param adjacencyList directed graph for which the edge index is to be created
+     * @return edge index for the graph
+     */
+    public static @NotNull EdgeIndex<DiVertex, DiEdge> of(@NotNull DiAdjacencyList adjacencyList) {
+        EdgeIndex<DiVertex, DiEdge> edgeIndex = new EdgeIndex<>(DirectedGraphUtils.createIndexLookupForVertices(adjacencyList), adjacencyList.edges());
+        for (int i = 0; i < edgeIndex.edges.size(); i++) {
+            DiEdge edge = edgeIndex.edges.get(i);
+            int idxOfTail = edgeIndex.indexLookupForVertices.get(edge.tail());
+            int idxOfHead = edgeIndex.indexLookupForVertices.get(edge.head());
+            edgeIndex.edgePositions.putIfAbsent(pack(idxOfTail, idxOfHead), i);
+        }
+        return edgeIndex;
+    }
+
+    private static long pack(int idxOfV, int idxOfW) {
+        return ((long) idxOfV << 32) | (idxOfW & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the edge connecting the vertices with the indices {@code idxOfV} and {@code idxOfW} (for directed graphs: the
+     * edge with tail {@code idxOfV} and head {@code idxOfW}). Returns {@code null} if there is no such edge.
+     *
+     * @param idxOfV index of the first endpoint (respectively tail) of the edge
+     * @param idxOfW index of the second endpoint (respectively head) of the edge
+     * @return edge connecting the two vertices, {@code null} if there is no such edge
+     */
+    public @Nullable E getEdge(int idxOfV, int idxOfW) {
+        int position = this.edgePositions.get(pack(idxOfV, idxOfW));
+        return position != NO_EDGE ? this.edges.get(position) : null;
+    }
+
+    /**
+     * Returns the edge connecting the vertices {@code v} and {@code w} (for directed graphs: the edge with tail {@code v}
+     * and head {@code w}). Returns {@code null} if there is no such edge. Throws an {@link IllegalArgumentException} if
+     * one of the vertices is not part of the indexed graph.
+     *
+     * @param v first endpoint (respectively tail) of the edge
+     * @param w second endpoint (respectively head) of the edge
+     * @return edge connecting {@code v} and {@code w}, {@code null} if there is no such edge
+     */
+    public @Nullable E getEdge(@NotNull V v, @NotNull V w) {
+        return this.getEdge(this.indexOf(v), this.indexOf(w));
+    }
+
+    private int indexOf(@NotNull V vertex) {
+        Integer idx = this.indexLookupForVertices.get(vertex);
+        if (idx == null) {
+            throw new IllegalArgumentException(String.format(VERTEX_NOT_IN_INDEX_EXCEPTION_MSG_TF, vertex.getName()));
+        }
+        return idx;
+    }
+}
@@ -0,0 +1,413 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.csr.ArrayCsrGraph;
+import de.sk.util.AdditionalArrayUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Utility class loading graphs from text edge lists into the compressed sparse row representation ({@link CsrGraph}).
+ * <br><br>
+ * Each line of an edge list holds one edge as "{@code u v w}" or "{@code u v}" (fields separated by spaces, tabs or
+ * commas), u and v being the non-negative indices of the edge's endpoints and w its (optional) weight. Edges without a
+ * weight get a weight of 1. Empty lines are skipped, comments start with '#' or '%' and last until the end of the line.
+ * The number of vertices of the loaded graph is the largest vertex index + 1. Gzip-compressed edge lists are detected by
+ * their magic number and decompressed on the fly.
+ * <br><br>
+ * The lines are parsed by a hand-written parser directly from the bytes read from a {@link ReadableByteChannel}, without
+ * creating any objects per line. Malformed lines are reported by an {@link IOException} stating the line number.
+ */
+public final class EdgeListLoader {
+
+    static final String UNEXPECTED_CHARACTER_EXCEPTION_MSG_TF = "Unexpected character '%c' in line %d of the edge list.";
+    static final String INVALID_NUMBER_OF_FIELDS_EXCEPTION_MSG_TF = "Line %d of the edge list has %d fields, but must have 2 or 3 fields (u v [w]).";
+    static final String NUMBER_OUT_OF_RANGE_EXCEPTION_MSG_TF = "A number in line %d of the edge list is out of range.";
+    static final String NEGATIVE_VERTEX_IDX_EXCEPTION_MSG_TF = "Line %d of the edge list has a negative vertex index.";
+    static final String FILE_CHANGED_BETWEEN_PASSES_EXCEPTION_MSG_TF = "The edge list %s has changed between the two passes over it.";
+    static final String TOO_MANY_ADJACENCY_ENTRIES_EXCEPTION_MSG_TF = "The edge list requires more than %d adjacency entries, which exceeds " +
+            "the max array length.";
+
+    // max number of adjacency entries, i.e. max length of the arrays of the created graph
+    static final int MAX_NUMBER_OF_ENTRIES = Integer.MAX_VALUE - 8;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final int GZIP_MAGIC_NUMBER_LENGTH = 2;
+    private static final int DEFAULT_WEIGHT = 1;
+    private static final int MAX_NUMBER_OF_FIELDS = 3;
+
+    private EdgeListLoader() {
+        // only utility methods
+    }
+
+    /**
+     * Loads the graph from the edge list file at the given {@code path} in two passes over the file: the first pass counts
+     * the degrees of the vertices, the second pass fills the adjacency entries. Thereby, besides the created graph itself,
+     * no memory proportional to the number of edges is required.
+     *
+     * @param path       path of the (possibly gzip-compressed) edge list file
+     * @param isDirected whether the loaded graph is to be directed, or not
+     * @return loaded graph and the statistics of the loading
+     * @throws IOException if an I/O error occurs while reading the file, if a line of the file is malformed, or if the file has
+     *                     changed between the two passes
+     */
+    public static @NotNull LoadingResult load(@NotNull Path path, boolean isDirected) throws IOException {
+        return load(() -> openChannel(path), path.toString(), isDirected, MAX_NUMBER_OF_ENTRIES);
+    }
+
+    /*
+     * Loads the graph in two passes over the channels opened by the given opener (one channel per pass). The number of
+     * adjacency entries of the graph must not exceed the given max number of entries.
+     */
+    static @NotNull LoadingResult load(@NotNull ChannelOpener opener, @NotNull String source, boolean isDirected,
+                                       int maxNumberOfEntries) throws IOException {
+        long heapUsageAtStart = getHeapUsage();
+        long start = System.nanoTime();
+        // 1st pass: count the number of adjacency entries per vertex
+        DegreeCounter degreeCounter = new DegreeCounter(isDirected, maxNumberOfEntries);
+        try (ReadableByteChannel channel = opener.open()) {
+            parse(channel, degreeCounter);
+        }
+        int n = degreeCounter.numberOfVertices;
+        int[] offsets = new int[n + 1];
+        System.arraycopy(degreeCounter.degrees, 0, offsets, 1, n);
+        // cannot overflow, as the total number of adjacency entries has been verified in the 1st pass
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        // 2nd pass: fill the adjacency entries
+        EntryFiller entryFiller = new EntryFiller(offsets, isDirected);
+        long numberOfLines;
+        try (ReadableByteChannel channel = opener.open()) {
+            numberOfLines = parse(channel, entryFiller);
+        }
+        if (entryFiller.hasSkippedEdges || entryFiller.numberOfEdges != degreeCounter.numberOfEdges) {
+            throw new IOException(String.format(FILE_CHANGED_BETWEEN_PASSES_EXCEPTION_MSG_TF, source));
+        }
+        CsrGraph graph = new ArrayCsrGraph(offsets, entryFiller.targets, entryFiller.weights, isDirected);
+        return new LoadingResult(graph, new LoadingStats(numberOfLines, entryFiller.numberOfEdges, System.nanoTime() - start,
+                getHeapUsage() - heapUsageAtStart));
+    }
+
+    /**
+     * Loads the graph from the edge list read from the given {@code channel} (which is not closed by this method). As the
+     * channel can only be read once, the edges are buffered in primitive arrays before the graph is created from them
+     * (see {@link CsrGraphUtils#createFromEdgeArrays(int, int[], int[], int[], int, boolean)}).
+     *
+     * @param channel    channel to read the (possibly gzip-compressed) edge list from
+     * @param isDirected whether the loaded graph is to be directed, or not
+     * @return loaded graph and the statistics of the loading
+     * @throws IOException if an I/O error occurs while reading from the channel, or if a line of the edge list is malformed
+     */
+    public static @NotNull LoadingResult load(@NotNull ReadableByteChannel channel, boolean isDirected) throws IOException {
+        long heapUsageAtStart = getHeapUsage();
+        long start = System.nanoTime();
+        EdgeBuffer edgeBuffer = new EdgeBuffer(isDirected);
+        long numberOfLines = parse(decompressIfRequired(channel), edgeBuffer);
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(edgeBuffer.maxVertexIdx + 1, edgeBuffer.tails, edgeBuffer.heads,
+                edgeBuffer.weights, edgeBuffer.numberOfEdges, isDirected);
+        return new LoadingResult(graph, new LoadingStats(numberOfLines, edgeBuffer.numberOfEdges, System.nanoTime() - start,
+                getHeapUsage() - heapUsageAtStart));
+    }
+
+    private static @NotNull ReadableByteChannel openChannel(@NotNull Path path) throws IOException {
+        return decompressIfRequired(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    private static @NotNull ReadableByteChannel decompressIfRequired(@NotNull ReadableByteChannel channel) throws IOException {
+        PushbackInputStream inputStream = new PushbackInputStream(Channels.newInputStream(channel), GZIP_MAGIC_NUMBER_LENGTH);
+        byte[] magicNumber = inputStream.readNBytes(GZIP_MAGIC_NUMBER_LENGTH);
+        inputStream.unread(magicNumber);
+        boolean isGzip = magicNumber.length == GZIP_MAGIC_NUMBER_LENGTH
+                && (magicNumber[0] & 0xFF) == (GZIPInputStream.GZIP_MAGIC & 0xFF)
+                && (magicNumber[1] & 0xFF) == (GZIPInputStream.GZIP_MAGIC >>> Byte.SIZE);
+        InputStream decompressedStream = isGzip ? new GZIPInputStream(inputStream, BUFFER_SIZE) : inputStream;
+        return Channels.newChannel(decompressedStream);
+    }
+
+    /*
+     * Parses all lines read from the channel and passes each edge to the consumer. Returns the number of lines read.
+     */
+    private static long parse(@NotNull ReadableByteChannel channel, @NotNull EdgeConsumer consumer) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        byte[] bytes = buffer.array();
+        long[] fields = new long[MAX_NUMBER_OF_FIELDS];
+        int numberOfFields = 0;
+        long lineNumber = 1;
+        boolean isInComment = false;
+        boolean isInNumber = false;
+        boolean isNegative = false;
+        long value = 0;
+        int read;
+        boolean hasReadAnything = false;
+        while ((read = channel.read(buffer)) != -1) {
+            hasReadAnything |= read > 0;
+            for (int i = 0; i < buffer.position(); i++) {
+                byte b = bytes[i];
+                if (isInComment) {
+                    if (b == '\n') {
+                        passEdge(fields, numberOfFields, lineNumber, consumer);
+                        numberOfFields = 0;
+                        isInComment = false;
+                        lineNumber++;
+                    }
+                } else if (b >= '0' && b <= '9') {
+                    value = value * 10 + (b - '0');
+                    if (value > Integer.MAX_VALUE + 1L) {
+                        throw new IOException(String.format(NUMBER_OUT_OF_RANGE_EXCEPTION_MSG_TF, lineNumber));
+                    }
+                    isInNumber = true;
+                } else if (b == '-' && !isInNumber && !isNegative) {
+                    isNegative = true;
+                } else if (b == ' ' || b == '\t' || b == '\r' || b == ',' || b == '\n') {
+                    if (isInNumber) {
+                        numberOfFields = addField(fields, numberOfFields, isNegative ? -value : value, lineNumber);
+                    } else if (isNegative) {
+                        throw new IOException(String.format(UNEXPECTED_CHARACTER_EXCEPTION_MSG_TF, '-', lineNumber));
+                    }
+                    isInNumber = false;
+                    isNegative = false;
+                    value = 0;
+                    if (b == '\n') {
+                        passEdge(fields, numberOfFields, lineNumber, consumer);
+                        numberOfFields = 0;
+                        lineNumber++;
+                    }
+                } else if ((b == '#' || b == '%') && (isInNumber || !isNegative)) {
+                    // comment until the end of the line (either a comment line or a comment following the fields of an edge)
+                    if (isInNumber) {
+                        numberOfFields = addField(fields, numberOfFields, isNegative ? -value : value, lineNumber);
+                    }
+                    isInNumber = false;
+                    isNegative = false;
+                    value = 0;
+                    isInComment = true;
+                } else {
+                    throw new IOException(String.format(UNEXPECTED_CHARACTER_EXCEPTION_MSG_TF, (char) b, lineNumber));
+                }
+            }
+            buffer.clear();
+        }
+        // the last line might not be terminated by a line break
+        if (isInNumber) {
+            numberOfFields = addField(fields, numberOfFields, isNegative ? -value : value, lineNumber);
+        }
+        passEdge(fields, numberOfFields, lineNumber, consumer);
+        boolean isLastLineEmpty = numberOfFields == 0 && !isInComment;
+        return hasReadAnything ? (isLastLineEmpty ? lineNumber - 1 : lineNumber) : 0;
+    }
+
+    private static int addField(long @NotNull [] fields, int numberOfFields, long value, long lineNumber) throws IOException {
+        if (numberOfFields == MAX_NUMBER_OF_FIELDS) {
+            throw new IOException(String.format(INVALID_NUMBER_OF_FIELDS_EXCEPTION_MSG_TF, lineNumber, numberOfFields + 1));
+        }
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException(String.format(NUMBER_OUT_OF_RANGE_EXCEPTION_MSG_TF, lineNumber));
+        }
+        fields[numberOfFields] = value;
+        return numberOfFields + 1;
+    }
+
+    private static void passEdge(long @NotNull [] fields, int numberOfFields, long lineNumber, @NotNull EdgeConsumer consumer)
+            throws IOException {
+        if (numberOfFields == 0) {
+            // empty line
+            return;
+        }
+        if (numberOfFields == 1) {
+            throw new IOException(String.format(INVALID_NUMBER_OF_FIELDS_EXCEPTION_MSG_TF, lineNumber, numberOfFields));
+        }
+        if (fields[0] < 0 || fields[1] < 0) {
+            throw new IOException(String.format(NEGATIVE_VERTEX_IDX_EXCEPTION_MSG_TF, lineNumber));
+        }
+        int weight = numberOfFields == MAX_NUMBER_OF_FIELDS ? (int) fields[2] : DEFAULT_WEIGHT;
+        consumer.accept((int) fields[0], (int) fields[1], weight);
+    }
+
+    private static long getHeapUsage() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /*
+     * Adds the adjacency entries of one edge to the given number of entries. Throws an IllegalArgumentException if the sum
+     * exceeds the given max number of entries.
+     */
+    private static long addEntriesOfEdge(long numberOfEntries, boolean isDirected, int maxNumberOfEntries) {
+        long newNumberOfEntries = numberOfEntries + (isDirected ? 1 : 2);
+        if (newNumberOfEntries > maxNumberOfEntries) {
+            throw new IllegalArgumentException(String.format(TOO_MANY_ADJACENCY_ENTRIES_EXCEPTION_MSG_TF, maxNumberOfEntries));
+        }
+        return newNumberOfEntries;
+    }
+
+    /**
+     * Result of loading a graph from an edge list.
+     *
+     * @param graph loaded graph
+     * @param stats statistics of the loading
+     */
+    public record LoadingResult(@NotNull CsrGraph graph, @NotNull LoadingStats stats) {
+    }
+
+    /**
+     * Statistics of loading a graph from an edge list.
+     * <br><br>
+     * The heap usage delta is the difference between the used heap at the end and at the beginning of the loading, i.e.
+     * roughly the memory retained by the loaded graph. It is only an estimate: it also comprises the memory allocated by
+     * other threads in the same JVM, and it can even be negative if a garbage collection has run in the meantime. No
+     * JVM-global state (such as the peak usages of the memory pools) is modified for determining it.
+     *
+     * @param numberOfLines  number of lines read (including empty and comment lines)
+     * @param numberOfEdges  number of edges loaded
+     * @param durationNanos  duration of the loading in nanoseconds
+     * @param heapUsageDelta difference between the used heap at the end and at the beginning of the loading in bytes
+     */
+    public record LoadingStats(long numberOfLines, int numberOfEdges, long durationNanos, long heapUsageDelta) {
+
+        private static final double NANOS_PER_SECOND = 1e9;
+
+        /**
+         * Returns the number of lines read per second.
+         *
+         * @return lines per second
+         */
+        public double linesPerSecond() {
+            return this.durationNanos > 0 ? this.numberOfLines * NANOS_PER_SECOND / this.durationNanos : 0;
+        }
+    }
+
+    /*
+     * Opener of the channel to read an edge list from.
+     */
+    @FunctionalInterface
+    interface ChannelOpener {
+
+        @NotNull ReadableByteChannel open() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface EdgeConsumer {
+
+        void accept(int u, int v, int weight);
+    }
+
+    /**
+     * Consumer counting the number of adjacency entries of each vertex (1st pass when loading from a file).
+     */
+    private static final class DegreeCounter implements EdgeConsumer {
+
+        private final boolean isDirected;
+        private final int maxNumberOfEntries;
+        private int[] degrees = new int[INITIAL_CAPACITY];
+        private int numberOfVertices;
+        private int numberOfEdges;
+        private long numberOfEntries;
+
+        private DegreeCounter(boolean isDirected, int maxNumberOfEntries) {
+            this.isDirected = isDirected;
+            this.maxNumberOfEntries = maxNumberOfEntries;
+        }
+
+        @Override
+        public void accept(int u, int v, int weight) {
+            this.numberOfEntries = addEntriesOfEdge(this.numberOfEntries, this.isDirected, this.maxNumberOfEntries);
+            this.numberOfVertices = Math.max(this.numberOfVertices, Math.max(u, v) + 1);
+            this.degrees = AdditionalArrayUtils.ensureCapacity(this.degrees, this.numberOfVertices);
+            this.degrees[u]++;
+            if (!this.isDirected) {
+                this.degrees[v]++;
+            }
+            this.numberOfEdges++;
+        }
+    }
+
+    /**
+     * Consumer filling the adjacency entries (2nd pass when loading from a file).
+     */
+    private static final class EntryFiller implements EdgeConsumer {
+
+        private final boolean isDirected;
+        private final int[] offsets;
+        private final int[] nextFreeEntry;
+        private final int[] targets;
+        private final int[] weights;
+        private int numberOfEdges;
+        // whether an edge did not fit into the entries counted in the 1st pass (i.e. the file has changed since then)
+        private boolean hasSkippedEdges;
+
+        private EntryFiller(int @NotNull [] offsets, boolean isDirected) {
+            this.isDirected = isDirected;
+            this.offsets = offsets;
+            int n = offsets.length - 1;
+            this.nextFreeEntry = new int[n];
+            System.arraycopy(offsets, 0, this.nextFreeEntry, 0, n);
+            this.targets = new int[offsets[n]];
+            this.weights = new int[offsets[n]];
+        }
+
+        @Override
+        public void accept(int u, int v, int weight) {
+            if (!this.hasFreeEntries(u, !this.isDirected && u == v ? 2 : 1) || !this.isDirected && !this.hasFreeEntries(v, 1)) {
+                // the file has changed since the 1st pass -> reported after the 2nd pass
+                this.hasSkippedEdges = true;
+                return;
+            }
+            int entryOfU = this.nextFreeEntry[u]++;
+            this.targets[entryOfU] = v;
+            this.weights[entryOfU] = weight;
+            if (!this.isDirected) {
+                int entryOfV = this.nextFreeEntry[v]++;
+                this.targets[entryOfV] = u;
+                this.weights[entryOfV] = weight;
+            }
+            this.numberOfEdges++;
+        }
+
+        private boolean hasFreeEntries(int v, int numberOfEntries) {
+            return v < this.nextFreeEntry.length && this.nextFreeEntry[v] + numberOfEntries <= this.offsets[v + 1];
+        }
+    }
+
+    /**
+     * Consumer buffering the edges in growable primitive arrays (when loading from a channel).
+     */
+    private static final class EdgeBuffer implements EdgeConsumer {
+
+        private final boolean isDirected;
+        private int[] tails = new int[INITIAL_CAPACITY];
+        private int[] heads = new int[INITIAL_CAPACITY];
+        private int[] weights = new int[INITIAL_CAPACITY];
+        private int maxVertexIdx = -1;
+        private int numberOfEdges;
+        private long numberOfEntries;
+
+        private EdgeBuffer(boolean isDirected) {
+            this.isDirected = isDirected;
+        }
+
+        @Override
+        public void accept(int u, int v, int weight) {
+            this.numberOfEntries = addEntriesOfEdge(this.numberOfEntries, this.isDirected, MAX_NUMBER_OF_ENTRIES);
+            this.tails = AdditionalArrayUtils.ensureCapacity(this.tails, this.numberOfEdges + 1);
+            this.heads = AdditionalArrayUtils.ensureCapacity(this.heads, this.numberOfEdges + 1);
+            this.weights = AdditionalArrayUtils.ensureCapacity(this.weights, this.numberOfEdges + 1);
+            this.tails[this.numberOfEdges] = u;
+            this.heads[this.numberOfEdges] = v;
+            this.weights[this.numberOfEdges] = weight;
+            this.maxVertexIdx = Math.max(this.maxVertexIdx, Math.max(u, v));
+            this.numberOfEdges++;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Utility class supplying generators for large random graphs (e.g. for benchmarks and load tests), which are created in
+ * compressed sparse row representation ({@link CsrGraph}). The vertices of the created graphs do not hold explicit names,
+ * their names are derived from their indices on demand.
+ * <br><br>
+ * The work is split into chunks of a fixed size which are processed in parallel. Each chunk draws its random numbers from
+ * its own {@link SplittableRandom}, which is split off a root generator created from the given {@code seed} in the order of
+ * the chunks. Thus, the same seed always yields the same graph, independent of the number of threads.
+ * <br><br>
+ * The weights of the edges are drawn uniformly from [1;{@code maxWeight}] (respectively derived from the distance of the
+ * endpoints for random geometric graphs).
+ */
+public final class GraphGenerators {
+
+    static final String INVALID_NUMBER_OF_VERTICES_EXCEPTION_MSG_TF = "The number of vertices must be positive. Given: %d.";
+    static final String INVALID_NUMBER_OF_EDGES_EXCEPTION_MSG_TF = "The number of edges must be between [0;%d]. Given: %d.";
+    static final String INVALID_MAX_WEIGHT_EXCEPTION_MSG_TF = "The max weight must be positive. Given: %d.";
+    static final String INVALID_RMAT_PARAMETERS_EXCEPTION_MSG_TF = "Invalid R-MAT parameters: scale=%d, edgeFactor=%d, a=%f, b=%f, c=%f.";
+    static final String INVALID_RADIUS_EXCEPTION_MSG_TF = "The radius must be between (0;1]. Given: %f.";
+    static final String INVALID_GRID_DIMENSIONS_EXCEPTION_MSG_TF = "The grid must have at least 1 row and 1 column. Given: %d x %d.";
+
+    private static final int CHUNK_SIZE = 1 << 16;
+    // max number of edges such that the number of adjacency entries of an undirected graph does not exceed the max array length
+    private static final long MAX_NUMBER_OF_EDGES = (Integer.MAX_VALUE - 8) / 2;
+    private static final int MAX_RMAT_SCALE = 30;
+
+    private GraphGenerators() {
+        // only utility methods
+    }
+
+    /**
+     * Creates an Erdős–Rényi G(n,m) graph, i.e. a graph with {@code numberOfEdges} edges chosen uniformly at random from all
+     * possible edges between {@code numberOfVertices} vertices (without self-loops and parallel edges). The edges are
+     * sampled in parallel, duplicates are removed by sorting, and missing edges are sampled again. If more than half of all
+     * possible edges are requested, the edges which are left out are sampled instead, so that the time complexity is
+     * O(m log m) for sparse graphs and O(n²) for dense graphs.
+     *
+     * @param numberOfVertices number of vertices n
+     * @param numberOfEdges    number of edges m
+     * @param maxWeight        max weight of an edge
+     * @param isDirected       whether the created graph is to be directed, or not
+     * @param seed             seed of the random generators
+     * @return random G(n,m) graph
+     */
+    public static @NotNull CsrGraph createGnmGraph(int numberOfVertices, int numberOfEdges, int maxWeight, boolean isDirected, long seed) {
+        verifyNumberOfVertices(numberOfVertices);
+        verifyMaxWeight(maxWeight);
+        long maxPossibleNumberOfEdges = isDirected ? (long) numberOfVertices * (numberOfVertices - 1) : (long) numberOfVertices * (numberOfVertices - 1) / 2;
+        if (numberOfEdges < 0 || numberOfEdges > Math.min(maxPossibleNumberOfEdges, MAX_NUMBER_OF_EDGES)) {
+            throw new IllegalArgumentException(String.format(INVALID_NUMBER_OF_EDGES_EXCEPTION_MSG_TF,
+                    Math.min(maxPossibleNumberOfEdges, MAX_NUMBER_OF_EDGES), numberOfEdges));
+        }
+        SplittableRandom root = new SplittableRandom(seed);
+        long[] edges;
+        if (numberOfEdges <= maxPossibleNumberOfEdges / 2) {
+            edges = sampleDistinctEdges(numberOfVertices, numberOfEdges, isDirected, root);
+        } else {
+            int numberOfLeftOutEdges = (int) (maxPossibleNumberOfEdges - numberOfEdges);
+            long[] leftOutEdges = sampleDistinctEdges(numberOfVertices, numberOfLeftOutEdges, isDirected, root);
+            edges = enumerateEdgesExcept(numberOfVertices, numberOfEdges, isDirected, leftOutEdges);
+        }
+        return createFromPackedEdges(numberOfVertices, edges, edges.length, randomWeights(edges.length, maxWeight, root), isDirected);
+    }
+
+    private static long @NotNull [] sampleDistinctEdges(int n, int numberOfEdges, boolean isDirected, @NotNull SplittableRandom root) {
+        long[] edges = new long[numberOfEdges];
+        SplittableRandom[] randoms = splitPerChunk(numberOfEdges, root);
+        IntStream.range(0, randoms.length).parallel().forEach(c -> {
+            SplittableRandom random = randoms[c];
+            for (int i = c * CHUNK_SIZE; i < Math.min(numberOfEdges, (c + 1) * CHUNK_SIZE); i++) {
+                edges[i] = randomEdge(n, isDirected, random);
+            }
+        });
+        int numberOfDistinctEdges = sortAndRemoveDuplicates(edges, numberOfEdges);
+        // replace the duplicates by sampling again (sequentially, as there are only few duplicates for sparse graphs)
+        while (numberOfDistinctEdges < numberOfEdges) {
+            for (int i = numberOfDistinctEdges; i < numberOfEdges; i++) {
+                edges[i] = randomEdge(n, isDirected, root);
+            }
+            numberOfDistinctEdges = sortAndRemoveDuplicates(edges, numberOfEdges);
+        }
+        return edges;
+    }
+
+    private static long randomEdge(int n, boolean isDirected, @NotNull SplittableRandom random) {
+        int v = random.nextInt(n);
+        // draw w from the n-1 vertices other than v
+        int w = random.nextInt(n - 1);
+        if (w >= v) {
+            w++;
+        }
+        return isDirected || v < w ? pack(v, w) : pack(w, v);
+    }
+
+    private static long @NotNull [] enumerateEdgesExcept(int n, int numberOfEdges, boolean isDirected, long @NotNull [] sortedLeftOutEdges) {
+        long[] edges = new long[numberOfEdges];
+        int numberOfEnumeratedEdges = 0;
+        int nextLeftOutEdge = 0;
+        for (int v = 0; v < n; v++) {
+            for (int w = isDirected ? 0 : v + 1; w < n; w++) {
+                if (v == w) {
+                    continue;
+                }
+                long edge = pack(v, w);
+                if (nextLeftOutEdge < sortedLeftOutEdges.length && sortedLeftOutEdges[nextLeftOutEdge] == edge) {
+                    nextLeftOutEdge++;
+                } else {
+                    edges[numberOfEnumeratedEdges++] = edge;
+                }
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Creates an R-MAT graph (a stochastic Kronecker graph) with 2^{@code scale} vertices, whose degree distribution is
+     * skewed like the ones of many real-world graphs. Each of the {@code edgeFactor} * 2^{@code scale} sampled edges is
+     * placed by recursively choosing one of the four quadrants of the adjacency matrix with the probabilities {@code a},
+     * {@code b}, {@code c} and 1-a-b-c. Self-loops and duplicate edges are removed, i.e. the created graph can have fewer
+     * edges than sampled. Time complexity: O(m log m).
+     *
+     * @param scale      logarithm (base 2) of the number of vertices
+     * @param edgeFactor number of sampled edges per vertex
+     * @param a          probability of the top-left quadrant (e.g. 0.57)
+     * @param b          probability of the top-right quadrant (e.g. 0.19)
+     * @param c          probability of the bottom-left quadrant (e.g. 0.19)
+     * @param maxWeight  max weight of an edge
+     * @param isDirected whether the created graph is to be directed, or not
+     * @param seed       seed of the random generators
+     * @return random R-MAT graph
+     */
+    public static @NotNull CsrGraph createRmatGraph(int scale, int edgeFactor, double a, double b, double c, int maxWeight,
+                                                    boolean isDirected, long seed) {
+        if (scale < 1 || scale > MAX_RMAT_SCALE || edgeFactor < 1 || (long) edgeFactor << scale > MAX_NUMBER_OF_EDGES
+                || a < 0 || b < 0 || c < 0 || a + b + c > 1) {
+            throw new IllegalArgumentException(String.format(INVALID_RMAT_PARAMETERS_EXCEPTION_MSG_TF, scale, edgeFactor, a, b, c));
+        }
+        verifyMaxWeight(maxWeight);
+        int n = 1 << scale;
+        int numberOfSampledEdges = edgeFactor << scale;
+        long[] edges = new long[numberOfSampledEdges];
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = splitPerChunk(numberOfSampledEdges, root);
+        IntStream.range(0, randoms.length).parallel().forEach(chunk -> {
+            SplittableRandom random = randoms[chunk];
+            for (int i = chunk * CHUNK_SIZE; i < Math.min(numberOfSampledEdges, (chunk + 1) * CHUNK_SIZE); i++) {
+                int v = 0;
+                int w = 0;
+                for (int bit = scale - 1; bit >= 0; bit--) {
+                    double p = random.nextDouble();
+                    if (p >= a + b + c) {
+                        v |= 1 << bit;
+                        w |= 1 << bit;
+                    } else if (p >= a + b) {
+                        v |= 1 << bit;
+                    } else if (p >= a) {
+                        w |= 1 << bit;
+                    }
+                }
+                // self-loops are marked by -1 and sorted to the front
+                edges[i] = v == w ? -1 : (isDirected || v < w ? pack(v, w) : pack(w, v));
+            }
+        });
+        int numberOfDistinctEdges = sortAndRemoveDuplicates(edges, numberOfSampledEdges);
+        int firstEdge = numberOfDistinctEdges > 0 && edges[0] == -1 ? 1 : 0;
+        long[] distinctEdges = Arrays.copyOfRange(edges, firstEdge, numberOfDistinctEdges);
+        return createFromPackedEdges(n, distinctEdges, distinctEdges.length, randomWeights(distinctEdges.length, maxWeight, root), isDirected);
+    }
+
+    /**
+     * Creates an undirected random geometric graph: {@code numberOfVertices} points are placed uniformly at random in the
+     * unit square, and two vertices are connected if the Euclidean distance of their points is at most {@code radius}.
+     * The weight of an edge grows linearly with the distance, from 1 for coincident points to {@code maxWeight} for points
+     * at a distance of {@code radius}. The candidate pairs are found via a grid of cells with a side length of
+     * {@code radius}, so that the expected time complexity is O(m+n).
+     *
+     * @param numberOfVertices number of vertices n
+     * @param radius           max distance of two connected vertices
+     * @param maxWeight        max weight of an edge
+     * @param seed             seed of the random generators
+     * @return random geometric graph
+     */
+    public static @NotNull CsrGraph createRandomGeometricGraph(int numberOfVertices, double radius, int maxWeight, long seed) {
+        verifyNumberOfVertices(numberOfVertices);
+        verifyMaxWeight(maxWeight);
+        if (!(radius > 0 && radius <= 1)) {
+            throw new IllegalArgumentException(String.format(INVALID_RADIUS_EXCEPTION_MSG_TF, radius));
+        }
+        int n = numberOfVertices;
+        SplittableRandom root = new SplittableRandom(seed);
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        SplittableRandom[] randoms = splitPerChunk(n, root);
+        IntStream.range(0, randoms.length).parallel().forEach(c -> {
+            for (int v = c * CHUNK_SIZE; v < Math.min(n, (c + 1) * CHUNK_SIZE); v++) {
+                xs[v] = randoms[c].nextDouble();
+                ys[v] = randoms[c].nextDouble();
+            }
+        });
+        // sort the points into the cells of the grid (counting sort by cell)
+        int cellsPerSide = (int) Math.max(1, Math.min(Math.floor(1 / radius), Math.sqrt(n) + 1));
+        int[] cellStarts = new int[cellsPerSide * cellsPerSide + 1];
+        int[] cellOfVertex = new int[n];
+        for (int v = 0; v < n; v++) {
+            cellOfVertex[v] = cellOf(xs[v], cellsPerSide) * cellsPerSide + cellOf(ys[v], cellsPerSide);
+            cellStarts[cellOfVertex[v] + 1]++;
+        }
+        for (int cell = 0; cell < cellsPerSide * cellsPerSide; cell++) {
+            cellStarts[cell + 1] += cellStarts[cell];
+        }
+        int[] verticesByCell = new int[n];
+        int[] nextFree = Arrays.copyOf(cellStarts, cellStarts.length - 1);
+        for (int v = 0; v < n; v++) {
+            verticesByCell[nextFree[cellOfVertex[v]]++] = v;
+        }
+        // determine the edges (v,w) with v < w per chunk of vertices in parallel, then concatenate them in the order of the chunks
+        double radiusSquared = radius * radius;
+        int numberOfChunks = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        long[][] edgesPerChunk = new long[numberOfChunks][];
+        int[][] weightsPerChunk = new int[numberOfChunks][];
+        int[] numberOfEdgesPerChunk = new int[numberOfChunks];
+        IntStream.range(0, numberOfChunks).parallel().forEach(c -> {
+            long[] edges = new long[0];
+            int[] weights = new int[0];
+            int numberOfEdges = 0;
+            for (int v = c * CHUNK_SIZE; v < Math.min(n, (c + 1) * CHUNK_SIZE); v++) {
+                int cellX = cellOfVertex[v] / cellsPerSide;
+                int cellY = cellOfVertex[v] % cellsPerSide;
+                for (int x = Math.max(0, cellX - 1); x <= Math.min(cellsPerSide - 1, cellX + 1); x++) {
+                    for (int y = Math.max(0, cellY - 1); y <= Math.min(cellsPerSide - 1, cellY + 1); y++) {
+                        int cell = x * cellsPerSide + y;
+                        for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                            int w = verticesByCell[i];
+                            double dx = xs[v] - xs[w];
+                            double dy = ys[v] - ys[w];
+                            double distanceSquared = dx * dx + dy * dy;
+                            if (v < w && distanceSquared <= radiusSquared) {
+                                if (numberOfEdges == edges.length) {
+                                    edges = Arrays.copyOf(edges, Math.max(16, edges.length << 1));
+                                    weights = Arrays.copyOf(weights, edges.length);
+                                }
+                                edges[numberOfEdges] = pack(v, w);
+                                weights[numberOfEdges++] = 1 + (int) ((maxWeight - 1) * Math.sqrt(distanceSquared) / radius);
+                            }
+                        }
+                    }
+                }
+            }
+            edgesPerChunk[c] = edges;
+            weightsPerChunk[c] = weights;
+            numberOfEdgesPerChunk[c] = numberOfEdges;
+        });
+        long totalNumberOfEdges = Arrays.stream(numberOfEdgesPerChunk).asLongStream().sum();
+        if (totalNumberOfEdges > MAX_NUMBER_OF_EDGES) {
+            throw new IllegalArgumentException(String.format(INVALID_NUMBER_OF_EDGES_EXCEPTION_MSG_TF, MAX_NUMBER_OF_EDGES, totalNumberOfEdges));
+        }
+        long[] edges = new long[(int) totalNumberOfEdges];
+        int[] weights = new int[edges.length];
+        int numberOfEdges = 0;
+        for (int c = 0; c < numberOfChunks; c++) {
+            System.arraycopy(edgesPerChunk[c], 0, edges, numberOfEdges, numberOfEdgesPerChunk[c]);
+            System.arraycopy(weightsPerChunk[c], 0, weights, numberOfEdges, numberOfEdgesPerChunk[c]);
+            numberOfEdges += numberOfEdgesPerChunk[c];
+        }
+        return createFromPackedEdges(n, edges, numberOfEdges, weights, false);
+    }
+
+    private static int cellOf(double coordinate, int cellsPerSide) {
+        return Math.min(cellsPerSide - 1, (int) (coordinate * cellsPerSide));
+    }
+
+    /**
+     * Creates an undirected grid graph with {@code rows} x {@code columns} vertices, in which each vertex is connected to
+     * its right and its lower neighbor. The vertex in row r and column c has the index r * {@code columns} + c. Time
+     * complexity: O(n).
+     *
+     * @param rows      number of rows of the grid
+     * @param columns   number of columns of the grid
+     * @param maxWeight max weight of an edge
+     * @param seed      seed of the random generators
+     * @return grid graph
+     */
+    public static @NotNull CsrGraph createGridGraph(int rows, int columns, int maxWeight, long seed) {
+        if (rows < 1 || columns < 1 || (long) rows * columns > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(String.format(INVALID_GRID_DIMENSIONS_EXCEPTION_MSG_TF, rows, columns));
+        }
+        verifyMaxWeight(maxWeight);
+        long numberOfEdges = (long) rows * (columns - 1) + (long) (rows - 1) * columns;
+        if (numberOfEdges > MAX_NUMBER_OF_EDGES) {
+            throw new IllegalArgumentException(String.format(INVALID_NUMBER_OF_EDGES_EXCEPTION_MSG_TF, MAX_NUMBER_OF_EDGES, numberOfEdges));
+        }
+        long[] edges = new long[(int) numberOfEdges];
+        // the edges of row r start at r * (2 * columns - 1): (columns-1) horizontal edges, then 'columns' vertical edges
+        IntStream.range(0, rows).parallel().forEach(r -> {
+            int e = r * (2 * columns - 1);
+            for (int c = 0; c + 1 < columns; c++) {
+                edges[e++] = pack(r * columns + c, r * columns + c + 1);
+            }
+            for (int c = 0; c < columns && r + 1 < rows; c++) {
+                edges[e++] = pack(r * columns + c, (r + 1) * columns + c);
+            }
+        });
+        return createFromPackedEdges(rows * columns, edges, edges.length, randomWeights(edges.length, maxWeight, new SplittableRandom(seed)), false);
+    }
+
+    private static int @NotNull [] randomWeights(int numberOfEdges, int maxWeight, @NotNull SplittableRandom root) {
+        int[] weights = new int[numberOfEdges];
+        SplittableRandom[] randoms = splitPerChunk(numberOfEdges, root);
+        IntStream.range(0, randoms.length).parallel().forEach(c -> {
+            for (int i = c * CHUNK_SIZE; i < Math.min(numberOfEdges, (c + 1) * CHUNK_SIZE); i++) {
+                weights[i] = 1 + randoms[c].nextInt(maxWeight);
+            }
+        });
+        return weights;
+    }
+
+    private static @NotNull SplittableRandom @NotNull [] splitPerChunk(int numberOfElements, @NotNull SplittableRandom root) {
+        SplittableRandom[] randoms = new SplittableRandom[(numberOfElements + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        for (int c = 0; c < randoms.length; c++) {
+            randoms[c] = root.split();
+        }
+        return randoms;
+    }
+
+    private static int sortAndRemoveDuplicates(long @NotNull [] values, int length) {
+        Arrays.parallelSort(values, 0, length);
+        int numberOfDistinctValues = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                values[numberOfDistinctValues++] = values[i];
+            }
+        }
+        return numberOfDistinctValues;
+    }
+
+    private static @NotNull CsrGraph createFromPackedEdges(int n, long @NotNull [] edges, int numberOfEdges, int @NotNull [] weights, boolean isDirected) {
+        int[] tails = new int[numberOfEdges];
+        int[] heads = new int[numberOfEdges];
+        IntStream.range(0, numberOfEdges).parallel().forEach(i -> {
+            tails[i] = (int) (edges[i] >>> 32);
+            heads[i] = (int) edges[i];
+        });
+        return CsrGraphUtils.createFromEdgeArrays(n, tails, heads, weights, numberOfEdges, isDirected);
+    }
+
+    private static long pack(int v, int w) {
+        return ((long) v << 32) | w;
+    }
+
+    private static void verifyNumberOfVertices(int numberOfVertices) {
+        if (numberOfVertices < 1) {
+            throw new IllegalArgumentException(String.format(INVALID_NUMBER_OF_VERTICES_EXCEPTION_MSG_TF, numberOfVertices));
+        }
+    }
+
+    private static void verifyMaxWeight(int maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException(String.format(INVALID_MAX_WEIGHT_EXCEPTION_MSG_TF, maxWeight));
+        }
+    }
+}
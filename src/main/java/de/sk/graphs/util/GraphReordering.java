@@ -0,0 +1,177 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Utility class supplying methods to determine renumberings of the vertices of graphs in compressed sparse row
+ * representation ({@link CsrGraph}) which improve the memory locality of graph traversals. After renumbering a graph with
+ * {@link CsrGraphUtils#permute(CsrGraph, VertexPermutation)}, vertices which are close to each other in the graph are also
+ * close to each other in the arrays of the graph and of the algorithms (e.g. the arrays of visited flags or distances),
+ * so that traversals cause fewer cache misses.
+ * <br><br>
+ * For directed graphs, the outgoing edges are taken into account.
+ */
+public final class GraphReordering {
+
+    private GraphReordering() {
+        // only utility methods
+    }
+
+    /**
+     * Permutation of the vertices of a graph.
+     *
+     * @param newIndices new index of each vertex (indexed by the old index of the vertex)
+     * @param oldIndices old index of each vertex (indexed by the new index of the vertex), i.e. the inverse of {@code newIndices}
+     */
+    public record VertexPermutation(int @NotNull [] newIndices, int @NotNull [] oldIndices) {
+
+        static final String MISMATCHING_LENGTHS_EXCEPTION_MSG_TF = "The arrays of the new (%d) and old indices (%d) must have the same length.";
+
+        /**
+         * @param newIndices new index of each vertex (indexed by the old index of the vertex)
+         * @param oldIndices old index of each vertex (indexed by the new index of the vertex)
+         */
+        public VertexPermutation {
+            if (newIndices.length != oldIndices.length) {
+                throw new IllegalArgumentException(String.format(MISMATCHING_LENGTHS_EXCEPTION_MSG_TF, newIndices.length, oldIndices.length));
+            }
+        }
+
+        /**
+         * Creates the permutation which places the vertices in the given {@code order}.
+         *
+         * @param order old indices of the vertices in their new order
+         * @return permutation placing the vertices in the given order
+         */
+        public static @NotNull VertexPermutation fromOrder(int @NotNull [] order) {
+            int[] newIndices = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                newIndices[order[i]] = i;
+            }
+            return new VertexPermutation(newIndices, order);
+        }
+    }
+
+    /**
+     * Determines the order in which a breadth-first search visits the vertices. The search starts at vertex 0; vertices not
+     * reachable from there are visited by further searches, each starting at the unvisited vertex with the lowest index.
+     * Time complexity: O(m+n).
+     *
+     * @param graph graph whose vertices are to be reordered
+     * @return permutation placing the vertices in BFS order
+     */
+    public static @NotNull VertexPermutation bfsOrder(@NotNull CsrGraph graph) {
+        int n = graph.getNumberOfVertices();
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int tail = 0;
+        for (int s = 0; s < n; s++) {
+            if (!visited[s]) {
+                visited[s] = true;
+                order[tail++] = s;
+                // the order array also serves as queue: [head;tail) are the enqueued vertices
+                for (int head = tail - 1; head < tail; head++) {
+                    int v = order[head];
+                    for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                        int w = graph.getTarget(i);
+                        if (!visited[w]) {
+                            visited[w] = true;
+                            order[tail++] = w;
+                        }
+                    }
+                }
+            }
+        }
+        return VertexPermutation.fromOrder(order);
+    }
+
+    /**
+     * Determines the reverse Cuthill-McKee order of the vertices, which minimizes the bandwidth of the adjacency matrix
+     * heuristically (i.e. the edges connect vertices with close indices). Each connected component is traversed by a
+     * breadth-first search starting at its unvisited vertex of the lowest degree, the unvisited neighbors of a vertex are
+     * enqueued by increasing degree. The resulting order is reversed. Time complexity: O(m log(max deg) + n).
+     *
+     * @param graph graph whose vertices are to be reordered
+     * @return permutation placing the vertices in reverse Cuthill-McKee order
+     */
+    public static @NotNull VertexPermutation reverseCuthillMcKeeOrder(@NotNull CsrGraph graph) {
+        int n = graph.getNumberOfVertices();
+        int[] verticesByDegree = sortByDegree(graph, false);
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        long[] neighborsByDegree = new long[0];
+        int tail = 0;
+        for (int s : verticesByDegree) {
+            if (visited[s]) {
+                continue;
+            }
+            visited[s] = true;
+            order[tail++] = s;
+            for (int head = tail - 1; head < tail; head++) {
+                int v = order[head];
+                // collect the unvisited neighbors as (degree, vertex) pairs packed into longs, so that they can be sorted by degree
+                int numberOfNeighbors = 0;
+                if (neighborsByDegree.length < graph.getDegree(v)) {
+                    neighborsByDegree = new long[Math.max(graph.getDegree(v), neighborsByDegree.length << 1)];
+                }
+                for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                    int w = graph.getTarget(i);
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        neighborsByDegree[numberOfNeighbors++] = ((long) graph.getDegree(w) << 32) | w;
+                    }
+                }
+                Arrays.sort(neighborsByDegree, 0, numberOfNeighbors);
+                for (int i = 0; i < numberOfNeighbors; i++) {
+                    order[tail++] = (int) neighborsByDegree[i];
+                }
+            }
+        }
+        // reverse the Cuthill-McKee order
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return VertexPermutation.fromOrder(order);
+    }
+
+    /**
+     * Determines the order of the vertices by descending degree (ties are broken by the vertices' indices), which places the
+     * hubs of a graph, i.e. the most frequently accessed vertices, next to each other. Time complexity: O(m+n).
+     *
+     * @param graph graph whose vertices are to be reordered
+     * @return permutation placing the vertices in the order of descending degree
+     */
+    public static @NotNull VertexPermutation degreeDescendingOrder(@NotNull CsrGraph graph) {
+        return VertexPermutation.fromOrder(sortByDegree(graph, true));
+    }
+
+    private static int @NotNull [] sortByDegree(@NotNull CsrGraph graph, boolean isDescending) {
+        // counting sort (stable), as the degrees are bounded by the number of adjacency entries
+        int n = graph.getNumberOfVertices();
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            maxDegree = Math.max(maxDegree, graph.getDegree(v));
+        }
+        int[] starts = new int[maxDegree + 2];
+        for (int v = 0; v < n; v++) {
+            starts[bucketOf(graph.getDegree(v), maxDegree, isDescending) + 1]++;
+        }
+        for (int b = 0; b <= maxDegree; b++) {
+            starts[b + 1] += starts[b];
+        }
+        int[] sorted = new int[n];
+        for (int v = 0; v < n; v++) {
+            sorted[starts[bucketOf(graph.getDegree(v), maxDegree, isDescending)]++] = v;
+        }
+        return sorted;
+    }
+
+    private static int bucketOf(int degree, int maxDegree, boolean isDescending) {
+        return isDescending ? maxDegree - degree : degree;
+    }
+}
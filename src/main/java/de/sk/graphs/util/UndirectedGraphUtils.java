@@ -1,11 +1,11 @@
 package de.sk.graphs.util;
 
 import de.sk.graphs.GraphConstants;
-import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
-import de.sk.graphs.datastructure.undirected.UnAdjacencyMatrix;
-import de.sk.graphs.datastructure.undirected.UnEdge;
-import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.graphs.datastructure.AdjacencyMatrix;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.undirected.*;
 import de.sk.util.IntegerUtils;
+import de.sk.util.LongIntOpenHashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -22,9 +22,12 @@ public final class UndirectedGraphUtils {
     static final String VERTEX_IS_NOT_PART_OF_GIVEN_EDGE_EXCEPTION_MSG_TF = "Vertex %s is not part of edge %s.";
     static final String TOO_MANY_EDGES_FOR_UNDIRECTED_GRAPH_EXCEPTION_MSG_TF = "An undirected graph of %d vertices can only have %d edges at a max " +
             "(if there cannot be more than 1 edge between each pair of vertices). Number of edges was specified as %d.";
+    static final String TOO_MANY_EDGES_FOR_RANDOM_GRAPH_EXCEPTION_MSG_TF = "A random graph can have %d edges at a max (as its existing " +
+            "edges are tracked in both directions). Number of edges was specified as %d.";
 
     private static final String VERTEX_NAME_TF = "v%d";
-    private static final String EDGE_NAME_TF = "e_%s_%s";
+    private static final String EDGE_NAME_PREFIX = "e_";
+    private static final String EDGE_NAME_SEPARATOR = "_";
 
     private UndirectedGraphUtils() {
         // only utility methods
@@ -119,34 +122,58 @@ public final class UndirectedGraphUtils {
      * @return random, undirected graph with {@code numberOfVertices} vertices and {@code numberOfEdges} edges
      */
     public static @NotNull UnAdjacencyList createRandomGraph(int numberOfVertices, int numberOfEdges, int maxWeight, @NotNull Random random) {
+        long maxPossibleNumberOfEdges = ((long) numberOfVertices * (numberOfVertices - 1)) / 2; // (n * (n-1)) / 2
+        if (numberOfEdges > maxPossibleNumberOfEdges) {
+            throw new IllegalArgumentException(String.format(TOO_MANY_EDGES_FOR_UNDIRECTED_GRAPH_EXCEPTION_MSG_TF, numberOfVertices,
+                    maxPossibleNumberOfEdges, numberOfEdges));
+        }
+        // each edge is tracked as 2 packed index pairs
+        long numberOfTrackedPairs = 2L * numberOfEdges;
+        if (numberOfTrackedPairs > LongIntOpenHashMap.MAX_SIZE) {
+            throw new IllegalArgumentException(String.format(TOO_MANY_EDGES_FOR_RANDOM_GRAPH_EXCEPTION_MSG_TF, LongIntOpenHashMap.MAX_SIZE / 2,
+                    numberOfEdges));
+        }
         List<UnVertex> vertices = new ArrayList<>();
         for (int i = 1; i <= numberOfVertices; i++) {
             UnVertex vertex = new UnVertex(String.format(VERTEX_NAME_TF, i), random.nextInt(maxWeight));
             vertices.add(vertex);
         }
-        int maxPossibleNumberOfEdges = (numberOfVertices * (numberOfVertices - 1)) / 2; // (n * (n-1)) / 2
-        if (numberOfEdges > maxPossibleNumberOfEdges) {
-            throw new IllegalArgumentException(String.format(TOO_MANY_EDGES_FOR_UNDIRECTED_GRAPH_EXCEPTION_MSG_TF, numberOfVertices,
-                    maxPossibleNumberOfEdges, numberOfEdges));
-        }
         List<UnEdge> edges = new ArrayList<>();
+        // the existing edges are tracked as packed index pairs and the degrees as counters (instead of collecting the
+        // adjacent vertices of v into a new set for each edge)
+        LongIntOpenHashMap existingEdges = new LongIntOpenHashMap((int) numberOfTrackedPairs, 0);
+        int[] degrees = new int[numberOfVertices];
         for (int i = 0; i < numberOfEdges; i++) {
-            UnVertex v = vertices.get(random.nextInt(vertices.size()));
-            Set<UnVertex> adjacentVerticesOfV = UndirectedGraphUtils.getAdjacentVertices(v);
-            if (adjacentVerticesOfV.size() == vertices.size() - 1) {
+            int vIdx = random.nextInt(vertices.size());
+            if (degrees[vIdx] == vertices.size() - 1) {
                 i--;
                 continue; // v already has the maximum possible number of edges
             }
-            UnVertex w = vertices.get(random.nextInt(vertices.size()));
-            while (v == w || adjacentVerticesOfV.contains(w)) {
-                w = vertices.get(random.nextInt(vertices.size()));
+            int wIdx = random.nextInt(vertices.size());
+            while (vIdx == wIdx || existingEdges.containsKey(packIndices(vIdx, wIdx))) {
+                wIdx = random.nextInt(vertices.size());
             }
-            UnEdge edge = new UnEdge(String.format(EDGE_NAME_TF, v.getName(), w.getName()), v, w);
+            existingEdges.put(packIndices(vIdx, wIdx), 1);
+            existingEdges.put(packIndices(wIdx, vIdx), 1);
+            degrees[vIdx]++;
+            degrees[wIdx]++;
+            UnVertex v = vertices.get(vIdx);
+            UnVertex w = vertices.get(wIdx);
+            UnEdge edge = new UnEdge(edgeName(v, w), v, w);
             edges.add(edge);
         }
         return new UnAdjacencyList(vertices, edges);
     }
 
+    private static long packIndices(int vIdx, int wIdx) {
+        return ((long) vIdx << 32) | wIdx;
+    }
+
+    private static @NotNull String edgeName(@NotNull UnVertex v, @NotNull UnVertex w) {
+        // concatenation instead of String.format, as this is called for each of the (up to n²) edges
+        return EDGE_NAME_PREFIX + v.getName() + EDGE_NAME_SEPARATOR + w.getName();
+    }
+
     /**
      * Creates a complete graph with {@code numberOfVertices} vertices. A "complete" graph means that there is an edge
      * between each pair of vertices v,w ∈ V. The weight of an edge in the created graph is between [0;{@code maxWeight}].
@@ -185,7 +212,7 @@ public final class UndirectedGraphUtils {
             for (int j = i + 1; j < vertices.size(); j++) {
                 UnVertex w = vertices.get(j);
                 int edgeWeight = IntegerUtils.getRandomIntBetween(minWeight, maxWeight, random);
-                UnEdge edge = new UnEdge(String.format(EDGE_NAME_TF, v.getName(), w.getName()), edgeWeight, v, w);
+                UnEdge edge = new UnEdge(edgeName(v, w), edgeWeight, v, w);
                 edges.add(edge);
             }
         }
@@ -233,15 +260,30 @@ public final class UndirectedGraphUtils {
      * @return edge connecting {@code v} and {@code w}, {@code null} if there is no such edge
      */
     public static @Nullable UnEdge getEdgeConnectingVAndW(@NotNull UnVertex v, @NotNull UnVertex w) {
-        UnEdge connectingEdge = null;
+        if (v == w) {
+            return null;
+        }
         for (UnEdge currentEdge : v.getEdges()) {
-            UnVertex otherVertex = UndirectedGraphUtils.getOtherVertexOfEdge(currentEdge, v);
-            if (otherVertex == w) {
-                connectingEdge = currentEdge;
-                break;
+            // the edge is incident to v, so it connects v and w if w is one of its endpoints
+            if (currentEdge.getVertices().contains(w)) {
+                return currentEdge;
             }
         }
-        return connectingEdge;
+        return null;
+    }
+
+    /**
+     * Returns the edge connecting the vertices {@code v} and {@code w} by means of the given {@code edgeIndex}. Returns
+     * {@code null} if there is no such edge. Expected time complexity: O(1) (instead of O(deg(v)) for
+     * {@link UndirectedGraphUtils#getEdgeConnectingVAndW(UnVertex, UnVertex)}).
+     *
+     * @param v         vertex whose connecting edge with {@code w} is to be returned
+     * @param w         vertex whose connecting edge with {@code v} is to be returned
+     * @param edgeIndex edge index of the graph containing {@code v} and {@code w}
+     * @return edge connecting {@code v} and {@code w}, {@code null} if there is no such edge
+     */
+    public static @Nullable UnEdge getEdgeConnectingVAndW(@NotNull UnVertex v, @NotNull UnVertex w, @NotNull EdgeIndex<UnVertex, UnEdge> edgeIndex) {
+        return v != w ? edgeIndex.getEdge(v, w) : null;
     }
 
     /**
@@ -266,6 +308,59 @@ public final class UndirectedGraphUtils {
         return adjacencyMatrix;
     }
 
+    /**
+     * Converts the given {@code adjacencyList} into an adjacency matrix of the given {@code representation}. See
+     * {@link UndirectedGraphUtils#convertToAdjacencyMatrix(UnAdjacencyList)}. For the representation
+     * {@link AdjacencyMatrixRepresentation#BIT_SET}, the weights of the edges are not taken over (the graph is treated as
+     * unweighted).
+     *
+     * @param adjacencyList  adjacency list to be converted into a corresponding adjacency matrix representation
+     * @param representation representation of the adjacency matrix to be created
+     * @return adjacency matrix representation of {@code adjacencyList}
+     */
+    public static @NotNull AdjacencyMatrix convertToAdjacencyMatrix(@NotNull UnAdjacencyList adjacencyList, @NotNull AdjacencyMatrixRepresentation representation) {
+        int numberOfVertices = adjacencyList.vertices().size();
+        AdjacencyMatrix adjacencyMatrix = switch (representation) {
+            case FULL -> new UnAdjacencyMatrix(numberOfVertices);
+            case TRIANGULAR -> new UnTriangularAdjacencyMatrix(numberOfVertices);
+            case BIT_SET -> new UnBitSetAdjacencyMatrix(numberOfVertices);
+        };
+        Map<UnVertex, Integer> indexLookupForVertices = UndirectedGraphUtils.createIndexLookupForVertices(adjacencyList);
+        for (UnEdge edge : adjacencyList.edges()) {
+            List<Integer> indicesOfEndpoints = edge.getVertices().stream().map(indexLookupForVertices::get).toList();
+            int weight = representation == AdjacencyMatrixRepresentation.BIT_SET ? UnBitSetAdjacencyMatrix.UNWEIGHTED_EDGE_WEIGHT : edge.getWeight();
+            adjacencyMatrix.addEdge(indicesOfEndpoints.get(0), indicesOfEndpoints.get(1), weight);
+        }
+        return adjacencyMatrix;
+    }
+
+    /**
+     * Converts the given {@code adjacencyList} into a corresponding compressed sparse row representation ({@link CsrGraph}).
+     * The indices of the vertices in the CSR graph are derived from the indices of the vertices in the vertices' list of
+     * {@code adjacencyList}, the names of the vertices are taken over. Each edge of the {@code adjacencyList} is stored as
+     * two adjacency entries. Time complexity: O(m+n).
+     *
+     * @param adjacencyList adjacency list to be converted into a corresponding CSR representation
+     * @return CSR representation of {@code adjacencyList}
+     */
+    public static @NotNull CsrGraph convertToCsrGraph(@NotNull UnAdjacencyList adjacencyList) {
+        List<UnVertex> vertices = adjacencyList.vertices();
+        List<UnEdge> edges = adjacencyList.edges();
+        Map<UnVertex, Integer> indexLookupForVertices = UndirectedGraphUtils.createIndexLookupForVertices(adjacencyList);
+        int[] tails = new int[edges.size()];
+        int[] heads = new int[edges.size()];
+        int[] weights = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            UnEdge edge = edges.get(i);
+            Iterator<UnVertex> endpoints = edge.getVertices().iterator();
+            tails[i] = indexLookupForVertices.get(endpoints.next());
+            heads[i] = indexLookupForVertices.get(endpoints.next());
+            weights[i] = edge.getWeight();
+        }
+        String[] vertexNames = vertices.stream().map(UnVertex::getName).toArray(String[]::new);
+        return CsrGraphUtils.createFromEdgeArrays(vertices.size(), tails, heads, weights, edges.size(), false, vertexNames);
+    }
+
     /**
      * Creates a lookup table for the indices of the {@code adjacencyList}'s vertices, i.e. to the returned map, a vertex
      * can be passed as key and the returned value is the index of the vertex in the vertices' list of {@code adjacencyList}.
@@ -21,6 +21,7 @@ public final class GreedyConstants {
 
     // injection names (in) for union-find variants
     public static final String IN_UNION_FIND_BY_SIZE = "Union-Find-By-Size";
+    public static final String IN_UNION_FIND_BY_PATH_COMPRESSION = "Union-Find-By-Path-Compression";
 
     // comparators
     public static final Comparator<UnEdge> EDGE_WEIGHT_SORTER = Comparator.comparing(UnEdge::getWeight, Comparator.naturalOrder());
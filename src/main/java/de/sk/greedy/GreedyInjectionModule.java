@@ -6,6 +6,7 @@ import com.google.inject.name.Names;
 import de.sk.graphs.datastructure.undirected.UnVertex;
 import de.sk.greedy.mst.MstAlg;
 import de.sk.greedy.mst.datastructure.unionfind.UnionFind;
+import de.sk.greedy.mst.datastructure.unionfind.UnionFindPathCompressionBased;
 import de.sk.greedy.mst.datastructure.unionfind.UnionFindSizeBased;
 import de.sk.greedy.mst.kruskal.KruskalAlgSimple;
 import de.sk.greedy.mst.kruskal.KruskalAlgUnionFindBased;
@@ -26,6 +27,7 @@ public class GreedyInjectionModule extends AbstractModule {
         // bind union-find implementations
         bind(UnionFind.class).to(UnionFindSizeBased.class);
         bind(UnionFind.class).annotatedWith(Names.named(GreedyConstants.IN_UNION_FIND_BY_SIZE)).to(UnionFindSizeBased.class);
+        bind(UnionFind.class).annotatedWith(Names.named(GreedyConstants.IN_UNION_FIND_BY_PATH_COMPRESSION)).to(UnionFindPathCompressionBased.class);
         bind(new TypeLiteral<UnionFind<UnVertex>>(){}).to(new TypeLiteral<UnionFindSizeBased<UnVertex>>(){});
     }
 }
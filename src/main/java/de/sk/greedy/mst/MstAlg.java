@@ -1,5 +1,6 @@
 package de.sk.greedy.mst;
 
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import org.jetbrains.annotations.NotNull;
@@ -19,4 +20,14 @@ public interface MstAlg {
      * @return list of edges which are selected for the MST
      */
     @NotNull List<UnEdge> determineMst(@NotNull UnAdjacencyList undirectedGraph);
+
+    /**
+     * Determines the Minimum Spanning Tree (MST) for the given connected, undirected graph in CSR representation. Returns
+     * the indices of the adjacency entries representing the edges which are selected for the MST (for each selected edge,
+     * one of its two adjacency entries is returned).
+     *
+     * @param undirectedGraph graph in CSR representation for which the MST is to be determined
+     * @return indices of the adjacency entries of the edges which are selected for the MST
+     */
+    int @NotNull [] determineMst(@NotNull CsrGraph undirectedGraph);
 }
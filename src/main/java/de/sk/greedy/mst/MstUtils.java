@@ -3,13 +3,16 @@ package de.sk.greedy.mst;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import de.sk.graphs.algorithm.cc.UnConnectedComponents;
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.graphs.util.CsrGraphUtils;
 import de.sk.graphs.util.UndirectedGraphUtils;
 import de.sk.greedy.GreedyInjectionModule;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -56,4 +59,85 @@ public final class MstUtils {
         }
         undirectedGraph.vertices().forEach(UnVertex::resetAttributeValuesModifiableByAlgorithms);
     }
+
+    /**
+     * Verifies the integrity of the graph in CSR representation for which the Minimum Spanning Tree (MST) is to be determined.
+     * See {@link #verifyIntegrityOfGraph(UnAdjacencyList)}.
+     *
+     * @param undirectedGraph undirected graph in CSR representation which is to be verified for its integrity to apply MST
+     *                        algorithms on it
+     */
+    public static void verifyIntegrityOfGraph(@NotNull CsrGraph undirectedGraph) {
+        CsrGraphUtils.verifyIsUndirected(undirectedGraph);
+        // verify that graph consists of exactly one connected component
+        int[] ccs = UCC.determineConnectedComponents(undirectedGraph);
+        int numberOfCcs = Arrays.stream(ccs).max().orElse(-1) + 1;
+        if (numberOfCcs != 1) {
+            throw new IllegalArgumentException(String.format(NOT_EXACTLY_1_CC_EXCEPTION_MSG_TF, numberOfCcs));
+        }
+        // verify that between any pair of vertices, max. 1 edge exists (lastSeenFrom[w] == v <=> w already seen as neighbor of v)
+        int[] lastSeenFrom = new int[undirectedGraph.getNumberOfVertices()];
+        Arrays.fill(lastSeenFrom, -1);
+        for (int v = 0; v < undirectedGraph.getNumberOfVertices(); v++) {
+            int numberOfAdjacentVertices = 0;
+            for (int i = undirectedGraph.getOffset(v); i < undirectedGraph.getOffset(v + 1); i++) {
+                int w = undirectedGraph.getTarget(i);
+                if (lastSeenFrom[w] != v) {
+                    lastSeenFrom[w] = v;
+                    numberOfAdjacentVertices++;
+                }
+            }
+            if (numberOfAdjacentVertices != undirectedGraph.getDegree(v)) {
+                throw new IllegalArgumentException(String.format(MORE_THAN_1_EDGE_BETWEEN_2_VERTICES_EXCEPTION_MSG_TF,
+                        undirectedGraph.getVertexName(v), undirectedGraph.getDegree(v), numberOfAdjacentVertices));
+            }
+        }
+    }
+
+    /**
+     * Returns the edges of the given undirected graph in CSR representation sorted ascendingly by their weights. For each
+     * edge {v,w}, only the adjacency entry of its smaller endpoint v is taken into account (self-loops are ignored). Each
+     * edge is represented by a {@code long} value holding the weight of the edge in the upper 32 bits and the index of the
+     * adjacency entry in the lower 32 bits (see {@link #getEntryIdxOfPackedEdge(long)}), so that sorting these values sorts
+     * the edges by their weights.
+     *
+     * @param undirectedGraph undirected graph in CSR representation whose edges are to be sorted
+     * @return edges packed into {@code long} values, sorted ascendingly by their weights
+     */
+    public static long @NotNull [] getEdgesSortedByWeight(@NotNull CsrGraph undirectedGraph) {
+        long[] packedEdges = new long[undirectedGraph.getNumberOfEdges()];
+        int numberOfPackedEdges = 0;
+        for (int v = 0; v < undirectedGraph.getNumberOfVertices(); v++) {
+            for (int i = undirectedGraph.getOffset(v); i < undirectedGraph.getOffset(v + 1); i++) {
+                if (v < undirectedGraph.getTarget(i)) {
+                    packedEdges[numberOfPackedEdges++] = packWeightAndEntryIdx(undirectedGraph.getWeight(i), i);
+                }
+            }
+        }
+        long[] sortedEdges = Arrays.copyOf(packedEdges, numberOfPackedEdges);
+        Arrays.sort(sortedEdges);
+        return sortedEdges;
+    }
+
+    /**
+     * Packs the given {@code weight} (upper 32 bits) and the given {@code entryIdx} (lower 32 bits) into a single {@code long}
+     * value. Ordering the packed values orders them by their weights first.
+     *
+     * @param weight   weight of the edge
+     * @param entryIdx index of the adjacency entry representing the edge
+     * @return weight and entry index packed into a {@code long} value
+     */
+    public static long packWeightAndEntryIdx(int weight, int entryIdx) {
+        return ((long) weight << Integer.SIZE) | (entryIdx & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the index of the adjacency entry of an edge packed by {@link #packWeightAndEntryIdx(int, int)}.
+     *
+     * @param packedEdge edge packed into a {@code long} value
+     * @return index of the adjacency entry
+     */
+    public static int getEntryIdxOfPackedEdge(long packedEdge) {
+        return (int) packedEdge;
+    }
 }
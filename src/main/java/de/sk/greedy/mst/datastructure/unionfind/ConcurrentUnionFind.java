@@ -0,0 +1,118 @@
+package de.sk.greedy.mst.datastructure.unionfind;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free variant of the index-based UnionFind data structure (see {@link UnionFindIndexBased}), which may be used by
+ * multiple threads concurrently. The parents of the elements are held in an {@link AtomicIntegerArray} and are only
+ * changed via compare-and-set:
+ * <ul>
+ *     <li>{@link #find(int)} applies path halving; a failed compare-and-set is harmless, as it only skips a shortcut.</li>
+ *     <li>{@link #union(int, int)} links the root with the greater index below the root with the smaller index (union by
+ *     index instead of union by size, which cannot be maintained atomically together with the parents). If the root has
+ *     been linked by another thread in the meantime, the operation is retried with the new roots.</li>
+ * </ul>
+ * As a consequence of the union by index, the root of each partition is its smallest element. Time complexity: almost
+ * O(1) amortized per operation in practice (O(log n) in the worst case).
+ */
+public class ConcurrentUnionFind {
+
+    private final AtomicIntegerArray parents;
+
+    /**
+     * Constructor. Initializes the data structure for the elements [0;{@code numberOfElements}-1], each element being its own
+     * one-element partition tree.
+     *
+     * @param numberOfElements number of elements to maintain in the partitions of the UnionFind data structure
+     */
+    public ConcurrentUnionFind(int numberOfElements) {
+        if (numberOfElements < 0) {
+            throw new IllegalArgumentException(String.format(UnionFindIndexBased.NEGATIVE_NUMBER_OF_ELEMENTS_EXCEPTION_MSG_TF, numberOfElements));
+        }
+        this.parents = new AtomicIntegerArray(numberOfElements);
+        for (int i = 0; i < numberOfElements; i++) {
+            this.parents.set(i, i);
+        }
+    }
+
+    /**
+     * Returns the root element (i.e. the smallest element) of the partition tree the element {@code x} is located in.
+     * Halves the path from {@code x} to the root on the way.
+     *
+     * @param x element for which it is to be determined in which partition it is located in
+     * @return root element of the partition the given element is located in
+     */
+    public int find(int x) {
+        int parent = this.parents.get(x);
+        while (parent != x) {
+            int grandParent = this.parents.get(parent);
+            if (grandParent != parent) {
+                this.parents.compareAndSet(x, parent, grandParent);
+            }
+            x = grandParent;
+            parent = this.parents.get(x);
+        }
+        return x;
+    }
+
+    /**
+     * Merges the partitions in which the two elements {@code x} and {@code y} are located in.
+     *
+     * @param x element located in the first partition to be merged
+     * @param y element located in the second partition to be merged
+     * @return {@code true} if two partitions have been merged, {@code false} if both elements already were in the same
+     * partition
+     */
+    public boolean union(int x, int y) {
+        while (true) {
+            int rootOfX = this.find(x);
+            int rootOfY = this.find(y);
+            if (rootOfX == rootOfY) {
+                return false;
+            }
+            int smallerRoot = Math.min(rootOfX, rootOfY);
+            int greaterRoot = Math.max(rootOfX, rootOfY);
+            // fails if the greater root has become a non-root concurrently
+            if (this.parents.compareAndSet(greaterRoot, greaterRoot, smallerRoot)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Sets the parent of the element {@code x} to the root of its partition tree, so that subsequent calls of
+     * {@link #find(int)} for {@code x} only take one step (as long as no further unions are conducted). May be called
+     * concurrently with {@link #union(int, int)}: a root is never written, and the parent is replaced via compare-and-set,
+     * so that a link set by another thread in the meantime is not undone (the shortcut is skipped instead).
+     *
+     * @param x element whose path is to be compressed
+     * @return root element of the partition the given element is located in
+     */
+    public int compress(int x) {
+        int parent = this.parents.get(x);
+        if (parent == x) {
+            return x;
+        }
+        int root = this.find(parent);
+        if (root != parent) {
+            this.parents.compareAndSet(x, parent, root);
+        }
+        return root;
+    }
+
+    /**
+     * Returns the number of elements maintained by the data structure.
+     *
+     * @return number of elements
+     */
+    public int getNumberOfElements() {
+        return this.parents.length();
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ConcurrentUnionFind(numberOfElements=" + this.parents.length() + ")";
+    }
+}
@@ -0,0 +1,152 @@
+package de.sk.greedy.mst.datastructure.unionfind;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Index-based variant of the UnionFind data structure for elements identified by the indices [0;n-1] (e.g. the vertices of
+ * a {@link de.sk.graphs.datastructure.CsrGraph}). The partition trees are maintained in two primitive arrays, so that no
+ * objects are created per element. Applies the union-by-size strategy and path halving, resulting in an amortized time
+ * complexity of almost O(1) per operation. Further elements can be added after construction (see {@link #addElement()}).
+ */
+public class UnionFindIndexBased {
+
+    static final String NEGATIVE_NUMBER_OF_ELEMENTS_EXCEPTION_MSG_TF = "The number of elements must not be negative. Given: %d.";
+    static final String IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF = "Index '%d' out of bounds [0;%d].";
+
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] parents;
+    private int[] sizes;
+    private int numberOfElements;
+    private int numberOfPartitions;
+
+    /**
+     * Constructor. Initializes the data structure for the elements [0;{@code numberOfElements}-1], each element being its own
+     * one-element partition tree.
+     *
+     * @param numberOfElements number of elements to maintain in the partitions of the UnionFind data structure
+     */
+    public UnionFindIndexBased(int numberOfElements) {
+        if (numberOfElements < 0) {
+            throw new IllegalArgumentException(String.format(NEGATIVE_NUMBER_OF_ELEMENTS_EXCEPTION_MSG_TF, numberOfElements));
+        }
+        this.parents = new int[numberOfElements];
+        this.sizes = new int[numberOfElements];
+        for (int i = 0; i < numberOfElements; i++) {
+            this.parents[i] = i;
+            this.sizes[i] = 1;
+        }
+        this.numberOfElements = numberOfElements;
+        this.numberOfPartitions = numberOfElements;
+    }
+
+    /**
+     * Adds a new element as its own one-element partition tree. The new element gets the next index, i.e. the previous
+     * number of elements. The arrays are grown by doubling, resulting in an amortized time complexity of O(1).
+     *
+     * @return index of the new element
+     */
+    public int addElement() {
+        if (this.numberOfElements == this.parents.length) {
+            int capacity = Math.max(MIN_CAPACITY, this.parents.length << 1);
+            this.parents = Arrays.copyOf(this.parents, capacity);
+            this.sizes = Arrays.copyOf(this.sizes, capacity);
+        }
+        int x = this.numberOfElements++;
+        this.parents[x] = x;
+        this.sizes[x] = 1;
+        this.numberOfPartitions++;
+        return x;
+    }
+
+    /**
+     * Returns the root element of the partition tree the element {@code x} is located in. Halves the path from {@code x}
+     * to the root on the way.
+     *
+     * @param x element for which it is to be determined in which partition it is located in
+     * @return root element of the partition the given element is located in
+     */
+    public int find(int x) {
+        this.verifyIsWithinBounds(x);
+        while (this.parents[x] != x) {
+            this.parents[x] = this.parents[this.parents[x]];
+            x = this.parents[x];
+        }
+        return x;
+    }
+
+    /**
+     * Merges the partitions in which the two elements {@code x} and {@code y} are located in, and returns the root element
+     * of the merged partition. If both elements are located in the same partition, no merge is conducted and only the root
+     * element of this partition is returned.
+     *
+     * @param x element located in the first partition to be merged
+     * @param y element located in the second partition to be merged
+     * @return root element of the common partition both elements are located in
+     */
+    public int union(int x, int y) {
+        int rootOfX = this.find(x);
+        int rootOfY = this.find(y);
+        if (rootOfX == rootOfY) {
+            return rootOfX;
+        }
+        int rootWithGreaterTree = this.sizes[rootOfX] >= this.sizes[rootOfY] ? rootOfX : rootOfY;
+        int rootWithSmallerTree = rootWithGreaterTree == rootOfX ? rootOfY : rootOfX;
+        this.parents[rootWithSmallerTree] = rootWithGreaterTree;
+        this.sizes[rootWithGreaterTree] += this.sizes[rootWithSmallerTree];
+        this.numberOfPartitions--;
+        return rootWithGreaterTree;
+    }
+
+    /**
+     * Returns whether the elements {@code x} and {@code y} are located in the same partition.
+     *
+     * @param x first element
+     * @param y second element
+     * @return {@code true} if both elements are located in the same partition, {@code false} else
+     */
+    public boolean isInSamePartition(int x, int y) {
+        return this.find(x) == this.find(y);
+    }
+
+    /**
+     * Returns the number of elements of the partition the element {@code x} is located in.
+     *
+     * @param x element whose partition's size is to be returned
+     * @return size of the partition of {@code x}
+     */
+    public int getPartitionSize(int x) {
+        return this.sizes[this.find(x)];
+    }
+
+    /**
+     * Returns the current number of partitions.
+     *
+     * @return number of partitions
+     */
+    public int getNumberOfPartitions() {
+        return this.numberOfPartitions;
+    }
+
+    /**
+     * Returns the number of elements maintained by the data structure.
+     *
+     * @return number of elements
+     */
+    public int getNumberOfElements() {
+        return this.numberOfElements;
+    }
+
+    private void verifyIsWithinBounds(int x) {
+        if (x < 0 || x >= this.numberOfElements) {
+            throw new IllegalArgumentException(String.format(IDX_OUT_OF_BOUNDS_EXCEPTION_MSG_TF, x, this.numberOfElements - 1));
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "UnionFindIndexBased(numberOfElements=" + this.numberOfElements + ", numberOfPartitions=" + this.numberOfPartitions + ")";
+    }
+}
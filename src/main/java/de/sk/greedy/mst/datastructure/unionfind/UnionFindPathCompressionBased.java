@@ -0,0 +1,152 @@
+package de.sk.greedy.mst.datastructure.unionfind;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the {@link UnionFind} data structure applying the union-by-size strategy together with path halving
+ * (a one-pass variant of path compression), resulting in an amortized time complexity of O(α(n)) per operation, α being
+ * the inverse Ackermann function. The elements are mapped to indices once, the partition trees are maintained by a
+ * {@link UnionFindIndexBased}.
+ * <br><br>
+ * In contrast to {@link UnionFindSizeBased}, elements can be added after the initialization (see {@link #add(Object)}), and
+ * the sizes of the partitions can be queried.
+ *
+ * @param <T> the type of the elements in the UnionFind data structure
+ */
+public class UnionFindPathCompressionBased<T> implements UnionFind<T> {
+
+    private boolean isInitialized;
+    private final List<T> elements;
+    private final Map<T, Integer> indexLookup;
+    private UnionFindIndexBased partitions;
+
+    /**
+     * Constructor.
+     */
+    public UnionFindPathCompressionBased() {
+        this.isInitialized = false;
+        this.elements = new ArrayList<>();
+        this.indexLookup = new HashMap<>();
+    }
+
+    @Override
+    public void initialize(@NotNull List<T> elements) {
+        if (this.isInitialized) {
+            throw new IllegalStateException(UnionFindSizeBased.ALREADY_INITIALIZED_EXCEPTION_MSG);
+        }
+        this.partitions = new UnionFindIndexBased(0);
+        this.isInitialized = true;
+        for (T element : elements) {
+            this.add(element);
+        }
+    }
+
+    /**
+     * Adds the given {@code element} as its own one-element partition tree, if it is not contained yet.
+     *
+     * @param element element to be added
+     * @return {@code true} if the element has been added, {@code false} if it already was contained
+     */
+    public boolean add(@NotNull T element) {
+        this.throwExceptionIfNotInitialized();
+        if (this.indexLookup.containsKey(element)) {
+            return false;
+        }
+        this.indexLookup.put(element, this.partitions.addElement());
+        this.elements.add(element);
+        return true;
+    }
+
+    /**
+     * Returns whether the given {@code element} is maintained by the data structure.
+     *
+     * @param element element to check
+     * @return {@code true} if the element is contained, {@code false} else
+     */
+    public boolean contains(@NotNull T element) {
+        return this.indexLookup.containsKey(element);
+    }
+
+    @Override
+    public @NotNull T find(@NotNull T x) {
+        return this.elements.get(this.partitions.find(this.indexOf(x)));
+    }
+
+    @Override
+    public @NotNull T union(@NotNull T x, @NotNull T y) {
+        return this.elements.get(this.partitions.union(this.indexOf(x), this.indexOf(y)));
+    }
+
+    /**
+     * Returns whether the elements {@code x} and {@code y} are located in the same partition.
+     *
+     * @param x first element
+     * @param y second element
+     * @return {@code true} if both elements are located in the same partition, {@code false} else
+     */
+    public boolean isInSamePartition(@NotNull T x, @NotNull T y) {
+        return this.partitions.isInSamePartition(this.indexOf(x), this.indexOf(y));
+    }
+
+    /**
+     * Returns the number of elements of the partition the element {@code x} is located in.
+     *
+     * @param x element whose partition's size is to be returned
+     * @return size of the partition of {@code x}
+     */
+    public int getPartitionSize(@NotNull T x) {
+        return this.partitions.getPartitionSize(this.indexOf(x));
+    }
+
+    /**
+     * Returns the current number of partitions.
+     *
+     * @return number of partitions
+     */
+    public int getNumberOfPartitions() {
+        this.throwExceptionIfNotInitialized();
+        return this.partitions.getNumberOfPartitions();
+    }
+
+    /**
+     * Returns the number of elements maintained by the data structure.
+     *
+     * @return number of elements
+     */
+    public int getNumberOfElements() {
+        return this.elements.size();
+    }
+
+    @Override
+    public void clear() {
+        this.isInitialized = false;
+        this.elements.clear();
+        this.indexLookup.clear();
+        this.partitions = null;
+    }
+
+    private int indexOf(@NotNull T element) {
+        this.throwExceptionIfNotInitialized();
+        Integer idx = this.indexLookup.get(element);
+        if (idx == null) {
+            throw new IllegalArgumentException(String.format(UnionFindSizeBased.OBJECT_NOT_IN_PARENT_GRAPH_EXCEPTION_MSG_TF, element));
+        }
+        return idx;
+    }
+
+    private void throwExceptionIfNotInitialized() {
+        if (!this.isInitialized) {
+            throw new IllegalStateException(UnionFindSizeBased.NOT_INITIALIZED_EXCEPTION_MSG);
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "UnionFindPathCompressionBased(numberOfElements=" + this.elements.size() + ", partitions=" + this.partitions + ")";
+    }
+}
@@ -1,5 +1,6 @@
 package de.sk.greedy.mst.kruskal;
 
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import de.sk.graphs.datastructure.undirected.UnVertex;
@@ -97,6 +98,40 @@ public class KruskalAlgSimple implements MstAlg {
         return partitionOfV == null && partitionOfW == null ? null : new ImmutablePair<>(partitionOfV, partitionOfW);
     }
 
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * For the CSR representation, the partition of each vertex is maintained in an array of partition labels. When two
+     * partitions are merged, all vertices of the one partition are relabeled, which takes O(n) time per merge.
+     */
+    @Override
+    public int @NotNull [] determineMst(@NotNull CsrGraph undirectedGraph) {
+        // verify integrity of graph
+        MstUtils.verifyIntegrityOfGraph(undirectedGraph);
+        // start actual algorithm -> sort edges by weight, each vertex is its own partition at the beginning
+        long[] edgesSortedByWeight = MstUtils.getEdgesSortedByWeight(undirectedGraph);
+        int[] partitionLabels = new int[undirectedGraph.getNumberOfVertices()];
+        Arrays.setAll(partitionLabels, v -> v);
+        int[] mstEntries = new int[undirectedGraph.getNumberOfVertices() - 1];
+        int numberOfMstEntries = 0;
+        for (int j = 0; j < edgesSortedByWeight.length && numberOfMstEntries < mstEntries.length; j++) {
+            int entryIdx = MstUtils.getEntryIdxOfPackedEdge(edgesSortedByWeight[j]);
+            int partitionOfV = partitionLabels[undirectedGraph.getSource(entryIdx)];
+            int partitionOfW = partitionLabels[undirectedGraph.getTarget(entryIdx)];
+            if (partitionOfV != partitionOfW) {
+                // v and w are in different partitions -> select edge for MST and merge the partition of w into the one of v
+                mstEntries[numberOfMstEntries++] = entryIdx;
+                for (int u = 0; u < partitionLabels.length; u++) {
+                    if (partitionLabels[u] == partitionOfW) {
+                        partitionLabels[u] = partitionOfV;
+                    }
+                }
+            }
+            // else, v and w are already in same partition -> discard edge, do nothing
+        }
+        return mstEntries;
+    }
+
     private void clearDatastructures() {
         this.mst.clear();
         this.partitions.clear();
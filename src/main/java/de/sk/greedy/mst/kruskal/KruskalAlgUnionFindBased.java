@@ -1,5 +1,6 @@
 package de.sk.greedy.mst.kruskal;
 
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import de.sk.graphs.datastructure.undirected.UnVertex;
@@ -7,6 +8,7 @@ import de.sk.greedy.GreedyConstants;
 import de.sk.greedy.mst.MstAlg;
 import de.sk.greedy.mst.MstUtils;
 import de.sk.greedy.mst.datastructure.unionfind.UnionFind;
+import de.sk.greedy.mst.datastructure.unionfind.UnionFindIndexBased;
 import de.sk.greedy.mst.datastructure.unionfind.UnionFindSizeBased;
 import org.jetbrains.annotations.NotNull;
 
@@ -48,6 +50,27 @@ public class KruskalAlgUnionFindBased implements MstAlg {
         return Collections.unmodifiableList(this.mst);
     }
 
+    @Override
+    public int @NotNull [] determineMst(@NotNull CsrGraph undirectedGraph) {
+        // verify integrity of graph
+        MstUtils.verifyIntegrityOfGraph(undirectedGraph);
+        // start actual algorithm
+        long[] edgesSortedByWeight = MstUtils.getEdgesSortedByWeight(undirectedGraph);
+        UnionFindIndexBased indexBasedUnionFind = new UnionFindIndexBased(undirectedGraph.getNumberOfVertices());
+        int[] mstEntries = new int[undirectedGraph.getNumberOfVertices() - 1];
+        int numberOfMstEntries = 0;
+        for (int j = 0; j < edgesSortedByWeight.length && numberOfMstEntries < mstEntries.length; j++) {
+            int entryIdx = MstUtils.getEntryIdxOfPackedEdge(edgesSortedByWeight[j]);
+            int rootOf1stGroup = indexBasedUnionFind.find(undirectedGraph.getSource(entryIdx));
+            int rootOf2ndGroup = indexBasedUnionFind.find(undirectedGraph.getTarget(entryIdx));
+            if (rootOf1stGroup != rootOf2ndGroup) {
+                mstEntries[numberOfMstEntries++] = entryIdx;
+                indexBasedUnionFind.union(rootOf1stGroup, rootOf2ndGroup);
+            }
+        }
+        return mstEntries;
+    }
+
     private void clearDatastructures() {
         this.mst.clear();
         this.unionFind.clear();
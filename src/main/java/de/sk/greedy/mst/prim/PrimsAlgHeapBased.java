@@ -1,127 +1,93 @@
 package de.sk.greedy.mst.prim;
 
 import de.sk.graphs.util.UndirectedGraphUtils;
-import de.sk.graphs.algorithm.cc.UnConnectedComponents;
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import de.sk.graphs.datastructure.undirected.UnVertex;
 import de.sk.greedy.mst.MstAlg;
 import de.sk.greedy.mst.MstUtils;
+import de.sk.util.IndexedDAryMinHeap;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
-import javax.inject.Inject;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
- * Heap-based implementation of Kruskal's algorithm for determining the Minimum Spanning Tree of a given
- * connected, undirected graph {@link MstAlg}. Time complexity: O(m log n).
+ * Heap-based implementation of Prim's algorithm for determining the Minimum Spanning Tree of a given connected, undirected
+ * graph {@link MstAlg}. Time complexity: O(m log n).
+ * <br><br>
+ * The heap is an {@link IndexedDAryMinHeap} which holds each vertex not yet connected by the MST at most once, keyed by the
+ * weight of its "winner", i.e. the cheapest edge connecting it to the vertices already connected by the MST. When a vertex
+ * is connected, the keys of its adjacent vertices are decreased in place in O(log n) if it provides a cheaper edge to them.
  */
 public class PrimsAlgHeapBased implements MstAlg {
 
-    private final List<UnEdge> mst = new ArrayList<>();
-    private final Set<UnVertex> connectedByMst = new HashSet<>();
-    private final Map<UnVertex, WinnerOfVertex> winnersOfVertices = new HashMap<>();
-    private final PriorityQueue<WinnerOfVertex> heap = new PriorityQueue<>();
+    // the vertex with index 0 is selected as starting vertex
+    private static final int START = 0;
 
     @Override
     public @NotNull List<UnEdge> determineMst(@NotNull UnAdjacencyList undirectedGraph) {
         // verify integrity of graph
         MstUtils.verifyIntegrityOfGraph(undirectedGraph);
-        this.clearDatastructures();
-        // start actual algorithm -> select a random vertex as starting vertex
-        UnVertex start = undirectedGraph.vertices().get(0);
-        this.connectedByMst.add(start);
-        // initially fill heap with adjacent vertices to start
-        this.initializeHeap(start, undirectedGraph);
-        // one by one, select edges for minimum spanning tree
-        while (!this.heap.isEmpty()) {
-            WinnerOfVertex nextWinnerOfWinners = this.heap.poll();
-            this.mst.add(nextWinnerOfWinners.getEdge());
-            UnVertex newlyConnectedVertex = nextWinnerOfWinners.getVertex();
-            this.connectedByMst.add(newlyConnectedVertex);
-            this.updateAffectedWinnersToMaintainHeapInvariant(newlyConnectedVertex);
-        }
-        return Collections.unmodifiableList(this.mst);
-    }
-
-    private void initializeHeap(@NotNull UnVertex start, @NotNull UnAdjacencyList undirectedGraph) {
-        // @formatter:off
-        Map<UnVertex, UnEdge> adjacentVerticesOfStartAndCorrespondingEdges = start.getEdges().stream()
-                                        .filter(edge -> edge.getVertices().contains(start))
-                                        .collect(Collectors.toMap(edge -> UndirectedGraphUtils.getOtherVertexOfEdge(edge, start), Function.identity())); // @formatter:off
-        for (UnVertex vertex : undirectedGraph.vertices()) {
-            if (vertex != start) {
-                UnEdge edgeBetweenStartAndVertex =  adjacentVerticesOfStartAndCorrespondingEdges.get(vertex);
-                int score = edgeBetweenStartAndVertex != null ? edgeBetweenStartAndVertex.getWeight() : Integer.MAX_VALUE;
-                WinnerOfVertex winnerOfVertex = new WinnerOfVertex(score, vertex, edgeBetweenStartAndVertex);
-                this.winnersOfVertices.put(vertex, winnerOfVertex);
-                this.heap.add(winnerOfVertex);
+        List<UnVertex> vertices = undirectedGraph.vertices();
+        Map<UnVertex, Integer> indexLookupForVertices = UndirectedGraphUtils.createIndexLookupForVertices(undirectedGraph);
+        // winnerEdges[w] is the cheapest edge found so far which connects w to the vertices already connected by the MST
+        UnEdge[] winnerEdges = new UnEdge[vertices.size()];
+        boolean[] connectedByMst = new boolean[vertices.size()];
+        IndexedDAryMinHeap heap = new IndexedDAryMinHeap(vertices.size());
+        List<UnEdge> mst = new ArrayList<>(vertices.size() - 1);
+        // start actual algorithm -> one by one, select edges for minimum spanning tree
+        heap.insert(START, 0);
+        while (!heap.isEmpty()) {
+            int v = heap.poll();
+            connectedByMst[v] = true;
+            if (v != START) {
+                mst.add(winnerEdges[v]);
             }
-        }
-    }
-
-    private void updateAffectedWinnersToMaintainHeapInvariant(@NotNull UnVertex newlyConnectedVertex) {
-        for (UnEdge edge : newlyConnectedVertex.getEdges()) {
-            UnVertex otherVertex = UndirectedGraphUtils.getOtherVertexOfEdge(edge, newlyConnectedVertex);
-            if (!this.connectedByMst.contains(otherVertex)) {
-                WinnerOfVertex winnerOfOtherVertex = this.winnersOfVertices.get(otherVertex);
-                this.heap.remove(winnerOfOtherVertex);
-                int currentScore = winnerOfOtherVertex.getScore();
-                int possiblyLowerScore = edge.getWeight();
-                UnEdge winnerEdge = possiblyLowerScore < currentScore ? edge : winnerOfOtherVertex.getEdge();
-                winnerOfOtherVertex.setScore(currentScore);
-                winnerOfOtherVertex.setEdge(winnerEdge);
-                this.winnersOfVertices.put(otherVertex, winnerOfOtherVertex);
-                this.heap.add(winnerOfOtherVertex);
+            UnVertex newlyConnectedVertex = vertices.get(v);
+            for (UnEdge edge : newlyConnectedVertex.getEdges()) {
+                int w = indexLookupForVertices.get(UndirectedGraphUtils.getOtherVertexOfEdge(edge, newlyConnectedVertex));
+                if (!connectedByMst[w] && heap.insertOrDecreaseKey(w, edge.getWeight())) {
+                    winnerEdges[w] = edge;
+                }
             }
         }
+        return Collections.unmodifiableList(mst);
     }
 
-    private void clearDatastructures() {
-        this.mst.clear();
-        this.connectedByMst.clear();
-        this.winnersOfVertices.clear();
-        this.heap.clear();
-    }
-
-    private static class WinnerOfVertex implements Comparable<WinnerOfVertex> {
-
-        private int score;
-        private final UnVertex vertex;
-        private UnEdge edge;
-
-        public WinnerOfVertex(int score, @NotNull UnVertex vertex, @Nullable UnEdge edge) {
-            this.score = score;
-            this.vertex = vertex;
-            this.edge = edge;
-        }
-
-        public int getScore() {
-            return score;
-        }
-
-        public void setScore(int score) {
-            this.score = score;
-        }
-
-        public UnVertex getVertex() {
-            return vertex;
-        }
-
-        public void setEdge(@NotNull UnEdge edge) {
-            this.edge = edge;
-        }
-
-        public UnEdge getEdge() {
-            return edge;
-        }
-
-        @Override
-        public int compareTo(@NotNull PrimsAlgHeapBased.WinnerOfVertex o) {
-            return Integer.compare(this.score, o.getScore());
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * For the CSR representation, the winner of a vertex is stored as the index of the adjacency entry (of the already
+     * connected endpoint) which points to the vertex, so that no objects are created per vertex.
+     */
+    @Override
+    public int @NotNull [] determineMst(@NotNull CsrGraph undirectedGraph) {
+        // verify integrity of graph
+        MstUtils.verifyIntegrityOfGraph(undirectedGraph);
+        int n = undirectedGraph.getNumberOfVertices();
+        // winnerEntries[w] is the adjacency entry of the cheapest edge found so far which connects w to the vertices already
+        // connected by the MST
+        int[] winnerEntries = new int[n];
+        boolean[] connectedByMst = new boolean[n];
+        IndexedDAryMinHeap heap = new IndexedDAryMinHeap(n);
+        int[] mstEntries = new int[n - 1];
+        int numberOfMstEntries = 0;
+        // start actual algorithm -> one by one, select edges for minimum spanning tree
+        heap.insert(START, 0);
+        while (!heap.isEmpty()) {
+            int v = heap.poll();
+            connectedByMst[v] = true;
+            if (v != START) {
+                mstEntries[numberOfMstEntries++] = winnerEntries[v];
+            }
+            for (int i = undirectedGraph.getOffset(v); i < undirectedGraph.getOffset(v + 1); i++) {
+                int w = undirectedGraph.getTarget(i);
+                if (!connectedByMst[w] && heap.insertOrDecreaseKey(w, undirectedGraph.getWeight(i))) {
+                    winnerEntries[w] = i;
+                }
+            }
         }
+        return mstEntries;
     }
 }
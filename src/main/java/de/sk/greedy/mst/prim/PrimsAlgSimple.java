@@ -1,5 +1,6 @@
 package de.sk.greedy.mst.prim;
 
+import de.sk.graphs.datastructure.CsrGraph;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import de.sk.graphs.datastructure.undirected.UnVertex;
@@ -16,6 +17,8 @@ public class PrimsAlgSimple implements MstAlg {
     static final String NO_EDGE_WAS_SELECTED_EXCEPTION_MSG_TF = "Internal error! None of the %d eligible edges has been selected " +
             "for the next iteration of Prim's algorithm.";
 
+    static final int NO_ENTRY = -1;
+
     private final List<UnEdge> mst = new ArrayList<>();
     private final Set<UnVertex> connectedByMst = new HashSet<>();
 
@@ -67,6 +70,47 @@ public class PrimsAlgSimple implements MstAlg {
         return Optional.ofNullable(selectedEdge).orElseThrow(() -> new IllegalStateException(String.format(NO_EDGE_WAS_SELECTED_EXCEPTION_MSG_TF, edges.size())));
     }
 
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * For the CSR representation, in each iteration all adjacency entries leading from a vertex connected by the MST to a
+     * vertex not yet connected by the MST are scanned. Time complexity: O(mn).
+     */
+    @Override
+    public int @NotNull [] determineMst(@NotNull CsrGraph undirectedGraph) {
+        // verify integrity of graph
+        MstUtils.verifyIntegrityOfGraph(undirectedGraph);
+        // start actual algorithm
+        boolean[] connected = new boolean[undirectedGraph.getNumberOfVertices()];
+        connected[0] = true;
+        int[] mstEntries = new int[undirectedGraph.getNumberOfVertices() - 1];
+        for (int j = 0; j < mstEntries.length; j++) {
+            int selectedEntry = this.getEligibleEntryWithLowestLength(undirectedGraph, connected, j + 1);
+            mstEntries[j] = selectedEntry;
+            connected[undirectedGraph.getTarget(selectedEntry)] = true;
+        }
+        return mstEntries;
+    }
+
+    private int getEligibleEntryWithLowestLength(@NotNull CsrGraph undirectedGraph, boolean @NotNull [] connected, int numberOfConnectedVertices) {
+        int selectedEntry = NO_ENTRY;
+        int minLength = Integer.MAX_VALUE;
+        for (int v = 0; v < undirectedGraph.getNumberOfVertices(); v++) {
+            if (connected[v]) {
+                for (int i = undirectedGraph.getOffset(v); i < undirectedGraph.getOffset(v + 1); i++) {
+                    if (!connected[undirectedGraph.getTarget(i)] && (selectedEntry == NO_ENTRY || undirectedGraph.getWeight(i) < minLength)) {
+                        selectedEntry = i;
+                        minLength = undirectedGraph.getWeight(i);
+                    }
+                }
+            }
+        }
+        if (selectedEntry == NO_ENTRY) {
+            throw new IllegalStateException(String.format(NO_ELIGIBLE_EDGE_EXISTS_EXCEPTION_MSG_TF, numberOfConnectedVertices));
+        }
+        return selectedEntry;
+    }
+
     private void clearDatastructures() {
         this.mst.clear();
         this.connectedByMst.clear();
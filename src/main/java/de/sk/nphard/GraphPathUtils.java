@@ -3,6 +3,7 @@ package de.sk.nphard;
 import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
 import de.sk.graphs.datastructure.undirected.UnEdge;
 import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.graphs.util.EdgeIndex;
 import de.sk.graphs.util.UndirectedGraphUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -68,13 +69,15 @@ public final class GraphPathUtils {
      */
     public static @NotNull List<UnEdge> convertPathToRepresentationFittingAnAdjacencyList(@NotNull List<Pair<Integer, Integer>> pathFittingAdjacencyMatrixRepresentation, @NotNull UnAdjacencyList adjacencyList) {
         List<UnVertex> vertices = adjacencyList.vertices();
+        // index the edges once, so that each edge of the path can be looked up in O(1)
+        EdgeIndex<UnVertex, UnEdge> edgeIndex = EdgeIndex.of(adjacencyList);
         List<UnEdge> path = new ArrayList<>();
         for (Pair<Integer, Integer> edgeFittingAdjacencyMatrix : pathFittingAdjacencyMatrixRepresentation) {
             int idxOfV = edgeFittingAdjacencyMatrix.getLeft();
             int idxOfW = edgeFittingAdjacencyMatrix.getRight();
             UnVertex v = vertices.get(idxOfV);
             UnVertex w = vertices.get(idxOfW);
-            UnEdge edge = Optional.ofNullable(UndirectedGraphUtils.getEdgeConnectingVAndW(v, w))
+            UnEdge edge = Optional.ofNullable(UndirectedGraphUtils.getEdgeConnectingVAndW(v, w, edgeIndex))
                     .orElseThrow(() -> new IllegalArgumentException(String.format(PATH_AND_GRAPH_DO_MOT_MATCH_EXCEPTION_MSG_TF, idxOfV, idxOfW)));
             path.add(edge);
         }
@@ -73,4 +73,21 @@ public final class AdditionalArrayUtils {
         }
         return idxOfMin;
     }
+
+    /**
+     * Returns an array holding the elements of the given {@code array} with a length of at least {@code minCapacity}. If
+     * the given {@code array} is already large enough, it is returned itself. Else, a copy of at least twice the length is
+     * returned (to achieve an amortized time complexity of O(1) per added element when growing an array step by step).
+     *
+     * @param array       array which is required to have a length of at least {@code minCapacity}
+     * @param minCapacity required minimum length
+     * @return {@code array} itself, or a larger copy of it
+     */
+    public static int @NotNull [] ensureCapacity(int @NotNull [] array, int minCapacity) {
+        if (array.length >= minCapacity) {
+            return array;
+        }
+        int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(minCapacity, 2L * array.length));
+        return Arrays.copyOf(array, Math.max(newCapacity, minCapacity));
+    }
 }
@@ -0,0 +1,239 @@
+package de.sk.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone bucket queue (as used by Dial's algorithm) of {@code int} ids in the range [0;capacity) with non-negative
+ * {@code long} keys. The queue requires that the keys of all contained ids lie within [k;k+{@code maxKeySpan}], where k is
+ * the key of the id polled last (0 initially), i.e. the polled keys are non-decreasing. This is the case for Dijkstra's
+ * algorithm with integer edge weights of at most {@code maxKeySpan}.
+ * <br><br>
+ * The queue consists of {@code maxKeySpan} + 1 buckets which are used cyclically: an id with key k is held in the bucket
+ * with index k mod ({@code maxKeySpan} + 1). Since the contained keys span at most {@code maxKeySpan} + 1 distinct values,
+ * each bucket only holds ids with the same key. Each bucket is a doubly linked list threaded through arrays indexed by the
+ * ids, so that {@link #insert(int, long)} and {@link #decreaseKey(int, long)} take O(1) without comparing keys. A
+ * {@link #poll()} scans the buckets from the key polled last to the next non-empty bucket, so that over all polls of a run
+ * of Dijkstra's algorithm, at most the length of the longest shortest path plus n buckets are scanned. Ids with equal keys
+ * are polled in LIFO order.
+ * <br><br>
+ * Not thread-safe.
+ */
+public final class BucketQueue {
+
+    static final String INVALID_CAPACITY_EXCEPTION_MSG_TF = "The capacity of the queue must not be negative. Given: %d.";
+    static final String INVALID_MAX_KEY_SPAN_EXCEPTION_MSG_TF = "The max key span must be in the range [0;%d]. Given: %d.";
+    static final String ID_OUT_OF_RANGE_EXCEPTION_MSG_TF = "The id must be in the range [0;%d). Given: %d.";
+    static final String ID_ALREADY_CONTAINED_EXCEPTION_MSG_TF = "Id %d is already contained in the queue.";
+    static final String ID_NOT_CONTAINED_EXCEPTION_MSG_TF = "Id %d is not contained in the queue.";
+    static final String KEY_NOT_DECREASED_EXCEPTION_MSG_TF = "The new key of id %d must not be greater than its current key %d. Given: %d.";
+    static final String KEY_OUT_OF_RANGE_EXCEPTION_MSG_TF = "The key of id %d must be in the range [%d;%d]. Given: %d.";
+    static final String EMPTY_QUEUE_EXCEPTION_MSG = "The queue is empty.";
+
+    // the buckets are allocated upfront, hence their number is limited
+    public static final int MAX_KEY_SPAN = (1 << 26) - 1;
+
+    private static final int NONE = -1;
+
+    private final int maxKeySpan;
+    private final int numberOfBuckets;
+    // bucketHeads[b] is the first id of the list of bucket b, NONE if the bucket is empty
+    private final int[] bucketHeads;
+    // next[id] and previous[id] are the neighbors of the id in the list of its bucket
+    private final int[] next;
+    private final int[] previous;
+    private final long[] keys;
+    private final boolean[] contained;
+    private long currentKey;
+    private int currentBucket;
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity   number of ids the queue is able to hold (i.e. the ids are in the range [0;{@code capacity}))
+     * @param maxKeySpan max difference between the key of any contained id and the key polled last (at most
+     *                   {@link #MAX_KEY_SPAN})
+     */
+    public BucketQueue(int capacity, int maxKeySpan) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_CAPACITY_EXCEPTION_MSG_TF, capacity));
+        }
+        if (maxKeySpan < 0 || maxKeySpan > MAX_KEY_SPAN) {
+            throw new IllegalArgumentException(String.format(INVALID_MAX_KEY_SPAN_EXCEPTION_MSG_TF, MAX_KEY_SPAN, maxKeySpan));
+        }
+        this.maxKeySpan = maxKeySpan;
+        this.numberOfBuckets = maxKeySpan + 1;
+        this.bucketHeads = new int[this.numberOfBuckets];
+        Arrays.fill(this.bucketHeads, NONE);
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+        this.keys = new long[capacity];
+        this.contained = new boolean[capacity];
+    }
+
+    /**
+     * Inserts the given {@code id} with the given {@code key} into the queue. Throws an {@link IllegalArgumentException} if
+     * the id is already contained in the queue or if the key is not within [k;k+maxKeySpan], with k being the key polled
+     * last. Time complexity: O(1).
+     *
+     * @param id  id to be inserted
+     * @param key key of the id
+     */
+    public void insert(int id, long key) {
+        this.verifyId(id);
+        if (this.contained[id]) {
+            throw new IllegalArgumentException(String.format(ID_ALREADY_CONTAINED_EXCEPTION_MSG_TF, id));
+        }
+        this.verifyKey(id, key);
+        this.link(id, key);
+        this.contained[id] = true;
+        this.size++;
+    }
+
+    /**
+     * Decreases the key of the given {@code id}, which must be contained in the queue, to the given {@code key}. Throws an
+     * {@link IllegalArgumentException} if the id is not contained in the queue, if the new key is greater than the current
+     * key of the id, or if the new key is smaller than the key polled last. Time complexity: O(1).
+     *
+     * @param id  id whose key is to be decreased
+     * @param key new key of the id
+     */
+    public void decreaseKey(int id, long key) {
+        this.verifyId(id);
+        if (!this.contained[id]) {
+            throw new IllegalArgumentException(String.format(ID_NOT_CONTAINED_EXCEPTION_MSG_TF, id));
+        }
+        if (key > this.keys[id]) {
+            throw new IllegalArgumentException(String.format(KEY_NOT_DECREASED_EXCEPTION_MSG_TF, id, this.keys[id], key));
+        }
+        this.verifyKey(id, key);
+        this.unlink(id);
+        this.link(id, key);
+    }
+
+    /**
+     * Inserts the given {@code id} with the given {@code key} if the id is not contained in the queue, or decreases the key
+     * of the id if it is contained with a greater key. Does nothing if the id is contained with a key smaller than or equal
+     * to the given key. Time complexity: O(1).
+     *
+     * @param id  id to be inserted, respectively whose key is to be decreased
+     * @param key (new) key of the id
+     * @return {@code true} if the id has been inserted or its key has been decreased, {@code false} else
+     */
+    public boolean insertOrDecreaseKey(int id, long key) {
+        this.verifyId(id);
+        if (!this.contained[id]) {
+            this.insert(id, key);
+            return true;
+        }
+        if (key < this.keys[id]) {
+            this.decreaseKey(id, key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes an id with the minimum key from the queue and returns it. Throws a {@link NoSuchElementException} if the queue
+     * is empty. Time complexity: O(1) plus the number of scanned empty buckets.
+     *
+     * @return id with the minimum key
+     */
+    public int poll() {
+        if (this.size == 0) {
+            throw new NoSuchElementException(EMPTY_QUEUE_EXCEPTION_MSG);
+        }
+        while (this.bucketHeads[this.currentBucket] == NONE) {
+            this.currentKey++;
+            this.currentBucket = this.currentBucket + 1 < this.numberOfBuckets ? this.currentBucket + 1 : 0;
+        }
+        int minId = this.bucketHeads[this.currentBucket];
+        this.unlink(minId);
+        this.contained[minId] = false;
+        this.size--;
+        return minId;
+    }
+
+    /**
+     * Returns the key of the given {@code id}. Throws an {@link IllegalArgumentException} if the id is not contained in the
+     * queue. Time complexity: O(1).
+     *
+     * @param id id whose key is to be returned
+     * @return key of the id
+     */
+    public long getKey(int id) {
+        this.verifyId(id);
+        if (!this.contained[id]) {
+            throw new IllegalArgumentException(String.format(ID_NOT_CONTAINED_EXCEPTION_MSG_TF, id));
+        }
+        return this.keys[id];
+    }
+
+    /**
+     * Returns whether the given {@code id} is contained in the queue. Time complexity: O(1).
+     *
+     * @param id id whose presence is to be checked
+     * @return {@code true} if the id is contained in the queue, {@code false} else
+     */
+    public boolean contains(int id) {
+        this.verifyId(id);
+        return this.contained[id];
+    }
+
+    /**
+     * Returns whether the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, {@code false} else
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the number of ids contained in the queue.
+     *
+     * @return number of ids contained in the queue
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void link(int id, long key) {
+        int bucket = (int) (key % this.numberOfBuckets);
+        int head = this.bucketHeads[bucket];
+        this.keys[id] = key;
+        this.previous[id] = NONE;
+        this.next[id] = head;
+        if (head != NONE) {
+            this.previous[head] = id;
+        }
+        this.bucketHeads[bucket] = id;
+    }
+
+    private void unlink(int id) {
+        int previousId = this.previous[id];
+        int nextId = this.next[id];
+        if (previousId != NONE) {
+            this.next[previousId] = nextId;
+        } else {
+            this.bucketHeads[(int) (this.keys[id] % this.numberOfBuckets)] = nextId;
+        }
+        if (nextId != NONE) {
+            this.previous[nextId] = previousId;
+        }
+    }
+
+    private void verifyKey(int id, long key) {
+        if (key < this.currentKey || key - this.currentKey > this.maxKeySpan) {
+            throw new IllegalArgumentException(String.format(KEY_OUT_OF_RANGE_EXCEPTION_MSG_TF, id, this.currentKey,
+                    this.currentKey + this.maxKeySpan, key));
+        }
+    }
+
+    private void verifyId(int id) {
+        if (id < 0 || id >= this.contained.length) {
+            throw new IllegalArgumentException(String.format(ID_OUT_OF_RANGE_EXCEPTION_MSG_TF, this.contained.length, id));
+        }
+    }
+}
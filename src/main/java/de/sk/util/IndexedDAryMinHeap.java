@@ -0,0 +1,288 @@
+package de.sk.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed d-ary min-heap of {@code int} ids in the range [0;capacity) with primitive {@code long} keys. Next to the heap
+ * array, the heap keeps the position of each id in the heap array, which allows to look up and decrease the key of an id
+ * which is already contained in the heap in O(log_d n) (instead of removing it in O(n) and inserting it again, as required
+ * by {@link java.util.PriorityQueue}). Hence, the heap holds each id at most once and never more than {@code capacity}
+ * entries, which makes it suitable for Dijkstra's and Prim's algorithm on graphs with millions of vertices.
+ * <br><br>
+ * The ids and keys are stored in parallel arrays, so that no objects are created per entry. A larger arity d makes the heap
+ * shallower (i.e. cheaper {@link #insert(int, long)} and {@link #decreaseKey(int, long)}, which only sift up), at the cost of
+ * comparing d children per level in {@link #poll()}. As in graph algorithms the key of an id is typically decreased more
+ * often than the minimum is polled, the default arity is 4. Entries with equal keys are polled in arbitrary order.
+ * <br><br>
+ * Not thread-safe.
+ */
+public final class IndexedDAryMinHeap {
+
+    static final String INVALID_CAPACITY_EXCEPTION_MSG_TF = "The capacity of the heap must not be negative. Given: %d.";
+    static final String INVALID_ARITY_EXCEPTION_MSG_TF = "The arity of the heap must be at least 2. Given: %d.";
+    static final String ID_OUT_OF_RANGE_EXCEPTION_MSG_TF = "The id must be in the range [0;%d). Given: %d.";
+    static final String ID_ALREADY_CONTAINED_EXCEPTION_MSG_TF = "Id %d is already contained in the heap.";
+    static final String ID_NOT_CONTAINED_EXCEPTION_MSG_TF = "Id %d is not contained in the heap.";
+    static final String KEY_NOT_DECREASED_EXCEPTION_MSG_TF = "The new key of id %d must not be greater than its current key %d. Given: %d.";
+    static final String EMPTY_HEAP_EXCEPTION_MSG = "The heap is empty.";
+
+    public static final int DEFAULT_ARITY = 4;
+
+    private static final int ABSENT = -1;
+
+    private final int arity;
+    // heapIds[p] and heapKeys[p] are the id and the key of the entry at position p of the heap array
+    private final int[] heapIds;
+    private final long[] heapKeys;
+    // positions[id] is the position of the id in the heap array, ABSENT if the id is not contained in the heap
+    private final int[] positions;
+    private int size;
+
+    /**
+     * Constructor. Creates a heap with the {@link #DEFAULT_ARITY}.
+     *
+     * @param capacity number of ids the heap is able to hold (i.e. the ids are in the range [0;{@code capacity}))
+     */
+    public IndexedDAryMinHeap(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity number of ids the heap is able to hold (i.e. the ids are in the range [0;{@code capacity}))
+     * @param arity    max number of children of each entry in the heap (must be at least 2)
+     */
+    public IndexedDAryMinHeap(int capacity, int arity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_CAPACITY_EXCEPTION_MSG_TF, capacity));
+        }
+        if (arity < 2) {
+            throw new IllegalArgumentException(String.format(INVALID_ARITY_EXCEPTION_MSG_TF, arity));
+        }
+        this.arity = arity;
+        this.heapIds = new int[capacity];
+        this.heapKeys = new long[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(this.positions, ABSENT);
+    }
+
+    /**
+     * Inserts the given {@code id} with the given {@code key} into the heap. Throws an {@link IllegalArgumentException} if
+     * the id is already contained in the heap. Time complexity: O(log_d n).
+     *
+     * @param id  id to be inserted
+     * @param key key of the id
+     */
+    public void insert(int id, long key) {
+        this.verifyId(id);
+        if (this.positions[id] != ABSENT) {
+            throw new IllegalArgumentException(String.format(ID_ALREADY_CONTAINED_EXCEPTION_MSG_TF, id));
+        }
+        this.siftUp(this.size++, id, key);
+    }
+
+    /**
+     * Decreases the key of the given {@code id}, which must be contained in the heap, to the given {@code key}. Throws an
+     * {@link IllegalArgumentException} if the id is not contained in the heap or if the new key is greater than the current
+     * key of the id. Time complexity: O(log_d n).
+     *
+     * @param id  id whose key is to be decreased
+     * @param key new key of the id
+     */
+    public void decreaseKey(int id, long key) {
+        this.verifyId(id);
+        int position = this.positions[id];
+        if (position == ABSENT) {
+            throw new IllegalArgumentException(String.format(ID_NOT_CONTAINED_EXCEPTION_MSG_TF, id));
+        }
+        if (key > this.heapKeys[position]) {
+            throw new IllegalArgumentException(String.format(KEY_NOT_DECREASED_EXCEPTION_MSG_TF, id, this.heapKeys[position], key));
+        }
+        this.siftUp(position, id, key);
+    }
+
+    /**
+     * Inserts the given {@code id} with the given {@code key} if the id is not contained in the heap, or decreases the key of
+     * the id if it is contained with a greater key. Does nothing if the id is contained with a key smaller than or equal to the
+     * given key. Time complexity: O(log_d n).
+     *
+     * @param id  id to be inserted, respectively whose key is to be decreased
+     * @param key (new) key of the id
+     * @return {@code true} if the id has been inserted or its key has been decreased, {@code false} else
+     */
+    public boolean insertOrDecreaseKey(int id, long key) {
+        this.verifyId(id);
+        int position = this.positions[id];
+        if (position == ABSENT) {
+            this.siftUp(this.size++, id, key);
+            return true;
+        }
+        if (key < this.heapKeys[position]) {
+            this.siftUp(position, id, key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the id with the minimum key from the heap and returns it. Throws a {@link NoSuchElementException} if the heap
+     * is empty. Time complexity: O(d log_d n).
+     *
+     * @return id with the minimum key
+     */
+    public int poll() {
+        int minId = this.peek();
+        this.positions[minId] = ABSENT;
+        int lastPosition = --this.size;
+        if (lastPosition > 0) {
+            this.siftDown(0, this.heapIds[lastPosition], this.heapKeys[lastPosition]);
+        }
+        return minId;
+    }
+
+    /**
+     * Returns the id with the minimum key without removing it from the heap. Throws a {@link NoSuchElementException} if the
+     * heap is empty. Time complexity: O(1).
+     *
+     * @return id with the minimum key
+     */
+    public int peek() {
+        if (this.size == 0) {
+            throw new NoSuchElementException(EMPTY_HEAP_EXCEPTION_MSG);
+        }
+        return this.heapIds[0];
+    }
+
+    /**
+     * Returns the minimum key of the heap (i.e. the key of {@link #peek()}). Throws a {@link NoSuchElementException} if the
+     * heap is empty. Time complexity: O(1).
+     *
+     * @return minimum key
+     */
+    public long peekKey() {
+        if (this.size == 0) {
+            throw new NoSuchElementException(EMPTY_HEAP_EXCEPTION_MSG);
+        }
+        return this.heapKeys[0];
+    }
+
+    /**
+     * Returns the key of the given {@code id}. Throws an {@link IllegalArgumentException} if the id is not contained in the
+     * heap. Time complexity: O(1).
+     *
+     * @param id id whose key is to be returned
+     * @return key of the id
+     */
+    public long getKey(int id) {
+        this.verifyId(id);
+        int position = this.positions[id];
+        if (position == ABSENT) {
+            throw new IllegalArgumentException(String.format(ID_NOT_CONTAINED_EXCEPTION_MSG_TF, id));
+        }
+        return this.heapKeys[position];
+    }
+
+    /**
+     * Returns whether the given {@code id} is contained in the heap. Time complexity: O(1).
+     *
+     * @param id id whose presence is to be checked
+     * @return {@code true} if the id is contained in the heap, {@code false} else
+     */
+    public boolean contains(int id) {
+        this.verifyId(id);
+        return this.positions[id] != ABSENT;
+    }
+
+    /**
+     * Returns whether the heap is empty.
+     *
+     * @return {@code true} if the heap is empty, {@code false} else
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the number of ids contained in the heap.
+     *
+     * @return number of ids contained in the heap
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the capacity of the heap (i.e. the ids are in the range [0;capacity)).
+     *
+     * @return capacity of the heap
+     */
+    public int getCapacity() {
+        return this.positions.length;
+    }
+
+    /**
+     * Removes all ids from the heap (keeping its capacity), so that the heap can be reused. Time complexity: O(n) with n
+     * being the number of ids currently contained in the heap (i.e. not the capacity).
+     */
+    public void clear() {
+        for (int p = 0; p < this.size; p++) {
+            this.positions[this.heapIds[p]] = ABSENT;
+        }
+        this.size = 0;
+    }
+
+    /*
+     * Moves the "hole" at the given position upwards until the key of its parent is not greater than the given key, and
+     * places the given id with the given key into it. Instead of swapping the entries pairwise, the parents are shifted down.
+     */
+    private void siftUp(int position, int id, long key) {
+        while (position > 0) {
+            int parent = (position - 1) / this.arity;
+            if (this.heapKeys[parent] <= key) {
+                break;
+            }
+            this.place(position, this.heapIds[parent], this.heapKeys[parent]);
+            position = parent;
+        }
+        this.place(position, id, key);
+    }
+
+    /*
+     * Moves the "hole" at the given position downwards until the keys of all its children are not smaller than the given key,
+     * and places the given id with the given key into it.
+     */
+    private void siftDown(int position, int id, long key) {
+        int firstChild;
+        while ((firstChild = this.arity * position + 1) < this.size) {
+            int endOfChildren = Math.min(firstChild + this.arity, this.size);
+            int minChild = firstChild;
+            long minKey = this.heapKeys[firstChild];
+            for (int child = firstChild + 1; child < endOfChildren; child++) {
+                if (this.heapKeys[child] < minKey) {
+                    minChild = child;
+                    minKey = this.heapKeys[child];
+                }
+            }
+            if (key <= minKey) {
+                break;
+            }
+            this.place(position, this.heapIds[minChild], minKey);
+            position = minChild;
+        }
+        this.place(position, id, key);
+    }
+
+    private void place(int position, int id, long key) {
+        this.heapIds[position] = id;
+        this.heapKeys[position] = key;
+        this.positions[id] = position;
+    }
+
+    private void verifyId(int id) {
+        if (id < 0 || id >= this.positions.length) {
+            throw new IllegalArgumentException(String.format(ID_OUT_OF_RANGE_EXCEPTION_MSG_TF, this.positions.length, id));
+        }
+    }
+}
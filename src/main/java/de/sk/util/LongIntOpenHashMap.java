@@ -0,0 +1,230 @@
+package de.sk.util;
+
+import java.util.Arrays;
+
+/**
+ * Hash map with primitive {@code long} keys and primitive {@code int} values, using open addressing with linear probing.
+ * Avoids the boxing of keys and values and the allocation of an entry object per mapping (as done by
+ * {@link java.util.HashMap}), which makes it suitable for lookup tables with millions of entries.
+ * <br><br>
+ * Since the values are primitives, the absence of a mapping is signalled by a {@code missingValue} which is specified on
+ * construction and is returned by {@link #get(long)} for keys without a mapping. The table grows when it is filled to more
+ * than 75%, up to a capacity of 2^30 slots; beyond that, it is filled further, and an {@link IllegalStateException} is
+ * thrown when it is full. Time complexity: expected O(1) for {@link #get(long)}, {@link #put(long, int)} and
+ * {@link #remove(long)}.
+ * <br><br>
+ * Not thread-safe.
+ */
+public final class LongIntOpenHashMap {
+
+    static final String NEGATIVE_EXPECTED_SIZE_EXCEPTION_MSG_TF = "The expected size must not be negative. Given: %d.";
+    static final String MAP_FULL_EXCEPTION_MSG_TF = "The map is full: it holds %d mappings at its max capacity %d.";
+
+    private static final int MIN_CAPACITY = 8;
+    static final int MAX_CAPACITY = 1 << 30;
+    /**
+     * Max number of mappings the map can hold (one slot of the table at the max capacity is kept free).
+     */
+    public static final int MAX_SIZE = MAX_CAPACITY - 1;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    private final int missingValue;
+    private final int maxCapacity;
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Constructor.
+     *
+     * @param expectedSize number of mappings the map is expected to hold (to avoid rehashing while filling the map)
+     * @param missingValue value returned by {@link #get(long)} if there is no mapping for the given key
+     */
+    public LongIntOpenHashMap(int expectedSize, int missingValue) {
+        this(expectedSize, missingValue, MAX_CAPACITY);
+    }
+
+    /*
+     * Constructor with a smaller max capacity (a power of 2 of at least MIN_CAPACITY), for testing the behavior of a full map.
+     */
+    LongIntOpenHashMap(int expectedSize, int missingValue, int maxCapacity) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException(String.format(NEGATIVE_EXPECTED_SIZE_EXCEPTION_MSG_TF, expectedSize));
+        }
+        this.missingValue = missingValue;
+        this.maxCapacity = maxCapacity;
+        this.allocate(this.capacityFor(expectedSize));
+    }
+
+    private int capacityFor(int expectedSize) {
+        long minCapacity = (long) Math.ceil(expectedSize / MAX_LOAD_FACTOR) + 1;
+        int capacity = MIN_CAPACITY;
+        while (capacity < minCapacity && capacity < this.maxCapacity) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Returns the value to which the given {@code key} is mapped, or the {@code missingValue} if there is no such mapping.
+     *
+     * @param key key whose value is to be returned
+     * @return value mapped to the key, {@code missingValue} if there is no mapping for the key
+     */
+    public int get(long key) {
+        int slot = this.findSlot(key);
+        return this.used[slot] ? this.values[slot] : this.missingValue;
+    }
+
+    /**
+     * Returns whether the map contains a mapping for the given {@code key}.
+     *
+     * @param key key whose presence is to be checked
+     * @return {@code true} if there is a mapping for the key, {@code false} else
+     */
+    public boolean containsKey(long key) {
+        return this.used[this.findSlot(key)];
+    }
+
+    /**
+     * Maps the given {@code key} to the given {@code value}, replacing a possibly existing mapping.
+     *
+     * @param key   key to be mapped
+     * @param value value to map the key to
+     * @return previous value of the key, {@code missingValue} if there was no mapping for the key
+     */
+    public int put(long key, int value) {
+        int slot = this.findSlot(key);
+        if (this.used[slot]) {
+            int previousValue = this.values[slot];
+            this.values[slot] = value;
+            return previousValue;
+        }
+        this.insertAt(slot, key, value);
+        return this.missingValue;
+    }
+
+    /**
+     * Maps the given {@code key} to the given {@code value} if there is no mapping for the key yet.
+     *
+     * @param key   key to be mapped
+     * @param value value to map the key to
+     * @return {@code true} if the mapping has been added, {@code false} if there already was a mapping for the key
+     */
+    public boolean putIfAbsent(long key, int value) {
+        int slot = this.findSlot(key);
+        if (this.used[slot]) {
+            return false;
+        }
+        this.insertAt(slot, key, value);
+        return true;
+    }
+
+    /**
+     * Removes the mapping for the given {@code key}. Subsequent entries of the probing sequence are shifted back, so that
+     * no tombstones are required.
+     *
+     * @param key key whose mapping is to be removed
+     * @return value the key was mapped to, {@code missingValue} if there was no mapping for the key
+     */
+    public int remove(long key) {
+        int slot = this.findSlot(key);
+        if (!this.used[slot]) {
+            return this.missingValue;
+        }
+        int removedValue = this.values[slot];
+        // backward shift deletion: move entries whose probing sequence passes the freed slot into it
+        int free = slot;
+        int current = (slot + 1) & this.mask;
+        while (this.used[current]) {
+            int home = hash(this.keys[current]) & this.mask;
+            if (((current - home) & this.mask) >= ((current - free) & this.mask)) {
+                this.keys[free] = this.keys[current];
+                this.values[free] = this.values[current];
+                free = current;
+            }
+            current = (current + 1) & this.mask;
+        }
+        this.used[free] = false;
+        this.size--;
+        return removedValue;
+    }
+
+    /**
+     * Returns the number of mappings in the map.
+     *
+     * @return number of mappings
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Removes all mappings from the map (keeping the current capacity).
+     */
+    public void clear() {
+        Arrays.fill(this.used, false);
+        this.size = 0;
+    }
+
+    /*
+     * Inserts the mapping into the given free slot. At the max capacity, the table is not grown anymore but filled beyond the
+     * max load factor, keeping one slot free (so that the probing for an absent key terminates).
+     */
+    private void insertAt(int slot, long key, int value) {
+        if (this.size == this.keys.length - 1) {
+            throw new IllegalStateException(String.format(MAP_FULL_EXCEPTION_MSG_TF, this.size, this.keys.length));
+        }
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.used[slot] = true;
+        this.size++;
+        if (this.size > this.resizeThreshold && this.keys.length < this.maxCapacity) {
+            this.rehash();
+        }
+    }
+
+    private void rehash() {
+        long[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        boolean[] oldUsed = this.used;
+        this.allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = this.findSlot(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+                this.used[slot] = true;
+            }
+        }
+    }
+
+    private int findSlot(long key) {
+        int slot = hash(key) & this.mask;
+        while (this.used[slot] && this.keys[slot] != key) {
+            slot = (slot + 1) & this.mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long key) {
+        // finalizer of MurmurHash3 (spreads keys which only differ in few bits, e.g. packed pairs of vertex indices)
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
@@ -0,0 +1,105 @@
+package de.sk.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility class supplying utility methods for processing index ranges in parallel on a {@link ForkJoinPool}.
+ */
+public final class ParallelUtils {
+
+    static final String INVALID_CHUNK_SIZE_EXCEPTION_MSG_TF = "The chunk size must be positive. Given: %d.";
+
+    private ParallelUtils() {
+        // only utility methods
+    }
+
+    /**
+     * Action applied to a chunk [from;to) of an index range.
+     */
+    @FunctionalInterface
+    public interface ChunkAction {
+
+        /**
+         * Applies the action to the indices [{@code from};{@code to}).
+         *
+         * @param from first index of the chunk (inclusive)
+         * @param to   last index of the chunk (exclusive)
+         */
+        void apply(int from, int to);
+    }
+
+    /**
+     * Splits the index range [0;{@code length}) into chunks of {@code chunkSize} indices (the last chunk may be smaller) and
+     * applies the given action to the chunks in parallel on the given pool. The chunks start at multiples of
+     * {@code chunkSize}, i.e. chunk c is [c*chunkSize;min((c+1)*chunkSize, length)). Returns when all chunks are processed.
+     * If the range comprises only one chunk, the action is applied in the calling thread. If called from within a task of
+     * the given pool, the calling thread participates in processing the chunks.
+     *
+     * @param pool      pool on which the chunks are to be processed
+     * @param length    length of the index range
+     * @param chunkSize number of indices per chunk
+     * @param action    action to apply to each chunk
+     */
+    public static void forEachChunk(@NotNull ForkJoinPool pool, int length, int chunkSize, @NotNull ChunkAction action) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_CHUNK_SIZE_EXCEPTION_MSG_TF, chunkSize));
+        }
+        if (length <= chunkSize) {
+            if (length > 0) {
+                action.apply(0, length);
+            }
+            return;
+        }
+        ChunkTask task = new ChunkTask(0, length, chunkSize, action);
+        if (ForkJoinTask.getPool() == pool) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * Returns the number of chunks of {@code chunkSize} indices the index range [0;{@code length}) is split into by
+     * {@link #forEachChunk(ForkJoinPool, int, int, ChunkAction)}.
+     *
+     * @param length    length of the index range
+     * @param chunkSize number of indices per chunk
+     * @return number of chunks
+     */
+    public static int getNumberOfChunks(int length, int chunkSize) {
+        return (int) (((long) length + chunkSize - 1) / chunkSize);
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final ChunkAction action;
+
+        private ChunkTask(int from, int to, int chunkSize, @NotNull ChunkAction action) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            int numberOfChunks = getNumberOfChunks(this.to - this.from, this.chunkSize);
+            if (numberOfChunks <= 1) {
+                this.action.apply(this.from, this.to);
+                return;
+            }
+            // split at a chunk boundary, so that the chunks start at multiples of the chunk size
+            int mid = this.from + (numberOfChunks >>> 1) * this.chunkSize;
+            invokeAll(new ChunkTask(this.from, mid, this.chunkSize, this.action), new ChunkTask(mid, this.to, this.chunkSize, this.action));
+        }
+    }
+}
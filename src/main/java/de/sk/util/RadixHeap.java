@@ -0,0 +1,252 @@
+package de.sk.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone radix heap of {@code int} ids in the range [0;capacity) with non-negative {@code long} keys. The heap requires
+ * that no key smaller than the key of the id polled last (0 initially) is inserted, i.e. the polled keys are non-decreasing.
+ * This is the case for Dijkstra's algorithm with non-negative edge weights.
+ * <br><br>
+ * An id with key k is held in the bucket with index b(k), where b(k) is 0 if k equals the key polled last (l), and the
+ * position of the highest bit in which k and l differ plus 1 otherwise. Hence, there are 65 buckets, and the keys in bucket
+ * b &gt; 0 share all bits above bit b-1 with l, but differ from l in bit b-1. A {@link #poll()} takes the ids from bucket
+ * 0; if bucket 0 is empty, the first non-empty bucket is emptied by redistributing its ids with respect to its minimum key
+ * (which becomes the new l), which moves each of them to a strictly smaller bucket. So each id moves down at most 64 times,
+ * which gives an amortized time complexity of O(log C) per {@link #poll()} (C being the max difference between the keys)
+ * without comparing keys in the common case.
+ * <br><br>
+ * Each bucket is a doubly linked list threaded through arrays indexed by the ids, so that {@link #insert(int, long)} and
+ * {@link #decreaseKey(int, long)} take O(1). Ids with equal keys are polled in arbitrary order.
+ * <br><br>
+ * Not thread-safe.
+ */
+public final class RadixHeap {
+
+    static final String INVALID_CAPACITY_EXCEPTION_MSG_TF = "The capacity of the heap must not be negative. Given: %d.";
+    static final String ID_OUT_OF_RANGE_EXCEPTION_MSG_TF = "The id must be in the range [0;%d). Given: %d.";
+    static final String ID_ALREADY_CONTAINED_EXCEPTION_MSG_TF = "Id %d is already contained in the heap.";
+    static final String ID_NOT_CONTAINED_EXCEPTION_MSG_TF = "Id %d is not contained in the heap.";
+    static final String KEY_NOT_DECREASED_EXCEPTION_MSG_TF = "The new key of id %d must not be greater than its current key %d. Given: %d.";
+    static final String KEY_TOO_SMALL_EXCEPTION_MSG_TF = "The key of id %d must not be smaller than the key polled last (%d). Given: %d.";
+    static final String EMPTY_HEAP_EXCEPTION_MSG = "The heap is empty.";
+
+    private static final int NUMBER_OF_BUCKETS = Long.SIZE + 1;
+    private static final int NONE = -1;
+
+    // bucketHeads[b] is the first id of the list of bucket b, NONE if the bucket is empty
+    private final int[] bucketHeads = new int[NUMBER_OF_BUCKETS];
+    // next[id] and previous[id] are the neighbors of the id in the list of its bucket, buckets[id] is the bucket of the id
+    private final int[] next;
+    private final int[] previous;
+    private final int[] buckets;
+    private final long[] keys;
+    private long lastKey;
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity number of ids the heap is able to hold (i.e. the ids are in the range [0;{@code capacity}))
+     */
+    public RadixHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_CAPACITY_EXCEPTION_MSG_TF, capacity));
+        }
+        Arrays.fill(this.bucketHeads, NONE);
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+        this.buckets = new int[capacity];
+        Arrays.fill(this.buckets, NONE);
+        this.keys = new long[capacity];
+    }
+
+    /**
+     * Inserts the given {@code id} with the given {@code key} into the heap. Throws an {@link IllegalArgumentException} if
+     * the id is already contained in the heap or if the key is smaller than the key polled last. Time complexity: O(1).
+     *
+     * @param id  id to be inserted
+     * @param key key of the id
+     */
+    public void insert(int id, long key) {
+        this.verifyId(id);
+        if (this.buckets[id] != NONE) {
+            throw new IllegalArgumentException(String.format(ID_ALREADY_CONTAINED_EXCEPTION_MSG_TF, id));
+        }
+        this.verifyKey(id, key);
+        this.link(id, key);
+        this.size++;
+    }
+
+    /**
+     * Decreases the key of the given {@code id}, which must be contained in the heap, to the given {@code key}. Throws an
+     * {@link IllegalArgumentException} if the id is not contained in the heap, if the new key is greater than the current key
+     * of the id, or if the new key is smaller than the key polled last. Time complexity: O(1).
+     *
+     * @param id  id whose key is to be decreased
+     * @param key new key of the id
+     */
+    public void decreaseKey(int id, long key) {
+        this.verifyId(id);
+        if (this.buckets[id] == NONE) {
+            throw new IllegalArgumentException(String.format(ID_NOT_CONTAINED_EXCEPTION_MSG_TF, id));
+        }
+        if (key > this.keys[id]) {
+            throw new IllegalArgumentException(String.format(KEY_NOT_DECREASED_EXCEPTION_MSG_TF, id, this.keys[id], key));
+        }
+        this.verifyKey(id, key);
+        this.unlink(id);
+        this.link(id, key);
+    }
+
+    /**
+     * Inserts the given {@code id} with the given {@code key} if the id is not contained in the heap, or decreases the key of
+     * the id if it is contained with a greater key. Does nothing if the id is contained with a key smaller than or equal to the
+     * given key. Time complexity: O(1).
+     *
+     * @param id  id to be inserted, respectively whose key is to be decreased
+     * @param key (new) key of the id
+     * @return {@code true} if the id has been inserted or its key has been decreased, {@code false} else
+     */
+    public boolean insertOrDecreaseKey(int id, long key) {
+        this.verifyId(id);
+        if (this.buckets[id] == NONE) {
+            this.insert(id, key);
+            return true;
+        }
+        if (key < this.keys[id]) {
+            this.decreaseKey(id, key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes an id with the minimum key from the heap and returns it. Throws a {@link NoSuchElementException} if the heap
+     * is empty. Time complexity: amortized O(log C).
+     *
+     * @return id with the minimum key
+     */
+    public int poll() {
+        if (this.size == 0) {
+            throw new NoSuchElementException(EMPTY_HEAP_EXCEPTION_MSG);
+        }
+        if (this.bucketHeads[0] == NONE) {
+            this.redistributeFirstNonEmptyBucket();
+        }
+        int minId = this.bucketHeads[0];
+        this.unlink(minId);
+        this.buckets[minId] = NONE;
+        this.size--;
+        return minId;
+    }
+
+    /*
+     * Sets the key polled last to the min key of the first non-empty bucket, and moves all ids of this bucket to the buckets
+     * corresponding to this new key. Afterwards, bucket 0 holds at least one id.
+     */
+    private void redistributeFirstNonEmptyBucket() {
+        int bucket = 1;
+        while (this.bucketHeads[bucket] == NONE) {
+            bucket++;
+        }
+        long minKey = Long.MAX_VALUE;
+        for (int id = this.bucketHeads[bucket]; id != NONE; id = this.next[id]) {
+            minKey = Math.min(minKey, this.keys[id]);
+        }
+        this.lastKey = minKey;
+        int id = this.bucketHeads[bucket];
+        this.bucketHeads[bucket] = NONE;
+        while (id != NONE) {
+            int nextId = this.next[id];
+            this.link(id, this.keys[id]);
+            id = nextId;
+        }
+    }
+
+    /**
+     * Returns the key of the given {@code id}. Throws an {@link IllegalArgumentException} if the id is not contained in the
+     * heap. Time complexity: O(1).
+     *
+     * @param id id whose key is to be returned
+     * @return key of the id
+     */
+    public long getKey(int id) {
+        this.verifyId(id);
+        if (this.buckets[id] == NONE) {
+            throw new IllegalArgumentException(String.format(ID_NOT_CONTAINED_EXCEPTION_MSG_TF, id));
+        }
+        return this.keys[id];
+    }
+
+    /**
+     * Returns whether the given {@code id} is contained in the heap. Time complexity: O(1).
+     *
+     * @param id id whose presence is to be checked
+     * @return {@code true} if the id is contained in the heap, {@code false} else
+     */
+    public boolean contains(int id) {
+        this.verifyId(id);
+        return this.buckets[id] != NONE;
+    }
+
+    /**
+     * Returns whether the heap is empty.
+     *
+     * @return {@code true} if the heap is empty, {@code false} else
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the number of ids contained in the heap.
+     *
+     * @return number of ids contained in the heap
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private int bucketOf(long key) {
+        return key == this.lastKey ? 0 : Long.SIZE - Long.numberOfLeadingZeros(key ^ this.lastKey);
+    }
+
+    private void link(int id, long key) {
+        int bucket = this.bucketOf(key);
+        int head = this.bucketHeads[bucket];
+        this.keys[id] = key;
+        this.buckets[id] = bucket;
+        this.previous[id] = NONE;
+        this.next[id] = head;
+        if (head != NONE) {
+            this.previous[head] = id;
+        }
+        this.bucketHeads[bucket] = id;
+    }
+
+    private void unlink(int id) {
+        int previousId = this.previous[id];
+        int nextId = this.next[id];
+        if (previousId != NONE) {
+            this.next[previousId] = nextId;
+        } else {
+            this.bucketHeads[this.buckets[id]] = nextId;
+        }
+        if (nextId != NONE) {
+            this.previous[nextId] = previousId;
+        }
+    }
+
+    private void verifyKey(int id, long key) {
+        if (key < this.lastKey) {
+            throw new IllegalArgumentException(String.format(KEY_TOO_SMALL_EXCEPTION_MSG_TF, id, this.lastKey, key));
+        }
+    }
+
+    private void verifyId(int id) {
+        if (id < 0 || id >= this.buckets.length) {
+            throw new IllegalArgumentException(String.format(ID_OUT_OF_RANGE_EXCEPTION_MSG_TF, this.buckets.length, id));
+        }
+    }
+}
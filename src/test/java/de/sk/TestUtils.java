@@ -1,5 +1,8 @@
 package de.sk;
 
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnEdge;
+import de.sk.graphs.datastructure.undirected.UnVertex;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
@@ -9,7 +12,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
 import static org.mockito.Mockito.mock;
 
@@ -65,4 +71,42 @@ public final class TestUtils {
         }
         return mocks;
     }
+
+    /**
+     * Creates a random, connected, undirected graph with {@code numberOfVertices} vertices and (at least {@code numberOfVertices - 1})
+     * {@code numberOfEdges} edges: a random spanning tree, completed by random edges between vertices not yet adjacent.
+     * The weight of an edge is between [0;{@code maxWeight}], there is at most one edge between each pair of vertices.
+     *
+     * @param numberOfVertices number of vertices of the created graph
+     * @param numberOfEdges    number of edges of the created graph
+     * @param maxWeight        maximum weight of an edge
+     * @param random           {@link Random} to use in the creation process
+     * @return random, connected, undirected graph
+     */
+    public static @NotNull UnAdjacencyList createRandomConnectedGraph(int numberOfVertices, int numberOfEdges, int maxWeight, @NotNull Random random) {
+        List<UnVertex> vertices = new ArrayList<>();
+        for (int i = 0; i < numberOfVertices; i++) {
+            vertices.add(new UnVertex("v" + i));
+        }
+        List<UnEdge> edges = new ArrayList<>();
+        Set<Long> existingEdges = new HashSet<>();
+        for (int v = 1; v < numberOfVertices; v++) {
+            addEdge(vertices, v, random.nextInt(v), random.nextInt(maxWeight + 1), edges, existingEdges);
+        }
+        while (edges.size() < numberOfEdges) {
+            int v = random.nextInt(numberOfVertices);
+            int w = random.nextInt(numberOfVertices);
+            if (v != w) {
+                addEdge(vertices, v, w, random.nextInt(maxWeight + 1), edges, existingEdges);
+            }
+        }
+        return new UnAdjacencyList(vertices, edges);
+    }
+
+    private static void addEdge(@NotNull List<UnVertex> vertices, int v, int w, int weight, @NotNull List<UnEdge> edges,
+                                @NotNull Set<Long> existingEdges) {
+        if (existingEdges.add(((long) Math.min(v, w) << Integer.SIZE) | Math.max(v, w))) {
+            edges.add(new UnEdge("e" + v + "_" + w, weight, vertices.get(v), vertices.get(w)));
+        }
+    }
 }
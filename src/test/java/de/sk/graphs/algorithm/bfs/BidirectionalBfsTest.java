@@ -0,0 +1,70 @@
+package de.sk.graphs.algorithm.bfs;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.GraphGenerators;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link BidirectionalBfs}.
+ */
+class BidirectionalBfsTest {
+
+    @Test
+    void shouldDetermineShortestPathsWithSameLengthsAsBfs() {
+        AugmentedBfs augmentedBfs = new AugmentedBfs();
+        for (boolean isDirected : new boolean[]{false, true}) {
+            CsrGraph graph = GraphGenerators.createGnmGraph(2_000, 3_000, 10, isDirected, 17L);
+            BidirectionalBfs underTest = new BidirectionalBfs(graph);
+            SplittableRandom random = new SplittableRandom(17L);
+            for (int query = 0; query < 200; query++) {
+                int s = random.nextInt(graph.getNumberOfVertices());
+                int t = query == 0 ? s : random.nextInt(graph.getNumberOfVertices());
+                int expectedDistance = augmentedBfs.determineLevels(graph, s)[t];
+
+                int[] path = underTest.determineShortestPath(s, t);
+
+                assertThat(underTest.determineDistance(s, t)).isEqualTo(expectedDistance);
+                if (expectedDistance == BfsResult.UNREACHED_LEVEL) {
+                    assertThat(path).isEmpty();
+                    continue;
+                }
+                assertThat(path).hasSize(expectedDistance + 1).startsWith(s).endsWith(t);
+                for (int i = 1; i < path.length; i++) {
+                    assertThat(hasEdge(graph, path[i - 1], path[i])).isTrue();
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldTouchOnlyFewVerticesForCloseVertices() {
+        CsrGraph graph = GraphGenerators.createGridGraph(300, 300, 1, 1L);
+        BidirectionalBfs underTest = new BidirectionalBfs(graph);
+
+        assertThat(underTest.determineDistance(45_150, 45_155)).isEqualTo(5);
+        assertThat(underTest.getNumberOfTouchedVertices()).isLessThan(100);
+    }
+
+    @Test
+    void shouldCountVerticesTouchedByBothSearchesOnce() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(3, new int[]{0, 1}, new int[]{1, 2}, null, false);
+        BidirectionalBfs underTest = new BidirectionalBfs(graph);
+
+        assertThat(underTest.determineDistance(0, 2)).isEqualTo(2);
+        assertThat(underTest.getNumberOfTouchedVertices()).isEqualTo(3);
+    }
+
+    private static boolean hasEdge(CsrGraph graph, int v, int w) {
+        for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+            if (graph.getTarget(i) == w) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,72 @@
+package de.sk.graphs.algorithm.bfs;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.graphs.util.GraphGenerators;
+import de.sk.graphs.util.UndirectedGraphUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link DirectionOptimizingBfs}.
+ */
+class DirectionOptimizingBfsTest {
+
+    private final DirectionOptimizingBfs underTest = new DirectionOptimizingBfs();
+
+    @Test
+    void shouldDetermineSameLevelsAsConventionalBfsAndValidParents() {
+        // small-world graphs (switching to bottom-up) and a grid (staying top-down)
+        List<CsrGraph> graphs = List.of(
+                GraphGenerators.createRmatGraph(12, 16, 0.57, 0.19, 0.19, 10, false, 3L),
+                GraphGenerators.createRmatGraph(12, 16, 0.57, 0.19, 0.19, 10, true, 3L),
+                GraphGenerators.createGridGraph(40, 50, 10, 3L));
+        AugmentedBfs augmentedBfs = new AugmentedBfs();
+        for (CsrGraph graph : graphs) {
+            BfsResult result = underTest.determineLevelsAndParents(graph, 0);
+
+            assertThat(result.levels()).containsExactly(augmentedBfs.determineLevels(graph, 0));
+            for (int v = 0; v < graph.getNumberOfVertices(); v++) {
+                if (v == 0 || !result.isReached(v)) {
+                    continue;
+                }
+                int parent = result.parents()[v];
+                assertThat(result.levels()[parent]).isEqualTo(result.levels()[v] - 1);
+                assertThat(hasEdge(graph, parent, v)).isTrue();
+            }
+            assertThat(underTest.conductBfs(graph, 0)).hasSize((int) Arrays.stream(result.levels()).filter(level -> level >= 0).count());
+        }
+    }
+
+    @Test
+    void shouldSetLevelsOfVerticesOfAdjacencyList() {
+        UnAdjacencyList adjacencyList = UndirectedGraphUtils.createRandomGraph(300, 3000, 10, new Random(5));
+        UnVertex s = adjacencyList.vertices().get(0);
+
+        List<UnVertex> verticesByBfs = underTest.conductBfs(adjacencyList, s);
+
+        int[] levels = new AugmentedBfs().determineLevels(UndirectedGraphUtils.convertToCsrGraph(adjacencyList), 0);
+        assertThat(verticesByBfs.get(0)).isSameAs(s);
+        for (int i = 0; i < verticesByBfs.size(); i++) {
+            assertThat(verticesByBfs.get(i).getGraphSearchPosition()).isEqualTo(i + 1);
+        }
+        for (int v = 0; v < levels.length; v++) {
+            assertThat(adjacencyList.vertices().get(v).getLevel()).isEqualTo(levels[v]);
+        }
+    }
+
+    private static boolean hasEdge(CsrGraph graph, int v, int w) {
+        for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+            if (graph.getTarget(i) == w) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+package de.sk.graphs.algorithm.bfs;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.GraphGenerators;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link HopQueryService}.
+ */
+class HopQueryServiceTest {
+
+    @Test
+    void shouldAnswerQueriesOfConcurrentThreadsLikeBfs() throws Exception {
+        CsrGraph graph = GraphGenerators.createGnmGraph(3_000, 4_500, 1, true, 53L);
+        HopQueryService underTest = new HopQueryService(graph);
+        AugmentedBfs augmentedBfs = new AugmentedBfs();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            SplittableRandom random = new SplittableRandom(thread);
+            futures.add(executor.submit(() -> {
+                for (int query = 0; query < 100; query++) {
+                    int s = random.nextInt(graph.getNumberOfVertices());
+                    int t = random.nextInt(graph.getNumberOfVertices());
+                    int k = random.nextInt(5);
+                    int[] levels = augmentedBfs.determineLevels(graph, s);
+
+                    int[] expectedNeighborhood = IntStream.range(0, levels.length).filter(v -> levels[v] >= 0 && levels[v] <= k).toArray();
+                    assertThat(underTest.determineKHopNeighborhood(s, k)).containsExactlyInAnyOrder(expectedNeighborhood);
+                    assertThat(underTest.determineHopDistance(s, t)).isEqualTo(levels[t]);
+                    assertThat(underTest.isReachable(s, t)).isEqualTo(levels[t] >= 0);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldDetermineVerticesReachableFromMultipleSources() {
+        CsrGraph graph = GraphGenerators.createGnmGraph(1_000, 900, 1, true, 59L);
+        HopQueryService underTest = new HopQueryService(graph);
+        AugmentedBfs augmentedBfs = new AugmentedBfs();
+        int[] sources = {1, 5, 5, 42};
+
+        int[] reachableVertices = underTest.determineReachableVertices(sources);
+
+        int[] expectedReachableVertices = IntStream.range(0, graph.getNumberOfVertices())
+                .filter(v -> IntStream.of(sources).anyMatch(s -> augmentedBfs.determineLevels(graph, s)[v] >= 0)).toArray();
+        assertThat(reachableVertices).containsExactlyInAnyOrder(expectedReachableVertices);
+        assertThat(underTest.determineKHopNeighborhood(sources, 0)).containsExactly(1, 5, 42);
+    }
+}
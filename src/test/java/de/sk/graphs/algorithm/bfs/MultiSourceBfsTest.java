@@ -0,0 +1,54 @@
+package de.sk.graphs.algorithm.bfs;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.GraphGenerators;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link MultiSourceBfs}.
+ */
+class MultiSourceBfsTest {
+
+    @Test
+    void shouldDetermineSameLevelsAsSingleSourceBfs() {
+        CsrGraph graph = GraphGenerators.createRmatGraph(10, 4, 0.57, 0.19, 0.19, 10, true, 5L);
+        // more sources than fit into one batch, including a duplicate
+        int[] sources = new SplittableRandom(5L).ints(150, 0, graph.getNumberOfVertices()).toArray();
+        sources[149] = sources[0];
+        AugmentedBfs augmentedBfs = new AugmentedBfs();
+
+        for (MultiSourceBfs underTest : new MultiSourceBfs[]{new MultiSourceBfs(), new MultiSourceBfs(2)}) {
+            int[][] levels = underTest.determineLevels(graph, sources);
+            int[] eccentricities = underTest.determineEccentricities(graph, sources);
+            int[] numberOfConsumedSources = new int[1];
+            underTest.determineLevels(graph, sources, (sourcePosition, levelsOfSource) -> {
+                assertThat(levelsOfSource).containsExactly(levels[sourcePosition]);
+                numberOfConsumedSources[0]++;
+            });
+
+            assertThat(numberOfConsumedSources[0]).isEqualTo(sources.length);
+            for (int i = 0; i < sources.length; i++) {
+                int[] expectedLevels = augmentedBfs.determineLevels(graph, sources[i]);
+                assertThat(levels[i]).containsExactly(expectedLevels);
+                assertThat(eccentricities[i]).isEqualTo(Arrays.stream(expectedLevels).max().orElseThrow());
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectTooLargeBitSets() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(1 << 20, new int[0], new int[0], null, true);
+        MultiSourceBfs underTest = new MultiSourceBfs(1 << 11);
+
+        assertThatThrownBy(() -> underTest.determineEccentricities(graph, new int[]{0}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(MultiSourceBfs.BIT_SETS_TOO_LARGE_EXCEPTION_MSG_TF, 1 << 11, 1 << 20));
+    }
+}
@@ -0,0 +1,58 @@
+package de.sk.graphs.algorithm.bfs;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.GraphGenerators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link ParallelBfs}.
+ */
+class ParallelBfsTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPool() {
+        this.pool.shutdown();
+    }
+
+    @Test
+    void shouldVisitVerticesInSameOrderAsSequentialBfsIfDeterministic() {
+        CsrGraph graph = GraphGenerators.createRmatGraph(13, 8, 0.57, 0.19, 0.19, 10, false, 11L);
+        ParallelBfs underTest = new ParallelBfs(this.pool, true);
+
+        assertThat(underTest.conductBfs(graph, 0)).containsExactly(new AugmentedBfs().conductBfs(graph, 0));
+        BfsResult result = underTest.determineLevelsAndParents(graph, 0);
+        assertThat(result.levels()).containsExactly(new AugmentedBfs().determineLevels(graph, 0));
+        ForkJoinPool singleThreadedPool = new ForkJoinPool(1);
+        assertThat(result.parents()).containsExactly(new ParallelBfs(singleThreadedPool, true).determineLevelsAndParents(graph, 0).parents());
+        singleThreadedPool.shutdown();
+    }
+
+    @Test
+    void shouldDetermineSameLevelsAsSequentialBfsIfNondeterministic() {
+        CsrGraph graph = GraphGenerators.createRmatGraph(13, 8, 0.57, 0.19, 0.19, 10, true, 11L);
+        ParallelBfs underTest = new ParallelBfs(this.pool, false);
+
+        BfsResult result = underTest.determineLevelsAndParents(graph, 0);
+
+        int[] levels = new AugmentedBfs().determineLevels(graph, 0);
+        assertThat(result.levels()).containsExactly(levels);
+        for (int v = 1; v < graph.getNumberOfVertices(); v++) {
+            if (result.isReached(v)) {
+                assertThat(levels[result.parents()[v]]).isEqualTo(levels[v] - 1);
+            }
+        }
+        int[] order = underTest.conductBfs(graph, 0);
+        assertThat(order).hasSize((int) Arrays.stream(levels).filter(level -> level >= 0).count());
+        for (int i = 1; i < order.length; i++) {
+            assertThat(levels[order[i]]).isGreaterThanOrEqualTo(levels[order[i - 1]]);
+        }
+    }
+}
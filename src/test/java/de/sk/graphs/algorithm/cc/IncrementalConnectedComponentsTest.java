@@ -0,0 +1,70 @@
+package de.sk.graphs.algorithm.cc;
+
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnEdge;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.UndirectedGraphUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link IncrementalConnectedComponents}.
+ */
+class IncrementalConnectedComponentsTest {
+
+    @Test
+    void shouldMaintainSameComponentsAsRecomputation() {
+        UnAdjacencyList adjacencyList = UndirectedGraphUtils.createRandomGraph(300, 280, 10, new Random(43));
+        List<UnVertex> vertices = adjacencyList.vertices();
+        List<UnEdge> edges = adjacencyList.edges();
+        Map<UnVertex, Integer> indexLookup = UndirectedGraphUtils.createIndexLookupForVertices(adjacencyList);
+        int[] tails = edges.stream().mapToInt(edge -> indexLookup.get(edge.getVertices().iterator().next())).toArray();
+        int[] heads = edges.stream().mapToInt(edge -> indexLookup.get(edge.getVertices().stream().reduce((v, w) -> w).orElseThrow())).toArray();
+        IncrementalConnectedComponents underTest = new IncrementalConnectedComponents(new UnAdjacencyList(vertices, List.of()));
+
+        for (int from = 0; from < edges.size(); from += 70) {
+            int to = Math.min(from + 70, edges.size());
+            int numberOfComponentsBefore = underTest.getNumberOfComponents();
+
+            int numberOfMerges = underTest.addEdges(edges.subList(from, to));
+
+            int[] expectedComponentIds = new UnConnectedComponents().determineConnectedComponents(
+                    CsrGraphUtils.createFromEdgeArrays(vertices.size(), tails, heads, null, to, false));
+            int expectedNumberOfComponents = Arrays.stream(expectedComponentIds).max().orElseThrow() + 1;
+            assertThat(underTest.getNumberOfComponents()).isEqualTo(expectedNumberOfComponents).isEqualTo(numberOfComponentsBefore - numberOfMerges);
+            for (int v = 0; v < vertices.size(); v++) {
+                int w = (v * 7 + 3) % vertices.size();
+                assertThat(underTest.isConnected(vertices.get(v), vertices.get(w))).isEqualTo(expectedComponentIds[v] == expectedComponentIds[w]);
+                int componentId = expectedComponentIds[v];
+                assertThat(underTest.getComponentSize(vertices.get(v))).isEqualTo((int) Arrays.stream(expectedComponentIds).filter(id -> id == componentId).count());
+            }
+        }
+    }
+
+    @Test
+    void shouldAddUnknownEndpointsOfEdges() {
+        IncrementalConnectedComponents underTest = new IncrementalConnectedComponents();
+        UnVertex a = new UnVertex("a");
+        UnVertex b = new UnVertex("b");
+        UnVertex c = new UnVertex("c");
+
+        assertThat(underTest.addVertex(a)).isTrue();
+        assertThat(underTest.addEdge(a, b)).isTrue();
+        assertThat(underTest.addVertex(c)).isTrue();
+        assertThat(underTest.isConnected(a, c)).isFalse();
+        assertThat(underTest.addEdge(new UnEdge("e", b, c))).isTrue();
+        assertThat(underTest.addEdge(c, a)).isFalse();
+
+        assertThat(underTest.getNumberOfVertices()).isEqualTo(3);
+        assertThat(underTest.getNumberOfComponents()).isEqualTo(1);
+        assertThat(underTest.getComponentSize(b)).isEqualTo(3);
+        assertThat(underTest.getRepresentative(c)).isSameAs(underTest.getRepresentative(a));
+    }
+}
@@ -0,0 +1,60 @@
+package de.sk.graphs.algorithm.cc;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.graphs.util.GraphGenerators;
+import de.sk.graphs.util.UndirectedGraphUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link ParallelConnectedComponents}.
+ */
+class ParallelConnectedComponentsTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ParallelConnectedComponents underTest = new ParallelConnectedComponents(this.pool);
+
+    @AfterEach
+    void shutdownPool() {
+        this.pool.shutdown();
+    }
+
+    @Test
+    void shouldDetermineSameComponentsAsSequentialBfs() {
+        // many small components, one giant component with some small ones, and a grid (one component)
+        CsrGraph[] graphs = {
+                GraphGenerators.createGnmGraph(50_000, 20_000, 1, false, 41L),
+                GraphGenerators.createGnmGraph(50_000, 60_000, 1, false, 41L),
+                GraphGenerators.createGridGraph(200, 300, 1, 41L)};
+        for (CsrGraph graph : graphs) {
+            int[] expectedComponentIds = new UnConnectedComponents().determineConnectedComponents(graph);
+
+            ConnectedComponentsResult result = underTest.determineConnectedComponents(graph);
+
+            assertThat(result.componentIds()).containsExactly(expectedComponentIds);
+            int[] expectedSizes = new int[result.getNumberOfComponents()];
+            for (int componentId : expectedComponentIds) {
+                expectedSizes[componentId]++;
+            }
+            assertThat(result.componentSizes()).containsExactly(expectedSizes);
+        }
+    }
+
+    @Test
+    void shouldMaterializeComponentsOfAdjacencyList() {
+        UnAdjacencyList adjacencyList = UndirectedGraphUtils.createRandomGraph(200, 150, 10, new Random(41));
+
+        List<Set<UnVertex>> components = underTest.determineConnectedComponents(adjacencyList).materializeComponents(adjacencyList.vertices());
+
+        assertThat(components).containsExactlyElementsOf(new UnConnectedComponents().determineConnectedComponents(adjacencyList));
+    }
+}
@@ -0,0 +1,55 @@
+package de.sk.graphs.algorithm.cc;
+
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnEdge;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link UnConnectedComponents}.
+ */
+class UnConnectedComponentsTest {
+
+    private UnConnectedComponents underTest;
+    private UnAdjacencyList graph;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new UnConnectedComponents();
+        // connected components {s,a}, {b,c} and {d}
+        UnVertex s = new UnVertex("s");
+        UnVertex a = new UnVertex("a");
+        UnVertex b = new UnVertex("b");
+        UnVertex c = new UnVertex("c");
+        UnVertex d = new UnVertex("d");
+        graph = new UnAdjacencyList(List.of(s, a, b, c, d), List.of(new UnEdge("sa", s, a), new UnEdge("bc", b, c)));
+    }
+
+    @Test
+    void shouldHoldConnectedComponentsInContext() {
+        AlgorithmContext<UnVertex> context = AlgorithmContext.of(graph);
+
+        List<Set<UnVertex>> connectedComponents = underTest.determineConnectedComponents(graph, context);
+
+        assertThat(connectedComponents).hasSize(3);
+        assertThat(IntStream.range(0, 5).map(context::getCc)).containsExactly(0, 0, 1, 1, 2);
+        assertThat(connectedComponents.get(1)).extracting(UnVertex::getName).containsExactlyInAnyOrder("b", "c");
+        assertThat(graph.vertices()).extracting(UnVertex::getCc).containsOnly(-1);
+        assertThat(graph.vertices()).extracting(UnVertex::isExplored).containsOnly(false);
+    }
+
+    @Test
+    void shouldSetConnectedComponentsOfVerticesWithoutContext() {
+        underTest.determineConnectedComponents(graph);
+
+        assertThat(graph.vertices()).extracting(UnVertex::getCc).containsExactly(0, 0, 1, 1, 2);
+    }
+}
@@ -0,0 +1,62 @@
+package de.sk.graphs.algorithm.dfs;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.injection.GraphsInjectionModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link DiSccDfs}.
+ */
+class DiSccDfsTest {
+
+    private DiSccDfs underTest;
+    private DiAdjacencyList graph;
+
+    @BeforeEach
+    void setUp() {
+        Injector injector = Guice.createInjector(new GraphsInjectionModule());
+        underTest = injector.getInstance(DiSccDfs.class);
+        // SCCs {a,b}, {c,d} and {e}
+        DiVertex a = new DiVertex("a");
+        DiVertex b = new DiVertex("b");
+        DiVertex c = new DiVertex("c");
+        DiVertex d = new DiVertex("d");
+        DiVertex e = new DiVertex("e");
+        List<DiEdge> edges = List.of(new DiEdge("ab", a, b), new DiEdge("ba", b, a), new DiEdge("bc", b, c),
+                new DiEdge("cd", c, d), new DiEdge("dc", d, c));
+        graph = new DiAdjacencyList(List.of(a, b, c, d, e), edges);
+    }
+
+    @Test
+    void shouldHoldSccIdsInContext() {
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(graph);
+
+        Map<Integer, List<DiVertex>> scc = underTest.determineScc(graph, context);
+
+        assertThat(scc).hasSize(3);
+        assertThat(context.getSccId(0)).isEqualTo(context.getSccId(1));
+        assertThat(context.getSccId(2)).isEqualTo(context.getSccId(3));
+        assertThat(List.of(context.getSccId(0), context.getSccId(2), context.getSccId(4))).doesNotHaveDuplicates();
+        assertThat(scc.get(context.getSccId(2))).extracting(DiVertex::getName).containsExactlyInAnyOrder("c", "d");
+        assertThat(graph.vertices()).extracting(DiVertex::getNumScc).containsOnly(DiVertex.DAV_DG_NUM_SCC);
+        assertThat(graph.vertices()).extracting(DiVertex::isExplored).containsOnly(DiVertex.DAV_DG_IS_EXPLORED);
+    }
+
+    @Test
+    void shouldSetSccIdsOfVerticesWithoutContext() {
+        Map<Integer, List<DiVertex>> scc = underTest.determineScc(graph);
+
+        scc.forEach((sccId, vertices) -> assertThat(vertices).extracting(DiVertex::getNumScc).containsOnly(sccId));
+    }
+}
@@ -0,0 +1,73 @@
+package de.sk.graphs.algorithm.dfs;
+
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link DiTopSort}.
+ */
+class DiTopSortTest {
+
+    private DiTopSort underTest;
+    private DiAdjacencyList graph;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new DiTopSort();
+        DiVertex a = new DiVertex("a");
+        DiVertex b = new DiVertex("b");
+        DiVertex c = new DiVertex("c");
+        DiVertex d = new DiVertex("d");
+        List<DiEdge> edges = List.of(new DiEdge("ab", a, b), new DiEdge("ac", a, c), new DiEdge("bd", b, d), new DiEdge("cd", c, d));
+        graph = new DiAdjacencyList(List.of(a, b, c, d), edges);
+    }
+
+    @Test
+    void shouldHoldTopSortPositionsInContext() {
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(graph);
+
+        List<DiVertex> topologicalOrdering = underTest.determineTopologicalOrdering(graph, false, context);
+
+        assertThat(topologicalOrdering).extracting(DiVertex::getName).containsExactly("a", "c", "b", "d");
+        assertThat(IntStream.range(0, 4).map(context::getTopSortPosition)).containsExactly(1, 3, 2, 4);
+        assertThat(IntStream.range(0, 4).mapToObj(context::isExplored)).containsOnly(true);
+        assertThat(graph.vertices()).extracting(DiVertex::getTopSortPosition).containsOnly(DiVertex.DAV_DG_TOP_SORT_POSITION);
+        assertThat(graph.vertices()).extracting(DiVertex::isExplored).containsOnly(DiVertex.DAV_DG_IS_EXPLORED);
+    }
+
+    @Test
+    void shouldTraceEdgesInReversedDirection() {
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(graph);
+
+        List<DiVertex> topologicalOrdering = underTest.determineTopologicalOrdering(graph, true, context);
+
+        assertThat(topologicalOrdering).extracting(DiVertex::getName).containsExactly("d", "c", "b", "a");
+        assertThat(IntStream.range(0, 4).map(context::getTopSortPosition)).containsExactly(4, 3, 2, 1);
+    }
+
+    @Test
+    void shouldSetTopSortPositionsOfVerticesWithoutContext() {
+        underTest.determineTopologicalOrdering(graph, false);
+
+        assertThat(graph.vertices()).extracting(DiVertex::getTopSortPosition).containsExactly(1, 3, 2, 4);
+    }
+
+    @Test
+    void shouldReuseContextForConsecutiveRuns() {
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(graph);
+
+        underTest.determineTopologicalOrdering(graph, true, context);
+        underTest.determineTopologicalOrdering(graph, false, context);
+
+        assertThat(IntStream.range(0, 4).map(context::getTopSortPosition)).containsExactly(1, 3, 2, 4);
+    }
+}
@@ -0,0 +1,76 @@
+package de.sk.graphs.algorithm.dfs;
+
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnEdge;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.graphs.util.UndirectedGraphUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link UnRecursiveGraphDfs}.
+ */
+class UnRecursiveGraphDfsTest {
+
+    private UnRecursiveGraphDfs underTest;
+    private UnAdjacencyList graph;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new UnRecursiveGraphDfs();
+        // s-a, s-b, a-c, c-d; e is isolated
+        UnVertex s = new UnVertex("s");
+        UnVertex a = new UnVertex("a");
+        UnVertex b = new UnVertex("b");
+        UnVertex c = new UnVertex("c");
+        UnVertex d = new UnVertex("d");
+        UnVertex e = new UnVertex("e");
+        List<UnEdge> edges = List.of(new UnEdge("sa", s, a), new UnEdge("sb", s, b), new UnEdge("ac", a, c), new UnEdge("cd", c, d));
+        graph = new UnAdjacencyList(List.of(s, a, b, c, d, e), edges);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 17, 123})
+    void shouldVisitVerticesInSameOrderInCsrRepresentation(int s) {
+        UnAdjacencyList adjacencyList = UndirectedGraphUtils.createRandomGraph(200, 250, 10, new Random(s));
+        CsrGraph graph = UndirectedGraphUtils.convertToCsrGraph(adjacencyList);
+        Map<UnVertex, Integer> indexLookup = UndirectedGraphUtils.createIndexLookupForVertices(adjacencyList);
+        UnVertex sVertex = adjacencyList.vertices().get(s);
+
+        int[] verticesByDfs = underTest.conductDfs(graph, s);
+
+        assertThat(verticesByDfs).containsExactly(underTest.conductDfs(adjacencyList, sVertex).stream()
+                .mapToInt(indexLookup::get).toArray());
+    }
+
+    @Test
+    void shouldHoldSearchStateInContext() {
+        AlgorithmContext<UnVertex> context = AlgorithmContext.of(graph);
+
+        List<UnVertex> verticesByDfs = underTest.conductDfs(graph, graph.vertices().get(0), context);
+
+        assertThat(verticesByDfs).extracting(UnVertex::getName).containsExactly("s", "a", "c", "d", "b");
+        assertThat(IntStream.range(0, 6).map(context::getGraphSearchPosition)).containsExactly(1, 2, 5, 3, 4, AlgorithmContext.UNSET);
+        assertThat(IntStream.range(0, 6).mapToObj(context::isExplored)).containsExactly(true, true, true, true, true, false);
+        assertThat(graph.vertices()).extracting(UnVertex::isExplored).containsOnly(false);
+        assertThat(graph.vertices()).extracting(UnVertex::getGraphSearchPosition).containsOnly(-1);
+    }
+
+    @Test
+    void shouldSetSearchStateOfVerticesWithoutContext() {
+        underTest.conductDfs(graph, graph.vertices().get(0));
+
+        assertThat(graph.vertices()).extracting(UnVertex::getGraphSearchPosition).containsExactly(1, 2, 5, 3, 4, -1);
+    }
+}
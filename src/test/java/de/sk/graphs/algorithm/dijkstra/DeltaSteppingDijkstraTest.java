@@ -0,0 +1,105 @@
+package de.sk.graphs.algorithm.dijkstra;
+
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.GraphGenerators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link DeltaSteppingDijkstra}.
+ */
+class DeltaSteppingDijkstraTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {DeltaSteppingDijkstra.AUTO_DELTA, 1, 7, 100, 1_000})
+    void shouldDetermineSameLenValuesAsHeapBasedDijkstra(int delta) {
+        DeltaSteppingDijkstra underTest = delta == DeltaSteppingDijkstra.AUTO_DELTA ? new DeltaSteppingDijkstra(pool)
+                : new DeltaSteppingDijkstra(pool, delta);
+        HeapBasedDijkstra heapBasedDijkstra = new HeapBasedDijkstra();
+        CsrGraph directedGraph = GraphGenerators.createGnmGraph(20_000, 100_000, 100, true, 3);
+        CsrGraph gridGraph = GraphGenerators.createGridGraph(100, 150, 100, 5);
+
+        for (int s : new int[]{0, 17, 4_321}) {
+            assertThat(underTest.determineSingleSourceShortestPaths(directedGraph, s))
+                    .containsExactly(heapBasedDijkstra.determineSingleSourceShortestPaths(directedGraph, s));
+            assertThat(underTest.determineSingleSourceShortestPaths(gridGraph, s))
+                    .containsExactly(heapBasedDijkstra.determineSingleSourceShortestPaths(gridGraph, s));
+        }
+    }
+
+    @Test
+    void shouldDetermineLenValuesInContext() {
+        DiVertex s = new DiVertex("s");
+        DiVertex v = new DiVertex("v");
+        DiVertex w = new DiVertex("w");
+        DiVertex t = new DiVertex("t");
+        DiVertex u = new DiVertex("u");
+        List<DiEdge> edges = List.of(new DiEdge("sv", s, v, 1), new DiEdge("sw", s, w, 4), new DiEdge("vw", v, w, 2),
+                new DiEdge("vt", v, t, 6), new DiEdge("wt", w, t, 3), new DiEdge("tu", t, u, 0));
+        DiAdjacencyList graph = new DiAdjacencyList(List.of(s, v, w, t, u), edges);
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(graph);
+
+        new DeltaSteppingDijkstra(pool, 2).determineSingleSourceShortestPaths(graph, v, context);
+
+        assertThat(IntStream.range(0, 5).map(context::getLen)).containsExactly(Integer.MAX_VALUE, 0, 2, 5, 5);
+        assertThat(graph.vertices()).extracting(DiVertex::getLen).containsOnly(DiVertex.DAV_DG_LEN);
+    }
+
+    @Test
+    void shouldDetermineLenValuesInContextWithPermutedVertexOrder() {
+        DiVertex s = new DiVertex("s");
+        DiVertex v = new DiVertex("v");
+        DiVertex w = new DiVertex("w");
+        DiAdjacencyList graph = new DiAdjacencyList(List.of(s, v, w), List.of(new DiEdge("sv", s, v, 1), new DiEdge("vw", v, w, 2)));
+        AlgorithmContext<DiVertex> context = new AlgorithmContext<>(List.of(w, v, s));
+
+        new DeltaSteppingDijkstra(pool, 1).determineSingleSourceShortestPaths(graph, s, context);
+
+        assertThat(context.getLen(context.indexOf(s))).isZero();
+        assertThat(context.getLen(context.indexOf(v))).isEqualTo(1);
+        assertThat(context.getLen(context.indexOf(w))).isEqualTo(3);
+        assertThat(context.isExplored(context.indexOf(w))).isTrue();
+    }
+
+    @Test
+    void shouldDeriveDeltaFromMaxWeightAndAverageDegree() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(4, new int[]{0, 0, 1, 2}, new int[]{1, 2, 3, 3}, new int[]{5, 10, 40, 1}, true);
+
+        assertThat(DeltaSteppingDijkstra.determineDelta(graph, 40)).isEqualTo(40);
+        assertThat(DeltaSteppingDijkstra.determineDelta(graph, 3)).isEqualTo(3);
+        assertThat(DeltaSteppingDijkstra.determineDelta(CsrGraphUtils.createFromEdgeArrays(3, new int[0], new int[0], null, true), 0)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldThrowIfDeltaIsNotPositive() {
+        assertThatThrownBy(() -> new DeltaSteppingDijkstra(pool, 0)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(DeltaSteppingDijkstra.INVALID_DELTA_EXCEPTION_MSG_TF, 0));
+    }
+}
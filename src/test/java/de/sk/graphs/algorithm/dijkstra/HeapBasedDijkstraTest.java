@@ -0,0 +1,73 @@
+package de.sk.graphs.algorithm.dijkstra;
+
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link HeapBasedDijkstra}.
+ */
+class HeapBasedDijkstraTest {
+
+    private HeapBasedDijkstra underTest;
+    private DiAdjacencyList graph;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new HeapBasedDijkstra();
+        DiVertex s = new DiVertex("s");
+        DiVertex v = new DiVertex("v");
+        DiVertex w = new DiVertex("w");
+        DiVertex t = new DiVertex("t");
+        DiVertex u = new DiVertex("u");
+        List<DiEdge> edges = List.of(new DiEdge("sv", s, v, 1), new DiEdge("sw", s, w, 4), new DiEdge("vw", v, w, 2),
+                new DiEdge("vt", v, t, 6), new DiEdge("wt", w, t, 3));
+        graph = new DiAdjacencyList(List.of(s, v, w, t, u), edges);
+    }
+
+    @Test
+    void shouldSetLenValuesOfVertices() {
+        underTest.determineSingleSourceShortestPaths(graph, graph.vertices().get(0));
+
+        assertThat(graph.vertices()).extracting(DiVertex::getLen).containsExactly(0, 1, 3, 6, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void shouldNotModifyVerticesWhenRunWithContext() {
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(graph);
+
+        underTest.determineSingleSourceShortestPaths(graph, graph.vertices().get(1), context);
+
+        assertThat(IntStream.range(0, 5).map(context::getLen)).containsExactly(Integer.MAX_VALUE, 0, 2, 5, Integer.MAX_VALUE);
+        assertThat(graph.vertices()).extracting(DiVertex::getLen).containsOnly(DiVertex.DAV_DG_LEN);
+    }
+
+    @Test
+    void shouldRunConcurrentlyOnSharedGraph() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<int[]>> results = IntStream.range(0, 40).mapToObj(i -> executor.submit(() -> {
+                AlgorithmContext<DiVertex> context = AlgorithmContext.of(graph);
+                underTest.determineSingleSourceShortestPaths(graph, graph.vertices().get(i % 2), context);
+                return IntStream.range(0, 5).map(context::getLen).toArray();
+            })).toList();
+            for (int i = 0; i < results.size(); i++) {
+                int[] expectedLens = i % 2 == 0 ? new int[]{0, 1, 3, 6, Integer.MAX_VALUE} : new int[]{Integer.MAX_VALUE, 0, 2, 5, Integer.MAX_VALUE};
+                assertThat(results.get(i).get()).containsExactly(expectedLens);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package de.sk.graphs.algorithm.dijkstra;
+
+import com.google.inject.Guice;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.injection.GraphsInjectionModule;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.GraphGenerators;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link RadixHeapDijkstra}.
+ */
+class RadixHeapDijkstraTest {
+
+    private RadixHeapDijkstra underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new RadixHeapDijkstra();
+    }
+
+    @Test
+    void shouldBeInjectable() {
+        Dijkstra dijkstra = Guice.createInjector(new GraphsInjectionModule())
+                .getInstance(Key.get(Dijkstra.class, Names.named(GraphConstants.IN_RADIX_HEAP_DIJKSTRA)));
+
+        assertThat(dijkstra).isInstanceOf(RadixHeapDijkstra.class);
+    }
+
+    @Test
+    void shouldDetermineLenValuesInContext() {
+        DiVertex s = new DiVertex("s");
+        DiVertex v = new DiVertex("v");
+        DiVertex w = new DiVertex("w");
+        DiVertex t = new DiVertex("t");
+        DiVertex u = new DiVertex("u");
+        List<DiEdge> edges = List.of(new DiEdge("sv", s, v, 1), new DiEdge("sw", s, w, 4), new DiEdge("vw", v, w, 2),
+                new DiEdge("vt", v, t, 6), new DiEdge("wt", w, t, 3), new DiEdge("tu", t, u, 0));
+        DiAdjacencyList graph = new DiAdjacencyList(List.of(s, v, w, t, u), edges);
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(graph);
+
+        underTest.determineSingleSourceShortestPaths(graph, v, context);
+
+        assertThat(IntStream.range(0, 5).map(context::getLen)).containsExactly(Integer.MAX_VALUE, 0, 2, 5, 5);
+        assertThat(graph.vertices()).extracting(DiVertex::getLen).containsOnly(DiVertex.DAV_DG_LEN);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 100, 1_000_000})
+    void shouldDetermineSameLenValuesAsHeapBasedDijkstra(int maxWeight) {
+        HeapBasedDijkstra heapBasedDijkstra = new HeapBasedDijkstra();
+        CsrGraph directedGraph = GraphGenerators.createGnmGraph(5_000, 40_000, maxWeight, true, maxWeight);
+        CsrGraph gridGraph = GraphGenerators.createGridGraph(60, 80, maxWeight, maxWeight);
+
+        for (int s : new int[]{0, 17, 4_321}) {
+            assertThat(underTest.determineSingleSourceShortestPaths(directedGraph, s))
+                    .containsExactly(heapBasedDijkstra.determineSingleSourceShortestPaths(directedGraph, s));
+            assertThat(underTest.determineSingleSourceShortestPaths(gridGraph, s))
+                    .containsExactly(heapBasedDijkstra.determineSingleSourceShortestPaths(gridGraph, s));
+        }
+    }
+
+    @Test
+    void shouldHandleLargeEdgeWeights() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(4, new int[]{0, 0, 1, 2}, new int[]{1, 2, 3, 3},
+                new int[]{1_000_000_000, 1, 1, 1_999_999_999}, true);
+
+        assertThat(underTest.determineSingleSourceShortestPaths(graph, 0)).containsExactly(0, 1_000_000_000, 1, 1_000_000_001);
+    }
+}
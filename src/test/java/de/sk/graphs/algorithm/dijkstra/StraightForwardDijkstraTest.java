@@ -0,0 +1,59 @@
+package de.sk.graphs.algorithm.dijkstra;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import de.sk.graphs.algorithm.context.AlgorithmContext;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.injection.GraphsInjectionModule;
+import de.sk.graphs.util.DirectedGraphUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link StraightForwardDijkstra}.
+ */
+class StraightForwardDijkstraTest {
+
+    private StraightForwardDijkstra underTest;
+
+    @BeforeEach
+    void setUp() {
+        Injector injector = Guice.createInjector(new GraphsInjectionModule());
+        underTest = injector.getInstance(StraightForwardDijkstra.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 7, 42})
+    void shouldDetermineSameLenValuesInCsrRepresentation(int s) {
+        DiAdjacencyList adjacencyList = createRandomGraph(60, 200, new Random(s));
+        AlgorithmContext<DiVertex> context = AlgorithmContext.of(adjacencyList);
+
+        underTest.determineSingleSourceShortestPaths(adjacencyList, adjacencyList.vertices().get(s), context);
+
+        assertThat(underTest.determineSingleSourceShortestPaths(DirectedGraphUtils.convertToCsrGraph(adjacencyList), s))
+                .containsExactly(IntStream.range(0, context.getNumberOfVertices()).map(context::getLen).toArray());
+    }
+
+    private static DiAdjacencyList createRandomGraph(int numberOfVertices, int numberOfEdges, Random random) {
+        List<DiVertex> vertices = IntStream.range(0, numberOfVertices).mapToObj(i -> new DiVertex("v" + i)).toList();
+        List<DiEdge> edges = new ArrayList<>();
+        while (edges.size() < numberOfEdges) {
+            DiVertex tail = vertices.get(random.nextInt(numberOfVertices));
+            DiVertex head = vertices.get(random.nextInt(numberOfVertices));
+            if (tail != head) {
+                edges.add(new DiEdge("e" + edges.size(), tail, head, 1 + random.nextInt(20)));
+            }
+        }
+        return new DiAdjacencyList(vertices, edges);
+    }
+}
@@ -0,0 +1,90 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+import de.sk.basics.ch3.closestpair.point.Point2D;
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.dijkstra.HeapBasedDijkstra;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.GraphGenerators;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link AStar}.
+ */
+class AStarTest {
+
+    private static final int ROWS = 60;
+    private static final int COLUMNS = 80;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 100})
+    void shouldDetermineSameLengthsAsHeapBasedDijkstra(int maxWeight) {
+        CsrGraph graph = GraphGenerators.createGridGraph(ROWS, COLUMNS, maxWeight, maxWeight);
+        int[] lens = new HeapBasedDijkstra().determineSingleSourceShortestPaths(graph, 0);
+
+        for (Heuristic heuristic : List.of(Heuristic.ZERO, new DistanceHeuristic(createGridCoordinates()))) {
+            AStar underTest = new AStar(graph, heuristic);
+            for (int t : new int[]{0, 1, 81, 2_500, ROWS * COLUMNS - 1}) {
+                ShortestPath path = underTest.determineShortestPath(0, t);
+
+                assertThat(path.length()).isEqualTo(lens[t]);
+                BidirectionalDijkstraTest.assertIsValidPath(graph, path, 0, t);
+            }
+        }
+    }
+
+    @Test
+    void shouldSettleFewerVerticesWithDistanceHeuristic() {
+        CsrGraph graph = GraphGenerators.createGridGraph(ROWS, COLUMNS, 1, 42);
+        AStar dijkstraLike = new AStar(graph, Heuristic.ZERO);
+        AStar underTest = new AStar(graph, new DistanceHeuristic(createGridCoordinates()));
+        int t = 30 * COLUMNS + 40;
+
+        dijkstraLike.determineShortestPath(0, t);
+        underTest.determineShortestPath(0, t);
+
+        assertThat(underTest.getNumberOfSettledVertices()).isLessThan(dijkstraLike.getNumberOfSettledVertices());
+    }
+
+    @Test
+    void shouldReturnNoPathIfLengthExceedsIntLength() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(3, new int[]{0, 1}, new int[]{1, 2},
+                new int[]{Integer.MAX_VALUE - 1, Integer.MAX_VALUE - 1}, true);
+        AStar underTest = new AStar(graph, Heuristic.ZERO);
+
+        ShortestPath path = underTest.determineShortestPath(0, 2);
+
+        // consistent with the single-source variant, which reports such lengths as infinite
+        assertThat(path).isEqualTo(ShortestPath.noPath());
+        assertThat(new HeapBasedDijkstra().determineSingleSourceShortestPaths(graph, 0)[2]).isEqualTo(GraphConstants.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void shouldReturnNoPathForUnreachableTarget() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(3, new int[]{0}, new int[]{1}, new int[]{5}, true);
+        AStar underTest = new AStar(graph, Heuristic.ZERO);
+
+        ShortestPath path = underTest.determineShortestPath(1, 0);
+
+        assertThat(path.isFound()).isFalse();
+        assertThat(path.length()).isEqualTo(GraphConstants.POSITIVE_INFINITY);
+    }
+
+    private static @NotNull List<Point2D> createGridCoordinates() {
+        List<Point2D> coordinates = new ArrayList<>(ROWS * COLUMNS);
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLUMNS; c++) {
+                coordinates.add(new Point2D(c, r));
+            }
+        }
+        return coordinates;
+    }
+}
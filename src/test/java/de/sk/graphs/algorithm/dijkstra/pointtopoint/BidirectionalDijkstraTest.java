@@ -0,0 +1,140 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.algorithm.dijkstra.HeapBasedDijkstra;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.directed.DiAdjacencyList;
+import de.sk.graphs.datastructure.directed.DiEdge;
+import de.sk.graphs.datastructure.directed.DiVertex;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.DirectedGraphUtils;
+import de.sk.graphs.util.GraphGenerators;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link BidirectionalDijkstra}.
+ */
+class BidirectionalDijkstraTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 10_000})
+    void shouldDetermineSameLengthsAsHeapBasedDijkstra(int maxWeight) {
+        HeapBasedDijkstra heapBasedDijkstra = new HeapBasedDijkstra();
+        CsrGraph directedGraph = GraphGenerators.createGnmGraph(3_000, 12_000, maxWeight, true, maxWeight);
+        CsrGraph gridGraph = GraphGenerators.createGridGraph(40, 50, maxWeight, maxWeight);
+
+        for (CsrGraph graph : List.of(directedGraph, gridGraph)) {
+            BidirectionalDijkstra underTest = new BidirectionalDijkstra(graph);
+            for (int s : new int[]{0, 17, 1_234}) {
+                int[] lens = heapBasedDijkstra.determineSingleSourceShortestPaths(graph, s);
+                for (int t : new int[]{0, 5, 999, 1_999}) {
+                    ShortestPath path = underTest.determineShortestPath(s, t);
+
+                    assertThat(path.length()).isEqualTo(lens[t]);
+                    assertThat(path.isFound()).isEqualTo(lens[t] != GraphConstants.POSITIVE_INFINITY);
+                    if (path.isFound()) {
+                        assertIsValidPath(graph, path, s, t);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldStopEarly() {
+        CsrGraph graph = GraphGenerators.createGridGraph(100, 100, 10, 42);
+        BidirectionalDijkstra underTest = new BidirectionalDijkstra(graph);
+
+        underTest.determineShortestPath(0, 101);
+
+        assertThat(underTest.getNumberOfSettledVertices()).isLessThan(graph.getNumberOfVertices() / 10);
+    }
+
+    @Test
+    void shouldReturnNoPathIfLengthExceedsIntLength() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(3, new int[]{0, 1}, new int[]{1, 2},
+                new int[]{Integer.MAX_VALUE - 1, Integer.MAX_VALUE - 1}, true);
+        BidirectionalDijkstra underTest = new BidirectionalDijkstra(graph);
+
+        ShortestPath path = underTest.determineShortestPath(0, 2);
+
+        // consistent with the single-source variant, which reports such lengths as infinite
+        assertThat(path).isEqualTo(ShortestPath.noPath());
+        assertThat(new HeapBasedDijkstra().determineSingleSourceShortestPaths(graph, 0)[2]).isEqualTo(GraphConstants.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void shouldReturnNoPathForUnreachableTarget() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(3, new int[]{0}, new int[]{1}, new int[]{5}, true);
+        BidirectionalDijkstra underTest = new BidirectionalDijkstra(graph);
+
+        assertThat(underTest.determineShortestPath(1, 0).isFound()).isFalse();
+        assertThat(underTest.determineShortestPath(0, 2).length()).isEqualTo(GraphConstants.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void shouldReturnEmptyPathForEqualStartAndTarget() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(2, new int[]{0}, new int[]{1}, new int[]{5}, true);
+        BidirectionalDijkstra underTest = new BidirectionalDijkstra(graph);
+
+        ShortestPath path = underTest.determineShortestPath(1, 1);
+
+        assertThat(path.length()).isZero();
+        assertThat(path.vertices()).containsExactly(1);
+        assertThat(path.entries()).isEmpty();
+    }
+
+    @Test
+    void shouldMaterializeEdgesOfAdjacencyList() {
+        DiVertex s = new DiVertex("s");
+        DiVertex v = new DiVertex("v");
+        DiVertex w = new DiVertex("w");
+        DiVertex t = new DiVertex("t");
+        DiEdge sv = new DiEdge("sv", s, v, 1);
+        DiEdge vw = new DiEdge("vw", v, w, 2);
+        DiEdge wt = new DiEdge("wt", w, t, 3);
+        DiAdjacencyList adjacencyList = new DiAdjacencyList(List.of(s, v, w, t),
+                List.of(sv, new DiEdge("sw", s, w, 4), vw, new DiEdge("vt", v, t, 6), wt));
+        CsrGraph graph = DirectedGraphUtils.convertToCsrGraph(adjacencyList);
+        BidirectionalDijkstra underTest = new BidirectionalDijkstra(graph);
+
+        ShortestPath path = underTest.determineShortestPath(0, 3);
+
+        assertThat(path.length()).isEqualTo(6);
+        assertThat(path.vertices()).containsExactly(0, 1, 2, 3);
+        assertThat(path.materializeEdges(graph, adjacencyList)).containsExactly(sv, vw, wt);
+    }
+
+    @Test
+    void shouldRejectInvalidVertices() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(2, new int[]{0}, new int[]{1}, new int[]{5}, true);
+        BidirectionalDijkstra underTest = new BidirectionalDijkstra(graph);
+
+        assertThatThrownBy(() -> underTest.determineShortestPath(0, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /*
+     * Asserts that the entries of the path lead from vertex to vertex, and that their weights sum up to the length.
+     */
+    static void assertIsValidPath(@NotNull CsrGraph graph, @NotNull ShortestPath path, int s, int t) {
+        assertThat(path.vertices()[0]).isEqualTo(s);
+        assertThat(path.vertices()[path.vertices().length - 1]).isEqualTo(t);
+        assertThat(path.entries()).hasSize(path.vertices().length - 1);
+        long sumOfWeights = 0;
+        for (int i = 0; i < path.entries().length; i++) {
+            int entry = path.entries()[i];
+            assertThat(entry).isBetween(graph.getOffset(path.vertices()[i]), graph.getOffset(path.vertices()[i] + 1) - 1);
+            assertThat(graph.getTarget(entry)).isEqualTo(path.vertices()[i + 1]);
+            sumOfWeights += graph.getWeight(entry);
+        }
+        assertThat(sumOfWeights).isEqualTo(path.length());
+    }
+}
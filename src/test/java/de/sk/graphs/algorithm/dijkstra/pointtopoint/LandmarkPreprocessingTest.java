@@ -0,0 +1,189 @@
+package de.sk.graphs.algorithm.dijkstra.pointtopoint;
+
+import de.sk.graphs.algorithm.dijkstra.HeapBasedDijkstra;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.GraphGenerators;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link LandmarkPreprocessing}.
+ */
+class LandmarkPreprocessingTest {
+
+    private static final int NUMBER_OF_LANDMARKS = 8;
+    private static final long SEED = 4711;
+
+    private static ForkJoinPool pool;
+
+    private final HeapBasedDijkstra heapBasedDijkstra = new HeapBasedDijkstra();
+    private LandmarkPreprocessing underTest;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        underTest = new LandmarkPreprocessing(heapBasedDijkstra, pool);
+    }
+
+    @ParameterizedTest
+    @EnumSource(LandmarkSelection.class)
+    void shouldDetermineDistanceTables(LandmarkSelection selection) {
+        CsrGraph graph = GraphGenerators.createGnmGraph(2_000, 8_000, 100, true, SEED);
+
+        Landmarks landmarks = underTest.preprocess(graph, NUMBER_OF_LANDMARKS, selection, SEED);
+
+        assertThat(landmarks.getNumberOfLandmarks()).isEqualTo(NUMBER_OF_LANDMARKS);
+        for (int i = 0; i < NUMBER_OF_LANDMARKS; i++) {
+            int[] lensFromLandmark = heapBasedDijkstra.determineSingleSourceShortestPaths(graph, landmarks.getLandmark(i));
+            for (int v = 0; v < graph.getNumberOfVertices(); v++) {
+                assertThat(landmarks.getDistanceFromLandmark(i, v)).isEqualTo(lensFromLandmark[v]);
+            }
+        }
+        for (int v = 0; v < graph.getNumberOfVertices(); v += 100) {
+            int[] lensFromV = heapBasedDijkstra.determineSingleSourceShortestPaths(graph, v);
+            for (int i = 0; i < NUMBER_OF_LANDMARKS; i++) {
+                assertThat(landmarks.getDistanceToLandmark(i, v)).isEqualTo(lensFromV[landmarks.getLandmark(i)]);
+            }
+        }
+        assertThat(IntStream.range(0, NUMBER_OF_LANDMARKS).map(landmarks::getLandmark).distinct().count())
+                .isEqualTo(NUMBER_OF_LANDMARKS);
+    }
+
+    @ParameterizedTest
+    @EnumSource(LandmarkSelection.class)
+    void shouldEstimateLowerBounds(LandmarkSelection selection) {
+        CsrGraph graph = GraphGenerators.createGnmGraph(2_000, 8_000, 100, true, SEED);
+        Landmarks landmarks = underTest.preprocess(graph, NUMBER_OF_LANDMARKS, selection, SEED);
+
+        for (int s : new int[]{0, 13, 1_999}) {
+            int[] lens = heapBasedDijkstra.determineSingleSourceShortestPaths(graph, s);
+            for (int t = 0; t < graph.getNumberOfVertices(); t++) {
+                assertThat(landmarks.estimate(s, t)).isLessThanOrEqualTo(lens[t]);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(LandmarkSelection.class)
+    void shouldAnswerQueriesWithFewerSettledVertices(LandmarkSelection selection) {
+        CsrGraph graph = GraphGenerators.createGridGraph(100, 100, 10, SEED);
+        AStar alt = new AStar(graph, underTest.preprocess(graph, NUMBER_OF_LANDMARKS, selection, SEED));
+        AStar dijkstraLike = new AStar(graph, Heuristic.ZERO);
+        SplittableRandom random = new SplittableRandom(SEED);
+        long settledByAlt = 0;
+        long settledByDijkstra = 0;
+
+        for (int query = 0; query < 20; query++) {
+            int s = random.nextInt(graph.getNumberOfVertices());
+            int t = random.nextInt(graph.getNumberOfVertices());
+            ShortestPath path = alt.determineShortestPath(s, t);
+
+            assertThat(path.length()).isEqualTo(dijkstraLike.determineShortestPath(s, t).length());
+            BidirectionalDijkstraTest.assertIsValidPath(graph, path, s, t);
+            settledByAlt += alt.getNumberOfSettledVertices();
+            settledByDijkstra += dijkstraLike.getNumberOfSettledVertices();
+        }
+
+        assertThat(settledByAlt * 3).isLessThan(settledByDijkstra);
+    }
+
+    @Test
+    void shouldDetermineTablesOfGivenLandmarks() {
+        CsrGraph graph = GraphGenerators.createGridGraph(20, 30, 5, SEED);
+
+        Landmarks landmarks = underTest.preprocess(graph, new int[]{0, 599});
+
+        assertThat(landmarks.getLandmark(1)).isEqualTo(599);
+        assertThat(landmarks.getDistanceFromLandmark(0, 599)).isEqualTo(heapBasedDijkstra.determineSingleSourceShortestPaths(graph, 0)[599]);
+        assertThat(landmarks.getDistanceToLandmark(0, 599)).isEqualTo(landmarks.getDistanceFromLandmark(0, 599));
+        assertThat(landmarks.getDistanceFromLandmark(1, 599)).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidLandmarks() {
+        CsrGraph graph = GraphGenerators.createGridGraph(2, 2, 5, SEED);
+
+        assertThatThrownBy(() -> underTest.preprocess(graph, 0, LandmarkSelection.FARTHEST, SEED))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(LandmarkPreprocessing.INVALID_NUMBER_OF_LANDMARKS_EXCEPTION_MSG_TF, 4, 0));
+        assertThatThrownBy(() -> underTest.preprocess(graph, new int[]{1, 1}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(LandmarkPreprocessing.DUPLICATE_LANDMARK_EXCEPTION_MSG_TF, 1));
+    }
+
+    @Test
+    void shouldWriteAndReadTables(@TempDir Path directory) throws IOException {
+        CsrGraph graph = GraphGenerators.createGnmGraph(3_000, 12_000, 100, true, SEED);
+        Landmarks landmarks = underTest.preprocess(graph, NUMBER_OF_LANDMARKS, LandmarkSelection.AVOID, SEED);
+        Path path = directory.resolve("landmarks.alt");
+
+        landmarks.write(path);
+        Landmarks readLandmarks = Landmarks.read(path, graph);
+
+        for (int i = 0; i < NUMBER_OF_LANDMARKS; i++) {
+            assertThat(readLandmarks.getLandmark(i)).isEqualTo(landmarks.getLandmark(i));
+            for (int v = 0; v < graph.getNumberOfVertices(); v++) {
+                assertThat(readLandmarks.getDistanceFromLandmark(i, v)).isEqualTo(landmarks.getDistanceFromLandmark(i, v));
+                assertThat(readLandmarks.getDistanceToLandmark(i, v)).isEqualTo(landmarks.getDistanceToLandmark(i, v));
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectTablesOfOtherGraph(@TempDir Path directory) throws IOException {
+        CsrGraph graph = GraphGenerators.createGridGraph(20, 30, 5, SEED);
+        Path path = directory.resolve("landmarks.alt");
+        underTest.preprocess(graph, 2, LandmarkSelection.FARTHEST, SEED).write(path);
+        Path invalidPath = directory.resolve("invalid.alt");
+        Files.write(invalidPath, new byte[]{1, 2, 3, 4, 5});
+
+        assertThatThrownBy(() -> Landmarks.read(path, GraphGenerators.createGridGraph(20, 31, 5, SEED)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Landmarks.read(invalidPath, graph)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldRejectCorruptedTables(@TempDir Path directory) throws IOException {
+        CsrGraph graph = GraphGenerators.createGridGraph(20, 30, 5, SEED);
+        Path path = directory.resolve("landmarks.alt");
+        underTest.preprocess(graph, 2, LandmarkSelection.FARTHEST, SEED).write(path);
+        byte[] bytes = Files.readAllBytes(path);
+        // the header consists of 5 ints, the last one being the number of landmarks, followed by the landmarks
+        Path tooManyLandmarksPath = directory.resolve("too-many-landmarks.alt");
+        Files.write(tooManyLandmarksPath, ByteBuffer.wrap(bytes.clone()).putInt(16, 601).array());
+        Path invalidLandmarkPath = directory.resolve("invalid-landmark.alt");
+        Files.write(invalidLandmarkPath, ByteBuffer.wrap(bytes.clone()).putInt(20, 600).array());
+        Path truncatedPath = directory.resolve("truncated.alt");
+        Files.write(truncatedPath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        for (Path corruptedPath : new Path[]{tooManyLandmarksPath, invalidLandmarkPath, truncatedPath}) {
+            assertThatThrownBy(() -> Landmarks.read(corruptedPath, graph)).isInstanceOf(IOException.class);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package de.sk.graphs.algorithm.scc;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.GraphGenerators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link ParallelFwBwScc}.
+ */
+class ParallelFwBwSccTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPool() {
+        this.pool.shutdown();
+    }
+
+    @Test
+    void shouldDetermineSameSccsAsPearce() {
+        ParallelFwBwScc underTest = new ParallelFwBwScc(this.pool);
+        PearceScc pearceScc = new PearceScc();
+        // sparse (many trivial SCCs), dense (one giant SCC) and large enough for the parallel trimming and searches
+        CsrGraph[] graphs = {
+                GraphGenerators.createGnmGraph(2_000, 2_400, 1, true, 31L),
+                GraphGenerators.createGnmGraph(2_000, 10_000, 1, true, 31L),
+                GraphGenerators.createRmatGraph(16, 4, 0.57, 0.19, 0.19, 1, true, 31L),
+                GraphGenerators.createGnmGraph(1_000, 1_500, 1, false, 31L)};
+        for (CsrGraph graph : graphs) {
+            int[] expectedSccIds = SccAlg.normalizeSccIds(pearceScc.determineSccIds(graph));
+
+            assertThat(underTest.determineSccIds(graph)).containsExactly(expectedSccIds);
+        }
+    }
+}
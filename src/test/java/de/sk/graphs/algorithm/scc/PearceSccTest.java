@@ -0,0 +1,52 @@
+package de.sk.graphs.algorithm.scc;
+
+import de.sk.graphs.algorithm.bfs.AugmentedBfs;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.GraphGenerators;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link PearceScc}.
+ */
+class PearceSccTest {
+
+    private final PearceScc underTest = new PearceScc();
+
+    @Test
+    void shouldAssignSameIdToMutuallyReachableVerticesOnly() {
+        CsrGraph graph = GraphGenerators.createGnmGraph(300, 450, 1, true, 23L);
+        AugmentedBfs augmentedBfs = new AugmentedBfs();
+        int[][] levels = IntStream.range(0, graph.getNumberOfVertices()).mapToObj(v -> augmentedBfs.determineLevels(graph, v)).toArray(int[][]::new);
+
+        int[] sccIds = underTest.determineSccIds(graph);
+
+        for (int v = 0; v < graph.getNumberOfVertices(); v++) {
+            for (int w = 0; w < graph.getNumberOfVertices(); w++) {
+                boolean areMutuallyReachable = levels[v][w] >= 0 && levels[w][v] >= 0;
+                assertThat(sccIds[v] == sccIds[w]).isEqualTo(areMutuallyReachable);
+                // reverse topological order: edges never lead to SCCs with larger IDs
+                if (levels[v][w] == 1) {
+                    assertThat(sccIds[w]).isLessThanOrEqualTo(sccIds[v]);
+                }
+            }
+        }
+        assertThat(IntStream.of(sccIds).distinct().count()).isEqualTo(SccAlg.countSccs(sccIds));
+    }
+
+    @Test
+    void shouldNotOverflowStackOnLongPaths() {
+        int n = 1_000_000;
+        int[] tails = IntStream.range(0, n).toArray();
+        int[] heads = IntStream.range(0, n).map(v -> (v + 1) % n).toArray();
+        CsrGraph cycle = CsrGraphUtils.createFromEdgeArrays(n, tails, heads, null, true);
+        CsrGraph path = CsrGraphUtils.createFromEdgeArrays(n, tails, heads, null, n - 1, true);
+
+        assertThat(SccAlg.countSccs(underTest.determineSccIds(cycle))).isEqualTo(1);
+        assertThat(SccAlg.countSccs(underTest.determineSccIds(path))).isEqualTo(n);
+    }
+}
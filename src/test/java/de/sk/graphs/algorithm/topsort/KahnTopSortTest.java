@@ -0,0 +1,135 @@
+package de.sk.graphs.algorithm.topsort;
+
+import com.google.inject.Guice;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import de.sk.graphs.GraphConstants;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.injection.GraphsInjectionModule;
+import de.sk.graphs.util.CsrGraphUtils;
+import de.sk.graphs.util.GraphGenerators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Test for {@link KahnTopSort}.
+ */
+class KahnTopSortTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final KahnTopSort underTest = new KahnTopSort(this.pool);
+
+    @AfterEach
+    void shutdownPool() {
+        this.pool.shutdown();
+    }
+
+    @Test
+    void shouldDetermineValidOrderingAndLevels() {
+        CsrGraph dag = createDag(20_000, 60_000, -1);
+
+        int[] ordering = underTest.determineTopologicalOrdering(dag);
+        int[][] levels = underTest.determineTopologicalLevels(dag);
+
+        int[] positions = new int[dag.getNumberOfVertices()];
+        for (int position = 0; position < ordering.length; position++) {
+            positions[ordering[position]] = position;
+        }
+        int[] levelOfVertex = new int[dag.getNumberOfVertices()];
+        for (int k = 0; k < levels.length; k++) {
+            assertThat(levels[k]).isSorted();
+            for (int v : levels[k]) {
+                levelOfVertex[v] = k;
+            }
+        }
+        assertThat(Arrays.stream(levels).flatMapToInt(Arrays::stream).sorted().toArray()).containsExactly(IntStream.range(0, dag.getNumberOfVertices()).toArray());
+        assertThat(IntStream.of(ordering).sorted().toArray()).containsExactly(IntStream.range(0, dag.getNumberOfVertices()).toArray());
+        int[] maxLevelOfPredecessors = new int[dag.getNumberOfVertices()];
+        Arrays.fill(maxLevelOfPredecessors, -1);
+        for (int v = 0; v < dag.getNumberOfVertices(); v++) {
+            for (int i = dag.getOffset(v); i < dag.getOffset(v + 1); i++) {
+                int w = dag.getTarget(i);
+                assertThat(positions[v]).isLessThan(positions[w]);
+                maxLevelOfPredecessors[w] = Math.max(maxLevelOfPredecessors[w], levelOfVertex[v]);
+            }
+        }
+        for (int v = 0; v < dag.getNumberOfVertices(); v++) {
+            assertThat(levelOfVertex[v]).isEqualTo(maxLevelOfPredecessors[v] + 1);
+        }
+    }
+
+    @Test
+    void shouldReportCycle() {
+        CsrGraph graph = createDag(2_000, 6_000, 1_999);
+
+        CyclicGraphException orderingException = catchThrowableOfType(() -> underTest.determineTopologicalOrdering(graph), CyclicGraphException.class);
+        CyclicGraphException levelsException = catchThrowableOfType(() -> underTest.determineTopologicalLevels(graph), CyclicGraphException.class);
+
+        for (CyclicGraphException exception : new CyclicGraphException[]{orderingException, levelsException}) {
+            int[] cycle = exception.getCycle();
+            assertThat(cycle).isNotEmpty();
+            for (int k = 0; k < cycle.length; k++) {
+                assertThat(hasEdge(graph, cycle[k], cycle[(k + 1) % cycle.length])).isTrue();
+            }
+            assertThat(exception.getUnorderedVertices()).contains(cycle).contains(1_999);
+        }
+    }
+
+    @Test
+    void shouldRejectUndirectedGraph() {
+        CsrGraph graph = GraphGenerators.createGnmGraph(100, 200, 1, false, 47L);
+
+        assertThatThrownBy(() -> underTest.determineTopologicalOrdering(graph)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> underTest.determineTopologicalLevels(graph)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldBeBoundByName() {
+        KahnTopSort injected = Guice.createInjector(new GraphsInjectionModule())
+                .getInstance(Key.get(KahnTopSort.class, Names.named(GraphConstants.IN_KAHN_TOP_SORT)));
+        CsrGraph dag = createDag(1_000, 3_000, -1);
+
+        assertThat(injected.determineTopologicalOrdering(dag)).containsExactly(underTest.determineTopologicalOrdering(dag));
+    }
+
+    /*
+     * Creates a DAG by orienting the edges of a random graph from the smaller to the greater index. If 'backEdgeTail' is
+     * not negative, the edge (backEdgeTail, 0) closes cycles.
+     */
+    private static CsrGraph createDag(int n, int m, int backEdgeTail) {
+        CsrGraph graph = GraphGenerators.createGnmGraph(n, m, 1, false, 47L);
+        int[] tails = new int[m + 1];
+        int[] heads = new int[m + 1];
+        int numberOfEdges = 0;
+        for (int v = 0; v < n; v++) {
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                if (v < graph.getTarget(i)) {
+                    tails[numberOfEdges] = v;
+                    heads[numberOfEdges++] = graph.getTarget(i);
+                }
+            }
+        }
+        if (backEdgeTail >= 0) {
+            tails[numberOfEdges] = backEdgeTail;
+            heads[numberOfEdges++] = 0;
+        }
+        return CsrGraphUtils.createFromEdgeArrays(n, tails, heads, null, numberOfEdges, true);
+    }
+
+    private static boolean hasEdge(CsrGraph graph, int v, int w) {
+        for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+            if (graph.getTarget(i) == w) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,145 @@
+package de.sk.graphs.datastructure.dynamic;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link DynamicGraph}.
+ */
+class DynamicGraphTest {
+
+    private DynamicGraph underTest;
+
+    @BeforeEach
+    void setUp() {
+        this.underTest = new DynamicGraph(false);
+        for (int i = 0; i < 4; i++) {
+            this.underTest.addVertex();
+        }
+        this.underTest.addEdge(0, 1, 3);
+        this.underTest.addEdge(0, 2, 5);
+        this.underTest.addEdge(0, 3, 7);
+        this.underTest.addEdge(2, 3, 1);
+    }
+
+    @Test
+    void shouldNotReflectModificationsInEarlierSnapshot() {
+        GraphSnapshot snapshot = this.underTest.snapshot();
+
+        this.underTest.removeEdge(0, 1);
+        this.underTest.removeVertex(3);
+        this.underTest.addEdge(this.underTest.addVertex(), 1, 9);
+
+        assertThat(snapshot.getNumberOfEdges()).isEqualTo(4);
+        assertThat(snapshot.getDegree(0)).isEqualTo(3);
+        CsrGraph graph = snapshot.toCsrGraph();
+        assertThat(graph.getNumberOfAdjacencyEntries()).isEqualTo(8);
+        assertThat(graph.getTarget(graph.getOffset(3))).isZero();
+        assertThat(this.underTest.getNumberOfEdges()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRecycleSlotOfRemovedVertex() {
+        this.underTest.removeVertex(0);
+
+        int v = this.underTest.addVertex();
+
+        assertThat(v).isZero();
+        assertThat(this.underTest.getDegree(0)).isZero();
+        assertThat(this.underTest.hasEdge(2, 0)).isFalse();
+        assertThat(this.underTest.getEdgeWeight(3, 2)).isEqualTo(1);
+        assertThat(this.underTest.getVertexCapacity()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRejectVerticesNotInGraphWhenQueryingEdges() {
+        this.underTest.removeVertex(1);
+
+        assertThatThrownBy(() -> this.underTest.hasEdge(0, 4))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(DynamicGraph.VERTEX_NOT_IN_GRAPH_EXCEPTION_MSG_TF, 4));
+        assertThatThrownBy(() -> this.underTest.hasEdge(-1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> this.underTest.getEdgeWeight(1, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(DynamicGraph.VERTEX_NOT_IN_GRAPH_EXCEPTION_MSG_TF, 1));
+    }
+
+    @Test
+    void shouldQueryEdgesOfDirectedGraphOnlyInTheirDirection() {
+        DynamicGraph directed = createDirectedGraph();
+
+        assertThat(directed.hasEdge(0, 1)).isTrue();
+        assertThat(directed.hasEdge(1, 0)).isFalse();
+        assertThat(directed.getEdgeWeight(0, 2)).isEqualTo(6);
+        assertThat(directed.getEdgeWeight(2, 0)).isEqualTo(5);
+        assertThat(directed.getDegree(0)).isEqualTo(2);
+        assertThat(directed.getDegree(1)).isEqualTo(1);
+        assertThatThrownBy(() -> directed.getEdgeWeight(1, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(DynamicGraph.EDGE_NOT_IN_GRAPH_EXCEPTION_MSG_TF, 1, 0));
+    }
+
+    @Test
+    void shouldRejectVerticesNotInDirectedGraphWhenQueryingEdges() {
+        DynamicGraph directed = createDirectedGraph();
+
+        directed.removeVertex(1);
+
+        // the incoming edge (0,1) and the outgoing edge (1,2) are removed along with vertex 1
+        assertThat(directed.getNumberOfEdges()).isEqualTo(2);
+        assertThat(directed.getDegree(0)).isEqualTo(1);
+        assertThatThrownBy(() -> directed.hasEdge(0, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(DynamicGraph.VERTEX_NOT_IN_GRAPH_EXCEPTION_MSG_TF, 1));
+        assertThatThrownBy(() -> directed.getEdgeWeight(1, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(DynamicGraph.VERTEX_NOT_IN_GRAPH_EXCEPTION_MSG_TF, 1));
+        assertThatThrownBy(() -> directed.hasEdge(2, 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(DynamicGraph.VERTEX_NOT_IN_GRAPH_EXCEPTION_MSG_TF, 3));
+    }
+
+    @Test
+    void shouldNotReflectModificationsInEarlierSnapshotOfDirectedGraph() {
+        DynamicGraph directed = createDirectedGraph();
+        GraphSnapshot snapshot = directed.snapshot();
+
+        directed.removeEdge(2, 0);
+        directed.removeVertex(1);
+        directed.addEdge(directed.addVertex(), 0, 9);
+
+        assertThat(snapshot.isDirected()).isTrue();
+        assertThat(snapshot.getNumberOfEdges()).isEqualTo(4);
+        assertThat(snapshot.getDegree(1)).isEqualTo(1);
+        assertThat(snapshot.getTarget(1, 0)).isEqualTo(2);
+        assertThat(snapshot.getWeight(1, 0)).isEqualTo(4);
+        CsrGraph graph = snapshot.toCsrGraph();
+        assertThat(graph.isDirected()).isTrue();
+        assertThat(graph.getNumberOfAdjacencyEntries()).isEqualTo(4);
+        assertThat(graph.getTarget(graph.getOffset(2))).isZero();
+        assertThat(directed.getNumberOfEdges()).isEqualTo(2);
+        assertThat(directed.hasEdge(1, 0)).isTrue();
+        assertThat(directed.hasEdge(1, 2)).isFalse();
+        assertThat(directed.hasEdge(2, 0)).isFalse();
+    }
+
+    /*
+     * Creates the directed graph with the edges (0,1), (1,2), (2,0) and (0,2).
+     */
+    private static @NotNull DynamicGraph createDirectedGraph() {
+        DynamicGraph directed = new DynamicGraph(true);
+        for (int i = 0; i < 3; i++) {
+            directed.addVertex();
+        }
+        directed.addEdge(0, 1, 3);
+        directed.addEdge(1, 2, 4);
+        directed.addEdge(2, 0, 5);
+        directed.addEdge(0, 2, 6);
+        return directed;
+    }
+}
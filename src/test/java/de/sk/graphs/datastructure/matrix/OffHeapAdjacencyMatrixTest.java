@@ -0,0 +1,51 @@
+package de.sk.graphs.datastructure.matrix;
+
+import de.sk.graphs.datastructure.AdjacencyMatrix;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link OffHeapAdjacencyMatrix}.
+ */
+class OffHeapAdjacencyMatrixTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldPersistMatrixInMappedFile() throws IOException {
+        Path path = this.tempDir.resolve("matrix.adjm");
+        OffHeapAdjacencyMatrix underTest = OffHeapAdjacencyMatrix.createMapped(path, 5, false);
+        underTest.addEdge(0, 3, 7);
+        underTest.addEdge(4, 1, -2);
+        underTest.flush();
+
+        OffHeapAdjacencyMatrix reopened = OffHeapAdjacencyMatrix.openMapped(path);
+
+        assertThat(reopened.isDirected()).isFalse();
+        assertThat(reopened.getNumberOfVertices()).isEqualTo(5);
+        assertThat(reopened.getEdgeWeight(3, 0)).isEqualTo(7);
+        assertThat(reopened.getEdgeWeight(1, 4)).isEqualTo(-2);
+        assertThat(reopened.hasEdge(0, 1)).isFalse();
+        IntBuffer row = reopened.getAdjacencyInformationView(4);
+        assertThat(row.remaining()).isEqualTo(5);
+        assertThat(row.get(1)).isEqualTo(-2);
+        assertThat(row.get(0)).isEqualTo(AdjacencyMatrix.MARKER_NON_EXISTING_EDGE);
+    }
+
+    @Test
+    void shouldOnlyWriteOneCellForDirectedEdges() {
+        OffHeapAdjacencyMatrix underTest = OffHeapAdjacencyMatrix.allocateDirect(3, true);
+
+        underTest.addEdge(0, 2, 4);
+
+        assertThat(underTest.getAdjacencyInformation(0)).containsExactly(AdjacencyMatrix.MARKER_NON_EXISTING_EDGE, AdjacencyMatrix.MARKER_NON_EXISTING_EDGE, 4);
+        assertThat(underTest.hasEdge(2, 0)).isFalse();
+    }
+}
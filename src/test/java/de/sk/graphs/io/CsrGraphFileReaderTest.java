@@ -0,0 +1,98 @@
+package de.sk.graphs.io;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.csr.ArrayCsrGraph;
+import de.sk.graphs.util.CsrGraphUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link CsrGraphFileReader} (in combination with {@link CsrGraphFileWriter}).
+ */
+class CsrGraphFileReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReadWrittenGraphWithNames() throws IOException {
+        CsrGraph graph = new ArrayCsrGraph(new int[]{0, 2, 3, 4, 4}, new int[]{1, 2, 3, 0}, new int[]{4, -2, 7, 1}, true,
+                new String[]{"a", "bé", "c", "Knoten"});
+        Path path = tempDir.resolve("graph.csr");
+
+        CsrGraphFileWriter.write(graph, path);
+        CsrGraph underTest = CsrGraphFileReader.read(path);
+
+        assertGraphsAreEqual(underTest, graph);
+        assertThat(underTest.hasVertexNames()).isTrue();
+    }
+
+    @Test
+    void shouldReadWrittenUndirectedGraphWithoutNames() throws IOException {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(5, new int[]{0, 1, 2, 4}, new int[]{1, 2, 0, 3}, null, false);
+        Path path = tempDir.resolve("graph.csr");
+
+        CsrGraphFileWriter.write(graph, path);
+        CsrGraph underTest = CsrGraphFileReader.read(path);
+
+        assertGraphsAreEqual(underTest, graph);
+        assertThat(underTest.hasVertexNames()).isFalse();
+        assertThat(underTest.getVertexName(4)).isEqualTo("v4");
+    }
+
+    @Test
+    void shouldThrowExceptionForFileOfOtherFormat() throws IOException {
+        Path path = tempDir.resolve("no-graph.csr");
+        Files.write(path, new byte[128]);
+
+        assertThatThrownBy(() -> CsrGraphFileReader.read(path)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldThrowExceptionForTruncatedFile() throws IOException {
+        Path path = tempDir.resolve("graph.csr");
+        CsrGraphFileWriter.write(CsrGraphUtils.createFromEdgeArrays(5, new int[]{0, 1, 2, 4}, new int[]{1, 2, 0, 3}, null, false), path);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - Integer.BYTES));
+
+        assertThatThrownBy(() -> CsrGraphFileReader.read(path)).isInstanceOf(IOException.class)
+                .hasMessage(String.format(CsrGraphFileReader.INVALID_HEADER_EXCEPTION_MSG_TF, path, "sections exceed the size of the file"));
+    }
+
+    @Test
+    void shouldThrowExceptionForMaxNumberOfVertices() throws IOException {
+        Path path = tempDir.resolve("graph.csr");
+        CsrGraphFileWriter.write(CsrGraphUtils.createFromEdgeArrays(5, new int[]{0, 1, 2, 4}, new int[]{1, 2, 0, 3}, null, false), path);
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).order(CsrGraphFileFormat.BYTE_ORDER).putInt(CsrGraphFileFormat.POS_NUMBER_OF_VERTICES, Integer.MAX_VALUE);
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> CsrGraphFileReader.read(path)).isInstanceOf(IOException.class)
+                .hasMessage(String.format(CsrGraphFileReader.INVALID_HEADER_EXCEPTION_MSG_TF, path, "overlapping sections"));
+    }
+
+    private static void assertGraphsAreEqual(CsrGraph actual, CsrGraph expected) {
+        assertThat(actual.isDirected()).isEqualTo(expected.isDirected());
+        assertThat(actual.getNumberOfVertices()).isEqualTo(expected.getNumberOfVertices());
+        assertThat(actual.getNumberOfAdjacencyEntries()).isEqualTo(expected.getNumberOfAdjacencyEntries());
+        for (int v = 0; v <= expected.getNumberOfVertices(); v++) {
+            assertThat(actual.getOffset(v)).isEqualTo(expected.getOffset(v));
+        }
+        for (int i = 0; i < expected.getNumberOfAdjacencyEntries(); i++) {
+            assertThat(actual.getTarget(i)).isEqualTo(expected.getTarget(i));
+            assertThat(actual.getWeight(i)).isEqualTo(expected.getWeight(i));
+        }
+        for (int v = 0; v < expected.getNumberOfVertices(); v++) {
+            assertThat(actual.getVertexName(v)).isEqualTo(expected.getVertexName(v));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link CsrGraphUtils}.
+ */
+class CsrGraphUtilsTest {
+
+    private static final int[] TAILS = {0, 0, 1, 2};
+    private static final int[] HEADS = {1, 2, 2, 3};
+    private static final int[] WEIGHTS = {5, 7, 1, 3};
+
+    @Test
+    void shouldCreateDirectedGraphFromEdgeArrays() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(4, TAILS, HEADS, WEIGHTS, true);
+
+        assertThat(graph.isDirected()).isTrue();
+        assertThat(graph.getNumberOfVertices()).isEqualTo(4);
+        assertThat(graph.getNumberOfEdges()).isEqualTo(4);
+        assertThat(graph.getNumberOfAdjacencyEntries()).isEqualTo(4);
+        assertThat(graph.getDegree(0)).isEqualTo(2);
+        assertThat(graph.getDegree(3)).isZero();
+        assertThat(graph.getTarget(graph.getOffset(0))).isEqualTo(1);
+        assertThat(graph.getWeight(graph.getOffset(0) + 1)).isEqualTo(7);
+        assertThat(graph.getSource(graph.getOffset(2))).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStoreEachUndirectedEdgeTwice() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(4, TAILS, HEADS, null, false);
+
+        assertThat(graph.getNumberOfEdges()).isEqualTo(4);
+        assertThat(graph.getNumberOfAdjacencyEntries()).isEqualTo(8);
+        assertThat(graph.getDegree(2)).isEqualTo(3);
+        assertThat(graph.getWeight(0)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTransposeDirectedGraph() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(4, TAILS, HEADS, WEIGHTS, true);
+
+        CsrGraph transposed = CsrGraphUtils.transpose(graph);
+
+        assertThat(transposed.getDegree(0)).isZero();
+        assertThat(transposed.getDegree(2)).isEqualTo(2);
+        assertThat(transposed.getTarget(transposed.getOffset(3))).isEqualTo(2);
+        assertThat(transposed.getWeight(transposed.getOffset(3))).isEqualTo(3);
+        assertThat(transposed.hasVertexNames()).isFalse();
+        assertThat(transposed.getVertexName(3)).isEqualTo("v3");
+    }
+
+    @Test
+    void shouldThrowExceptionForEndpointOutOfBounds() {
+        assertThatThrownBy(() -> CsrGraphUtils.createFromEdgeArrays(3, TAILS, HEADS, WEIGHTS, true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
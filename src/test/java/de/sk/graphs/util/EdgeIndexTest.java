@@ -0,0 +1,33 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnEdge;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link EdgeIndex}.
+ */
+class EdgeIndexTest {
+
+    @Test
+    void shouldFindSameEdgesAsScanningTheIncidentEdges() {
+        UnAdjacencyList adjacencyList = UndirectedGraphUtils.createRandomGraph(40, 200, 10, new Random(7));
+        List<UnVertex> vertices = adjacencyList.vertices();
+
+        EdgeIndex<UnVertex, UnEdge> underTest = EdgeIndex.of(adjacencyList);
+
+        for (UnVertex v : vertices) {
+            for (UnVertex w : vertices) {
+                assertThat(UndirectedGraphUtils.getEdgeConnectingVAndW(v, w, underTest))
+                        .isSameAs(UndirectedGraphUtils.getEdgeConnectingVAndW(v, w));
+            }
+        }
+        assertThat(underTest.getEdge(0, 0)).isNull();
+    }
+}
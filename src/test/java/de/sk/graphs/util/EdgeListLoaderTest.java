@@ -0,0 +1,118 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link EdgeListLoader}.
+ */
+class EdgeListLoaderTest {
+
+    private static final String EDGE_LIST = """
+            # comment line
+            0 1 5
+            1\t2 -3
+            % another comment line
+
+            2,0 # edge without weight
+            3 1 7""";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldLoadDirectedGraphFromFile() throws IOException {
+        Path path = tempDir.resolve("edges.txt");
+        Files.writeString(path, EDGE_LIST);
+
+        EdgeListLoader.LoadingResult result = EdgeListLoader.load(path, true);
+
+        assertExpectedDirectedGraph(result.graph());
+        assertThat(result.stats().numberOfLines()).isEqualTo(7);
+        assertThat(result.stats().numberOfEdges()).isEqualTo(4);
+        assertThat(result.stats().durationNanos()).isPositive();
+    }
+
+    @Test
+    void shouldLoadGzipCompressedFile() throws IOException {
+        Path path = tempDir.resolve("edges.txt.gz");
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(path))) {
+            outputStream.write(EDGE_LIST.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        EdgeListLoader.LoadingResult result = EdgeListLoader.load(path, true);
+
+        assertExpectedDirectedGraph(result.graph());
+    }
+
+    @Test
+    void shouldLoadUndirectedGraphFromChannel() throws IOException {
+        byte[] bytes = EDGE_LIST.getBytes(StandardCharsets.US_ASCII);
+
+        CsrGraph graph = EdgeListLoader.load(Channels.newChannel(new ByteArrayInputStream(bytes)), false).graph();
+
+        assertThat(graph.isDirected()).isFalse();
+        assertThat(graph.getNumberOfEdges()).isEqualTo(4);
+        assertThat(graph.getDegree(1)).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldThrowExceptionIfFileChangesBetweenPasses(boolean isDirected) {
+        byte[][] contentsPerPass = {"0 1\n1 2\n".getBytes(StandardCharsets.US_ASCII), "0 1\n1 2\n0 1\n2 2\n".getBytes(StandardCharsets.US_ASCII)};
+        int[] pass = {0};
+        EdgeListLoader.ChannelOpener opener = () -> Channels.newChannel(new ByteArrayInputStream(contentsPerPass[pass[0]++]));
+
+        assertThatThrownBy(() -> EdgeListLoader.load(opener, "edges.txt", isDirected, EdgeListLoader.MAX_NUMBER_OF_ENTRIES))
+                .isInstanceOf(IOException.class)
+                .hasMessage(String.format(EdgeListLoader.FILE_CHANGED_BETWEEN_PASSES_EXCEPTION_MSG_TF, "edges.txt"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldThrowExceptionIfAdjacencyEntriesExceedMaxNumber(boolean isDirected) throws IOException {
+        // 3 edges -> 3 (directed) or 6 (undirected) adjacency entries
+        byte[] bytes = "0 1\n1 2\n2 0\n".getBytes(StandardCharsets.US_ASCII);
+        int maxNumberOfEntries = isDirected ? 2 : 5;
+        EdgeListLoader.ChannelOpener opener = () -> Channels.newChannel(new ByteArrayInputStream(bytes));
+
+        assertThatThrownBy(() -> EdgeListLoader.load(opener, "edges.txt", isDirected, maxNumberOfEntries))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(EdgeListLoader.TOO_MANY_ADJACENCY_ENTRIES_EXCEPTION_MSG_TF, maxNumberOfEntries));
+        assertThat(EdgeListLoader.load(opener, "edges.txt", isDirected, maxNumberOfEntries + 1).graph().getNumberOfAdjacencyEntries())
+                .isEqualTo(maxNumberOfEntries + 1);
+    }
+
+    @Test
+    void shouldThrowExceptionForMalformedLine() {
+        byte[] bytes = "0 1\n2 x 3\n".getBytes(StandardCharsets.US_ASCII);
+
+        assertThatThrownBy(() -> EdgeListLoader.load(Channels.newChannel(new ByteArrayInputStream(bytes)), true))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    private static void assertExpectedDirectedGraph(CsrGraph graph) {
+        assertThat(graph.getNumberOfVertices()).isEqualTo(4);
+        assertThat(graph.getNumberOfEdges()).isEqualTo(4);
+        assertThat(graph.getTarget(graph.getOffset(1))).isEqualTo(2);
+        assertThat(graph.getWeight(graph.getOffset(1))).isEqualTo(-3);
+        assertThat(graph.getWeight(graph.getOffset(2))).isEqualTo(1);
+        assertThat(graph.getWeight(graph.getOffset(3))).isEqualTo(7);
+    }
+}
@@ -0,0 +1,134 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link GraphGenerators}.
+ */
+class GraphGeneratorsTest {
+
+    @Test
+    void shouldCreateGnmGraphsWithDistinctEdgesDeterministically() {
+        // sparse (sampling the edges) and dense (sampling the left out edges)
+        for (int numberOfEdges : new int[]{200_000, 1_900}) {
+            int n = numberOfEdges > 10_000 ? 5_000 : 64;
+            CsrGraph graph = GraphGenerators.createGnmGraph(n, numberOfEdges, 100, false, 42L);
+            CsrGraph sameGraph = GraphGenerators.createGnmGraph(n, numberOfEdges, 100, false, 42L);
+
+            assertThat(graph.getNumberOfEdges()).isEqualTo(numberOfEdges);
+            Set<Long> edges = new HashSet<>();
+            for (int v = 0; v < n; v++) {
+                for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                    assertThat(graph.getTarget(i)).isNotEqualTo(v).isEqualTo(sameGraph.getTarget(i));
+                    assertThat(graph.getWeight(i)).isBetween(1, 100).isEqualTo(sameGraph.getWeight(i));
+                    edges.add(((long) v << 32) | graph.getTarget(i));
+                }
+            }
+            assertThat(edges).hasSize(2 * numberOfEdges);
+        }
+    }
+
+    @Test
+    void shouldCreateGridGraph() {
+        CsrGraph graph = GraphGenerators.createGridGraph(3, 4, 10, 1L);
+
+        assertThat(graph.getNumberOfVertices()).isEqualTo(12);
+        assertThat(graph.getNumberOfEdges()).isEqualTo(17);
+        assertThat(graph.getDegree(0)).isEqualTo(2);
+        assertThat(graph.getDegree(5)).isEqualTo(4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldCreateRmatGraphsWithDistinctEdgesDeterministically(boolean isDirected) {
+        int scale = 10;
+        int edgeFactor = 8;
+        CsrGraph graph = GraphGenerators.createRmatGraph(scale, edgeFactor, 0.57, 0.19, 0.19, 100, isDirected, 42L);
+        CsrGraph sameGraph = GraphGenerators.createRmatGraph(scale, edgeFactor, 0.57, 0.19, 0.19, 100, isDirected, 42L);
+        CsrGraph otherGraph = GraphGenerators.createRmatGraph(scale, edgeFactor, 0.57, 0.19, 0.19, 100, isDirected, 43L);
+
+        assertThat(graph.getNumberOfVertices()).isEqualTo(1 << scale);
+        assertThat(graph.isDirected()).isEqualTo(isDirected);
+        assertThat(graph.getNumberOfEdges()).isPositive().isLessThanOrEqualTo(edgeFactor << scale);
+        assertThat(collectDistinctEdges(graph)).hasSize(graph.getNumberOfAdjacencyEntries());
+        assertSameGraph(graph, sameGraph);
+        assertThat(collectDistinctEdges(otherGraph)).isNotEqualTo(collectDistinctEdges(graph));
+    }
+
+    @Test
+    void shouldCreateRmatGraphWithSkewedDegreeDistribution() {
+        CsrGraph skewed = GraphGenerators.createRmatGraph(10, 8, 0.57, 0.19, 0.19, 100, true, 42L);
+        // equal probabilities of the quadrants give a uniform random graph
+        CsrGraph uniform = GraphGenerators.createRmatGraph(10, 8, 0.25, 0.25, 0.25, 100, true, 42L);
+
+        assertThat(maxDegree(skewed)).isGreaterThan(2 * maxDegree(uniform));
+        assertThat(uniform.getNumberOfEdges()).isGreaterThan(skewed.getNumberOfEdges());
+    }
+
+    @Test
+    void shouldCreateRandomGeometricGraphDeterministically() {
+        int n = 2_000;
+        double radius = 0.05;
+        CsrGraph graph = GraphGenerators.createRandomGeometricGraph(n, radius, 100, 42L);
+        CsrGraph sameGraph = GraphGenerators.createRandomGeometricGraph(n, radius, 100, 42L);
+        CsrGraph otherGraph = GraphGenerators.createRandomGeometricGraph(n, radius, 100, 43L);
+
+        assertThat(graph.getNumberOfVertices()).isEqualTo(n);
+        assertThat(graph.isDirected()).isFalse();
+        // probability of two uniform points in the unit square being within the radius: pi r^2 - 8/3 r^3 + 1/2 r^4
+        double expectedNumberOfEdges = (double) n * (n - 1) / 2 * (Math.PI * radius * radius - 8.0 / 3 * Math.pow(radius, 3) + Math.pow(radius, 4) / 2);
+        assertThat((double) graph.getNumberOfEdges()).isBetween(0.9 * expectedNumberOfEdges, 1.1 * expectedNumberOfEdges);
+        Set<Long> edges = collectDistinctEdges(graph);
+        assertThat(edges).hasSize(graph.getNumberOfAdjacencyEntries());
+        for (int v = 0; v < n; v++) {
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                assertThat(graph.getWeight(i)).isBetween(1, 100);
+                assertThat(edges.contains(((long) graph.getTarget(i) << 32) | v)).isTrue();
+            }
+        }
+        assertSameGraph(graph, sameGraph);
+        assertThat(collectDistinctEdges(otherGraph)).isNotEqualTo(edges);
+    }
+
+    /*
+     * Collects the adjacency entries as packed (v,w) pairs, asserting that there are no self-loops.
+     */
+    private static @NotNull Set<Long> collectDistinctEdges(@NotNull CsrGraph graph) {
+        Set<Long> edges = new HashSet<>();
+        for (int v = 0; v < graph.getNumberOfVertices(); v++) {
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                assertThat(graph.getTarget(i)).isNotEqualTo(v);
+                edges.add(((long) v << 32) | graph.getTarget(i));
+            }
+        }
+        return edges;
+    }
+
+    private static void assertSameGraph(@NotNull CsrGraph graph, @NotNull CsrGraph other) {
+        assertThat(other.getNumberOfAdjacencyEntries()).isEqualTo(graph.getNumberOfAdjacencyEntries());
+        for (int v = 0; v <= graph.getNumberOfVertices(); v++) {
+            assertThat(other.getOffset(v)).isEqualTo(graph.getOffset(v));
+        }
+        for (int i = 0; i < graph.getNumberOfAdjacencyEntries(); i++) {
+            assertThat(other.getTarget(i)).isEqualTo(graph.getTarget(i));
+            assertThat(other.getWeight(i)).isEqualTo(graph.getWeight(i));
+        }
+    }
+
+    private static int maxDegree(@NotNull CsrGraph graph) {
+        int maxDegree = 0;
+        for (int v = 0; v < graph.getNumberOfVertices(); v++) {
+            maxDegree = Math.max(maxDegree, graph.getDegree(v));
+        }
+        return maxDegree;
+    }
+}
@@ -0,0 +1,122 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.CsrGraph;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link GraphReordering}.
+ */
+class GraphReorderingTest {
+
+    // path 0-5-2-7-1-4-6-3 (i.e. a path graph with scrambled vertex indices), weights are the positions on the path
+    private static final int[] TAILS = {0, 5, 2, 7, 1, 4, 6};
+    private static final int[] HEADS = {5, 2, 7, 1, 4, 6, 3};
+    private static final int[] WEIGHTS = {1, 2, 3, 4, 5, 6, 7};
+
+    @Test
+    void shouldReduceBandwidthOfScrambledPathToOne() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(8, TAILS, HEADS, WEIGHTS, false);
+
+        GraphReordering.VertexPermutation permutation = GraphReordering.reverseCuthillMcKeeOrder(graph);
+        CsrGraph permuted = CsrGraphUtils.permute(graph, permutation);
+
+        for (int v = 0; v < 8; v++) {
+            assertThat(permutation.oldIndices()[permutation.newIndices()[v]]).isEqualTo(v);
+            for (int i = permuted.getOffset(v); i < permuted.getOffset(v + 1); i++) {
+                assertThat(Math.abs(permuted.getTarget(i) - v)).isEqualTo(1);
+            }
+        }
+        int[] weightsOfPermuted = new int[permuted.getNumberOfAdjacencyEntries()];
+        Arrays.setAll(weightsOfPermuted, permuted::getWeight);
+        assertThat(weightsOfPermuted).containsExactlyInAnyOrder(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7);
+    }
+
+    @Test
+    void shouldOrderVerticesByDescendingDegree() {
+        CsrGraph star = CsrGraphUtils.createFromEdgeArrays(4, new int[]{1, 2, 3, 1}, new int[]{3, 3, 0, 2}, null, false);
+
+        GraphReordering.VertexPermutation permutation = GraphReordering.degreeDescendingOrder(star);
+
+        assertThat(permutation.oldIndices()).containsExactly(3, 1, 2, 0);
+    }
+
+    @Test
+    void shouldOrderScrambledPathByBfsFromVertexZero() {
+        CsrGraph graph = CsrGraphUtils.createFromEdgeArrays(8, TAILS, HEADS, WEIGHTS, false);
+
+        GraphReordering.VertexPermutation permutation = GraphReordering.bfsOrder(graph);
+
+        assertThat(permutation.oldIndices()).containsExactly(0, 5, 2, 7, 1, 4, 6, 3);
+        assertThat(permutation.newIndices()).containsExactly(0, 4, 2, 7, 5, 1, 6, 3);
+    }
+
+    @Test
+    void shouldOrderVerticesByBfsFromVertexZeroFirst() {
+        // sparse, so that there are vertices not reachable from vertex 0
+        CsrGraph graph = GraphGenerators.createGnmGraph(300, 250, 1, false, 42L);
+        int n = graph.getNumberOfVertices();
+
+        GraphReordering.VertexPermutation permutation = GraphReordering.bfsOrder(graph);
+
+        int[] order = permutation.oldIndices();
+        assertThat(order).containsExactlyInAnyOrder(IntStream.range(0, n).toArray());
+        for (int v = 0; v < n; v++) {
+            assertThat(order[permutation.newIndices()[v]]).isEqualTo(v);
+        }
+        // the vertices reachable from 0 come first, by non-decreasing distance and in the order of their first discovering vertex
+        int[] distances = determineDistances(graph, 0);
+        int numberOfReachable = (int) Arrays.stream(distances).filter(distance -> distance >= 0).count();
+        assertThat(numberOfReachable).isLessThan(n);
+        int previousDistance = 0;
+        int previousParentPosition = -1;
+        for (int position = 1; position < numberOfReachable; position++) {
+            int w = order[position];
+            assertThat(distances[w]).isGreaterThanOrEqualTo(previousDistance);
+            int parentPosition = Integer.MAX_VALUE;
+            for (int i = graph.getOffset(w); i < graph.getOffset(w + 1); i++) {
+                if (distances[graph.getTarget(i)] == distances[w] - 1) {
+                    parentPosition = Math.min(parentPosition, permutation.newIndices()[graph.getTarget(i)]);
+                }
+            }
+            assertThat(parentPosition).isLessThan(position).isGreaterThanOrEqualTo(previousParentPosition);
+            previousDistance = distances[w];
+            previousParentPosition = parentPosition;
+        }
+        // the next search starts at the unreached vertex with the lowest index
+        int lowestUnreached = 0;
+        while (distances[lowestUnreached] >= 0) {
+            lowestUnreached++;
+        }
+        assertThat(order[numberOfReachable]).isEqualTo(lowestUnreached);
+    }
+
+    /*
+     * Determines the distances (in edges) from s by a reference BFS, -1 for vertices not reachable from s.
+     */
+    private static int @NotNull [] determineDistances(@NotNull CsrGraph graph, int s) {
+        int[] distances = new int[graph.getNumberOfVertices()];
+        Arrays.fill(distances, -1);
+        distances[s] = 0;
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(s);
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            for (int i = graph.getOffset(v); i < graph.getOffset(v + 1); i++) {
+                int w = graph.getTarget(i);
+                if (distances[w] < 0) {
+                    distances[w] = distances[v] + 1;
+                    queue.add(w);
+                }
+            }
+        }
+        return distances;
+    }
+}
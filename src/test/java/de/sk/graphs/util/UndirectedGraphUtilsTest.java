@@ -0,0 +1,55 @@
+package de.sk.graphs.util;
+
+import de.sk.graphs.datastructure.AdjacencyMatrix;
+import de.sk.graphs.datastructure.undirected.AdjacencyMatrixRepresentation;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyMatrix;
+import de.sk.util.LongIntOpenHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link UndirectedGraphUtils}.
+ */
+class UndirectedGraphUtilsTest {
+
+    private static final int NUMBER_OF_VERTICES = 70;
+
+    @Test
+    void shouldConvertToAdjacencyMatrixOfEachRepresentation() {
+        UnAdjacencyList adjacencyList = UndirectedGraphUtils.createRandomGraph(NUMBER_OF_VERTICES, 400, 20, new Random(3));
+        UnAdjacencyMatrix expected = UndirectedGraphUtils.convertToAdjacencyMatrix(adjacencyList);
+
+        AdjacencyMatrix triangular = UndirectedGraphUtils.convertToAdjacencyMatrix(adjacencyList, AdjacencyMatrixRepresentation.TRIANGULAR);
+        AdjacencyMatrix bitSet = UndirectedGraphUtils.convertToAdjacencyMatrix(adjacencyList, AdjacencyMatrixRepresentation.BIT_SET);
+
+        for (int v = 0; v < NUMBER_OF_VERTICES; v++) {
+            assertThat(triangular.getAdjacencyInformation(v)).containsExactly(expected.getAdjacencyInformation(v));
+            for (int w = 0; w < NUMBER_OF_VERTICES; w++) {
+                assertThat(bitSet.hasEdge(v, w)).isEqualTo(expected.getEdgeWeight(v, w) != AdjacencyMatrix.MARKER_NON_EXISTING_EDGE);
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectMoreEdgesThanCanBeTracked() {
+        // n * (n-1) / 2 and 2 * m exceed the int range
+        int numberOfVertices = 50_000;
+        int numberOfEdges = LongIntOpenHashMap.MAX_SIZE / 2 + 1;
+
+        assertThatThrownBy(() -> UndirectedGraphUtils.createRandomGraph(numberOfVertices, numberOfEdges, 20, new Random(3)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(UndirectedGraphUtils.TOO_MANY_EDGES_FOR_RANDOM_GRAPH_EXCEPTION_MSG_TF, LongIntOpenHashMap.MAX_SIZE / 2, numberOfEdges));
+    }
+
+    @Test
+    void shouldRejectMoreEdgesThanPossible() {
+        assertThatThrownBy(() -> UndirectedGraphUtils.createRandomGraph(5, 11, 20, new Random(3)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(UndirectedGraphUtils.TOO_MANY_EDGES_FOR_UNDIRECTED_GRAPH_EXCEPTION_MSG_TF, 5, 10L, 11));
+    }
+}
@@ -0,0 +1,57 @@
+package de.sk.greedy.mst.datastructure.unionfind;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link ConcurrentUnionFind}.
+ */
+class ConcurrentUnionFindTest {
+
+    private static final int NUMBER_OF_ELEMENTS = 100_000;
+
+    private ConcurrentUnionFind underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new ConcurrentUnionFind(NUMBER_OF_ELEMENTS);
+    }
+
+    @Test
+    void shouldMergePartitionsWithSmallestElementAsRoot() {
+        assertThat(underTest.union(5, 3)).isTrue();
+        assertThat(underTest.union(3, 9)).isTrue();
+        assertThat(underTest.union(9, 5)).isFalse();
+
+        assertThat(underTest.find(9)).isEqualTo(3);
+        assertThat(underTest.compress(9)).isEqualTo(3);
+        assertThat(underTest.compress(3)).isEqualTo(3);
+        assertThat(underTest.find(4)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotLoseUnionsWhenCompressingConcurrently() {
+        // the unions link the elements in descending order, so that each union links a root which is compressed concurrently
+        CompletableFuture<Void> unions = CompletableFuture.runAsync(() -> {
+            for (int x = NUMBER_OF_ELEMENTS - 1; x > 0; x--) {
+                underTest.union(x, x - 1);
+            }
+        });
+        CompletableFuture<Void> compressions = CompletableFuture.runAsync(() -> {
+            while (!unions.isDone()) {
+                for (int x = NUMBER_OF_ELEMENTS - 1; x >= 0; x--) {
+                    underTest.compress(x);
+                }
+            }
+        });
+
+        CompletableFuture.allOf(unions, compressions).join();
+
+        assertThat(IntStream.range(0, NUMBER_OF_ELEMENTS).map(underTest::find)).containsOnly(0);
+    }
+}
@@ -0,0 +1,45 @@
+package de.sk.greedy.mst.kruskal;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import de.sk.TestUtils;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnEdge;
+import de.sk.graphs.util.UndirectedGraphUtils;
+import de.sk.greedy.GreedyInjectionModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link KruskalAlgUnionFindBased}.
+ */
+class KruskalAlgUnionFindBasedTest {
+
+    private KruskalAlgUnionFindBased underTest;
+
+    @BeforeEach
+    void setUp() {
+        Injector injector = Guice.createInjector(new GreedyInjectionModule());
+        underTest = injector.getInstance(KruskalAlgUnionFindBased.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void shouldDetermineMstOfSameWeightForAdjacencyListAndCsrRepresentation(long seed) {
+        UnAdjacencyList adjacencyList = TestUtils.createRandomConnectedGraph(200, 800, 30, new Random(seed));
+        CsrGraph graph = UndirectedGraphUtils.convertToCsrGraph(adjacencyList);
+
+        int[] mstEntries = underTest.determineMst(graph);
+
+        assertThat(mstEntries).hasSize(graph.getNumberOfVertices() - 1);
+        assertThat(Arrays.stream(mstEntries).mapToLong(graph::getWeight).sum())
+                .isEqualTo(underTest.determineMst(adjacencyList).stream().mapToLong(UnEdge::getWeight).sum());
+    }
+}
@@ -0,0 +1,95 @@
+package de.sk.greedy.mst.prim;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import de.sk.TestUtils;
+import de.sk.graphs.datastructure.CsrGraph;
+import de.sk.graphs.datastructure.undirected.UnAdjacencyList;
+import de.sk.graphs.datastructure.undirected.UnEdge;
+import de.sk.graphs.datastructure.undirected.UnVertex;
+import de.sk.graphs.util.UndirectedGraphUtils;
+import de.sk.greedy.GreedyInjectionModule;
+import de.sk.greedy.mst.kruskal.KruskalAlgUnionFindBased;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link PrimsAlgHeapBased}.
+ */
+class PrimsAlgHeapBasedTest {
+
+    private PrimsAlgHeapBased underTest;
+    private KruskalAlgUnionFindBased kruskalAlg;
+
+    @BeforeEach
+    void setUp() {
+        Injector injector = Guice.createInjector(new GreedyInjectionModule());
+        underTest = injector.getInstance(PrimsAlgHeapBased.class);
+        kruskalAlg = injector.getInstance(KruskalAlgUnionFindBased.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5})
+    void shouldDetermineMstOfSameWeightAsKruskal(long seed) {
+        UnAdjacencyList adjacencyList = TestUtils.createRandomConnectedGraph(300, 1_500, 50, new Random(seed));
+        long expectedWeight = sumWeights(kruskalAlg.determineMst(adjacencyList));
+
+        List<UnEdge> mst = underTest.determineMst(adjacencyList);
+
+        assertThat(mst).hasSize(adjacencyList.vertices().size() - 1);
+        assertThat(sumWeights(mst)).isEqualTo(expectedWeight);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5})
+    void shouldDetermineMstOfSameWeightAsKruskalInCsrRepresentation(long seed) {
+        CsrGraph graph = UndirectedGraphUtils.convertToCsrGraph(TestUtils.createRandomConnectedGraph(300, 1_500, 50, new Random(seed)));
+        long expectedWeight = sumWeights(graph, kruskalAlg.determineMst(graph));
+
+        int[] mstEntries = underTest.determineMst(graph);
+
+        assertThat(mstEntries).hasSize(graph.getNumberOfVertices() - 1);
+        assertThat(sumWeights(graph, mstEntries)).isEqualTo(expectedWeight);
+    }
+
+    @Test
+    void shouldDetermineMstOfSameWeightForAdjacencyListAndCsrRepresentation() {
+        UnAdjacencyList adjacencyList = TestUtils.createRandomConnectedGraph(200, 800, 30, new Random(7));
+        CsrGraph graph = UndirectedGraphUtils.convertToCsrGraph(adjacencyList);
+
+        assertThat(sumWeights(graph, underTest.determineMst(graph))).isEqualTo(sumWeights(underTest.determineMst(adjacencyList)));
+    }
+
+    @Test
+    void shouldLowerWinnerOfAlreadySeenVertex() {
+        // a is first seen via the expensive edge sa, its winner is lowered to ba when b is connected
+        UnVertex s = new UnVertex("s");
+        UnVertex a = new UnVertex("a");
+        UnVertex b = new UnVertex("b");
+        UnEdge sa = new UnEdge("sa", 10, s, a);
+        UnEdge sb = new UnEdge("sb", 1, s, b);
+        UnEdge ba = new UnEdge("ba", 2, b, a);
+        UnAdjacencyList adjacencyList = new UnAdjacencyList(List.of(s, a, b), List.of(sa, sb, ba));
+        CsrGraph graph = UndirectedGraphUtils.convertToCsrGraph(adjacencyList);
+
+        assertThat(underTest.determineMst(adjacencyList)).containsExactlyInAnyOrder(sb, ba);
+        assertThat(sumWeights(graph, underTest.determineMst(graph))).isEqualTo(3);
+    }
+
+    private static long sumWeights(@NotNull List<UnEdge> edges) {
+        return edges.stream().mapToLong(UnEdge::getWeight).sum();
+    }
+
+    private static long sumWeights(@NotNull CsrGraph graph, int @NotNull [] entries) {
+        return Arrays.stream(entries).mapToLong(graph::getWeight).sum();
+    }
+}
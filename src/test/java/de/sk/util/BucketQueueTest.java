@@ -0,0 +1,142 @@
+package de.sk.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link BucketQueue}.
+ */
+class BucketQueueTest {
+
+    @Test
+    void shouldPollIdsInOrderOfTheirKeys() {
+        BucketQueue underTest = new BucketQueue(5, 10);
+        underTest.insert(3, 7);
+        underTest.insert(0, 10);
+        underTest.insert(4, 0);
+        underTest.insert(1, 2);
+
+        assertThat(underTest.size()).isEqualTo(4);
+        assertThat(new int[]{underTest.poll(), underTest.poll(), underTest.poll(), underTest.poll()}).containsExactly(4, 1, 3, 0);
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest.contains(4)).isFalse();
+    }
+
+    @Test
+    void shouldDecreaseKeyOfIdInMiddleOfBucket() {
+        BucketQueue underTest = new BucketQueue(4, 10);
+        // ids with equal keys are held in LIFO order: 2, 1, 0
+        underTest.insert(0, 8);
+        underTest.insert(1, 8);
+        underTest.insert(2, 8);
+
+        underTest.decreaseKey(1, 3);
+
+        assertThat(underTest.getKey(1)).isEqualTo(3);
+        assertThat(new int[]{underTest.poll(), underTest.poll(), underTest.poll()}).containsExactly(1, 2, 0);
+        assertThat(underTest.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldWrapAroundCyclicBuckets() {
+        // 4 buckets, keys 3, 4 and 5 are held in the buckets 3, 0 and 1
+        BucketQueue underTest = new BucketQueue(4, 3);
+        underTest.insert(0, 2);
+        assertThat(underTest.poll()).isZero();
+        underTest.insert(1, 5);
+        underTest.insert(2, 4);
+        underTest.insert(3, 3);
+
+        assertThat(new int[]{underTest.poll(), underTest.poll(), underTest.poll()}).containsExactly(3, 2, 1);
+        underTest.insert(0, 8);
+        assertThat(underTest.getKey(0)).isEqualTo(8);
+        assertThat(underTest.poll()).isZero();
+    }
+
+    @Test
+    void shouldBehaveLikeLinearScanOnRandomMonotoneOperations() {
+        int capacity = 300;
+        int maxKeySpan = 50;
+        Random random = new Random(5);
+        BucketQueue underTest = new BucketQueue(capacity, maxKeySpan);
+        // reference: key of each contained id, linear scan for the minimum
+        long[] keys = new long[capacity];
+        boolean[] contained = new boolean[capacity];
+        long lastPolledKey = 0;
+        for (int operation = 0; operation < 50_000; operation++) {
+            int id = random.nextInt(capacity);
+            long key = lastPolledKey + random.nextInt(maxKeySpan + 1);
+            if (random.nextInt(3) > 0) {
+                boolean expectedToChange = !contained[id] || key < keys[id];
+                assertThat(underTest.insertOrDecreaseKey(id, key)).isEqualTo(expectedToChange);
+                if (expectedToChange) {
+                    keys[id] = key;
+                    contained[id] = true;
+                }
+            } else if (!underTest.isEmpty()) {
+                long minKey = Long.MAX_VALUE;
+                for (int i = 0; i < capacity; i++) {
+                    if (contained[i]) {
+                        minKey = Math.min(minKey, keys[i]);
+                    }
+                }
+                int polledId = underTest.poll();
+                assertThat(contained[polledId]).isTrue();
+                assertThat(keys[polledId]).isEqualTo(minKey);
+                contained[polledId] = false;
+                lastPolledKey = minKey;
+            }
+            assertThat(underTest.contains(id)).isEqualTo(contained[id]);
+        }
+    }
+
+    @Test
+    void shouldThrowIfKeyExceedsMaxKeySpan() {
+        BucketQueue underTest = new BucketQueue(3, 10);
+        underTest.insert(0, 4);
+        underTest.poll();
+
+        assertThatThrownBy(() -> underTest.insert(1, 15)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(BucketQueue.KEY_OUT_OF_RANGE_EXCEPTION_MSG_TF, 1, 4L, 14L, 15L));
+        underTest.insert(1, 14);
+        assertThat(underTest.poll()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldThrowIfKeyIsSmallerThanKeyPolledLast() {
+        BucketQueue underTest = new BucketQueue(3, 10);
+        underTest.insert(0, 5);
+        underTest.insert(1, 9);
+        underTest.poll();
+
+        assertThatThrownBy(() -> underTest.insert(2, 4)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(BucketQueue.KEY_OUT_OF_RANGE_EXCEPTION_MSG_TF, 2, 5L, 15L, 4L));
+        assertThatThrownBy(() -> underTest.decreaseKey(1, 4)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(BucketQueue.KEY_OUT_OF_RANGE_EXCEPTION_MSG_TF, 1, 5L, 15L, 4L));
+    }
+
+    @Test
+    void shouldThrowOnInvalidOperations() {
+        BucketQueue underTest = new BucketQueue(2, 10);
+        underTest.insert(0, 10);
+
+        assertThatThrownBy(() -> underTest.insert(0, 5)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(BucketQueue.ID_ALREADY_CONTAINED_EXCEPTION_MSG_TF, 0));
+        assertThatThrownBy(() -> underTest.decreaseKey(1, 5)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(BucketQueue.ID_NOT_CONTAINED_EXCEPTION_MSG_TF, 1));
+        assertThatThrownBy(() -> underTest.decreaseKey(0, 11)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(BucketQueue.KEY_NOT_DECREASED_EXCEPTION_MSG_TF, 0, 10L, 11L));
+        assertThatThrownBy(() -> underTest.insert(2, 5)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(BucketQueue.ID_OUT_OF_RANGE_EXCEPTION_MSG_TF, 2, 2));
+        assertThatThrownBy(() -> new BucketQueue(2, BucketQueue.MAX_KEY_SPAN + 1)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(BucketQueue.INVALID_MAX_KEY_SPAN_EXCEPTION_MSG_TF, BucketQueue.MAX_KEY_SPAN, BucketQueue.MAX_KEY_SPAN + 1));
+        underTest.poll();
+        assertThatThrownBy(underTest::poll).isInstanceOf(NoSuchElementException.class)
+                .hasMessage(BucketQueue.EMPTY_QUEUE_EXCEPTION_MSG);
+    }
+}
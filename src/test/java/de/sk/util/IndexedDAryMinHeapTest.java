@@ -0,0 +1,121 @@
+package de.sk.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link IndexedDAryMinHeap}.
+ */
+class IndexedDAryMinHeapTest {
+
+    @Test
+    void shouldPollIdsInOrderOfTheirKeys() {
+        IndexedDAryMinHeap underTest = new IndexedDAryMinHeap(5);
+        underTest.insert(3, 30);
+        underTest.insert(0, 50);
+        underTest.insert(4, -10);
+        underTest.insert(1, 20);
+
+        assertThat(underTest.size()).isEqualTo(4);
+        assertThat(underTest.peek()).isEqualTo(4);
+        assertThat(underTest.peekKey()).isEqualTo(-10);
+        assertThat(new int[]{underTest.poll(), underTest.poll(), underTest.poll(), underTest.poll()}).containsExactly(4, 1, 3, 0);
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest.contains(4)).isFalse();
+    }
+
+    @Test
+    void shouldDecreaseKeyInPlace() {
+        IndexedDAryMinHeap underTest = new IndexedDAryMinHeap(4);
+        underTest.insert(0, 10);
+        underTest.insert(1, 20);
+        underTest.insert(2, 30);
+
+        underTest.decreaseKey(2, 5);
+
+        assertThat(underTest.size()).isEqualTo(3);
+        assertThat(underTest.getKey(2)).isEqualTo(5);
+        assertThat(underTest.poll()).isEqualTo(2);
+        assertThat(underTest.insertOrDecreaseKey(1, 25)).isFalse();
+        assertThat(underTest.insertOrDecreaseKey(1, 1)).isTrue();
+        assertThat(underTest.insertOrDecreaseKey(3, 7)).isTrue();
+        assertThat(new int[]{underTest.poll(), underTest.poll(), underTest.poll()}).containsExactly(1, 3, 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 8})
+    void shouldBehaveLikeLinearScanOnRandomOperations(int arity) {
+        int capacity = 500;
+        Random random = new Random(arity);
+        IndexedDAryMinHeap underTest = new IndexedDAryMinHeap(capacity, arity);
+        // reference: key of each contained id, linear scan for the minimum
+        long[] keys = new long[capacity];
+        boolean[] contained = new boolean[capacity];
+        for (int operation = 0; operation < 50_000; operation++) {
+            int id = random.nextInt(capacity);
+            long key = random.nextInt(1_000);
+            if (random.nextInt(3) > 0) {
+                boolean expectedToChange = !contained[id] || key < keys[id];
+                assertThat(underTest.insertOrDecreaseKey(id, key)).isEqualTo(expectedToChange);
+                if (expectedToChange) {
+                    keys[id] = key;
+                    contained[id] = true;
+                }
+            } else if (!underTest.isEmpty()) {
+                long minKey = Long.MAX_VALUE;
+                for (int i = 0; i < capacity; i++) {
+                    if (contained[i]) {
+                        minKey = Math.min(minKey, keys[i]);
+                    }
+                }
+                int polledId = underTest.poll();
+                assertThat(contained[polledId]).isTrue();
+                assertThat(keys[polledId]).isEqualTo(minKey);
+                contained[polledId] = false;
+            }
+            assertThat(underTest.contains(id)).isEqualTo(contained[id]);
+        }
+    }
+
+    @Test
+    void shouldBeReusableAfterClear() {
+        IndexedDAryMinHeap underTest = new IndexedDAryMinHeap(3);
+        underTest.insert(0, 1);
+        underTest.insert(2, 2);
+
+        underTest.clear();
+
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest.contains(0)).isFalse();
+        assertThat(underTest.contains(2)).isFalse();
+        underTest.insert(2, 3);
+        assertThat(underTest.poll()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldThrowOnInvalidOperations() {
+        IndexedDAryMinHeap underTest = new IndexedDAryMinHeap(2);
+        underTest.insert(0, 10);
+
+        assertThatThrownBy(() -> underTest.insert(0, 5)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(IndexedDAryMinHeap.ID_ALREADY_CONTAINED_EXCEPTION_MSG_TF, 0));
+        assertThatThrownBy(() -> underTest.decreaseKey(1, 5)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(IndexedDAryMinHeap.ID_NOT_CONTAINED_EXCEPTION_MSG_TF, 1));
+        assertThatThrownBy(() -> underTest.decreaseKey(0, 11)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(IndexedDAryMinHeap.KEY_NOT_DECREASED_EXCEPTION_MSG_TF, 0, 10L, 11L));
+        assertThatThrownBy(() -> underTest.insert(2, 5)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(IndexedDAryMinHeap.ID_OUT_OF_RANGE_EXCEPTION_MSG_TF, 2, 2));
+        assertThatThrownBy(() -> new IndexedDAryMinHeap(2, 1)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(IndexedDAryMinHeap.INVALID_ARITY_EXCEPTION_MSG_TF, 1));
+        underTest.poll();
+        assertThatThrownBy(underTest::poll).isInstanceOf(NoSuchElementException.class)
+                .hasMessage(IndexedDAryMinHeap.EMPTY_HEAP_EXCEPTION_MSG);
+    }
+}
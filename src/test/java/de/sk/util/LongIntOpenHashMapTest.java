@@ -0,0 +1,43 @@
+package de.sk.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link LongIntOpenHashMap}.
+ */
+class LongIntOpenHashMapTest {
+
+    private static final int MISSING_VALUE = -1;
+
+    @Test
+    void shouldGrowAndKeepMappings() {
+        LongIntOpenHashMap underTest = new LongIntOpenHashMap(0, MISSING_VALUE);
+
+        for (int i = 0; i < 10_000; i++) {
+            underTest.put(i * 31L, i);
+        }
+
+        assertThat(underTest.size()).isEqualTo(10_000);
+        assertThat(underTest.get(31L * 9_999)).isEqualTo(9_999);
+        assertThat(underTest.get(1L)).isEqualTo(MISSING_VALUE);
+    }
+
+    @Test
+    void shouldFailCleanlyWhenFullAtMaxCapacity() {
+        int maxCapacity = 16;
+        LongIntOpenHashMap underTest = new LongIntOpenHashMap(0, MISSING_VALUE, maxCapacity);
+        for (int i = 0; i < maxCapacity - 1; i++) {
+            underTest.put(i, i);
+        }
+
+        assertThatThrownBy(() -> underTest.put(maxCapacity, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(String.format(LongIntOpenHashMap.MAP_FULL_EXCEPTION_MSG_TF, maxCapacity - 1, maxCapacity));
+        assertThat(underTest.get(maxCapacity)).isEqualTo(MISSING_VALUE);
+        assertThat(underTest.put(3, 33)).isEqualTo(3);
+        assertThat(underTest.get(14)).isEqualTo(14);
+    }
+}
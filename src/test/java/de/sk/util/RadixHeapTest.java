@@ -0,0 +1,129 @@
+package de.sk.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link RadixHeap}.
+ */
+class RadixHeapTest {
+
+    @Test
+    void shouldPollIdsInOrderOfTheirKeys() {
+        RadixHeap underTest = new RadixHeap(5);
+        underTest.insert(3, 30);
+        underTest.insert(0, 50);
+        underTest.insert(4, 0);
+        underTest.insert(1, 20);
+
+        assertThat(underTest.size()).isEqualTo(4);
+        assertThat(new int[]{underTest.poll(), underTest.poll(), underTest.poll(), underTest.poll()}).containsExactly(4, 1, 3, 0);
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest.contains(4)).isFalse();
+    }
+
+    @Test
+    void shouldRedistributeFirstNonEmptyBucket() {
+        RadixHeap underTest = new RadixHeap(4);
+        // relative to the key polled last (0): keys 5 and 6 are held in bucket 3, key 9 in bucket 4, key 100 in bucket 7
+        underTest.insert(0, 5);
+        underTest.insert(1, 9);
+        underTest.insert(2, 6);
+        underTest.insert(3, 100);
+
+        // redistributes bucket 3 with respect to its min key 5
+        assertThat(underTest.poll()).isZero();
+        // key 7 is held in bucket 2 relative to 5, i.e. in front of 9 and 100, which have not been redistributed yet
+        underTest.decreaseKey(3, 7);
+        assertThat(new int[]{underTest.poll(), underTest.poll(), underTest.poll()}).containsExactly(2, 3, 1);
+        assertThat(underTest.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldDecreaseKeyOfIdInMiddleOfBucket() {
+        RadixHeap underTest = new RadixHeap(4);
+        // keys 8, 9 and 10 are all held in bucket 4
+        underTest.insert(0, 8);
+        underTest.insert(1, 9);
+        underTest.insert(2, 10);
+
+        underTest.decreaseKey(1, 1);
+
+        assertThat(underTest.getKey(1)).isEqualTo(1);
+        assertThat(new int[]{underTest.poll(), underTest.poll(), underTest.poll()}).containsExactly(1, 0, 2);
+    }
+
+    @Test
+    void shouldBehaveLikeLinearScanOnRandomMonotoneOperations() {
+        int capacity = 300;
+        Random random = new Random(7);
+        RadixHeap underTest = new RadixHeap(capacity);
+        // reference: key of each contained id, linear scan for the minimum
+        long[] keys = new long[capacity];
+        boolean[] contained = new boolean[capacity];
+        long lastPolledKey = 0;
+        for (int operation = 0; operation < 50_000; operation++) {
+            int id = random.nextInt(capacity);
+            long key = lastPolledKey + random.nextInt(1 << random.nextInt(20));
+            if (random.nextInt(3) > 0) {
+                boolean expectedToChange = !contained[id] || key < keys[id];
+                assertThat(underTest.insertOrDecreaseKey(id, key)).isEqualTo(expectedToChange);
+                if (expectedToChange) {
+                    keys[id] = key;
+                    contained[id] = true;
+                }
+            } else if (!underTest.isEmpty()) {
+                long minKey = Long.MAX_VALUE;
+                for (int i = 0; i < capacity; i++) {
+                    if (contained[i]) {
+                        minKey = Math.min(minKey, keys[i]);
+                    }
+                }
+                int polledId = underTest.poll();
+                assertThat(contained[polledId]).isTrue();
+                assertThat(keys[polledId]).isEqualTo(minKey);
+                contained[polledId] = false;
+                lastPolledKey = minKey;
+            }
+            assertThat(underTest.contains(id)).isEqualTo(contained[id]);
+        }
+    }
+
+    @Test
+    void shouldThrowIfKeyIsSmallerThanKeyPolledLast() {
+        RadixHeap underTest = new RadixHeap(3);
+        underTest.insert(0, 5);
+        underTest.insert(1, 9);
+        underTest.poll();
+
+        assertThatThrownBy(() -> underTest.insert(2, 4)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(RadixHeap.KEY_TOO_SMALL_EXCEPTION_MSG_TF, 2, 5L, 4L));
+        assertThatThrownBy(() -> underTest.decreaseKey(1, 4)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(RadixHeap.KEY_TOO_SMALL_EXCEPTION_MSG_TF, 1, 5L, 4L));
+    }
+
+    @Test
+    void shouldThrowOnInvalidOperations() {
+        RadixHeap underTest = new RadixHeap(2);
+        underTest.insert(0, 10);
+
+        assertThatThrownBy(() -> underTest.insert(0, 5)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(RadixHeap.ID_ALREADY_CONTAINED_EXCEPTION_MSG_TF, 0));
+        assertThatThrownBy(() -> underTest.decreaseKey(1, 5)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(RadixHeap.ID_NOT_CONTAINED_EXCEPTION_MSG_TF, 1));
+        assertThatThrownBy(() -> underTest.decreaseKey(0, 11)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(RadixHeap.KEY_NOT_DECREASED_EXCEPTION_MSG_TF, 0, 10L, 11L));
+        assertThatThrownBy(() -> underTest.insert(2, 5)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(RadixHeap.ID_OUT_OF_RANGE_EXCEPTION_MSG_TF, 2, 2));
+        assertThatThrownBy(() -> new RadixHeap(-1)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(RadixHeap.INVALID_CAPACITY_EXCEPTION_MSG_TF, -1));
+        underTest.poll();
+        assertThatThrownBy(underTest::poll).isInstanceOf(NoSuchElementException.class)
+                .hasMessage(RadixHeap.EMPTY_HEAP_EXCEPTION_MSG);
+    }
+}